@@ -15,6 +15,11 @@ fi
 if [ "$1" == "--cli" ] || [ "$1" == "-c" ] || [ "$1" == "--no-gui" ]; then
     echo "Terminal modunda başlatılıyor..."
     java -cp "$OUT_DIR" com.airline.CliApp
+elif [ "$1" == "--batch" ]; then
+    java -cp "$OUT_DIR" com.airline.CliApp "$@"
+elif [ "$1" == "--api" ]; then
+    echo "API sunucusu başlatılıyor..."
+    java -cp "$OUT_DIR" com.airline.api.ApiServer "$@"
 else
     # JavaFX modül yolu (sadece Mac ARM64 JAR'ları - duplicate module hatasını önlemek için)
     JAVAFX_MODULES="$LIB_DIR/javafx-base-21-mac-aarch64.jar:$LIB_DIR/javafx-controls-21-mac-aarch64.jar:$LIB_DIR/javafx-fxml-21-mac-aarch64.jar:$LIB_DIR/javafx-graphics-21-mac-aarch64.jar"
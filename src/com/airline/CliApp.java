@@ -3,7 +3,20 @@ package com.airline;
 import com.airline.manager.FlightManager;
 import com.airline.manager.ReservationManager;
 import com.airline.manager.UserManager;
+import com.airline.metrics.MetricsRegistry;
 import com.airline.model.*;
+import com.airline.service.BatchCommandRunner;
+import com.airline.service.BatchResult;
+import com.airline.util.FileManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,6 +28,7 @@ import java.util.Scanner;
 /**
  * Terminal tabanlı kullanıcı arayüzü.
  * JavaFX olmadan çalışabilir.
+ * --batch &lt;dosya|-&gt; ile menü olmadan komut dosyası çalıştırır (bkz. BatchCommandRunner).
  */
 public class CliApp {
     private static FlightManager flightManager;
@@ -24,6 +38,11 @@ public class CliApp {
     private static User currentUser;
 
     public static void main(String[] args) {
+        String batchSource = findOption(args, "--batch");
+        if (batchSource != null) {
+            System.exit(runBatch(batchSource, findOption(args, "--user"), findOption(args, "--password")));
+        }
+
         scanner = new Scanner(System.in);
         initializeManagers();
 
@@ -45,6 +64,44 @@ public class CliApp {
         System.out.println("\nProgram sonlandırıldı. İyi günler!");
     }
 
+    private static String findOption(String[] args, String name) {
+        int i = 0;
+        while (i < args.length - 1) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+            i++;
+        }
+        return null;
+    }
+
+    /**
+     * Komut dosyasını (veya "-" ile standart girdiyi) menü olmadan çalıştırır.
+     * Uçuş oluşturma gibi işlemler için admin girişi gerekir.
+     * @return Çıkış kodu (hatalı satır varsa 1)
+     */
+    private static int runBatch(String source, String username, String password) {
+        initializeManagers();
+        User user = username != null ? userManager.login(username, password) : null;
+        if (!(user instanceof Admin)) {
+            System.err.println("Toplu mod için admin girişi gerekli: --user <ad> --password <şifre>");
+            return 2;
+        }
+
+        BatchCommandRunner runner = new BatchCommandRunner(flightManager, reservationManager);
+        PrintWriter output = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), false);
+        try (BufferedReader input = source.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(source), StandardCharsets.UTF_8)) {
+            BatchResult result = runner.run(input, output);
+            writeMetricsFile();
+            return result.getFailures() > 0 ? 1 : 0;
+        } catch (IOException e) {
+            System.err.println("Komut dosyası okunamadı: " + e.getMessage());
+            return 2;
+        }
+    }
+
     private static void initializeManagers() {
         flightManager = new FlightManager();
         reservationManager = new ReservationManager();
@@ -187,6 +244,7 @@ public class CliApp {
             if (currentUser instanceof Admin) {
                 System.out.println("7. [Admin] Tüm Kullanıcıları Listele");
                 System.out.println("8. [Admin] Tüm Rezervasyonları Listele");
+                System.out.println("9. [Admin] Performans Metrikleri");
             }
             System.out.println("0. Çıkış");
             System.out.print("\nSeçiminiz: ");
@@ -212,6 +270,12 @@ public class CliApp {
                     else
                         System.out.println("Yetkisiz işlem!");
                 }
+                case "9" -> {
+                    if (currentUser instanceof Admin)
+                        showMetrics();
+                    else
+                        System.out.println("Yetkisiz işlem!");
+                }
                 case "0" -> {
                     return;
                 }
@@ -502,6 +566,26 @@ public class CliApp {
         printReservationTable(reservations);
     }
 
+    private static void showMetrics() {
+        System.out.println("\n═══════════════ PERFORMANS METRİKLERİ (µs) ═══════════════");
+        System.out.print(MetricsRegistry.getDefault().formatText());
+        System.out.println(reservationManager.getLock().getSummary());
+        writeMetricsFile();
+    }
+
+    /**
+     * Metrikleri data/metrics.txt dosyasına yazar.
+     */
+    private static void writeMetricsFile() {
+        Path file = Path.of(FileManager.getDataDirectory(), MetricsRegistry.SCRAPE_FILE);
+        try {
+            MetricsRegistry.getDefault().writeScrapeFile(file);
+            System.err.println("Metrikler yazıldı: " + file);
+        } catch (IOException e) {
+            System.err.println("Metrik dosyası yazılamadı: " + e.getMessage());
+        }
+    }
+
     private static String truncate(String str, int maxLen) {
         if (str == null)
             return "";
@@ -3,24 +3,38 @@ package com.airline;
 /**
  * JAR dosyası için Launcher sınıfı.
  * --cli veya --no-gui argümanı ile terminal modunda çalışır.
+ * --batch &lt;dosya|-&gt; argümanı ile komut dosyasını menü olmadan çalıştırır.
+ * --api [port] [--bind adres] argümanı ile HTTP/JSON API sunucusu olarak çalışır.
  * Argüman verilmezse GUI modunda çalışır.
  */
 public class Launcher {
     public static void main(String[] args) {
         boolean cliMode = false;
+        boolean apiMode = false;
 
         // Argümanları kontrol et
         int argIndex = 0;
         while (argIndex < args.length) {
             String arg = args[argIndex];
-            if (arg.equals("--cli") || arg.equals("--no-gui") || arg.equals("-c")) {
+            if (arg.equals("--cli") || arg.equals("--no-gui") || arg.equals("-c") || arg.equals("--batch")) {
                 cliMode = true;
                 break;
             }
+            if (arg.equals("--api")) {
+                apiMode = true;
+                break;
+            }
             argIndex++;
         }
 
-        if (cliMode) {
+        if (apiMode) {
+            // API sunucusu olarak çalıştır (JavaFX gerektirmez)
+            try {
+                com.airline.api.ApiServer.main(args);
+            } catch (java.io.IOException e) {
+                System.err.println("API sunucusu başlatılamadı: " + e.getMessage());
+            }
+        } else if (cliMode) {
             // Terminal modunda çalıştır (JavaFX gerektirmez)
             CliApp.main(args);
         } else {
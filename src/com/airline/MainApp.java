@@ -3,7 +3,18 @@ package com.airline;
 import com.airline.gui.LoginScreen;
 import com.airline.manager.FlightManager;
 import com.airline.manager.ReservationManager;
+import com.airline.manager.SessionManager;
 import com.airline.manager.UserManager;
+import com.airline.metrics.MetricsRegistry;
+import com.airline.service.ChangeFeed;
+import com.airline.service.DynamicPricingEngine;
+import com.airline.service.FareCalendar;
+import com.airline.service.FlightArchiver;
+import com.airline.service.FlightSearchEngine;
+import com.airline.service.PriceCalculator;
+import com.airline.service.ReservationColumnStore;
+import com.airline.service.SearchResultCache;
+import com.airline.util.FileManager;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -18,6 +29,14 @@ public class MainApp extends Application {
     private static FlightManager flightManager;
     private static ReservationManager reservationManager;
     private static UserManager userManager;
+    private static DynamicPricingEngine pricingEngine;
+    private static FareCalendar fareCalendar;
+    private static FlightSearchEngine searchEngine;
+    private static FlightArchiver flightArchiver;
+    private static ReservationColumnStore columnStore;
+    private static ChangeFeed changeFeed;
+
+    private static final long METRICS_EXPORT_SECONDS = 10;
 
     @Override
     public void start(Stage primaryStage) {
@@ -33,9 +52,11 @@ public class MainApp extends Application {
      * Tüm manager sınıflarını başlatır.
      */
     private void initializeManagers() {
-        flightManager = new FlightManager();
-        reservationManager = new ReservationManager();
-        userManager = new UserManager();
+        synchronized (MainApp.class) {
+            flightManager = new FlightManager();
+            reservationManager = new ReservationManager();
+            userManager = new UserManager();
+        }
 
         // Eğer hiç uçuş yoksa örnek veriler oluştur
         if (flightManager.getAllFlights().isEmpty()) {
@@ -44,6 +65,22 @@ public class MainApp extends Application {
 
         // Rezervasyonları uçuşlarla senkronize et
         syncReservationsWithFlights();
+
+        // Kalkmış uçuşları arşive taşı ve arşivlemeyi zamanla
+        try {
+            getFlightArchiver().archiveExpired();
+        } catch (IllegalStateException e) {
+            System.err.println("Arşivleme hatası: " + e.getMessage()); // Kayıtlar yerinde kalır
+        }
+        getFlightArchiver().start(FlightArchiver.DEFAULT_INTERVAL_MINUTES);
+
+        // Metrikler data/metrics.txt dosyasına düzenli yazılır
+        MetricsRegistry.getDefault().startScrapeExport(
+                java.nio.file.Paths.get(FileManager.getDataDirectory(), MetricsRegistry.SCRAPE_FILE),
+                METRICS_EXPORT_SECONDS);
+
+        // Süresi dolan oturumlar düzenli olarak temizlenir
+        userManager.getSessionManager().startEvictionSweep(SessionManager.DEFAULT_SWEEP_SECONDS);
     }
 
     /**
@@ -93,8 +130,10 @@ public class MainApp extends Application {
 
     /**
      * FlightManager singleton instance'ını döndürür.
+     * Getter'lar arka plan thread'lerinden de çağrıldığı için synchronized'dır;
+     * her servis tek bir kez oluşturulur.
      */
-    public static FlightManager getFlightManager() {
+    public static synchronized FlightManager getFlightManager() {
         if (flightManager == null) {
             flightManager = new FlightManager();
         }
@@ -104,7 +143,7 @@ public class MainApp extends Application {
     /**
      * ReservationManager singleton instance'ını döndürür.
      */
-    public static ReservationManager getReservationManager() {
+    public static synchronized ReservationManager getReservationManager() {
         if (reservationManager == null) {
             reservationManager = new ReservationManager();
         }
@@ -114,13 +153,85 @@ public class MainApp extends Application {
     /**
      * UserManager singleton instance'ını döndürür.
      */
-    public static UserManager getUserManager() {
+    public static synchronized UserManager getUserManager() {
         if (userManager == null) {
             userManager = new UserManager();
         }
         return userManager;
     }
 
+    /**
+     * DynamicPricingEngine singleton instance'ını döndürür.
+     * Rezervasyon değişikliklerinde ilgili uçuşun fiyatı güncellenir.
+     */
+    public static synchronized DynamicPricingEngine getPricingEngine() {
+        if (pricingEngine == null) {
+            pricingEngine = new DynamicPricingEngine(getFlightManager(), new PriceCalculator());
+            pricingEngine.attachTo(getReservationManager());
+            pricingEngine.attachTo(getFlightManager());
+        }
+        return pricingEngine;
+    }
+
+    /**
+     * FareCalendar singleton instance'ını döndürür.
+     */
+    public static synchronized FareCalendar getFareCalendar() {
+        if (fareCalendar == null) {
+            fareCalendar = new FareCalendar(getFlightManager(), getPricingEngine());
+        }
+        return fareCalendar;
+    }
+
+    /**
+     * FlightSearchEngine singleton instance'ını döndürür.
+     * Şehir indeksi uçuş ve rota değişiklikleriyle güncel tutulur.
+     */
+    public static synchronized FlightSearchEngine getSearchEngine() {
+        if (searchEngine == null) {
+            searchEngine = new FlightSearchEngine(getFlightManager(), getPricingEngine());
+            SearchResultCache cache = new SearchResultCache(getFlightManager());
+            cache.attachTo(getReservationManager());
+            searchEngine.setResultCache(cache);
+        }
+        return searchEngine;
+    }
+
+    /**
+     * FlightArchiver singleton instance'ını döndürür.
+     */
+    public static synchronized FlightArchiver getFlightArchiver() {
+        if (flightArchiver == null) {
+            flightArchiver = new FlightArchiver(getFlightManager(), getReservationManager());
+        }
+        return flightArchiver;
+    }
+
+    /**
+     * ReservationColumnStore singleton instance'ını döndürür.
+     * Raporlar için rezervasyon verilerini sütun bazlı tutar.
+     */
+    public static synchronized ReservationColumnStore getColumnStore() {
+        if (columnStore == null) {
+            columnStore = new ReservationColumnStore();
+            columnStore.attachTo(getReservationManager());
+        }
+        return columnStore;
+    }
+
+    /**
+     * ChangeFeed singleton instance'ını döndürür.
+     * Koltuk ve uçuş durumu değişiklikleri açık ekranlara buradan yayınlanır.
+     */
+    public static synchronized ChangeFeed getChangeFeed() {
+        if (changeFeed == null) {
+            changeFeed = new ChangeFeed();
+            changeFeed.attachTo(getFlightManager());
+            changeFeed.attachTo(getReservationManager());
+        }
+        return changeFeed;
+    }
+
     /**
      * Uygulamayı başlatır.
      */
@@ -0,0 +1,94 @@
+package com.airline.api;
+
+/**
+ * API yük testinin ölçüm sonuçlarını tutar.
+ * Gecikmeler mikrosaniye cinsindendir ve tek bir HTTP isteğini kapsar.
+ */
+public final class ApiLoadResult {
+
+    private final int clients;
+    private final long requests;
+    private final long errors; // Bağlantı hatası veya beklenmeyen durum kodu
+    private final long conflicts; // Dolu koltuk için 409 (beklenen yanıt)
+    private final long elapsedMillis;
+    private final long p50Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    public ApiLoadResult(int clients, long requests, long errors, long conflicts, long elapsedMillis,
+                         long p50Micros, long p99Micros, long maxMicros) {
+        this.clients = clients;
+        this.requests = requests;
+        this.errors = errors;
+        this.conflicts = conflicts;
+        this.elapsedMillis = elapsedMillis;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    /**
+     * Saniyedeki istek sayısını döndürür.
+     */
+    public double getRequestsPerSecond() {
+        return elapsedMillis > 0 ? requests * 1000.0 / elapsedMillis : requests;
+    }
+
+    /**
+     * Sonuçları okunabilir bir özet olarak döndürür.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("═══════════════════════════════════════════════════════════\n");
+        summary.append("                    API YÜK TESTİ SONUCU\n");
+        summary.append("═══════════════════════════════════════════════════════════\n");
+        summary.append(String.format("İstemci Sayısı        : %d\n", clients));
+        summary.append(String.format("İstek / Hata          : %d / %d\n", requests, errors));
+        summary.append(String.format("Dolu Koltuk (409)     : %d\n", conflicts));
+        summary.append(String.format("Süre                  : %d ms\n", elapsedMillis));
+        summary.append(String.format("Verim                 : %.1f istek/sn\n", getRequestsPerSecond()));
+        summary.append(String.format("Gecikme p50/p99       : %d / %d µs\n", p50Micros, p99Micros));
+        summary.append(String.format("En Yüksek Gecikme     : %d µs\n", maxMicros));
+        summary.append("═══════════════════════════════════════════════════════════\n");
+        return summary.toString();
+    }
+
+    // Getter metodları
+    public int getClients() {
+        return clients;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ApiLoadResult{clients=%d, requests=%d, errors=%d, %.1f/s, p99=%dµs}",
+                clients, requests, errors, getRequestsPerSecond(), p99Micros);
+    }
+}
@@ -0,0 +1,294 @@
+package com.airline.api;
+
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.manager.UserManager;
+import com.airline.model.Flight;
+import com.airline.model.Seat;
+import com.airline.service.FlightSearchEngine;
+import com.airline.util.ThreadSupport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Çalışan bir API sunucusuna yerel yük bindirir ve sürdürülebilir istek/sn değerini ölçer.
+ * Her istemci süre dolana kadar ardışık istek gönderir: çoğunlukla arama,
+ * bir kısmı koltuk haritası, bir kısmı rezervasyon + iptal.
+ * Rezervasyonlar hemen iptal edildiği için koltuk doluluğu ölçüm boyunca sabit kalır.
+ * Tüm istemciler verilen oturum token'ını Authorization başlığında gönderir.
+ */
+public class ApiLoadTest {
+
+    private static final double SEARCH_SHARE = 0.7;
+    private static final double SEAT_MAP_SHARE = 0.2; // Kalan pay rezervasyon + iptal
+    private static final String LOAD_USERNAME = "yuktesti";
+    private static final String LOAD_PASSWORD = "yuktesti";
+
+    private final int clients;
+    private final long durationMillis;
+
+    /**
+     * Bir istemcinin ölçtüğü istek süreleri (µs); sadece kendi thread'inde yazılır.
+     */
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int count;
+
+        private void add(long micros) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = micros;
+        }
+    }
+
+    /**
+     * ApiLoadTest oluşturur.
+     * @param clients Eşzamanlı istemci sayısı
+     * @param durationMillis Ölçüm süresi
+     */
+    public ApiLoadTest(int clients, long durationMillis) {
+        if (clients <= 0 || durationMillis <= 0) {
+            throw new IllegalArgumentException("İstemci sayısı ve süre pozitif olmalıdır!");
+        }
+        this.clients = clients;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Yükü verilen sunucuya uygular.
+     * @param baseUrl Sunucu adresi (örn. http://localhost:8080)
+     * @param token Oturum token'ı (POST /api/sessions ile alınır)
+     * @param flights İsteklerde kullanılacak uçuşlar
+     */
+    public ApiLoadResult run(String baseUrl, String token, List<Flight> flights) {
+        if (flights == null || flights.isEmpty()) {
+            throw new IllegalArgumentException("Yük testi için en az bir uçuş gerekli!");
+        }
+        if (token == null) {
+            throw new IllegalArgumentException("Yük testi için oturum token'ı gerekli!");
+        }
+        Flight[] targets = flights.toArray(new Flight[0]);
+        long[] errors = new long[clients];
+        long[] conflicts = new long[clients];
+        Samples[] latencies = new Samples[clients];
+        CountDownLatch ready = new CountDownLatch(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(clients);
+        long[] deadline = new long[1];
+        ThreadFactory factory = ThreadSupport.daemonFactory("api-load");
+
+        int i = 0;
+        while (i < clients) {
+            final int index = i;
+            factory.newThread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Samples samples = new Samples();
+                ready.countDown();
+                try {
+                    start.await();
+                    long end = deadline[0];
+                    while (System.nanoTime() < end) {
+                        Flight flight = targets[random.nextInt(targets.length)];
+                        double pick = random.nextDouble();
+                        int status;
+                        if (pick < SEARCH_SHARE) {
+                            status = timed(samples, "GET", baseUrl + "/api/flights?from="
+                                    + encode(flight.getDeparturePlace()) + "&to="
+                                    + encode(flight.getArrivalPlace()), token, null, null);
+                        } else if (pick < SEARCH_SHARE + SEAT_MAP_SHARE) {
+                            status = timed(samples, "GET", baseUrl + "/api/flights/"
+                                    + encode(flight.getFlightNum()) + "/seats", token, null, null);
+                        } else {
+                            status = reserveAndCancel(baseUrl, token, flight, random, samples);
+                        }
+                        if (status == HttpURLConnection.HTTP_CONFLICT) {
+                            conflicts[index]++;
+                        } else if (status < 200 || status >= 300) {
+                            errors[index]++;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latencies[index] = samples;
+                    done.countDown();
+                }
+            }).start();
+            i++;
+        }
+
+        long startedAt;
+        long finishedAt;
+        try {
+            ready.await();
+            startedAt = System.nanoTime();
+            deadline[0] = startedAt + durationMillis * 1_000_000;
+            start.countDown(); // deadline yazısı latch ile görünür olur
+            done.await();
+            finishedAt = System.nanoTime();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ApiLoadResult(clients, 0, 0, 0, 0, 0, 0, 0);
+        }
+
+        int total = 0;
+        int c = 0;
+        while (c < clients) {
+            total += latencies[c].count;
+            c++;
+        }
+        long[] sorted = new long[total];
+        int offset = 0;
+        c = 0;
+        while (c < clients) {
+            System.arraycopy(latencies[c].values, 0, sorted, offset, latencies[c].count);
+            offset += latencies[c].count;
+            c++;
+        }
+        Arrays.sort(sorted);
+        return new ApiLoadResult(clients, total, Arrays.stream(errors).sum(),
+                Arrays.stream(conflicts).sum(), (finishedAt - startedAt) / 1_000_000,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), total == 0 ? 0 : sorted[total - 1]);
+    }
+
+    /**
+     * Rastgele bir koltuğu rezerve eder, başarılıysa hemen iptal eder.
+     * @return Rezervasyon isteğinin durum kodu (iptal hatalıysa iptalin kodu)
+     */
+    private int reserveAndCancel(String baseUrl, String token, Flight flight, ThreadLocalRandom random,
+                                 Samples samples) {
+        List<Seat> seats = flight.getPlane().getAllSeats();
+        Seat seat = seats.get(random.nextInt(seats.size()));
+        String[] body = new String[1];
+        int status = timed(samples, "POST", baseUrl + "/api/reservations", token,
+                "flight=" + encode(flight.getFlightNum()) + "&seat=" + seat.getSeatNum()
+                        + "&name=Yuk&surname=Testi", body);
+        if (status != HttpURLConnection.HTTP_CREATED) {
+            return status;
+        }
+        String code = extractField(body[0], "code");
+        int cancelStatus = timed(samples, "DELETE", baseUrl + "/api/reservations/" + code, token, null, null);
+        return cancelStatus == HttpURLConnection.HTTP_OK ? status : cancelStatus;
+    }
+
+    /**
+     * Tek bir isteği gönderir, yanıtın tamamını okur ve süresini kaydeder.
+     * Token verilmişse Authorization başlığında, form verilmişse istek gövdesi olarak gönderilir;
+     * response dizisi verilmişse yanıt oraya yazılır.
+     * @return Durum kodu (bağlantı hatasında -1)
+     */
+    private static int timed(Samples samples, String method, String url, String token, String form,
+                             String[] response) {
+        long begin = System.nanoTime();
+        int status;
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setRequestMethod(method);
+            if (token != null) {
+                connection.setRequestProperty("Authorization", "Bearer " + token);
+            }
+            if (form != null) {
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+                try (OutputStream out = connection.getOutputStream()) {
+                    out.write(form.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            status = connection.getResponseCode();
+            InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            if (in != null) {
+                try (InputStream body = in) {
+                    byte[] bytes = body.readAllBytes(); // Bağlantı yeniden kullanılabilsin diye sonuna kadar okunur
+                    if (response != null) {
+                        response[0] = new String(bytes, StandardCharsets.UTF_8);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            status = -1;
+        }
+        samples.add((System.nanoTime() - begin) / 1000);
+        return status;
+    }
+
+    /**
+     * Sunucuda oturum açar ve token'ı döndürür.
+     * @throws IllegalStateException Giriş başarısızsa
+     */
+    public static String login(String baseUrl, String username, String password) {
+        String[] body = new String[1];
+        int status = timed(new Samples(), "POST", baseUrl + "/api/sessions", null,
+                "username=" + encode(username) + "&password=" + encode(password), body);
+        if (status != HttpURLConnection.HTTP_CREATED) {
+            throw new IllegalStateException("Yük testi için giriş yapılamadı (HTTP " + status + ")");
+        }
+        return extractField(body[0], "token");
+    }
+
+    /**
+     * Düz bir JSON nesnesinden metin alanını okur (sadece yük testi için).
+     */
+    static String extractField(String json, String name) {
+        String key = "\"" + name + "\":\"";
+        int start = json.indexOf(key);
+        if (start < 0) {
+            throw new IllegalArgumentException("Yanıtta alan yok: " + name);
+        }
+        start += key.length();
+        return json.substring(start, json.indexOf('"', start));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * Yük testini bellekteki rezervasyonlarla yerel bir sunucuya karşı çalıştırır.
+     * Kullanım: ApiLoadTest [istemci sayısı] [süre ms]
+     */
+    public static void main(String[] args) throws IOException {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        long duration = args.length > 1 ? Long.parseLong(args[1]) : 10_000;
+
+        FlightManager flightManager = new FlightManager();
+        if (flightManager.getAllFlights().isEmpty()) {
+            flightManager.createSampleData();
+        }
+        // Yük testi rezervasyonları dosyaya yazılmaz
+        ReservationManager reservationManager = new ReservationManager(false);
+        UserManager userManager = new UserManager(false);
+        userManager.registerCustomer(LOAD_USERNAME, LOAD_PASSWORD, "yuk@test.com", "Yuk", "Testi", "555");
+        FlightSearchEngine searchEngine = new FlightSearchEngine(flightManager);
+        searchEngine.getPricingEngine().attachTo(reservationManager);
+        ApiServer server = new ApiServer(searchEngine, reservationManager, userManager, 0);
+        server.start();
+        try {
+            String token = login(server.getBaseUrl(), LOAD_USERNAME, LOAD_PASSWORD);
+            ApiLoadResult result = new ApiLoadTest(clientCount, duration)
+                    .run(server.getBaseUrl(), token, flightManager.getActiveFlights());
+            System.out.println(result.getSummary());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,817 @@
+package com.airline.api;
+
+import com.airline.exception.AirlineException;
+import com.airline.exception.FlightNotFoundException;
+import com.airline.exception.InvalidOperationException;
+import com.airline.exception.ResourceNotFoundException;
+import com.airline.exception.SeatNotAvailableException;
+import com.airline.exception.SeatNotFoundException;
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.manager.Session;
+import com.airline.manager.SessionManager;
+import com.airline.manager.UserManager;
+import com.airline.metrics.LatencyHistogram;
+import com.airline.metrics.MetricsRegistry;
+import com.airline.model.Customer;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Reservation;
+import com.airline.model.Seat;
+import com.airline.model.Ticket;
+import com.airline.service.ChangeEvent;
+import com.airline.service.ChangeFeed;
+import com.airline.service.ChangeSubscription;
+import com.airline.service.FlightPage;
+import com.airline.service.FlightQuery;
+import com.airline.service.FlightSearchEngine;
+import com.airline.service.ReportGenerator;
+import com.airline.util.FileManager;
+import com.airline.util.ThreadSupport;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Yöneticileri HTTP/JSON üzerinden sunan gömülü sunucu.
+ * JDK'nın HttpServer'ı kullanılır; her istek ayrı bir thread'de (varsa sanal
+ * thread) çalışır, böylece dosyaya kaydetme gibi bekleyen işlemler diğer
+ * istekleri durdurmaz. Yanıtlar JsonWriter ile doğrudan çıkışa yazılır.
+ *
+ * Uç noktalar (* oturum, ** admin oturumu gerektirir):
+ * POST   /api/sessions (username, password) — token döndürür
+ * DELETE /api/sessions *
+ * GET    /api/flights?from=&amp;to=&amp;date=&amp;available=&amp;cursor=&amp;limit=
+ * GET    /api/flights/{uçuşNo}
+ * GET    /api/flights/{uçuşNo}/seats
+ * POST   /api/reservations (flight, seat, name, surname, email, phone) *
+ * GET    /api/reservations/{kod} *
+ * DELETE /api/reservations/{kod} *
+ * POST   /api/reservations/{kod}/ticket *
+ * GET    /api/tickets/{biletNo} *
+ * GET    /api/reports/{occupancy|revenue|reservation|full} **
+ * GET    /api/events, /api/flights/{uçuşNo}/events (Server-Sent Events)
+ * GET    /api/metrics (düz metin)
+ *
+ * Oturum token'ı "Authorization: Bearer &lt;token&gt;" başlığıyla gönderilir; token
+ * yoksa veya süresi dolduysa 401, yetki yetmiyorsa 403 döner. Müşteriler sadece
+ * kendi yolcu kayıtlarına ait rezervasyon ve biletleri görebilir; başkasına ait
+ * bir kod, kodların denenerek bulunamaması için 404 döndürür.
+ *
+ * Sunucu varsayılan olarak sadece loopback adresini dinler; dışarıya açmak için
+ * bağlanılacak adres açıkça verilmelidir (örn. --bind 0.0.0.0).
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int FALLBACK_THREADS = 64; // Sanal thread yoksa havuz boyutu
+    private static final int HEARTBEAT_SECONDS = 15; // Kopan SSE istemcilerini bulmak için
+    private static final long METRICS_EXPORT_SECONDS = 10;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final LatencyHistogram REQUEST_LATENCY = MetricsRegistry.getDefault().histogram("api.request");
+
+    /**
+     * Açık bir SSE bağlantısı. İstek thread'i bekletilmez; olaylar akışın
+     * teslimat thread'inden yazılır, bağlantı kopunca abonelik kapatılır.
+     */
+    private final class EventStream {
+        private final HttpExchange exchange;
+        private final Writer out;
+        private ChangeSubscription subscription;
+        private boolean closed;
+
+        private EventStream(HttpExchange exchange) {
+            this.exchange = exchange;
+            this.out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Yanıt başlıklarını gönderir. Abonelikten sonra çağrılır; istemci 200'ü
+         * gördüğünde sonraki olayların akışa düşeceği kesindir.
+         */
+        private void sendHeaders() throws IOException {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+        }
+
+        private synchronized void send(List<ChangeEvent> events) {
+            if (closed) {
+                return;
+            }
+            try {
+                java.util.Iterator<ChangeEvent> iterator = events.iterator();
+                while (iterator.hasNext()) {
+                    ChangeEvent event = iterator.next();
+                    out.write("id: " + event.getSequence() + "\n");
+                    out.write("event: " + event.getKind().name().toLowerCase(java.util.Locale.ROOT) + "\n");
+                    out.write("data: " + toJson(event) + "\n\n");
+                }
+                out.flush();
+            } catch (IOException e) {
+                close(); // İstemci bağlantıyı kapattı
+            }
+        }
+
+        private synchronized void heartbeat() {
+            if (closed) {
+                return;
+            }
+            try {
+                out.write(":\n\n");
+                out.flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (subscription != null) {
+                subscription.close();
+            }
+            eventStreams.remove(this);
+            exchange.close();
+        }
+    }
+
+    private final FlightManager flightManager;
+    private final ReservationManager reservationManager;
+    private final UserManager userManager;
+    private final SessionManager sessionManager;
+    private final FlightSearchEngine searchEngine;
+    private final InetAddress bindAddress;
+    private final int requestedPort;
+    private HttpServer server;
+    private ExecutorService executor;
+    private ScheduledExecutorService heartbeat;
+    private volatile ChangeFeed changeFeed; // null ise olay akışı kapalı
+    private final Set<EventStream> eventStreams = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Sadece loopback adresini dinleyen ApiServer oluşturur.
+     * @param searchEngine Arama motoru (uçuş yöneticisi ve fiyatlandırma buradan alınır)
+     * @param reservationManager Rezervasyon yöneticisi
+     * @param userManager Giriş ve oturum yetkilendirmesi için kullanıcı yöneticisi
+     * @param port Dinlenecek port (0 ise boş bir port seçilir)
+     */
+    public ApiServer(FlightSearchEngine searchEngine, ReservationManager reservationManager,
+                     UserManager userManager, int port) {
+        this(searchEngine, reservationManager, userManager, InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * ApiServer oluşturur.
+     * @param searchEngine Arama motoru (uçuş yöneticisi ve fiyatlandırma buradan alınır)
+     * @param reservationManager Rezervasyon yöneticisi
+     * @param userManager Giriş ve oturum yetkilendirmesi için kullanıcı yöneticisi
+     * @param bindAddress Dinlenecek adres (tüm arayüzler için 0.0.0.0 açıkça verilmelidir)
+     * @param port Dinlenecek port (0 ise boş bir port seçilir)
+     */
+    public ApiServer(FlightSearchEngine searchEngine, ReservationManager reservationManager,
+                     UserManager userManager, InetAddress bindAddress, int port) {
+        if (searchEngine == null || reservationManager == null) {
+            throw new IllegalArgumentException("Arama motoru ve rezervasyon yöneticisi boş olamaz!");
+        }
+        if (userManager == null) {
+            throw new IllegalArgumentException("Kullanıcı yöneticisi boş olamaz!");
+        }
+        if (bindAddress == null) {
+            throw new IllegalArgumentException("Dinlenecek adres boş olamaz!");
+        }
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Geçersiz port: " + port);
+        }
+        this.searchEngine = searchEngine;
+        this.flightManager = searchEngine.getFlightManager();
+        this.reservationManager = reservationManager;
+        this.userManager = userManager;
+        this.sessionManager = userManager.getSessionManager();
+        this.bindAddress = bindAddress;
+        this.requestedPort = port;
+    }
+
+    /**
+     * Sunucuyu başlatır.
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Sunucu zaten çalışıyor!");
+        }
+        // Parça parça gönderilen yanıtlar Nagle algoritması yüzünden ~40 ms beklemesin
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        executor = ThreadSupport.newPerTaskExecutor("api", FALLBACK_THREADS);
+        server = HttpServer.create(new InetSocketAddress(bindAddress, requestedPort), 0);
+        server.setExecutor(executor);
+        server.createContext("/api/", this::handle);
+        server.start();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(ThreadSupport.daemonFactory("api-heartbeat"));
+        heartbeat.scheduleAtFixedRate(() -> {
+            java.util.Iterator<EventStream> iterator = eventStreams.iterator();
+            while (iterator.hasNext()) {
+                iterator.next().heartbeat();
+            }
+        }, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * SSE uç noktalarının yayınlayacağı değişiklik akışını ayarlar.
+     */
+    public void setChangeFeed(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * Sunucuyu durdurur; devam eden isteklerin bitmesi için en fazla delaySeconds beklenir.
+     */
+    public synchronized void stop(int delaySeconds) {
+        if (server == null) {
+            return;
+        }
+        heartbeat.shutdownNow();
+        java.util.Iterator<EventStream> iterator = eventStreams.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().close();
+        }
+        server.stop(delaySeconds);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+        heartbeat = null;
+    }
+
+    /**
+     * Sunucunun dinlediği portu döndürür.
+     */
+    public synchronized int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("Sunucu çalışmıyor!");
+        }
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Sunucunun temel adresini döndürür (örn. http://127.0.0.1:8080).
+     * Tüm arayüzleri dinlerken localhost kullanılır.
+     */
+    public synchronized String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Sunucu çalışmıyor!");
+        }
+        InetAddress address = server.getAddress().getAddress();
+        String host;
+        if (address.isAnyLocalAddress()) {
+            host = "localhost";
+        } else if (address instanceof Inet6Address) {
+            host = "[" + address.getHostAddress() + "]";
+        } else {
+            host = address.getHostAddress();
+        }
+        return "http://" + host + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * İsteği yola ve metoda göre ilgili işleyiciye yönlendirir.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        boolean streaming = false; // SSE bağlantısı açık kalır
+        try {
+            String[] path = exchange.getRequestURI().getPath().substring("/api/".length()).split("/");
+            String method = exchange.getRequestMethod();
+            Map<String, String> params = readParams(exchange);
+            String resource = path[0];
+
+            if (resource.equals("sessions") && path.length == 1) {
+                if (method.equals("POST")) {
+                    login(exchange, params);
+                } else if (method.equals("DELETE")) {
+                    logout(exchange);
+                } else {
+                    notFound(exchange);
+                }
+            } else if (resource.equals("flights") && method.equals("GET")) {
+                if (path.length == 1) {
+                    searchFlights(exchange, params);
+                } else if (path.length == 2) {
+                    writeFlight(exchange, findFlight(path[1]));
+                } else if (path.length == 3 && path[2].equals("seats")) {
+                    writeSeatMap(exchange, findFlight(path[1]));
+                } else if (path.length == 3 && path[2].equals("events")) {
+                    streaming = openEventStream(exchange, findFlight(path[1]).getFlightNum());
+                } else {
+                    notFound(exchange);
+                }
+            } else if (resource.equals("reservations")) {
+                Session session = sessionManager.require(bearerToken(exchange));
+                if (path.length == 1 && method.equals("POST")) {
+                    reserve(exchange, session, params);
+                } else if (path.length == 2 && method.equals("GET")) {
+                    writeReservation(exchange, 200, findReservation(session, path[1]));
+                } else if (path.length == 2 && method.equals("DELETE")) {
+                    cancel(exchange, findReservation(session, path[1]));
+                } else if (path.length == 3 && path[2].equals("ticket") && method.equals("POST")) {
+                    issueTicket(exchange, findReservation(session, path[1]));
+                } else {
+                    notFound(exchange);
+                }
+            } else if (resource.equals("tickets") && path.length == 2 && method.equals("GET")) {
+                Session session = sessionManager.require(bearerToken(exchange));
+                Ticket ticket = reservationManager.getTicketById(path[1]);
+                if (ticket == null || !canAccess(session, ticket.getReservation())) {
+                    throw new ResourceNotFoundException("Bilet", path[1]);
+                }
+                writeTicket(exchange, 200, ticket);
+            } else if (resource.equals("reports") && path.length == 2 && method.equals("GET")) {
+                sessionManager.requireAdmin(bearerToken(exchange));
+                writeReport(exchange, path[1]);
+            } else if (resource.equals("events") && path.length == 1 && method.equals("GET")) {
+                streaming = openEventStream(exchange, null);
+            } else if (resource.equals("metrics") && path.length == 1 && method.equals("GET")) {
+                writeMetrics(exchange);
+            } else {
+                notFound(exchange);
+            }
+        } catch (SecurityException e) {
+            writeAuthError(exchange, e.getMessage());
+        } catch (FlightNotFoundException | SeatNotFoundException | ResourceNotFoundException e) {
+            writeError(exchange, 404, e.getMessage());
+        } catch (SeatNotAvailableException e) {
+            writeError(exchange, 409, e.getMessage());
+        } catch (InvalidOperationException | IllegalArgumentException e) {
+            writeError(exchange, 400, e.getMessage());
+        } catch (AirlineException e) {
+            writeError(exchange, 422, e.getMessage());
+        } catch (RuntimeException e) {
+            writeError(exchange, 500, "Sunucu hatası: " + e.getMessage());
+        } finally {
+            if (!streaming) {
+                exchange.close();
+                REQUEST_LATENCY.recordSince(start);
+            }
+        }
+    }
+
+    /**
+     * Kullanıcı adı ve şifreyle oturum açar, token'ı döndürür.
+     */
+    private void login(HttpExchange exchange, Map<String, String> params) throws IOException {
+        Session session = userManager.openSession(required(params, "username"), required(params, "password"));
+        if (session == null) {
+            throw new SecurityException("Kullanıcı adı veya şifre hatalı!");
+        }
+        try (JsonWriter json = open(exchange, 201)) {
+            json.beginObject()
+                    .field("token", session.getToken())
+                    .field("username", session.getUser().getUsername())
+                    .field("role", session.getRole().name())
+                    .endObject();
+        }
+    }
+
+    private void logout(HttpExchange exchange) throws IOException {
+        if (!userManager.logout(bearerToken(exchange))) {
+            throw new SecurityException("Oturum bulunamadı veya süresi doldu!");
+        }
+        try (JsonWriter json = open(exchange, 200)) {
+            json.beginObject().field("status", "CLOSED").endObject();
+        }
+    }
+
+    /**
+     * Authorization başlığındaki Bearer token'ı döndürür, yoksa null.
+     */
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    /**
+     * Yetki hatasını yazar: geçerli oturum yoksa 401, oturumun yetkisi yetmiyorsa 403.
+     */
+    private void writeAuthError(HttpExchange exchange, String message) throws IOException {
+        if (sessionManager.get(bearerToken(exchange)) != null) {
+            writeError(exchange, 403, message);
+            return;
+        }
+        if (exchange.getResponseCode() == -1) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+        }
+        writeError(exchange, 401, message);
+    }
+
+    /**
+     * Metrikleri düz metin olarak yazar (toplayıcılar için).
+     */
+    private static void writeMetrics(HttpExchange exchange) throws IOException {
+        byte[] body = MetricsRegistry.getDefault().formatText().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * SSE bağlantısını açar ve değişiklik akışına abone eder.
+     * @param flightNum Uçuş numarası (null ise tüm uçuşlar)
+     * @return Bağlantı açık kaldıysa true
+     */
+    private boolean openEventStream(HttpExchange exchange, String flightNum) throws IOException {
+        ChangeFeed feed = changeFeed;
+        if (feed == null) {
+            throw new ResourceNotFoundException("Olay akışı");
+        }
+        EventStream stream = new EventStream(exchange);
+        eventStreams.add(stream);
+        // Başlıklar gönderilene kadar teslimatlar stream kilidinde bekler
+        synchronized (stream) {
+            stream.subscription = feed.subscribe(flightNum, stream::send);
+            try {
+                stream.sendHeaders();
+            } catch (IOException e) {
+                stream.close();
+                throw e;
+            }
+            stream.heartbeat(); // Başlıklar hemen istemciye ulaşsın
+        }
+        return true;
+    }
+
+    private static String toJson(ChangeEvent event) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonWriter json = new JsonWriter(out)) {
+            json.beginObject()
+                    .field("kind", event.getKind().name())
+                    .field("flightNum", event.getFlightNum())
+                    .field("seat", event.getSeatNum())
+                    .field("status", event.getStatus() != null ? event.getStatus().name() : null)
+                    .endObject();
+        }
+        return out.toString();
+    }
+
+    private void searchFlights(HttpExchange exchange, Map<String, String> params) throws IOException {
+        LocalDate date = null;
+        if (params.containsKey("date")) {
+            try {
+                date = LocalDate.parse(params.get("date"));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Geçersiz tarih: " + params.get("date"));
+            }
+        }
+        int limit = DEFAULT_PAGE_SIZE;
+        if (params.containsKey("limit")) {
+            limit = Math.min(parseInt(params.get("limit")), MAX_PAGE_SIZE);
+        }
+        FlightQuery query = new FlightQuery(params.get("from"), params.get("to"), date,
+                "true".equals(params.get("available")));
+        FlightPage page = searchEngine.searchPage(query, params.get("cursor"), limit);
+
+        try (JsonWriter json = open(exchange, 200)) {
+            json.beginObject().name("flights").beginArray();
+            java.util.Iterator<Flight> iterator = page.getFlights().iterator();
+            while (iterator.hasNext()) {
+                writeFlightFields(json.beginObject(), iterator.next()).endObject();
+            }
+            json.endArray().field("nextCursor", page.getNextCursor()).endObject();
+        }
+    }
+
+    private void writeFlight(HttpExchange exchange, Flight flight) throws IOException {
+        try (JsonWriter json = open(exchange, 200)) {
+            writeFlightFields(json.beginObject(), flight).endObject();
+        }
+    }
+
+    private JsonWriter writeFlightFields(JsonWriter json, Flight flight) throws IOException {
+        return json.field("flightNum", flight.getFlightNum())
+                .field("from", flight.getDeparturePlace())
+                .field("to", flight.getArrivalPlace())
+                .field("date", flight.getDate().toString())
+                .field("time", flight.getHour().toString())
+                .field("duration", flight.getDuration())
+                .field("availableSeats", flight.getAvailableSeatCount())
+                .field("lowestFare", searchEngine.getPricingEngine().getLowestFare(flight))
+                .field("status", flight.getStatus() != null ? flight.getStatus().name() : null);
+    }
+
+    private void writeSeatMap(HttpExchange exchange, Flight flight) throws IOException {
+        try (JsonWriter json = open(exchange, 200)) {
+            json.beginObject().field("flightNum", flight.getFlightNum()).name("seats").beginArray();
+            if (flight.getPlane() != null) {
+                java.util.Iterator<Seat> iterator = flight.getPlane().getAllSeats().iterator();
+                while (iterator.hasNext()) {
+                    Seat seat = iterator.next();
+                    json.beginObject()
+                            .field("seat", seat.getSeatNum())
+                            .field("class", seat.getClass_().name())
+                            .field("price", seat.getCalculatedPrice())
+                            .field("reserved", seat.isReserveStatus())
+                            .endObject();
+                }
+            }
+            json.endArray().endObject();
+        }
+    }
+
+    /**
+     * Rezervasyon yapar. Müşteri kendi yolcu kaydıyla rezervasyon yapar (ad/soyad
+     * parametreleri kullanılmaz); personel ve admin verilen yolcu adına yapar.
+     */
+    private void reserve(HttpExchange exchange, Session session, Map<String, String> params) throws IOException {
+        Flight flight = findFlight(required(params, "flight"));
+        String seatNum = required(params, "seat");
+        Seat seat = flight.getPlane() != null ? flight.getPlane().getSeat(seatNum) : null;
+        if (seat == null) {
+            throw new SeatNotFoundException(seatNum);
+        }
+        Passenger passenger;
+        if (session.isStaff()) {
+            passenger = new Passenger(required(params, "name"), required(params, "surname"),
+                    params.get("email"), params.get("phone"));
+        } else {
+            passenger = customerPassenger(session);
+        }
+        Reservation reservation = reservationManager.makeReservation(flight, passenger, seat);
+        writeReservation(exchange, 201, reservation);
+    }
+
+    private void cancel(HttpExchange exchange, Reservation reservation) throws IOException {
+        if (!reservationManager.cancelReservation(reservation.getReservationCode())) {
+            throw new InvalidOperationException("İptal", "Rezervasyon aktif değil");
+        }
+        writeReservation(exchange, 200, reservation);
+    }
+
+    private void issueTicket(HttpExchange exchange, Reservation reservation) throws IOException {
+        if (!reservation.isActive()) {
+            throw new InvalidOperationException("Bilet", "Rezervasyon aktif değil");
+        }
+        double price = searchEngine.getPricingEngine().getFare(reservation.getFlight(),
+                reservation.getSeat().getClass_());
+        writeTicket(exchange, 201, reservationManager.createTicket(reservation, price));
+    }
+
+    private void writeReservation(HttpExchange exchange, int status, Reservation reservation) throws IOException {
+        try (JsonWriter json = open(exchange, status)) {
+            json.beginObject()
+                    .field("code", reservation.getReservationCode())
+                    .field("flightNum", reservation.getFlight().getFlightNum())
+                    .field("seat", reservation.getSeat() != null ? reservation.getSeat().getSeatNum() : null)
+                    .field("passenger", reservation.getPassenger() != null
+                            ? reservation.getPassenger().getFullName() : null)
+                    .field("status", reservation.getStatus().name())
+                    .endObject();
+        }
+    }
+
+    private void writeTicket(HttpExchange exchange, int status, Ticket ticket) throws IOException {
+        try (JsonWriter json = open(exchange, status)) {
+            json.beginObject()
+                    .field("ticketId", ticket.getTicketId())
+                    .field("reservationCode", ticket.getReservation().getReservationCode())
+                    .field("price", ticket.getPrice())
+                    .field("baggageAllowance", ticket.getBaggageAllowance())
+                    .field("status", ticket.getTicketStatus().name())
+                    .endObject();
+        }
+    }
+
+    private void writeReport(HttpExchange exchange, String type) throws IOException {
+        ReportGenerator.ReportType reportType;
+        try {
+            reportType = ReportGenerator.ReportType.valueOf(type.toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResourceNotFoundException("Rapor", type);
+        }
+        ReportGenerator generator = new ReportGenerator(flightManager, reservationManager, reportType);
+        generator.run();
+        try (JsonWriter json = open(exchange, 200)) {
+            json.beginObject()
+                    .field("type", reportType.name())
+                    .field("report", generator.getReportResult())
+                    .endObject();
+        }
+    }
+
+    private Flight findFlight(String flightNum) {
+        Flight flight = flightManager.getFlightByNumber(flightNum);
+        if (flight == null) {
+            throw new FlightNotFoundException(flightNum);
+        }
+        return flight;
+    }
+
+    /**
+     * Oturumun erişebildiği rezervasyonu döndürür; yoksa veya başkasına aitse 404.
+     */
+    private Reservation findReservation(Session session, String code) {
+        Reservation reservation = reservationManager.getReservation(code);
+        if (reservation == null || !canAccess(session, reservation)) {
+            throw new ResourceNotFoundException("Rezervasyon", code);
+        }
+        return reservation;
+    }
+
+    /**
+     * Personel ve admin tüm rezervasyonlara, müşteri sadece kendi yolcu kaydına ait olanlara erişir.
+     */
+    private static boolean canAccess(Session session, Reservation reservation) {
+        if (session.isStaff()) {
+            return true;
+        }
+        if (!(session.getUser() instanceof Customer) || reservation == null || reservation.getPassenger() == null) {
+            return false;
+        }
+        Passenger own = ((Customer) session.getUser()).getPassenger();
+        return own != null && own.equals(reservation.getPassenger());
+    }
+
+    /**
+     * Müşteri oturumunun yolcu kaydını döndürür; eski kayıtlarda yoksa oluşturur.
+     */
+    private static Passenger customerPassenger(Session session) {
+        if (!(session.getUser() instanceof Customer)) {
+            throw new SecurityException("Bu işlem için müşteri veya personel oturumu gerekli!");
+        }
+        Customer customer = (Customer) session.getUser();
+        synchronized (customer) {
+            if (customer.getPassenger() == null) {
+                customer.setPassenger(new Passenger(customer.getUsername(), "", customer.getEmail(), ""));
+            }
+            return customer.getPassenger();
+        }
+    }
+
+    private void notFound(HttpExchange exchange) throws IOException {
+        writeError(exchange, 404, "Bilinmeyen istek: " + exchange.getRequestMethod() + " "
+                + exchange.getRequestURI().getPath());
+    }
+
+    /**
+     * Hata yanıtı yazar. Başlıklar zaten gönderildiyse (gövde yazılırken hata
+     * oluştuysa) ikinci kez gönderilmez; bağlantı kapatılınca yanıt yarıda kalır.
+     */
+    private void writeError(HttpExchange exchange, int status, String message) throws IOException {
+        if (exchange.getResponseCode() != -1) {
+            System.err.println("Yanıt yazılırken hata (" + status + "): " + message);
+            return;
+        }
+        try (JsonWriter json = open(exchange, status)) {
+            json.beginObject().field("status", status).field("error", message).endObject();
+        }
+    }
+
+    /**
+     * Yanıt başlıklarını gönderir ve gövdeye yazan JsonWriter döndürür.
+     * Gövde parça parça (chunked) gönderilir, boyutun önceden bilinmesi gerekmez.
+     */
+    private static JsonWriter open(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        return new JsonWriter(new BufferedWriter(
+                new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Sorgu parametrelerini ve form gövdesini (application/x-www-form-urlencoded) okur.
+     */
+    private static Map<String, String> readParams(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        parseForm(exchange.getRequestURI().getRawQuery(), params);
+        if (exchange.getRequestMethod().equals("POST")) {
+            parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8), params);
+        }
+        return params;
+    }
+
+    private static void parseForm(String form, Map<String, String> params) {
+        if (form == null || form.isEmpty()) {
+            return;
+        }
+        String[] pairs = form.split("&");
+        int i = 0;
+        while (i < pairs.length) {
+            int eq = pairs[i].indexOf('=');
+            if (eq > 0) {
+                String value = URLDecoder.decode(pairs[i].substring(eq + 1), StandardCharsets.UTF_8);
+                if (!value.isEmpty()) {
+                    params.put(URLDecoder.decode(pairs[i].substring(0, eq), StandardCharsets.UTF_8), value);
+                }
+            }
+            i++;
+        }
+    }
+
+    private static String required(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Eksik parametre: " + name);
+        }
+        return value;
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz sayı: " + value);
+        }
+    }
+
+    /**
+     * API sunucusunu komut satırından başlatır (JavaFX gerektirmez).
+     * Kullanım: --api [port] [--bind adres]
+     * Adres verilmezse sadece loopback dinlenir; dışarıya açmak için --bind 0.0.0.0.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        InetAddress bindAddress = InetAddress.getLoopbackAddress();
+        int i = 0;
+        while (i < args.length - 1) {
+            if (args[i].equals("--api")) {
+                port = parseInt(args[i + 1]);
+            } else if (args[i].equals("--bind")) {
+                bindAddress = InetAddress.getByName(args[i + 1]);
+            }
+            i++;
+        }
+
+        FlightManager flightManager = new FlightManager();
+        if (flightManager.getAllFlights().isEmpty()) {
+            flightManager.createSampleData();
+        }
+        ReservationManager reservationManager = new ReservationManager();
+        syncSeats(flightManager, reservationManager);
+        UserManager userManager = new UserManager();
+        userManager.getSessionManager().startEvictionSweep(SessionManager.DEFAULT_SWEEP_SECONDS);
+        FlightSearchEngine searchEngine = new FlightSearchEngine(flightManager);
+        searchEngine.getPricingEngine().attachTo(reservationManager);
+
+        ChangeFeed changeFeed = new ChangeFeed();
+        changeFeed.attachTo(flightManager);
+        changeFeed.attachTo(reservationManager);
+
+        ApiServer server = new ApiServer(searchEngine, reservationManager, userManager, bindAddress, port);
+        server.setChangeFeed(changeFeed);
+        server.start();
+        MetricsRegistry.getDefault().startScrapeExport(
+                java.nio.file.Paths.get(FileManager.getDataDirectory(), MetricsRegistry.SCRAPE_FILE),
+                METRICS_EXPORT_SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+        System.out.println("API sunucusu çalışıyor: " + server.getBaseUrl() + "/api/flights");
+    }
+
+    /**
+     * Aktif rezervasyonların koltuklarını yüklenen uçuşlarda rezerve eder.
+     */
+    static void syncSeats(FlightManager flightManager, ReservationManager reservationManager) {
+        List<Reservation> reservations = reservationManager.getActiveReservations();
+        java.util.Iterator<Reservation> iterator = reservations.iterator();
+        while (iterator.hasNext()) {
+            Reservation reservation = iterator.next();
+            if (reservation.getFlight() == null || reservation.getSeat() == null) {
+                continue;
+            }
+            Flight flight = flightManager.getFlightByNumber(reservation.getFlight().getFlightNum());
+            if (flight != null && flight.getPlane() != null) {
+                Seat seat = flight.getPlane().getSeat(reservation.getSeat().getSeatNum());
+                if (seat != null) {
+                    seat.reserve();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.airline.api;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Yansıma kullanmayan, akış tabanlı JSON yazıcısı.
+ * Değerler doğrudan çıkışa yazılır; belge bellekte ağaç olarak kurulmaz.
+ * Virgüller ve iç içe yapılar bir derinlik yığınıyla takip edilir.
+ */
+public class JsonWriter implements Closeable, Flushable {
+
+    private static final int MAX_DEPTH = 32;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+    private final boolean[] hasElements; // Her derinlikte daha önce eleman yazıldı mı
+    private final boolean[] inObject; // Her derinlik nesne mi (false ise dizi)
+    private int depth;
+    private boolean afterName; // Alan adı yazıldı, değer bekleniyor
+
+    /**
+     * JsonWriter oluşturur.
+     * @param out Çıkış (yazıcı tamponlamaz, gerekirse BufferedWriter verilmelidir)
+     */
+    public JsonWriter(Writer out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Çıkış boş olamaz!");
+        }
+        this.out = out;
+        this.hasElements = new boolean[MAX_DEPTH];
+        this.inObject = new boolean[MAX_DEPTH];
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return open('{', true);
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return close('}', true);
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return open('[', false);
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return close(']', false);
+    }
+
+    /**
+     * Nesne içindeki bir alanın adını yazar; ardından değer yazılmalıdır.
+     */
+    public JsonWriter name(String name) throws IOException {
+        if (depth == 0 || !inObject[depth - 1] || afterName) {
+            throw new IllegalStateException("Alan adı sadece nesne içinde yazılabilir!");
+        }
+        separate();
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Ondalık değer yazar; sayı olmayan değerler (NaN, sonsuz) null olarak yazılır.
+     */
+    public JsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nullValue();
+        }
+        beforeValue();
+        out.write(Double.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        out.write("null");
+        return this;
+    }
+
+    /**
+     * Alan adı ve metin değerini birlikte yazar.
+     */
+    public JsonWriter field(String name, String value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, long value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, double value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, boolean value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Çıkışı kapatır. Açık kalan nesne veya dizi varsa hata verir.
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+        if (depth != 0) {
+            throw new IllegalStateException("Kapatılmamış JSON yapısı var!");
+        }
+    }
+
+    private JsonWriter open(char bracket, boolean object) throws IOException {
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("JSON derinlik sınırı aşıldı!");
+        }
+        beforeValue();
+        out.write(bracket);
+        hasElements[depth] = false;
+        inObject[depth] = object;
+        depth++;
+        return this;
+    }
+
+    private JsonWriter close(char bracket, boolean object) throws IOException {
+        if (depth == 0 || inObject[depth - 1] != object || afterName) {
+            throw new IllegalStateException("Geçersiz JSON kapanışı: " + bracket);
+        }
+        depth--;
+        out.write(bracket);
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (inObject[depth - 1]) {
+                throw new IllegalStateException("Nesne içinde değerden önce alan adı yazılmalı!");
+            }
+            separate();
+        }
+    }
+
+    private void separate() throws IOException {
+        if (hasElements[depth - 1]) {
+            out.write(',');
+        }
+        hasElements[depth - 1] = true;
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                out.write(value, start, i - start); // Kaçış gerektirmeyen kısım tek seferde yazılır
+                writeEscaped(c);
+                start = i + 1;
+            }
+            i++;
+        }
+        out.write(value, start, length - start);
+        out.write('"');
+    }
+
+    private void writeEscaped(char c) throws IOException {
+        switch (c) {
+            case '"':
+                out.write("\\\"");
+                break;
+            case '\\':
+                out.write("\\\\");
+                break;
+            case '\n':
+                out.write("\\n");
+                break;
+            case '\r':
+                out.write("\\r");
+                break;
+            case '\t':
+                out.write("\\t");
+                break;
+            default:
+                out.write("\\u00");
+                out.write(HEX[c >> 4]);
+                out.write(HEX[c & 0xF]);
+                break;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.airline.concurrency;
+
+import com.airline.model.Flight;
+import com.airline.model.Seat;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tüm koltuklar için tek bir ReentrantLock kullanır.
+ * ReservationManager'ın varsayılan davranışıdır.
+ * Okumalar kilit almaz; koltuk durumu volatile olduğu için güncel değer görülür.
+ */
+public class GlobalLockSeatStrategy implements SeatReservationStrategy {
+
+    private final ReentrantLock lock;
+
+    public GlobalLockSeatStrategy() {
+        this(new ReentrantLock());
+    }
+
+    /**
+     * Verilen kilidi kullanır (örn. ReservationManager'ın kendi kilidi).
+     */
+    public GlobalLockSeatStrategy(ReentrantLock lock) {
+        if (lock == null) {
+            throw new IllegalArgumentException("Kilit boş olamaz!");
+        }
+        this.lock = lock;
+    }
+
+    /**
+     * Kullanılan kilidi döndürür. ReservationManager kendi kilidini paylaşan
+     * stratejide koltuğu ve kaydı tek kilit alımında yapmak için kullanır.
+     */
+    public ReentrantLock getLock() {
+        return lock;
+    }
+
+    @Override
+    public String getName() {
+        return "ReentrantLock (global)";
+    }
+
+    @Override
+    public boolean tryReserve(Flight flight, Seat seat) {
+        lock.lock();
+        try {
+            if (seat.isReserveStatus()) {
+                return false;
+            }
+            seat.reserve();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(Flight flight, Seat seat) {
+        lock.lock();
+        try {
+            seat.release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isAvailable(Flight flight, Seat seat) {
+        return !seat.isReserveStatus();
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
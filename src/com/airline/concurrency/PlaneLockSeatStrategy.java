@@ -0,0 +1,61 @@
+package com.airline.concurrency;
+
+import com.airline.model.Flight;
+import com.airline.model.Seat;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Her uçuşun uçağı için ayrı bir ReentrantLock kullanır.
+ * Farklı uçuşlardaki rezervasyonlar birbirini beklemez.
+ */
+public class PlaneLockSeatStrategy implements SeatReservationStrategy {
+
+    private final ConcurrentHashMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "ReentrantLock (uçak bazında)";
+    }
+
+    @Override
+    public boolean tryReserve(Flight flight, Seat seat) {
+        ReentrantLock lock = lockFor(flight);
+        lock.lock();
+        try {
+            if (seat.isReserveStatus()) {
+                return false;
+            }
+            seat.reserve();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(Flight flight, Seat seat) {
+        ReentrantLock lock = lockFor(flight);
+        lock.lock();
+        try {
+            seat.release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isAvailable(Flight flight, Seat seat) {
+        return !seat.isReserveStatus();
+    }
+
+    private ReentrantLock lockFor(Flight flight) {
+        return locks.computeIfAbsent(flight.getFlightNum(), key -> new ReentrantLock());
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
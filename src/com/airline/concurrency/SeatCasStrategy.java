@@ -0,0 +1,36 @@
+package com.airline.concurrency;
+
+import com.airline.model.Flight;
+import com.airline.model.Seat;
+
+/**
+ * Kilit kullanmaz; her koltuk kendi durumunu compare-and-set ile değiştirir.
+ * Sadece aynı koltuğu isteyen thread'ler yarışır, diğerleri hiç beklemez.
+ */
+public class SeatCasStrategy implements SeatReservationStrategy {
+
+    @Override
+    public String getName() {
+        return "CAS (koltuk bazında)";
+    }
+
+    @Override
+    public boolean tryReserve(Flight flight, Seat seat) {
+        return seat.tryReserve();
+    }
+
+    @Override
+    public void release(Flight flight, Seat seat) {
+        seat.release();
+    }
+
+    @Override
+    public boolean isAvailable(Flight flight, Seat seat) {
+        return !seat.isReserveStatus();
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
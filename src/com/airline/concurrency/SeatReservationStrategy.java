@@ -0,0 +1,35 @@
+package com.airline.concurrency;
+
+import com.airline.model.Flight;
+import com.airline.model.Seat;
+
+/**
+ * Bir koltuğun eşzamanlı isteklere karşı nasıl rezerve edileceğini belirler.
+ * ReservationManager koltuğu bu strateji üzerinden alır; farklı kilit
+ * yaklaşımları aynı arayüzle karşılaştırılabilir.
+ * Tüm uygulamalar thread-safe olmalıdır: aynı koltuğu aynı anda isteyenlerden
+ * sadece biri true almalıdır.
+ */
+public interface SeatReservationStrategy {
+
+    /**
+     * Stratejinin ekranda gösterilecek adını döndürür.
+     */
+    String getName();
+
+    /**
+     * Koltuk boşsa rezerve eder.
+     * @return Koltuk bu çağrıyla rezerve edildiyse true, zaten doluysa false
+     */
+    boolean tryReserve(Flight flight, Seat seat);
+
+    /**
+     * Koltuğu serbest bırakır.
+     */
+    void release(Flight flight, Seat seat);
+
+    /**
+     * Koltuğun boş olup olmadığını kontrol eder (koltuk haritası gösterimi için).
+     */
+    boolean isAvailable(Flight flight, Seat seat);
+}
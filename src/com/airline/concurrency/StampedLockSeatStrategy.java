@@ -0,0 +1,79 @@
+package com.airline.concurrency;
+
+import com.airline.model.Flight;
+import com.airline.model.Seat;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Her uçak için bir StampedLock kullanır.
+ * Koltuk haritası okumaları iyimser (optimistic) okuma ile kilitsiz yapılır;
+ * sadece arada bir yazma olduysa okuma kilidine geçilir.
+ * Rezervasyonda önce iyimser kontrol yapılır, dolu koltuk için yazma kilidi alınmaz.
+ */
+public class StampedLockSeatStrategy implements SeatReservationStrategy {
+
+    private final ConcurrentHashMap<String, StampedLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "StampedLock (iyimser okuma)";
+    }
+
+    @Override
+    public boolean tryReserve(Flight flight, Seat seat) {
+        StampedLock lock = lockFor(flight);
+        long stamp = lock.tryOptimisticRead();
+        boolean taken = seat.isReserveStatus();
+        if (lock.validate(stamp) && taken) {
+            return false; // Dolu olduğu kesin, yazma kilidine gerek yok
+        }
+        stamp = lock.writeLock();
+        try {
+            if (seat.isReserveStatus()) {
+                return false;
+            }
+            seat.reserve();
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void release(Flight flight, Seat seat) {
+        StampedLock lock = lockFor(flight);
+        long stamp = lock.writeLock();
+        try {
+            seat.release();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean isAvailable(Flight flight, Seat seat) {
+        StampedLock lock = lockFor(flight);
+        long stamp = lock.tryOptimisticRead();
+        boolean available = !seat.isReserveStatus();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                available = !seat.isReserveStatus();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return available;
+    }
+
+    private StampedLock lockFor(Flight flight) {
+        return locks.computeIfAbsent(flight.getFlightNum(), key -> new StampedLock());
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -0,0 +1,210 @@
+package com.airline.concurrency;
+
+import com.airline.model.Flight;
+import com.airline.model.Plane;
+import com.airline.model.Seat;
+import com.airline.util.AppClock;
+import com.airline.util.ThreadSupport;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Koltuk rezervasyon stratejilerini aynı yük altında karşılaştırır.
+ * Her işlemde bir thread koltuk haritasından birkaç koltuğun durumunu okur,
+ * ardından bir koltuğu rezerve etmeye çalışır; başarırsa koltuğu hemen bırakır
+ * ki yük ölçüm boyunca sabit kalsın. Sıcak koltuk oranı arttıkça aynı
+ * koltuklar için yarış artar.
+ * Verim (işlem/sn) ve thread'ler arası adalet (Jain endeksi) ölçülür.
+ */
+public class StrategyBenchmark {
+
+    public static final int[] DEFAULT_THREAD_COUNTS = {1, 4, 16};
+    public static final double[] DEFAULT_HOT_SKEWS = {0.0, 0.9};
+
+    private static final int READS_PER_OP = 4; // Her rezervasyon öncesi okunan koltuk sayısı
+    private static final int HOT_SEATS = 6; // Her uçuştaki sıcak koltuk sayısı (ilk sıra)
+
+    private final int flightCount;
+    private final long durationMillis;
+
+    /**
+     * StrategyBenchmark oluşturur.
+     * @param flightCount Yükün dağıtılacağı uçuş sayısı
+     * @param durationMillis Her ölçümün süresi
+     */
+    public StrategyBenchmark(int flightCount, long durationMillis) {
+        if (flightCount <= 0 || durationMillis <= 0) {
+            throw new IllegalArgumentException("Uçuş sayısı ve süre pozitif olmalıdır!");
+        }
+        this.flightCount = flightCount;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Karşılaştırılabilecek tüm stratejilerin yeni örneklerini döndürür.
+     */
+    public static List<SeatReservationStrategy> standardStrategies() {
+        List<SeatReservationStrategy> strategies = new ArrayList<>();
+        strategies.add(new SynchronizedSeatStrategy());
+        strategies.add(new GlobalLockSeatStrategy());
+        strategies.add(new PlaneLockSeatStrategy());
+        strategies.add(new StampedLockSeatStrategy());
+        strategies.add(new SeatCasStrategy());
+        return strategies;
+    }
+
+    /**
+     * Tüm strateji, thread sayısı ve sıcak koltuk oranı kombinasyonlarını ölçer.
+     */
+    public List<StrategyBenchmarkResult> run(List<SeatReservationStrategy> strategies,
+                                             int[] threadCounts, double[] hotSkews) {
+        List<StrategyBenchmarkResult> results = new ArrayList<>();
+        java.util.Iterator<SeatReservationStrategy> iterator = strategies.iterator();
+        while (iterator.hasNext()) {
+            SeatReservationStrategy strategy = iterator.next();
+            int t = 0;
+            while (t < threadCounts.length) {
+                int k = 0;
+                while (k < hotSkews.length) {
+                    results.add(measure(strategy, threadCounts[t], hotSkews[k]));
+                    k++;
+                }
+                t++;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Tek bir stratejiyi verilen thread sayısı ve sıcak koltuk oranıyla ölçer.
+     */
+    public StrategyBenchmarkResult measure(SeatReservationStrategy strategy, int threads, double hotSkew) {
+        if (threads <= 0 || hotSkew < 0 || hotSkew > 1) {
+            throw new IllegalArgumentException("Geçersiz ölçüm parametresi!");
+        }
+        Flight[] flights = new Flight[flightCount];
+        Seat[][] seats = new Seat[flightCount][];
+        int f = 0;
+        while (f < flightCount) {
+            Plane plane = new Plane("BENCH-" + f, "Benchmark Plane", 500);
+            flights[f] = new Flight("BENCH" + f, "İstanbul", "Ankara", AppClock.today().plusDays(1),
+                    LocalTime.NOON, 60, plane);
+            seats[f] = plane.getAllSeats().toArray(new Seat[0]);
+            f++;
+        }
+
+        long[] ops = new long[threads];
+        long[] reserved = new long[threads];
+        long[] rejected = new long[threads];
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long[] deadline = new long[1];
+        ThreadFactory factory = ThreadSupport.daemonFactory("bench-" + strategy.getClass().getSimpleName());
+
+        int i = 0;
+        while (i < threads) {
+            final int index = i;
+            factory.newThread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long localOps = 0;
+                long localReserved = 0;
+                long localRejected = 0;
+                ready.countDown();
+                try {
+                    start.await();
+                    long end = deadline[0];
+                    while (System.nanoTime() < end) {
+                        int flightIndex = random.nextInt(flights.length);
+                        Seat[] flightSeats = seats[flightIndex];
+                        int r = 0;
+                        while (r < READS_PER_OP) {
+                            strategy.isAvailable(flights[flightIndex], flightSeats[random.nextInt(flightSeats.length)]);
+                            r++;
+                        }
+                        Seat seat = random.nextDouble() < hotSkew
+                                ? flightSeats[random.nextInt(HOT_SEATS)]
+                                : flightSeats[random.nextInt(flightSeats.length)];
+                        if (strategy.tryReserve(flights[flightIndex], seat)) {
+                            localReserved++;
+                            strategy.release(flights[flightIndex], seat);
+                        } else {
+                            localRejected++;
+                        }
+                        localOps++;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    ops[index] = localOps;
+                    reserved[index] = localReserved;
+                    rejected[index] = localRejected;
+                    done.countDown();
+                }
+            }).start();
+            i++;
+        }
+
+        try {
+            ready.await();
+            deadline[0] = System.nanoTime() + durationMillis * 1_000_000;
+            start.countDown(); // deadline yazısı latch ile görünür olur
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long totalOps = Arrays.stream(ops).sum();
+        return new StrategyBenchmarkResult(strategy.getName(), threads, hotSkew,
+                totalOps * 1000.0 / durationMillis, jainFairness(ops),
+                Arrays.stream(reserved).sum(), Arrays.stream(rejected).sum());
+    }
+
+    /**
+     * Jain adalet endeksini hesaplar: (Σx)² / (n · Σx²).
+     * Tüm thread'ler eşit iş yaptıysa 1, tek thread her şeyi yaptıysa 1/n olur.
+     */
+    public static double jainFairness(long[] values) {
+        double sum = 0;
+        double sumSquares = 0;
+        int i = 0;
+        while (i < values.length) {
+            sum += values[i];
+            sumSquares += (double) values[i] * values[i];
+            i++;
+        }
+        return sumSquares == 0 ? 1.0 : (sum * sum) / (values.length * sumSquares);
+    }
+
+    /**
+     * Sonuçları tablo olarak biçimlendirir.
+     */
+    public static String formatTable(List<StrategyBenchmarkResult> results) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-30s %7s %6s %14s %8s\n", "Strateji", "Thread", "Sıcak", "İşlem/sn", "Adalet"));
+        table.append("──────────────────────────────────────────────────────────────────────\n");
+        java.util.Iterator<StrategyBenchmarkResult> iterator = results.iterator();
+        while (iterator.hasNext()) {
+            StrategyBenchmarkResult result = iterator.next();
+            table.append(String.format("%-30s %7d %5.0f%% %14.0f %8.3f\n",
+                    result.getStrategyName(), result.getThreads(), result.getHotSkew() * 100,
+                    result.getOpsPerSecond(), result.getFairness()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Karşılaştırmayı komut satırından çalıştırır.
+     */
+    public static void main(String[] args) {
+        StrategyBenchmark benchmark = new StrategyBenchmark(4, 500);
+        System.out.println(formatTable(benchmark.run(standardStrategies(),
+                new int[] {1, 4, 16, 64}, DEFAULT_HOT_SKEWS)));
+    }
+}
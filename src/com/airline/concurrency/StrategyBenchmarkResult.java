@@ -0,0 +1,61 @@
+package com.airline.concurrency;
+
+/**
+ * Bir stratejinin belirli thread sayısı ve sıcak koltuk oranındaki ölçümünü tutar.
+ */
+public final class StrategyBenchmarkResult {
+
+    private final String strategyName;
+    private final int threads;
+    private final double hotSkew; // İsteklerin sıcak koltuklara gitme olasılığı (0-1)
+    private final double opsPerSecond;
+    private final double fairness; // Jain adalet endeksi (1 = tüm thread'ler eşit ilerledi)
+    private final long reserved;
+    private final long rejected;
+
+    public StrategyBenchmarkResult(String strategyName, int threads, double hotSkew, double opsPerSecond,
+                                   double fairness, long reserved, long rejected) {
+        this.strategyName = strategyName;
+        this.threads = threads;
+        this.hotSkew = hotSkew;
+        this.opsPerSecond = opsPerSecond;
+        this.fairness = fairness;
+        this.reserved = reserved;
+        this.rejected = rejected;
+    }
+
+    // Getter metodları
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public double getHotSkew() {
+        return hotSkew;
+    }
+
+    public double getOpsPerSecond() {
+        return opsPerSecond;
+    }
+
+    public double getFairness() {
+        return fairness;
+    }
+
+    public long getReserved() {
+        return reserved;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{threads=%d, skew=%.2f, %.0f ops/s, fairness=%.3f}",
+                strategyName, threads, hotSkew, opsPerSecond, fairness);
+    }
+}
@@ -0,0 +1,48 @@
+package com.airline.concurrency;
+
+import com.airline.model.Flight;
+import com.airline.model.Seat;
+
+/**
+ * Tüm koltuklar için tek bir monitor (synchronized) kullanır.
+ * En basit yaklaşımdır; tüm rezervasyonlar sıraya girer.
+ */
+public class SynchronizedSeatStrategy implements SeatReservationStrategy {
+
+    private final Object monitor = new Object();
+
+    @Override
+    public String getName() {
+        return "synchronized (global)";
+    }
+
+    @Override
+    public boolean tryReserve(Flight flight, Seat seat) {
+        synchronized (monitor) {
+            if (seat.isReserveStatus()) {
+                return false;
+            }
+            seat.reserve();
+            return true;
+        }
+    }
+
+    @Override
+    public void release(Flight flight, Seat seat) {
+        synchronized (monitor) {
+            seat.release();
+        }
+    }
+
+    @Override
+    public boolean isAvailable(Flight flight, Seat seat) {
+        synchronized (monitor) {
+            return !seat.isReserveStatus();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -1,10 +1,24 @@
 package com.airline.gui;
 
 import com.airline.MainApp;
+import com.airline.concurrency.SeatReservationStrategy;
+import com.airline.concurrency.StrategyBenchmark;
+import com.airline.metrics.InstrumentedLock;
+import com.airline.metrics.MetricsRegistry;
 import com.airline.model.*;
 import com.airline.model.enums.FlightStatus;
+import com.airline.service.ReportFormat;
 import com.airline.service.ReportGenerator;
-
+import com.airline.service.ReportWriter;
+import com.airline.service.SearchResultCache;
+import com.airline.simulation.LoadSimulationConfig;
+import com.airline.simulation.LoadSimulationResult;
+import com.airline.simulation.LoadSimulator;
+import com.airline.util.AppClock;
+import com.airline.util.FileManager;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
@@ -18,10 +32,12 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * Admin/Personel dashboard ekranı.
@@ -36,6 +52,30 @@ public class AdminDashboard {
     private TextArea reportArea;
     private Label statusLabel;
     private ProgressBar progressBar;
+    private ComboBox<String> reportOutputBox;
+    private HBox previewBox;
+    private Label previewPageLabel;
+    private Button previewPrevButton;
+    private Button previewNextButton;
+    private java.nio.file.Path previewPath;
+    private int previewPage;
+    private FrameUpdateBuffer<String> occupancyUpdates; // Rezervasyonu değişen uçuş numaraları
+    private Timeline metricsRefresh; // Metrik sekmesini periyodik yeniler
+    private com.airline.manager.DataChangeListener<Reservation> occupancyListener;
+
+    private static final int PREVIEW_PAGE_LINES = 200; // Önizleme sayfasındaki satır sayısı
+
+    // Tabloları dolduran arka plan işleri (yenisi eskisini iptal eder)
+    private final SupersedingTask flightTableTask = new SupersedingTask();
+    private final SupersedingTask reservationTableTask = new SupersedingTask();
+
+    // Tabloların kalıcı satır listeleri; yöneticilerden gelen olaylarla güncellenir
+    private final LiveTableModel<String, Flight> flightModel = new LiveTableModel<>(Flight::getFlightNum);
+    private final LiveTableModel<String, Reservation> reservationModel =
+            new LiveTableModel<>(Reservation::getReservationCode);
+    private com.airline.manager.DataChangeListener<Flight> flightListener;
+    private com.airline.manager.DataChangeListener<Reservation> reservationListener;
+    private com.airline.manager.DataChangeListener<Reservation> seatCountListener;
 
     public AdminDashboard(Stage stage, User user) {
         this.stage = stage;
@@ -57,11 +97,16 @@ public class AdminDashboard {
         VBox reservationsPane = createReservationsPane();
         VBox reportsPane = createReportsPane();
         VBox simulationPane = createSimulationPane();
+        VBox occupancyPane = createOccupancyPane();
+        VBox metricsPane = createMetricsPane();
 
         reservationsPane.setVisible(false);
         reportsPane.setVisible(false);
         simulationPane.setVisible(false);
-        contentPane.getChildren().addAll(flightsPane, reservationsPane, reportsPane, simulationPane);
+        occupancyPane.setVisible(false);
+        metricsPane.setVisible(false);
+        contentPane.getChildren().addAll(flightsPane, reservationsPane, reportsPane, simulationPane, occupancyPane,
+                metricsPane);
 
         // Modern Pill Style Tab Bar
         HBox tabBar = new HBox(10);
@@ -73,9 +118,12 @@ public class AdminDashboard {
         Button reservationsTabBtn = createPillTab("📋 Rezervasyonlar", false);
         Button reportsTabBtn = createPillTab("📊 Raporlar", false);
         Button simulationTabBtn = createPillTab("🔄 Simülasyon", false);
+        Button occupancyTabBtn = createPillTab("🗺 Doluluk Duvarı", false);
+        Button metricsTabBtn = createPillTab("📈 Metrikler", false);
 
-        Button[] allTabs = { flightsTabBtn, reservationsTabBtn, reportsTabBtn, simulationTabBtn };
-        VBox[] allPanes = { flightsPane, reservationsPane, reportsPane, simulationPane };
+        Button[] allTabs = { flightsTabBtn, reservationsTabBtn, reportsTabBtn, simulationTabBtn, occupancyTabBtn,
+                metricsTabBtn };
+        VBox[] allPanes = { flightsPane, reservationsPane, reportsPane, simulationPane, occupancyPane, metricsPane };
 
         int i = 0;
         while (i < allTabs.length) {
@@ -91,12 +139,14 @@ public class AdminDashboard {
             i++;
         }
 
-        tabBar.getChildren().addAll(flightsTabBtn, reservationsTabBtn, reportsTabBtn, simulationTabBtn);
+        tabBar.getChildren().addAll(flightsTabBtn, reservationsTabBtn, reportsTabBtn, simulationTabBtn, occupancyTabBtn,
+                metricsTabBtn);
 
         VBox centerContent = new VBox();
         centerContent.getChildren().addAll(tabBar, contentPane);
         VBox.setVgrow(contentPane, Priority.ALWAYS);
         mainLayout.setCenter(centerContent);
+        attachLiveModels();
 
         // Ekran boyutuna göre pencere boyutu ayarla
         javafx.stage.Screen screen = javafx.stage.Screen.getPrimary();
@@ -235,6 +285,11 @@ public class AdminDashboard {
         Button logoutButton = new Button("Çıkış");
         logoutButton.setStyle("-fx-background-color: #c62828; -fx-text-fill: white;");
         logoutButton.setOnAction(e -> {
+            detachLiveModels();
+            if (occupancyListener != null) {
+                MainApp.getReservationManager().removeChangeListener(occupancyListener);
+                occupancyUpdates.stop();
+            }
             MainApp.getUserManager().logout();
             new LoginScreen(stage).show();
         });
@@ -268,9 +323,14 @@ public class AdminDashboard {
         applyOutlineStyle(refreshButton, "#FF9800");
         refreshButton.setOnAction(e -> loadFlights());
 
-        buttonBox.getChildren().addAll(addButton, editButton, deleteButton, refreshButton);
+        Button archiveButton = new Button("📦 Geçmişi Arşivle");
+        applyOutlineStyle(archiveButton, "#4caf50");
+        archiveButton.setOnAction(e -> archiveExpiredFlights());
+
+        buttonBox.getChildren().addAll(addButton, editButton, deleteButton, refreshButton, archiveButton);
 
         flightTable = createFlightTable();
+        flightTable.setItems(flightModel.getItems());
 
         pane.getChildren().addAll(titleLabel, buttonBox, flightTable);
         VBox.setVgrow(flightTable, Priority.ALWAYS);
@@ -337,13 +397,44 @@ public class AdminDashboard {
         return table;
     }
 
+    /**
+     * Tabloları yönetici olaylarına bağlar (FX thread).
+     */
+    private void attachLiveModels() {
+        flightListener = flightModel.listener();
+        reservationListener = reservationModel.listener();
+        seatCountListener = flightModel.refreshListener(
+                reservation -> reservation.getFlight() != null ? reservation.getFlight().getFlightNum() : null);
+        MainApp.getFlightManager().addChangeListener(flightListener);
+        MainApp.getReservationManager().addChangeListener(reservationListener);
+        MainApp.getReservationManager().addChangeListener(seatCountListener);
+        flightModel.start();
+        reservationModel.start();
+    }
+
+    /**
+     * Yönetici dinleyicilerini kaldırır (çıkışta).
+     */
+    private void detachLiveModels() {
+        MainApp.getFlightManager().removeChangeListener(flightListener);
+        MainApp.getReservationManager().removeChangeListener(reservationListener);
+        MainApp.getReservationManager().removeChangeListener(seatCountListener);
+        flightModel.stop();
+        reservationModel.stop();
+        if (metricsRefresh != null) {
+            metricsRefresh.stop();
+        }
+    }
+
     private void loadFlights() {
-        List<Flight> flights = MainApp.getFlightManager().getAllFlights();
-        flightTable.setItems(FXCollections.observableArrayList(flights));
+        flightTableTask.submit(() -> MainApp.getFlightManager().getAllFlights(),
+                flightModel::setAll,
+                e -> showAlert("Hata", "Uçuşlar yüklenemedi: " + e.getMessage()));
     }
 
     private void showAddFlightDialog() {
-        Dialog<Flight> dialog = new Dialog<>();
+        // Dialog girdileri doğrular, uçuş oluşturma (dosyaya kayıt) arka planda yapılır
+        Dialog<Callable<Flight>> dialog = new Dialog<>();
         dialog.setTitle("Yeni Uçuş Ekle");
         dialog.setHeaderText("Uçuş bilgilerini girin");
 
@@ -361,7 +452,7 @@ public class AdminDashboard {
         departureField.setPromptText("İstanbul");
         TextField arrivalField = new TextField();
         arrivalField.setPromptText("Ankara");
-        DatePicker datePicker = new DatePicker(LocalDate.now().plusDays(1));
+        DatePicker datePicker = new DatePicker(AppClock.today().plusDays(1));
         TextField hourField = new TextField();
         hourField.setPromptText("10:30");
         TextField durationField = new TextField();
@@ -399,15 +490,14 @@ public class AdminDashboard {
                             Integer.parseInt(timeParts[1]));
 
                     Plane plane = new Plane(planeIdField.getText(), planeModelField.getText(), 500);
-
-                    return MainApp.getFlightManager().createFlight(
-                            flightNumField.getText(),
-                            departureField.getText(),
-                            arrivalField.getText(),
-                            datePicker.getValue(),
-                            time,
-                            Integer.parseInt(durationField.getText()),
-                            plane);
+                    String flightNum = flightNumField.getText();
+                    String departure = departureField.getText();
+                    String arrival = arrivalField.getText();
+                    LocalDate date = datePicker.getValue();
+                    int duration = Integer.parseInt(durationField.getText());
+
+                    return () -> MainApp.getFlightManager().createFlight(
+                            flightNum, departure, arrival, date, time, duration, plane);
                 } catch (Exception e) {
                     showAlert("Hata", "Geçersiz bilgi: " + e.getMessage());
                     return null;
@@ -416,12 +506,10 @@ public class AdminDashboard {
             return null;
         });
 
-        dialog.showAndWait().ifPresent(flight -> {
-            if (flight != null) {
-                showAlert("Başarılı", "Uçuş eklendi: " + flight.getFlightNum());
-                loadFlights();
-            }
-        });
+        // Yeni satır tabloya uçuş olayıyla eklenir
+        dialog.showAndWait().ifPresent(work -> BackgroundExecutor.submit(work,
+                flight -> showAlert("Başarılı", "Uçuş eklendi: " + flight.getFlightNum()),
+                e -> showAlert("Hata", "Uçuş eklenemedi: " + e.getMessage())));
     }
 
     private void showEditFlightDialog() {
@@ -471,7 +559,6 @@ public class AdminDashboard {
                             Integer.parseInt(timeParts[1])));
                     selected.setDuration(Integer.parseInt(durationField.getText()));
                     selected.setStatus(statusCombo.getValue());
-                    MainApp.getFlightManager().updateFlight(selected);
                     return selected;
                 } catch (Exception e) {
                     showAlert("Hata", "Geçersiz bilgi: " + e.getMessage());
@@ -481,12 +568,10 @@ public class AdminDashboard {
             return null;
         });
 
-        dialog.showAndWait().ifPresent(flight -> {
-            if (flight != null) {
-                showAlert("Başarılı", "Uçuş güncellendi!");
-                loadFlights();
-            }
-        });
+        dialog.showAndWait().ifPresent(flight -> BackgroundExecutor.run(
+                () -> MainApp.getFlightManager().updateFlight(flight),
+                () -> showAlert("Başarılı", "Uçuş güncellendi!"),
+                e -> showAlert("Hata", "Uçuş güncellenemedi: " + e.getMessage())));
     }
 
     private void deleteFlight() {
@@ -503,13 +588,25 @@ public class AdminDashboard {
 
         confirm.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                MainApp.getFlightManager().deleteFlight(selected.getFlightNum());
-                showAlert("Başarılı", "Uçuş silindi.");
-                loadFlights();
+                BackgroundExecutor.run(() -> MainApp.getFlightManager().deleteFlight(selected.getFlightNum()),
+                        () -> showAlert("Başarılı", "Uçuş silindi."),
+                        e -> showAlert("Hata", "Uçuş silinemedi: " + e.getMessage()));
             }
         });
     }
 
+    /**
+     * Kalkmış uçuşları arka planda arşive taşır ve sonucu gösterir.
+     */
+    private void archiveExpiredFlights() {
+        BackgroundExecutor.submit(() -> MainApp.getFlightArchiver().archiveExpired(), result -> {
+            showAlert("Arşivleme", String.format(
+                    "%d uçuş, %d rezervasyon ve %d bilet arşive taşındı.\nArşiv boyutu: %d KB",
+                    result.getArchivedFlights(), result.getArchivedReservations(),
+                    result.getArchivedTickets(), MainApp.getFlightArchiver().getArchiveSizeBytes() / 1024));
+        }, e -> showAlert("Hata", "Arşivleme başarısız: " + e.getMessage()));
+    }
+
     private VBox createReservationsPane() {
         VBox pane = new VBox(15);
         pane.setPadding(new Insets(20));
@@ -522,6 +619,7 @@ public class AdminDashboard {
         refreshButton.setOnAction(e -> loadReservations());
 
         reservationTable = createReservationTable();
+        reservationTable.setItems(reservationModel.getItems());
 
         pane.getChildren().addAll(titleLabel, refreshButton, reservationTable);
         VBox.setVgrow(reservationTable, Priority.ALWAYS);
@@ -580,8 +678,9 @@ public class AdminDashboard {
     }
 
     private void loadReservations() {
-        List<Reservation> reservations = MainApp.getReservationManager().getAllReservations();
-        reservationTable.setItems(FXCollections.observableArrayList(reservations));
+        reservationTableTask.submit(() -> MainApp.getReservationManager().getAllReservations(),
+                reservationModel::setAll,
+                e -> showAlert("Hata", "Rezervasyonlar yüklenemedi: " + e.getMessage()));
     }
 
     private VBox createReportsPane() {
@@ -610,7 +709,24 @@ public class AdminDashboard {
         applyOutlineStyle(fullButton, "#4caf50");
         fullButton.setOnAction(e -> generateReport(ReportGenerator.ReportType.FULL));
 
-        buttonBox.getChildren().addAll(occupancyButton, revenueButton, reservationButton, fullButton);
+        Button cacheButton = new Button("🗄 Arama Önbelleği");
+        applyOutlineStyle(cacheButton, "#FF9800");
+        cacheButton.setOnAction(e -> showSearchCacheStats());
+
+        // Çıktı: ekran veya dosya (büyük raporlar dosyaya yazılır)
+        reportOutputBox = new ComboBox<>();
+        reportOutputBox.getItems().add("Ekran");
+        ReportFormat[] formats = ReportFormat.values();
+        int f = 0;
+        while (f < formats.length) {
+            reportOutputBox.getItems().add("Dosya (" + formats[f].getDisplayName() + ")");
+            f++;
+        }
+        reportOutputBox.getSelectionModel().selectFirst();
+
+        buttonBox.getChildren().addAll(occupancyButton, revenueButton, reservationButton, fullButton, cacheButton,
+                new Label("Çıktı:"), reportOutputBox);
+        buttonBox.setAlignment(Pos.CENTER_LEFT);
 
         // Durum göstergesi
         HBox statusBox = new HBox(10);
@@ -632,12 +748,66 @@ public class AdminDashboard {
         reportArea.setStyle("-fx-control-inner-background: #ffffff; -fx-text-fill: #333333; " +
                 "-fx-border-color: #e0e0e0; -fx-border-radius: 8; -fx-background-radius: 8;");
 
-        pane.getChildren().addAll(titleLabel, buttonBox, statusBox, reportArea);
+        // Dosya raporları için sayfalı önizleme
+        previewPrevButton = new Button("◀ Önceki");
+        previewPrevButton.setOnAction(e -> showPreviewPage(previewPage - 1));
+        previewNextButton = new Button("Sonraki ▶");
+        previewNextButton.setOnAction(e -> showPreviewPage(previewPage + 1));
+        previewPageLabel = new Label();
+        previewBox = new HBox(10, previewPrevButton, previewPageLabel, previewNextButton);
+        previewBox.setAlignment(Pos.CENTER_LEFT);
+        previewBox.setVisible(false);
+        previewBox.setManaged(false);
+
+        pane.getChildren().addAll(titleLabel, buttonBox, statusBox, reportArea, previewBox);
         VBox.setVgrow(reportArea, Priority.ALWAYS);
 
         return pane;
     }
 
+    /**
+     * Seçili çıktı biçimini döndürür (ekran için null).
+     */
+    private ReportFormat getSelectedReportFormat() {
+        int index = reportOutputBox.getSelectionModel().getSelectedIndex();
+        return index > 0 ? ReportFormat.values()[index - 1] : null;
+    }
+
+    /**
+     * Dosyaya yazılmış raporun bir sayfasını gösterir.
+     * Sayfa arka planda okunur, dosyanın tamamı belleğe alınmaz.
+     */
+    private void showPreviewPage(int page) {
+        if (previewPath == null || page < 0) {
+            return;
+        }
+        java.nio.file.Path path = previewPath;
+        Thread previewThread = new Thread(() -> {
+            try {
+                List<String> lines = ReportWriter.readPage(path, page, PREVIEW_PAGE_LINES);
+                Platform.runLater(() -> {
+                    if (lines.isEmpty() && page > 0) {
+                        return; // Son sayfayı geçme
+                    }
+                    previewPage = page;
+                    reportArea.setText(String.join("\n", lines));
+                    previewPageLabel.setText("Sayfa " + (page + 1) + " - " + path.getFileName());
+                    previewPrevButton.setDisable(page == 0);
+                    previewNextButton.setDisable(lines.size() < PREVIEW_PAGE_LINES);
+                });
+            } catch (java.io.IOException ex) {
+                Platform.runLater(() -> reportArea.setText("Rapor dosyası okunamadı: " + ex.getMessage()));
+            }
+        });
+        previewThread.setDaemon(true);
+        previewThread.start();
+    }
+
+    private void setPreviewVisible(boolean visible) {
+        previewBox.setVisible(visible);
+        previewBox.setManaged(visible);
+    }
+
     private void generateReport(ReportGenerator.ReportType type) {
         statusLabel.setText("Rapor hazırlanıyor...");
         progressBar.setVisible(true);
@@ -649,15 +819,30 @@ public class AdminDashboard {
                 MainApp.getFlightManager(),
                 MainApp.getReservationManager(),
                 type);
+        generator.setArchiver(MainApp.getFlightArchiver());
+        generator.setColumnStore(MainApp.getColumnStore());
+        ReportFormat format = getSelectedReportFormat();
+        generator.setOutputFormat(format);
+        setPreviewVisible(false);
 
         generator.onReportComplete(result -> {
             // GUI thread'inde güncelle
             Platform.runLater(() -> {
-                reportArea.setText(result);
-                statusLabel.setText("Rapor hazır!");
                 progressBar.setVisible(false);
+                if (format != null && generator.getOutputPath() != null) {
+                    previewPath = generator.getOutputPath();
+                    statusLabel.setText("Rapor dosyaya yazıldı: " + previewPath);
+                    setPreviewVisible(true);
+                    showPreviewPage(0);
+                } else {
+                    reportArea.setText(result);
+                    statusLabel.setText("Rapor hazır!");
+                }
             });
         });
+        if (format != null) {
+            generator.onProgressUpdate(progress -> Platform.runLater(() -> progressBar.setProgress(progress / 100.0)));
+        }
 
         // Thread başlat
         Thread reportThread = new Thread(generator);
@@ -665,6 +850,20 @@ public class AdminDashboard {
         reportThread.start();
     }
 
+    /**
+     * Müşteri aramalarının önbellek istatistiklerini gösterir.
+     */
+    private void showSearchCacheStats() {
+        SearchResultCache cache = MainApp.getSearchEngine().getResultCache();
+        if (cache == null) {
+            reportArea.setText("Arama önbelleği kapalı.");
+            return;
+        }
+        setPreviewVisible(false);
+        reportArea.setText(cache.getStatsSummary());
+        statusLabel.setText("Hazır");
+    }
+
     private VBox createSimulationPane() {
         VBox pane = new VBox(15);
         pane.setPadding(new Insets(20));
@@ -685,21 +884,197 @@ public class AdminDashboard {
         Button startButton = new Button("▶ Simülasyonu Başlat");
         applyOutlineStyle(startButton, "#4caf50");
 
-        controlBox.getChildren().addAll(syncCheckBox, startButton);
+        Button loadTestButton = new Button("⚡ Yük Testi (10.000 müşteri)");
+        applyOutlineStyle(loadTestButton, "#FF9800");
+
+        // Koltuk rezervasyon stratejisi seçimi
+        ComboBox<SeatReservationStrategy> strategyBox = new ComboBox<>(
+                FXCollections.observableArrayList(StrategyBenchmark.standardStrategies()));
+        strategyBox.getSelectionModel().select(1); // Varsayılan: global ReentrantLock
+
+        Button benchmarkButton = new Button("📈 Strateji Karşılaştırması");
+        applyOutlineStyle(benchmarkButton, "#3f51b5");
+
+        controlBox.getChildren().addAll(syncCheckBox, strategyBox, startButton, loadTestButton, benchmarkButton);
+
+        Label loadResultLabel = new Label();
+        loadResultLabel.setFont(Font.font("Consolas", 12));
 
         // Simülasyon paneli
         SeatSimulationPanel simulationPanel = new SeatSimulationPanel();
 
         startButton.setOnAction(e -> {
-            simulationPanel.runSimulation(syncCheckBox.isSelected());
+            simulationPanel.runSimulation(syncCheckBox.isSelected(), strategyBox.getValue());
+        });
+
+        loadTestButton.setOnAction(e -> {
+            // Görsel panel olmadan, varsayılan ayarlarla çok sayıda müşteri
+            LoadSimulationConfig config = new LoadSimulationConfig();
+            config.setSynchronizedBooking(syncCheckBox.isSelected());
+            config.setSeatStrategy(strategyBox.getValue());
+            loadTestButton.setDisable(true);
+            loadResultLabel.setText("Yük testi çalışıyor...");
+            Thread loadThread = new Thread(() -> {
+                LoadSimulationResult result = new LoadSimulator(config).run();
+                Platform.runLater(() -> {
+                    loadResultLabel.setText(result.getSummary());
+                    loadTestButton.setDisable(false);
+                });
+            });
+            loadThread.setDaemon(true);
+            loadThread.start();
         });
 
-        pane.getChildren().addAll(titleLabel, descLabel, controlBox, simulationPanel);
+        benchmarkButton.setOnAction(e -> {
+            // Her strateji yeni örneklerle, gerçek arayüz nesnelerinden bağımsız ölçülür
+            benchmarkButton.setDisable(true);
+            loadResultLabel.setText("Stratejiler karşılaştırılıyor...");
+            Thread benchmarkThread = new Thread(() -> {
+                StrategyBenchmark benchmark = new StrategyBenchmark(4, 200);
+                String table = StrategyBenchmark.formatTable(benchmark.run(StrategyBenchmark.standardStrategies(),
+                        StrategyBenchmark.DEFAULT_THREAD_COUNTS, StrategyBenchmark.DEFAULT_HOT_SKEWS));
+                Platform.runLater(() -> {
+                    loadResultLabel.setText(table);
+                    benchmarkButton.setDisable(false);
+                });
+            });
+            benchmarkThread.setDaemon(true);
+            benchmarkThread.start();
+        });
+
+        pane.getChildren().addAll(titleLabel, descLabel, controlBox, loadResultLabel, simulationPanel);
         VBox.setVgrow(simulationPanel, Priority.ALWAYS);
 
         return pane;
     }
 
+    /**
+     * Tüm aktif uçuşların doluluğunu tek ekranda gösteren duvar.
+     * Rezervasyon değişiklikleri kare başına toplanır ve sadece ilgili uçuşun
+     * değişen koltukları yeniden çizilir.
+     */
+    private VBox createOccupancyPane() {
+        VBox pane = new VBox(15);
+        pane.setPadding(new Insets(20));
+
+        Label titleLabel = new Label("Uçuş Doluluk Duvarı");
+        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+
+        Button refreshButton = new Button("🔄 Uçuşları Yenile");
+        applyOutlineStyle(refreshButton, "#2196F3");
+        Label selectedLabel = new Label("Ayrıntı için bir uçuşa tıklayın");
+        selectedLabel.setFont(Font.font("Arial", FontWeight.BOLD, 13));
+
+        HBox controlBox = new HBox(15, refreshButton, selectedLabel);
+        controlBox.setAlignment(Pos.CENTER_LEFT);
+
+        OccupancyWall wall = new OccupancyWall();
+        SeatMapCanvas detailMap = new SeatMapCanvas(12, true);
+        ScrollPane detailScroll = new ScrollPane(detailMap);
+        detailScroll.setPrefViewportWidth(190);
+        detailScroll.setMinWidth(210);
+
+        Runnable loadWall = () -> BackgroundExecutor.submit(() -> MainApp.getFlightManager().getActiveFlights(),
+                wall::setFlights, e -> showAlert("Hata", "Uçuşlar yüklenemedi: " + e.getMessage()));
+        loadWall.run();
+        wall.setOnFlightSelected(flight -> {
+            detailMap.setPlane(flight.getPlane());
+            selectedLabel.setText(flight.getFlightSummary());
+        });
+        refreshButton.setOnAction(e -> loadWall.run());
+
+        // Aynı karedeki değişiklikler birleştirilir; her uçuş bir kez yenilenir
+        occupancyUpdates = new FrameUpdateBuffer<>(flightNums -> {
+            java.util.Iterator<String> iterator = new java.util.HashSet<>(flightNums).iterator();
+            while (iterator.hasNext()) {
+                wall.refreshFlight(iterator.next());
+            }
+            detailMap.refresh();
+        });
+        occupancyListener = (type, reservation) -> {
+            if (reservation.getFlight() != null) {
+                occupancyUpdates.publish(reservation.getFlight().getFlightNum());
+            }
+        };
+        MainApp.getReservationManager().addChangeListener(occupancyListener);
+        occupancyUpdates.start();
+
+        HBox body = new HBox(10, wall, detailScroll);
+        HBox.setHgrow(wall, Priority.ALWAYS);
+        VBox.setVgrow(body, Priority.ALWAYS);
+
+        pane.getChildren().addAll(titleLabel, controlBox, body);
+        return pane;
+    }
+
+    private VBox createMetricsPane() {
+        VBox pane = new VBox(15);
+        pane.setPadding(new Insets(20));
+
+        Label titleLabel = new Label("Performans Metrikleri (süreler µs)");
+        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+
+        TextArea metricsArea = new TextArea();
+        metricsArea.setEditable(false);
+        metricsArea.setFont(Font.font("Consolas", 12));
+        metricsArea.setStyle("-fx-control-inner-background: #ffffff; -fx-text-fill: #333333; " +
+                "-fx-border-color: #e0e0e0; -fx-border-radius: 8; -fx-background-radius: 8;");
+
+        // Global rezervasyon kilidinin çekişme özeti; kuyruk oluşuyorsa kırmızı gösterilir
+        Label lockLabel = new Label();
+        lockLabel.setFont(Font.font("Consolas", 12));
+        lockLabel.setWrapText(true);
+
+        Runnable refresh = () -> {
+            InstrumentedLock lock = MainApp.getReservationManager().getLock();
+            lockLabel.setText(lock.getSummary());
+            lockLabel.setTextFill(lock.getQueueLength() > 0 ? Color.web("#d32f2f") : Color.web("#333333"));
+            metricsArea.setText(MetricsRegistry.getDefault().formatText());
+        };
+
+        Button refreshButton = new Button("🔄 Yenile");
+        applyOutlineStyle(refreshButton, "#2196F3");
+        refreshButton.setOnAction(e -> refresh.run());
+
+        Button exportButton = new Button("💾 Dosyaya Yaz");
+        applyOutlineStyle(exportButton, "#4caf50");
+        exportButton.setOnAction(e -> BackgroundExecutor.submit(() -> {
+            java.nio.file.Path file = java.nio.file.Paths.get(FileManager.getDataDirectory(),
+                    MetricsRegistry.SCRAPE_FILE);
+            MetricsRegistry.getDefault().writeScrapeFile(file);
+            return file;
+        }, file -> showAlert("Metrikler", "Metrikler yazıldı: " + file),
+                ex -> showAlert("Hata", "Metrik dosyası yazılamadı: " + ex.getMessage())));
+
+        Button resetButton = new Button("♻ Sıfırla");
+        applyOutlineStyle(resetButton, "#FF9800");
+        resetButton.setOnAction(e -> {
+            MetricsRegistry.getDefault().reset();
+            refresh.run();
+        });
+
+        HBox buttonBox = new HBox(10, refreshButton, exportButton, resetButton);
+        buttonBox.setAlignment(Pos.CENTER_LEFT);
+
+        // Sekme görünürken her 2 saniyede bir yenilenir
+        metricsRefresh = new Timeline(new KeyFrame(Duration.seconds(2), e -> {
+            if (pane.isVisible()) {
+                refresh.run();
+            }
+        }));
+        metricsRefresh.setCycleCount(Timeline.INDEFINITE);
+        metricsRefresh.play();
+        pane.visibleProperty().addListener((obs, wasVisible, visible) -> {
+            if (visible) {
+                refresh.run();
+            }
+        });
+
+        pane.getChildren().addAll(titleLabel, buttonBox, lockLabel, metricsArea);
+        VBox.setVgrow(metricsArea, Priority.ALWAYS);
+        return pane;
+    }
+
     private void showAlert(String title, String message) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle(title);
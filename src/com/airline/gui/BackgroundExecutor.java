@@ -0,0 +1,104 @@
+package com.airline.gui;
+
+import com.airline.util.ThreadSupport;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Arayüzün ortak arka plan iş katmanı.
+ * Yönetici çağrıları (arama, listeleme, dosyaya kaydetme) FX thread'i dışında
+ * çalıştırılır, sonuç ve hata FX thread'ine geri teslim edilir.
+ * Sanal thread varsa her iş için bir sanal thread, yoksa sınırlı bir havuz kullanılır.
+ */
+public final class BackgroundExecutor {
+
+    private static final int FALLBACK_THREADS = 4;
+    private static final ExecutorService EXECUTOR =
+            ThreadSupport.newPerTaskExecutor("ui-background", FALLBACK_THREADS);
+
+    // Sonuçların teslim edildiği yer; testlerde doğrudan çalıştırıcı verilebilir
+    private static volatile Executor resultExecutor = Platform::runLater;
+
+    private BackgroundExecutor() {
+    }
+
+    /**
+     * İşi arka planda çalıştırır, sonucu FX thread'inde teslim eder.
+     * @param work Arka planda çalışacak iş
+     * @param onSuccess Sonucu alan fonksiyon (FX thread)
+     * @param onError Hata durumunda çağrılır (FX thread), null ise hata konsola yazılır
+     * @return İptal için Future
+     */
+    public static <T> Future<T> submit(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        if (work == null) {
+            throw new IllegalArgumentException("Arka plan işi boş olamaz!");
+        }
+        return EXECUTOR.submit(() -> {
+            T result;
+            try {
+                result = work.call();
+            } catch (Throwable e) {
+                deliver(() -> {
+                    if (onError != null) {
+                        onError.accept(e);
+                    } else {
+                        System.err.println("Arka plan işi başarısız: " + e.getMessage());
+                    }
+                });
+                return null;
+            }
+            if (onSuccess != null) {
+                deliver(() -> onSuccess.accept(result));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Sonuç döndürmeyen işi arka planda çalıştırır.
+     * @param onDone İş bitince çağrılır (FX thread)
+     */
+    public static Future<Void> run(Runnable work, Runnable onDone, Consumer<Throwable> onError) {
+        if (work == null) {
+            throw new IllegalArgumentException("Arka plan işi boş olamaz!");
+        }
+        return submit(() -> {
+            work.run();
+            return null;
+        }, ignored -> {
+            if (onDone != null) {
+                onDone.run();
+            }
+        }, onError);
+    }
+
+    /**
+     * Sonuçların teslim edileceği çalıştırıcıyı değiştirir (testler için).
+     */
+    public static void setResultExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Çalıştırıcı boş olamaz!");
+        }
+        resultExecutor = executor;
+    }
+
+    /**
+     * Sonuç teslimini tekrar FX thread'ine döndürür.
+     */
+    public static void resetResultExecutor() {
+        resultExecutor = Platform::runLater;
+    }
+
+    /**
+     * İşi sonuçların teslim edildiği thread'de çalıştırır (varsayılan FX thread).
+     */
+    static void deliver(Runnable action) {
+        resultExecutor.execute(action);
+    }
+}
@@ -1,12 +1,23 @@
 package com.airline.gui;
 
 import com.airline.MainApp;
+import com.airline.manager.DataChangeListener;
 import com.airline.model.*;
 import com.airline.model.enums.AdditionalService;
 import com.airline.model.enums.SeatClass;
+import com.airline.service.ChangeSubscription;
+import com.airline.service.DynamicPricingEngine;
+import com.airline.service.FareCalendar;
+import com.airline.service.FlightPage;
+import com.airline.service.FlightQuery;
+import com.airline.service.CitySuggestion;
 import com.airline.service.FlightSearchEngine;
 import com.airline.service.PriceCalculator;
+import com.airline.service.RoundTripItinerary;
+import com.airline.util.TextFolding;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -21,6 +32,7 @@ import javafx.scene.shape.SVGPath;
 import javafx.stage.Stage;
 import javafx.scene.Cursor;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -37,7 +49,11 @@ public class CustomerDashboard {
     private Customer customer;
     private FlightSearchEngine searchEngine;
     private PriceCalculator priceCalculator;
+    private DynamicPricingEngine pricingEngine;
+    private FareCalendar fareCalendar;
     private TableView<Flight> flightTable;
+    private Button loadMoreButton;
+    private String nextPageCursor; // Tüm uçuşlar listesinin sonraki sayfası
     private TableView<Reservation> reservationTable;
     private ComboBox<String> departureCombo;
     private ComboBox<String> arrivalCombo;
@@ -47,11 +63,75 @@ public class CustomerDashboard {
     private ComboBox<String> passengerCombo;
     private ComboBox<SeatClass> cabinClassCombo;
 
+    // Gidiş-dönüş eşleştirmesi için varsayılanlar
+    private static final Duration MIN_STAY = Duration.ofHours(2);
+    private static final int MAX_ITINERARIES = 20;
+    private static final int PAGE_SIZE = 50;
+
+    // Yazarken arama: girişler bu süre boyunca değişmezse arama başlar
+    private static final int LIVE_SEARCH_DELAY_MS = 250;
+    private static final int LIVE_SEARCH_BATCH = 20;
+    private final PauseTransition liveSearchDelay =
+            new PauseTransition(javafx.util.Duration.millis(LIVE_SEARCH_DELAY_MS));
+
+    // Uçuş tablosunu ve rezervasyon tablosunu dolduran arka plan işleri (yenisi eskisini iptal eder)
+    private final SupersedingTask flightTableTask = new SupersedingTask();
+    private final SupersedingTask reservationTableTask = new SupersedingTask();
+
+    // Tabloların kalıcı satır listeleri; yöneticilerden gelen olaylarla güncellenir
+    private final LiveTableModel<String, Flight> flightModel = new LiveTableModel<>(Flight::getFlightNum);
+    private final LiveTableModel<String, Reservation> reservationModel =
+            new LiveTableModel<>(Reservation::getReservationCode);
+    private DataChangeListener<Flight> flightListener;
+    private DataChangeListener<Reservation> reservationListener;
+    private DataChangeListener<Reservation> seatCountListener;
+
     public CustomerDashboard(Stage stage, Customer customer) {
         this.stage = stage;
         this.customer = customer;
-        this.searchEngine = new FlightSearchEngine(MainApp.getFlightManager());
+        this.pricingEngine = MainApp.getPricingEngine();
+        this.fareCalendar = MainApp.getFareCalendar();
+        this.searchEngine = MainApp.getSearchEngine();
         this.priceCalculator = new PriceCalculator();
+
+        // Arama sonuçlarına yeni uçuş eklenmez, sadece gösterilen satırlar güncellenir
+        flightModel.setInsertOnAdd(false);
+        reservationModel.setFilter(reservation -> reservation.isActive() && isOwnReservation(reservation));
+        liveSearchDelay.setOnFinished(e -> runLiveSearch());
+    }
+
+    /**
+     * Tabloları yönetici olaylarına bağlar (FX thread).
+     */
+    private void attachLiveModels() {
+        flightListener = flightModel.listener();
+        reservationListener = reservationModel.listener();
+        seatCountListener = flightModel.refreshListener(
+                reservation -> reservation.getFlight() != null ? reservation.getFlight().getFlightNum() : null);
+        MainApp.getFlightManager().addChangeListener(flightListener);
+        MainApp.getReservationManager().addChangeListener(reservationListener);
+        MainApp.getReservationManager().addChangeListener(seatCountListener);
+        flightModel.start();
+        reservationModel.start();
+    }
+
+    /**
+     * Yönetici dinleyicilerini kaldırır (çıkışta).
+     */
+    private void detachLiveModels() {
+        liveSearchDelay.stop();
+        flightTableTask.cancel();
+        MainApp.getFlightManager().removeChangeListener(flightListener);
+        MainApp.getReservationManager().removeChangeListener(reservationListener);
+        MainApp.getReservationManager().removeChangeListener(seatCountListener);
+        flightModel.stop();
+        reservationModel.stop();
+    }
+
+    private boolean isOwnReservation(Reservation reservation) {
+        Passenger passenger = customer.getPassenger();
+        return passenger != null && reservation.getPassenger() != null
+                && passenger.getPassengerId().equals(reservation.getPassenger().getPassengerId());
     }
 
     public void show() {
@@ -100,6 +180,7 @@ public class CustomerDashboard {
         centerContent.getChildren().addAll(tabBar, contentPane);
         VBox.setVgrow(contentPane, Priority.ALWAYS);
         mainLayout.setCenter(centerContent);
+        attachLiveModels();
 
         // Ekran boyutuna göre pencere boyutu ayarla
         javafx.stage.Screen screen = javafx.stage.Screen.getPrimary();
@@ -239,6 +320,7 @@ public class CustomerDashboard {
         Button logoutButton = new Button("Çıkış");
         applyOutlineStyle(logoutButton, "#c62828");
         logoutButton.setOnAction(e -> {
+            detachLiveModels();
             MainApp.getUserManager().logout();
             new LoginScreen(stage).show();
         });
@@ -426,6 +508,7 @@ public class CustomerDashboard {
 
         // Uçuş tablosu
         flightTable = createFlightTable();
+        flightTable.setItems(flightModel.getItems());
 
         // Rezervasyon butonu
         Button reserveButton = new Button("✈ Seçili Uçuşu Rezerve Et");
@@ -439,7 +522,19 @@ public class CustomerDashboard {
         reserveButton.setCursor(Cursor.HAND);
         reserveButton.setOnAction(e -> makeReservation());
 
-        HBox buttonBox = new HBox(reserveButton);
+        // Tüm uçuşlar listesinde sonraki sayfayı yükler
+        loadMoreButton = new Button("Daha Fazla Göster");
+        loadMoreButton.setStyle(
+                "-fx-background-color: transparent; " +
+                        "-fx-text-fill: #333; " +
+                        "-fx-font-size: 13px; " +
+                        "-fx-underline: true;");
+        loadMoreButton.setCursor(Cursor.HAND);
+        loadMoreButton.setOnAction(e -> loadNextPage());
+        loadMoreButton.setVisible(false);
+        loadMoreButton.managedProperty().bind(loadMoreButton.visibleProperty());
+
+        HBox buttonBox = new HBox(15, reserveButton, loadMoreButton);
         buttonBox.setAlignment(Pos.CENTER);
         buttonBox.setPadding(new Insets(10, 0, 0, 0));
 
@@ -483,11 +578,45 @@ public class CustomerDashboard {
                         "-fx-font-weight: bold; " +
                         "-fx-padding: 0;");
         combo.setPrefWidth(170);
+        enableAutocomplete(combo, isDeparture);
+        combo.getEditor().textProperty().addListener((obs, oldText, newText) -> scheduleLiveSearch());
+        combo.valueProperty().addListener((obs, oldValue, newValue) -> scheduleLiveSearch());
 
         box.getChildren().addAll(fieldLabel, combo);
         return box;
     }
 
+    /**
+     * Yazılan metne göre şehir, havalimanı ve IATA kodu önerilerini listeler.
+     * Metin silindiğinde tüm şehirler geri gelir.
+     */
+    private void enableAutocomplete(ComboBox<String> combo, boolean isDeparture) {
+        combo.getEditor().textProperty().addListener((obs, oldText, newText) -> {
+            if (!combo.getEditor().isFocused() || newText == null || newText.equals(combo.getValue())) {
+                return;
+            }
+            if (newText.trim().isEmpty()) {
+                combo.setItems(FXCollections.observableArrayList(isDeparture
+                        ? searchEngine.getAllDepartureCities() : searchEngine.getAllArrivalCities()));
+                return;
+            }
+            List<String> cities = new ArrayList<>();
+            java.util.Iterator<CitySuggestion> iterator = searchEngine.suggestCities(newText, 10).iterator();
+            while (iterator.hasNext()) {
+                cities.add(iterator.next().getCity());
+            }
+            combo.setItems(FXCollections.observableArrayList(cities));
+            // Liste değişince editördeki metin korunur
+            if (!newText.equals(combo.getEditor().getText())) {
+                combo.getEditor().setText(newText);
+                combo.getEditor().positionCaret(newText.length());
+            }
+            if (!cities.isEmpty()) {
+                combo.show();
+            }
+        });
+    }
+
     private VBox createDateField(String label, String placeholder, boolean isDeparture) {
         VBox box = new VBox(2);
         box.setPadding(new Insets(10, 15, 10, 15));
@@ -505,16 +634,57 @@ public class CustomerDashboard {
         }
 
         picker.setPromptText(placeholder);
+        picker.setDayCellFactory(dp -> createFareDayCell(isDeparture));
         picker.setStyle(
                 "-fx-background-color: transparent; " +
                         "-fx-border-color: transparent; " +
                         "-fx-font-size: 13px;");
         picker.setPrefWidth(120);
+        if (isDeparture) {
+            picker.valueProperty().addListener((obs, oldDate, newDate) -> scheduleLiveSearch());
+        }
 
         box.getChildren().addAll(fieldLabel, picker);
         return box;
     }
 
+    /**
+     * Takvimde her günün en düşük fiyatını gösteren hücre oluşturur.
+     * Fiyatlar FareCalendar'dan okunur, gün başına arama yapılmaz.
+     */
+    private DateCell createFareDayCell(boolean isDeparture) {
+        return new DateCell() {
+            @Override
+            public void updateItem(LocalDate item, boolean empty) {
+                super.updateItem(item, empty);
+                setTooltip(null);
+                String departure = departureCombo != null ? departureCombo.getValue() : null;
+                String arrival = arrivalCombo != null ? arrivalCombo.getValue() : null;
+                if (empty || item == null || departure == null || arrival == null) {
+                    return;
+                }
+                // Dönüş takviminde yön ters çevrilir
+                String from = isDeparture ? departure : arrival;
+                String to = isDeparture ? arrival : departure;
+
+                double fare = fareCalendar.getLowestFare(from, to, item);
+                if (Double.isInfinite(fare)) {
+                    return;
+                }
+                int seats = fareCalendar.getAvailableSeats(from, to, item);
+                setTooltip(new Tooltip(String.format("En düşük: %.2f TL (%d boş koltuk)", fare, seats)));
+
+                LocalDate cheapest = fareCalendar.findCheapestDayInMonth(from, to,
+                        java.time.YearMonth.from(item));
+                if (item.equals(cheapest)) {
+                    setStyle("-fx-background-color: #a5d6a7; -fx-font-weight: bold;");
+                } else {
+                    setStyle("-fx-background-color: #e8f5e9;");
+                }
+            }
+        };
+    }
+
     private VBox createPassengerField() {
         VBox box = new VBox(2);
         box.setPadding(new Insets(10, 10, 10, 10));
@@ -626,18 +796,97 @@ public class CustomerDashboard {
                 cellData.getValue().getAvailableSeatCount()).asObject());
         seatsCol.setMinWidth(75);
 
+        TableColumn<Flight, Double> priceCol = new TableColumn<>("Fiyat");
+        priceCol.setCellValueFactory(cellData -> new javafx.beans.property.SimpleDoubleProperty(
+                pricingEngine.getLowestFare(cellData.getValue())).asObject());
+        priceCol.setCellFactory(col -> new TableCell<Flight, Double>() {
+            @Override
+            protected void updateItem(Double item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                } else if (item.isInfinite()) {
+                    setText("Dolu");
+                } else {
+                    setText(String.format("%.2f TL", item));
+                }
+            }
+        });
+        priceCol.setMinWidth(85);
+
         TableColumn<Flight, String> statusCol = new TableColumn<>("Durum");
         statusCol.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
                 cellData.getValue().getStatus().getDescription()));
         statusCol.setMinWidth(80);
 
-        table.getColumns().addAll(numCol, depCol, arrCol, dateCol, timeCol, durationCol, seatsCol, statusCol);
+        table.getColumns().addAll(numCol, depCol, arrCol, dateCol, timeCol, durationCol, seatsCol, priceCol, statusCol);
         table.setPlaceholder(new Label("Uçuş bulunamadı"));
 
         return table;
     }
 
+    /**
+     * Yazarken aramayı erteler; her yeni giriş bekleme süresini baştan başlatır.
+     */
+    private void scheduleLiveSearch() {
+        liveSearchDelay.playFromStart();
+    }
+
+    /**
+     * Girişler durulunca gidiş uçuşlarını arar ve sonuçları geldikçe tabloya yazar.
+     * Önceki arama iptal edilir; şehir adı henüz tamamlanmadıysa tablo değiştirilmez.
+     * Uyarı gösterilmez, gidiş-dönüş eşleştirmesi Ara butonuyla yapılır.
+     */
+    private void runLiveSearch() {
+        String departure = currentCityText(departureCombo);
+        String arrival = currentCityText(arrivalCombo);
+        if ((departure.isEmpty() && arrival.isEmpty())
+                || !isKnownCity(departure, searchEngine.getAllDepartureCities())
+                || !isKnownCity(arrival, searchEngine.getAllArrivalCities())) {
+            flightTableTask.cancel(); // Eski girişlerin araması teslim edilmez
+            return;
+        }
+        FlightQuery query = new FlightQuery(departure, arrival, datePicker.getValue(), false);
+        nextPageCursor = null;
+        loadMoreButton.setVisible(false);
+
+        boolean[] firstBatch = {true}; // Sadece FX thread'inde okunur
+        flightTableTask.<List<Flight>>stream(
+                publisher -> searchEngine.streamSearch(query, LIVE_SEARCH_BATCH, publisher),
+                batch -> {
+                    if (firstBatch[0]) {
+                        flightModel.setAll(batch);
+                        firstBatch[0] = false;
+                    } else {
+                        flightModel.addAll(batch);
+                    }
+                },
+                e -> System.err.println("Canlı arama başarısız: " + e.getMessage()));
+    }
+
+    private static String currentCityText(ComboBox<String> combo) {
+        String text = combo.getEditor().getText();
+        if (text == null) {
+            text = combo.getValue();
+        }
+        return text != null ? text.trim() : "";
+    }
+
+    private static boolean isKnownCity(String text, List<String> cities) {
+        if (text.isEmpty()) {
+            return true; // Boş kriter filtre olarak uygulanmaz
+        }
+        java.util.Iterator<String> iterator = cities.iterator();
+        while (iterator.hasNext()) {
+            if (TextFolding.equalsFolded(text, iterator.next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void searchFlights() {
+        liveSearchDelay.stop();
         String departure = departureCombo.getValue();
         String arrival = arrivalCombo.getValue();
         LocalDate date = datePicker.getValue();
@@ -661,44 +910,140 @@ public class CustomerDashboard {
             return;
         }
 
+        // Arama sonuçları sayfalanmaz
+        nextPageCursor = null;
+        loadMoreButton.setVisible(false);
+
+        // Arama arka planda yapılır; yeni arama önceki aramayı geçersiz kılar
+        flightTableTask.submit(() -> runSearch(departure, arrival, date, isRoundTrip, returnDate),
+                this::showSearchOutcome,
+                e -> showAlert("Hata", "Arama yapılamadı: " + e.getMessage()));
+    }
+
+    /**
+     * Arka planda çalışan arama sonucu (FX thread'ine taşınır).
+     */
+    private static final class SearchOutcome {
+        private String departure;
+        private String arrival;
+        private LocalDate date;
+        private boolean roundTrip;
+        private List<Flight> outboundResults;
+        private List<Flight> returnResults;
+        private List<RoundTripItinerary> itineraries;
+        private LocalDate suggestion;
+        private double suggestionFare;
+    }
+
+    /**
+     * Arama sorgularını çalıştırır. Arka plan thread'inde çağrılır.
+     */
+    private SearchOutcome runSearch(String departure, String arrival, LocalDate date,
+                                    boolean isRoundTrip, LocalDate returnDate) {
+        SearchOutcome outcome = new SearchOutcome();
+        outcome.departure = departure;
+        outcome.arrival = arrival;
+        outcome.date = date;
+        outcome.roundTrip = isRoundTrip;
+
         // Gidiş uçuşlarını ara
-        List<Flight> outboundResults = searchEngine.searchFlights(departure, arrival, date);
+        outcome.outboundResults = searchEngine.searchFlights(departure, arrival, date);
 
         if (isRoundTrip) {
             // Dönüş uçuşlarını da ara (varış -> kalkış)
-            List<Flight> returnResults = searchEngine.searchFlights(arrival, departure, returnDate);
+            outcome.returnResults = searchEngine.searchFlights(arrival, departure, returnDate);
+            if (!outcome.outboundResults.isEmpty() && !outcome.returnResults.isEmpty()) {
+                outcome.itineraries = searchEngine.searchRoundTrips(
+                        departure, arrival, date, returnDate, MIN_STAY, MAX_ITINERARIES);
+            }
+        } else if (outcome.outboundResults.isEmpty()
+                && date != null && !date.isAfter(fareCalendar.getEndDate())) {
+            outcome.suggestion = fareCalendar.findCheapestDay(departure, arrival, date, fareCalendar.getEndDate());
+            if (outcome.suggestion != null) {
+                outcome.suggestionFare = fareCalendar.getLowestFare(departure, arrival, outcome.suggestion);
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Arama sonucunu tabloya yazar ve gerekli uyarıları gösterir (FX thread).
+     */
+    private void showSearchOutcome(SearchOutcome outcome) {
+        List<Flight> outboundResults = outcome.outboundResults;
+        if (outcome.roundTrip) {
+            List<Flight> returnResults = outcome.returnResults;
 
             // Her iki yönde de uçuş varsa göster
             if (outboundResults.isEmpty() && returnResults.isEmpty()) {
-                flightTable.setItems(FXCollections.observableArrayList());
+                flightModel.setAll(new ArrayList<>());
                 showAlert("Bilgi", "Gidiş ve dönüş için uygun uçuş bulunamadı.");
             } else if (outboundResults.isEmpty()) {
-                flightTable.setItems(FXCollections.observableArrayList(returnResults));
+                flightModel.setAll(returnResults);
                 showAlert("Bilgi", "Gidiş için uygun uçuş bulunamadı. Sadece dönüş uçuşları gösteriliyor.");
             } else if (returnResults.isEmpty()) {
-                flightTable.setItems(FXCollections.observableArrayList(outboundResults));
+                flightModel.setAll(outboundResults);
                 showAlert("Bilgi", "Dönüş için uygun uçuş bulunamadı. Sadece gidiş uçuşları gösteriliyor.");
             } else {
                 // Her iki yönün uçuşlarını birleştir
                 List<Flight> allResults = new ArrayList<>();
                 allResults.addAll(outboundResults);
                 allResults.addAll(returnResults);
-                flightTable.setItems(FXCollections.observableArrayList(allResults));
-                showAlert("Bilgi", String.format("Gidiş: %d uçuş, Dönüş: %d uçuş bulundu.",
-                        outboundResults.size(), returnResults.size()));
+                flightModel.setAll(allResults);
+
+                // Uçuşları gidiş-dönüş çiftleri halinde sun
+                if (outcome.itineraries.isEmpty()) {
+                    showAlert("Bilgi", String.format(
+                            "Gidiş: %d uçuş, Dönüş: %d uçuş bulundu ancak uygun bir eşleşme yok.",
+                            outboundResults.size(), returnResults.size()));
+                } else {
+                    showItineraryDialog(outcome.itineraries);
+                }
             }
         } else {
             // Tek yön - sadece gidiş uçuşlarını göster
-            flightTable.setItems(FXCollections.observableArrayList(outboundResults));
+            flightModel.setAll(outboundResults);
             if (outboundResults.isEmpty()) {
-                showAlert("Bilgi", "Arama kriterlerine uygun uçuş bulunamadı.");
+                if (outcome.suggestion != null) {
+                    showAlert("Bilgi", String.format(
+                            "Seçilen tarihte uçuş bulunamadı. En ucuz yakın tarih: %s (%.2f TL)",
+                            outcome.suggestion, outcome.suggestionFare));
+                } else {
+                    showAlert("Bilgi", "Arama kriterlerine uygun uçuş bulunamadı.");
+                }
             }
         }
     }
 
     private void showAllFlights() {
-        List<Flight> flights = searchEngine.getAvailableFlights();
-        flightTable.setItems(FXCollections.observableArrayList(flights));
+        liveSearchDelay.stop();
+        flightTableTask.submit(() -> searchEngine.getAvailableFlightsPage(null, PAGE_SIZE),
+                page -> {
+                    flightModel.setAll(page.getFlights());
+                    updatePaging(page);
+                },
+                e -> showAlert("Hata", "Uçuşlar yüklenemedi: " + e.getMessage()));
+    }
+
+    /**
+     * Tüm uçuşlar listesinin sonraki sayfasını tabloya ekler.
+     */
+    private void loadNextPage() {
+        if (nextPageCursor == null) {
+            return;
+        }
+        String cursor = nextPageCursor;
+        flightTableTask.submit(() -> searchEngine.getAvailableFlightsPage(cursor, PAGE_SIZE),
+                page -> {
+                    flightModel.addAll(page.getFlights());
+                    updatePaging(page);
+                },
+                e -> showAlert("Hata", "Uçuşlar yüklenemedi: " + e.getMessage()));
+    }
+
+    private void updatePaging(FlightPage page) {
+        nextPageCursor = page.getNextCursor();
+        loadMoreButton.setVisible(page.hasMore());
     }
 
     private void makeReservation() {
@@ -714,10 +1059,70 @@ public class CustomerDashboard {
         }
 
         // Koltuk seçim dialogu
-        showSeatSelectionDialog(selectedFlight);
+        showSeatSelectionDialog(selectedFlight, null);
+    }
+
+    /**
+     * Sıralanmış gidiş-dönüş seçeneklerini gösterir.
+     * Seçilen çiftin önce gidiş, sonra dönüş uçuşu rezerve edilir.
+     */
+    @SuppressWarnings("unchecked")
+    private void showItineraryDialog(List<RoundTripItinerary> itineraries) {
+        Dialog<RoundTripItinerary> dialog = new Dialog<>();
+        dialog.setTitle("Gidiş-Dönüş Seçenekleri");
+        dialog.setHeaderText("Toplam fiyat ve süreye göre en iyi seçenekler");
+
+        ButtonType selectButtonType = new ButtonType("Seç ve Rezerve Et", ButtonBar.ButtonData.OK_DONE);
+        dialog.getDialogPane().getButtonTypes().addAll(selectButtonType, ButtonType.CANCEL);
+
+        TableView<RoundTripItinerary> table = new TableView<>();
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+
+        TableColumn<RoundTripItinerary, String> outCol = new TableColumn<>("Gidiş");
+        outCol.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+                cellData.getValue().getOutbound().getFlightSummary()));
+        outCol.setMinWidth(220);
+
+        TableColumn<RoundTripItinerary, String> inCol = new TableColumn<>("Dönüş");
+        inCol.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+                cellData.getValue().getInbound().getFlightSummary()));
+        inCol.setMinWidth(220);
+
+        TableColumn<RoundTripItinerary, String> durationCol = new TableColumn<>("Toplam Süre");
+        durationCol.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+                cellData.getValue().getFormattedDuration()));
+        durationCol.setMinWidth(90);
+
+        TableColumn<RoundTripItinerary, String> priceCol = new TableColumn<>("Toplam Fiyat");
+        priceCol.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+                String.format("%.2f TL", cellData.getValue().getTotalPrice())));
+        priceCol.setMinWidth(90);
+
+        table.getColumns().addAll(outCol, inCol, durationCol, priceCol);
+        table.setItems(FXCollections.observableArrayList(itineraries));
+        table.getSelectionModel().selectFirst();
+        table.setPrefSize(720, 320);
+
+        dialog.getDialogPane().setContent(table);
+        dialog.setResultConverter(dialogButton -> {
+            if (dialogButton == selectButtonType) {
+                return table.getSelectionModel().getSelectedItem();
+            }
+            return null;
+        });
+
+        dialog.showAndWait().ifPresent(itinerary -> {
+            // Gidiş tamamlanmadıysa dönüş için koltuk sorulmaz
+            showSeatSelectionDialog(itinerary.getOutbound(),
+                    () -> showSeatSelectionDialog(itinerary.getInbound(), null));
+        });
     }
 
-    private void showSeatSelectionDialog(Flight flight) {
+    /**
+     * Koltuk seçim ekranını gösterir.
+     * @param onBooked Rezervasyon tamamlanınca çağrılır (null olabilir)
+     */
+    private void showSeatSelectionDialog(Flight flight, Runnable onBooked) {
         Dialog<Seat> dialog = new Dialog<>();
         dialog.setTitle("Koltuk Seçimi");
         dialog.setHeaderText(flight.getFlightSummary());
@@ -728,62 +1133,53 @@ public class CustomerDashboard {
         VBox content = new VBox(15);
         content.setPadding(new Insets(20));
 
-        // Sınıf seçimi
-        Label classLabel = new Label("Sınıf Seçin:");
-        ComboBox<SeatClass> classCombo = new ComboBox<>();
-        classCombo.setItems(FXCollections.observableArrayList(SeatClass.values()));
-        classCombo.setValue(SeatClass.ECONOMY);
+        // Koltuk haritası: boş bir koltuğa tıklayarak seçilir
+        Label seatLabel = new Label("Koltuk Seçin (mavi: Business, yeşil: Economy):");
+        SeatMapCanvas seatMap = new SeatMapCanvas(16, true);
+        seatMap.setPlane(flight.getPlane());
+        seatMap.setSelectable(true);
 
-        // Koltuk listesi
-        Label seatLabel = new Label("Koltuk Seçin:");
-        ListView<Seat> seatList = new ListView<>();
-        seatList.setPrefHeight(200);
+        // Başkası koltuk alır veya bırakırsa harita yoklama yapmadan güncellenir
+        ChangeSubscription seatChanges = MainApp.getChangeFeed().subscribe(flight.getFlightNum(),
+                events -> Platform.runLater(seatMap::refresh));
+
+        ScrollPane seatScroll = new ScrollPane(seatMap);
+        seatScroll.setPrefViewportHeight(360);
+        seatScroll.setPrefViewportWidth(seatMap.getWidth());
 
         // Fiyat gösterimi
         Label priceLabel = new Label("Fiyat: -");
         priceLabel.setFont(Font.font("Arial", FontWeight.BOLD, 14));
 
-        // Sınıf değiştiğinde koltukları güncelle
-        classCombo.setOnAction(e -> {
-            SeatClass selected = classCombo.getValue();
-            List<Seat> seats = flight.getPlane().getAvailableSeatsByClass(selected);
-            seatList.setItems(FXCollections.observableArrayList(seats));
-        });
-
         // Koltuk seçildiğinde fiyatı göster
-        seatList.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> {
-            if (newVal != null) {
-                double price = priceCalculator.calculatePrice(newVal, flight);
-                priceLabel.setText(String.format("Fiyat: %.2f TL", price));
-            }
+        seatMap.setOnSeatSelected(seat -> {
+            double price = pricingEngine.getFare(flight, seat.getClass_());
+            priceLabel.setText(String.format("Koltuk %s (%s) - Fiyat: %.2f TL",
+                    seat.getSeatNum(), seat.getClass_(), price));
         });
 
-        // Başlangıçta economy koltukları göster
-        List<Seat> economySeats = flight.getPlane().getAvailableSeatsByClass(SeatClass.ECONOMY);
-        seatList.setItems(FXCollections.observableArrayList(economySeats));
-
-        content.getChildren().addAll(classLabel, classCombo, seatLabel, seatList, priceLabel);
+        content.getChildren().addAll(seatLabel, seatScroll, priceLabel);
         dialog.getDialogPane().setContent(content);
 
         dialog.setResultConverter(dialogButton -> {
             if (dialogButton == reserveButtonType) {
-                return seatList.getSelectionModel().getSelectedItem();
+                return seatMap.getSelectedSeat();
             }
             return null;
         });
 
-        dialog.showAndWait().ifPresent(seat -> {
-            if (seat != null) {
-                // Koltuk seçildikten sonra ek hizmetler ekranını göster
-                showAdditionalServicesDialog(flight, seat);
-            }
-        });
+        // Koltuk seçildikten sonra ek hizmetler ekranını göster
+        Seat seat = dialog.showAndWait().orElse(null);
+        seatChanges.close();
+        if (seat != null) {
+            showAdditionalServicesDialog(flight, seat, onBooked);
+        }
     }
 
     /**
      * Ek hizmetler seçim ekranını gösterir.
      */
-    private void showAdditionalServicesDialog(Flight flight, Seat seat) {
+    private void showAdditionalServicesDialog(Flight flight, Seat seat, Runnable onBooked) {
         Dialog<Set<AdditionalService>> dialog = new Dialog<>();
         dialog.setTitle("Ek Hizmetler");
         dialog.setHeaderText("UÇUŞUNA EK HİZMET EKLE");
@@ -804,7 +1200,7 @@ public class CustomerDashboard {
         Set<AdditionalService> selectedServices = new HashSet<>();
 
         // Baz fiyat
-        double basePrice = priceCalculator.calculatePrice(seat, flight);
+        double basePrice = pricingEngine.getFare(flight, seat.getClass_());
 
         // Toplam fiyat label
         Label totalLabel = new Label(String.format("Toplam: %.2f TL", basePrice));
@@ -843,10 +1239,11 @@ public class CustomerDashboard {
             return null;
         });
 
-        dialog.showAndWait().ifPresent(services2 -> {
-            // Rezervasyonu tamamla
-            completeReservation(flight, seat, services2);
-        });
+        // Rezervasyonu tamamla
+        Set<AdditionalService> chosen = dialog.showAndWait().orElse(null);
+        if (chosen != null) {
+            completeReservation(flight, seat, chosen, onBooked);
+        }
     }
 
     /**
@@ -922,23 +1319,27 @@ public class CustomerDashboard {
     }
 
     /**
-     * Rezervasyonu tamamlar.
+     * Rezervasyonu arka planda tamamlar (rezervasyon ve bilet dosyaya kaydedilir).
+     * @param onBooked Rezervasyon başarılı olursa çağrılır (null olabilir)
      */
-    private void completeReservation(Flight flight, Seat seat, Set<AdditionalService> services) {
-        try {
-            Passenger passenger = customer.getPassenger();
-            if (passenger == null) {
-                passenger = new Passenger(customer.getUsername(), "",
-                        customer.getEmail(), "");
-                customer.setPassenger(passenger);
-            }
+    private void completeReservation(Flight flight, Seat seat, Set<AdditionalService> services, Runnable onBooked) {
+        Passenger existing = customer.getPassenger();
+        Passenger passenger = existing != null ? existing
+                : new Passenger(customer.getUsername(), "", customer.getEmail(), "");
+        if (existing == null) {
+            customer.setPassenger(passenger);
+        }
 
-            Reservation reservation = MainApp.getReservationManager()
-                    .makeReservation(flight, passenger, seat);
-            customer.addReservation(reservation);
+        // Fiyat, rezervasyon doluluğu değiştirmeden önce gösterilen fiyattır
+        double price = priceCalculator.roundPrice(pricingEngine.getFare(flight, seat.getClass_())
+                + priceCalculator.calculateServicesTotal(services));
 
-            double price = priceCalculator.calculatePriceWithServices(seat, flight, services);
-            MainApp.getReservationManager().createTicket(reservation, price);
+        BackgroundExecutor.submit(() -> {
+            Reservation created = MainApp.getReservationManager().makeReservation(flight, passenger, seat);
+            MainApp.getReservationManager().createTicket(created, price);
+            return created;
+        }, reservation -> {
+            customer.addReservation(reservation);
 
             // Seçilen hizmetleri bildir
             StringBuilder message = new StringBuilder();
@@ -955,14 +1356,12 @@ public class CustomerDashboard {
                 }
             }
 
+            // Tablolar rezervasyon olaylarıyla güncellenir (boş koltuk sayısı, yeni rezervasyon)
             showAlert("Başarılı", message.toString());
-
-            // Tabloyu güncelle
-            showAllFlights();
-
-        } catch (Exception e) {
-            showAlert("Hata", "Rezervasyon yapılamadı: " + e.getMessage());
-        }
+            if (onBooked != null) {
+                onBooked.run();
+            }
+        }, e -> showAlert("Hata", "Rezervasyon yapılamadı: " + e.getMessage()));
     }
 
     private VBox createReservationsPane() {
@@ -973,6 +1372,7 @@ public class CustomerDashboard {
         titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
 
         reservationTable = createReservationTable();
+        reservationTable.setItems(reservationModel.getItems());
 
         // Yenile butonu
         Button refreshButton = new Button("🔄 Yenile");
@@ -1039,18 +1439,18 @@ public class CustomerDashboard {
     }
 
     private void loadReservations() {
-        List<Reservation> reservations;
-        if (customer.getPassenger() != null) {
-            reservations = MainApp.getReservationManager()
-                    .getReservationsByPassenger(customer.getPassenger().getPassengerId());
-        } else {
-            reservations = customer.getReservationHistory();
-        }
-        // Sadece aktif rezervasyonları göster (iptal edilmişleri filtrele)
-        List<Reservation> activeReservations = reservations.stream()
-                .filter(Reservation::isActive)
-                .collect(java.util.stream.Collectors.toList());
-        reservationTable.setItems(FXCollections.observableArrayList(activeReservations));
+        Passenger passenger = customer.getPassenger();
+        List<Reservation> history = new ArrayList<>(customer.getReservationHistory());
+        reservationTableTask.submit(() -> {
+            List<Reservation> reservations = passenger != null
+                    ? MainApp.getReservationManager().getReservationsByPassenger(passenger.getPassengerId())
+                    : history;
+            // Sadece aktif rezervasyonları göster (iptal edilmişleri filtrele)
+            return reservations.stream()
+                    .filter(Reservation::isActive)
+                    .collect(java.util.stream.Collectors.toList());
+        }, reservationModel::setAll,
+                e -> showAlert("Hata", "Rezervasyonlar yüklenemedi: " + e.getMessage()));
     }
 
     private void cancelReservation() {
@@ -1073,15 +1473,15 @@ public class CustomerDashboard {
 
         confirm.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                boolean cancelled = MainApp.getReservationManager()
-                        .cancelReservation(selected.getReservationCode());
-                if (cancelled) {
-                    showAlert("Başarılı", "Rezervasyon iptal edildi.");
-                    loadReservations();
-                    showAllFlights();
-                } else {
-                    showAlert("Hata", "Rezervasyon iptal edilemedi.");
-                }
+                BackgroundExecutor.submit(() -> MainApp.getReservationManager()
+                        .cancelReservation(selected.getReservationCode()), cancelled -> {
+                    if (cancelled) {
+                        // İptal edilen satır ve uçuşun boş koltuk sayısı olaylarla güncellenir
+                        showAlert("Başarılı", "Rezervasyon iptal edildi.");
+                    } else {
+                        showAlert("Hata", "Rezervasyon iptal edilemedi.");
+                    }
+                }, e -> showAlert("Hata", "Rezervasyon iptal edilemedi: " + e.getMessage()));
             }
         });
     }
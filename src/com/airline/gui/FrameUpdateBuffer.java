@@ -0,0 +1,111 @@
+package com.airline.gui;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Arka plan thread'lerinden gelen arayüz güncellemelerini kare başına toplar.
+ * Üreticiler publish ile kilitsiz bir kuyruğa yazar; her karede (AnimationTimer)
+ * kuyruk tek seferde boşaltılır ve tüm güncellemeler tek bir geçişte uygulanır.
+ * Böylece her güncelleme için ayrı Platform.runLater çağrısı yapılmaz ve
+ * yoğun yükte FX olay kuyruğu taşmaz.
+ * @param <T> Güncelleme türü
+ */
+public class FrameUpdateBuffer<T> {
+
+    private final ConcurrentLinkedQueue<T> pending;
+    private final Consumer<List<T>> applier;
+    private AnimationTimer timer; // İlk start çağrısında oluşturulur (FX thread)
+    private long appliedUpdates;
+    private long appliedFrames;
+
+    /**
+     * FrameUpdateBuffer oluşturur.
+     * @param applier Bir karede biriken güncellemeleri sırasıyla uygulayan fonksiyon (FX thread)
+     */
+    public FrameUpdateBuffer(Consumer<List<T>> applier) {
+        if (applier == null) {
+            throw new IllegalArgumentException("Güncelleme uygulayıcısı boş olamaz!");
+        }
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.applier = applier;
+    }
+
+    /**
+     * Bir güncellemeyi kuyruğa ekler. Herhangi bir thread'den çağrılabilir.
+     */
+    public void publish(T update) {
+        pending.offer(update);
+    }
+
+    /**
+     * Kare bazında boşaltmayı başlatır. FX thread'inden çağrılmalıdır.
+     */
+    public void start() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    drain();
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Kare bazında boşaltmayı durdurur; kuyrukta kalanlar önce uygulanır.
+     */
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+        }
+        drain();
+    }
+
+    /**
+     * Kuyruktaki tüm güncellemeleri tek seferde uygular.
+     * @return Uygulanan güncelleme sayısı
+     */
+    public int drain() {
+        T update = pending.poll();
+        if (update == null) {
+            return 0;
+        }
+        List<T> batch = new ArrayList<>();
+        while (update != null) {
+            batch.add(update);
+            update = pending.poll();
+        }
+        applier.accept(batch);
+        appliedUpdates += batch.size();
+        appliedFrames++;
+        return batch.size();
+    }
+
+    /**
+     * Bekleyen güncellemeleri uygulamadan atar.
+     */
+    public void clear() {
+        pending.clear();
+    }
+
+    /**
+     * Ortalama kare başına uygulanan güncelleme sayısını döndürür.
+     */
+    public double getAverageBatchSize() {
+        return appliedFrames == 0 ? 0 : (double) appliedUpdates / appliedFrames;
+    }
+
+    public long getAppliedUpdates() {
+        return appliedUpdates;
+    }
+
+    public long getAppliedFrames() {
+        return appliedFrames;
+    }
+}
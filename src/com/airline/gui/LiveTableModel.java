@@ -0,0 +1,320 @@
+package com.airline.gui;
+
+import com.airline.manager.DataChangeListener;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Tablonun kalıcı satır listesi.
+ * Tablo bir kez bu listeye bağlanır; yeniden yüklemelerde liste baştan
+ * oluşturulmaz, sadece farklar uygulanır. Yöneticilerden gelen değişiklik
+ * olayları (eklendi/güncellendi/silindi) kare başına toplanıp tek geçişte
+ * uygulanır, böylece bir değişikliğin maliyeti tablo boyutuna değil
+ * değişiklik sayısına bağlıdır.
+ * @param <K> Satır anahtarı türü (örn. uçuş numarası)
+ * @param <T> Satır türü
+ */
+public class LiveTableModel<K, T> {
+
+    /**
+     * Kuyruktaki tek bir değişiklik olayı.
+     * Tür null ise sadece anahtarı verilen satır yeniden çizilir.
+     */
+    private static final class Change<K, T> {
+        private final DataChangeListener.ChangeType type;
+        private final T item;
+        private final K key;
+
+        private Change(DataChangeListener.ChangeType type, T item, K key) {
+            this.type = type;
+            this.item = item;
+            this.key = key;
+        }
+    }
+
+    private final ObservableList<T> items;
+    private final Function<T, K> keyOf;
+    private final Map<K, T> present; // Listede bulunan satırlar (anahtar -> satır)
+    private final Map<K, Integer> positions; // Anahtar -> satır konumu, staleFrom öncesi için geçerli
+    private int staleFrom; // Bu konumdan sonraki kayıtlı konumlar eskimiş olabilir
+    private final FrameUpdateBuffer<Change<K, T>> pending;
+    private volatile Predicate<T> filter;
+    private boolean insertOnAdd;
+
+    /**
+     * LiveTableModel oluşturur.
+     * @param keyOf Satırdan anahtar üreten fonksiyon
+     */
+    public LiveTableModel(Function<T, K> keyOf) {
+        if (keyOf == null) {
+            throw new IllegalArgumentException("Anahtar fonksiyonu boş olamaz!");
+        }
+        this.items = FXCollections.observableArrayList();
+        this.keyOf = keyOf;
+        this.present = new HashMap<>();
+        this.positions = new HashMap<>();
+        this.pending = new FrameUpdateBuffer<>(this::applyChanges);
+        this.filter = item -> true;
+        this.insertOnAdd = true;
+    }
+
+    /**
+     * Tabloya bağlanacak kalıcı listeyi döndürür.
+     */
+    public ObservableList<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Satırın listede kalıp kalmayacağını belirleyen filtreyi ayarlar.
+     * Güncellenen satır filtreyi artık geçmiyorsa listeden çıkarılır.
+     */
+    public void setFilter(Predicate<T> filter) {
+        this.filter = filter != null ? filter : item -> true;
+    }
+
+    /**
+     * Yeni eklenen kayıtların listeye eklenip eklenmeyeceğini ayarlar.
+     * Arama sonucu gibi listelerde false yapılır; mevcut satırlar yine güncellenir.
+     */
+    public void setInsertOnAdd(boolean insertOnAdd) {
+        this.insertOnAdd = insertOnAdd;
+    }
+
+    /**
+     * Yöneticiye eklenecek dinleyiciyi döndürür. Olaylar herhangi bir
+     * thread'den gelebilir; kuyruğa alınır ve FX thread'inde uygulanır.
+     */
+    public DataChangeListener<T> listener() {
+        return (type, item) -> pending.publish(new Change<>(type, item, null));
+    }
+
+    /**
+     * Başka türdeki kayıtların değişiminde ilgili satırı yeniden çizdiren dinleyici döndürür.
+     * Örn. rezervasyon değişince uçuş satırındaki boş koltuk sayısı güncellenir.
+     * @param rowKeyOf Değişen kayıttan satır anahtarını bulan fonksiyon (null dönebilir)
+     */
+    public <E> DataChangeListener<E> refreshListener(Function<E, K> rowKeyOf) {
+        return (type, source) -> {
+            K key = rowKeyOf.apply(source);
+            if (key != null) {
+                pending.publish(new Change<>(null, null, key));
+            }
+        };
+    }
+
+    /**
+     * Olayların kare başına uygulanmasını başlatır (FX thread).
+     */
+    public void start() {
+        pending.start();
+    }
+
+    /**
+     * Olayların uygulanmasını durdurur; bekleyen olaylar önce uygulanır.
+     */
+    public void stop() {
+        pending.stop();
+    }
+
+    /**
+     * Listeyi verilen içerikle eşitler; sadece farklar uygulanır (FX thread).
+     * Yeni listede olmayan satırlar silinir, yeni satırlar yerine eklenir,
+     * aynı anahtarlı farklı nesneler yerinde değiştirilir. Kalan satırların sırası
+     * değiştiyse liste tek bir değişiklikle yeniden kurulur.
+     */
+    public void setAll(List<T> newItems) {
+        Set<K> newKeys = new HashSet<>();
+        java.util.Iterator<T> keyIterator = newItems.iterator();
+        while (keyIterator.hasNext()) {
+            newKeys.add(keyOf.apply(keyIterator.next()));
+        }
+        // Tek bir değişiklik olayıyla silinenleri çıkar
+        items.removeIf(item -> !newKeys.contains(keyOf.apply(item)));
+        present.keySet().retainAll(newKeys);
+
+        if (keepsOrder(newItems)) {
+            int i = 0;
+            java.util.Iterator<T> iterator = newItems.iterator();
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                if (i < items.size() && keyOf.apply(item).equals(keyOf.apply(items.get(i)))) {
+                    if (items.get(i) != item) {
+                        items.set(i, item);
+                    }
+                } else {
+                    items.add(i, item); // Yeni satır; sıra korunduğu için başka yerde olamaz
+                }
+                i++;
+            }
+        } else {
+            items.setAll(newItems);
+        }
+
+        present.clear();
+        java.util.Iterator<T> presentIterator = newItems.iterator();
+        while (presentIterator.hasNext()) {
+            T item = presentIterator.next();
+            present.put(keyOf.apply(item), item);
+        }
+        positions.clear();
+        staleFrom = 0;
+    }
+
+    /**
+     * Listede kalan satırların yeni listedeki göreli sırasının aynı olup olmadığını döndürür.
+     */
+    private boolean keepsOrder(List<T> newItems) {
+        int j = 0;
+        java.util.Iterator<T> iterator = newItems.iterator();
+        while (iterator.hasNext()) {
+            K key = keyOf.apply(iterator.next());
+            if (present.containsKey(key)) {
+                if (j >= items.size() || !key.equals(keyOf.apply(items.get(j)))) {
+                    return false;
+                }
+                j++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Listede olmayan satırları sona ekler (sayfalama için, FX thread).
+     */
+    public void addAll(List<T> newItems) {
+        List<T> added = new java.util.ArrayList<>();
+        java.util.Iterator<T> iterator = newItems.iterator();
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            K key = keyOf.apply(item);
+            if (present.putIfAbsent(key, item) == null) {
+                positions.put(key, items.size() + added.size());
+                added.add(item);
+            }
+        }
+        boolean valid = staleFrom == items.size();
+        items.addAll(added);
+        if (valid) {
+            staleFrom = items.size();
+        }
+    }
+
+    /**
+     * Anahtarı verilen satırı yeniden çizdirir (örn. boş koltuk sayısı değişti).
+     */
+    public void refreshRow(K key) {
+        if (present.containsKey(key)) {
+            int index = indexOf(key);
+            items.set(index, items.get(index));
+        }
+    }
+
+    /**
+     * Bekleyen olayları hemen uygular (FX thread).
+     * @return Uygulanan olay sayısı
+     */
+    public int flush() {
+        return pending.drain();
+    }
+
+    /**
+     * Tek bir karede biriken olayları sırasıyla uygular.
+     */
+    private void applyChanges(List<Change<K, T>> changes) {
+        Set<K> refreshed = new HashSet<>();
+        java.util.Iterator<Change<K, T>> iterator = changes.iterator();
+        while (iterator.hasNext()) {
+            Change<K, T> change = iterator.next();
+            if (change.type == null) {
+                // Aynı karede aynı satır bir kez yeniden çizilir
+                if (refreshed.add(change.key)) {
+                    refreshRow(change.key);
+                }
+            } else {
+                applyChange(change.type, change.item);
+            }
+        }
+    }
+
+    private void applyChange(DataChangeListener.ChangeType type, T item) {
+        K key = keyOf.apply(item);
+        boolean exists = present.containsKey(key);
+        switch (type) {
+            case ADDED:
+                if (!exists && insertOnAdd && filter.test(item)) {
+                    append(key, item);
+                }
+                break;
+            case UPDATED:
+                if (exists) {
+                    int index = indexOf(key);
+                    if (filter.test(item)) {
+                        items.set(index, item); // Satır yeniden çizilir
+                        present.put(key, item);
+                    } else {
+                        removeAt(key, index);
+                    }
+                } else if (insertOnAdd && filter.test(item)) {
+                    append(key, item);
+                }
+                break;
+            case REMOVED:
+                if (exists) {
+                    removeAt(key, indexOf(key));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void append(K key, T item) {
+        int index = items.size();
+        positions.put(key, index);
+        items.add(item);
+        present.put(key, item);
+        if (staleFrom == index) {
+            staleFrom = index + 1;
+        }
+    }
+
+    /**
+     * Satırı siler; sonraki satırların kayıtlı konumları eskimiş sayılır ve
+     * ilk aramada toplu olarak yeniden hesaplanır.
+     */
+    private void removeAt(K key, int index) {
+        items.remove(index);
+        present.remove(key);
+        positions.remove(key);
+        staleFrom = Math.min(staleFrom, index);
+    }
+
+    /**
+     * Anahtarın listedeki konumunu döndürür. Kayıtlı konum eskimişse
+     * eskiyen bölüm bir kez yeniden taranır; silme olmadıkça arama O(1)'dir.
+     */
+    private int indexOf(K key) {
+        Integer index = positions.get(key);
+        if (index != null && index < staleFrom) {
+            return index;
+        }
+        int i = staleFrom;
+        while (i < items.size()) {
+            positions.put(keyOf.apply(items.get(i)), i);
+            i++;
+        }
+        staleFrom = items.size();
+        index = positions.get(key);
+        return index != null ? index : -1;
+    }
+}
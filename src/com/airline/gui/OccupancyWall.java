@@ -0,0 +1,290 @@
+package com.airline.gui;
+
+import com.airline.model.Flight;
+import com.airline.model.Plane;
+import com.airline.model.Seat;
+import com.airline.model.enums.SeatClass;
+
+import javafx.geometry.Orientation;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Çok sayıda uçuşun doluluğunu küçük koltuk haritaları halinde gösteren duvar.
+ * Tek bir Canvas görünür alan kadar büyüktür; sadece ekranda görünen
+ * uçuşlar çizilir (sanallaştırma) ve refresh çağrısında her görünen uçuşun
+ * sadece durumu değişen koltukları yeniden boyanır.
+ */
+public class OccupancyWall extends Region {
+
+    private static final double CELL_SIZE = 4;
+    private static final double HEADER_HEIGHT = 16;
+    private static final double TILE_PADDING = 6;
+
+    private static final Color BACKGROUND = Color.web("#eceff1");
+    private static final Color TILE_BACKGROUND = Color.web("#37474f");
+    private static final Color ECONOMY_FREE = Color.LIGHTGREEN;
+    private static final Color BUSINESS_FREE = Color.LIGHTBLUE;
+    private static final Color RESERVED = Color.ORANGERED;
+
+    private final Canvas canvas;
+    private final ScrollBar scrollBar;
+    private final Map<String, SeatMapLayout> layouts; // "sıraxkolon" -> düzen (aynı tip uçaklar paylaşır)
+    private final Map<String, BitSet> drawn;          // Uçuş no -> son çizilen doluluk
+    private List<Flight> flights;
+    private double tileWidth;
+    private double tileHeight;
+    private int columns = 1;
+    private Consumer<Flight> onFlightSelected;
+
+    public OccupancyWall() {
+        this.canvas = new Canvas();
+        this.scrollBar = new ScrollBar();
+        this.scrollBar.setOrientation(Orientation.VERTICAL);
+        this.layouts = new HashMap<>();
+        this.drawn = new HashMap<>();
+        this.flights = new ArrayList<>();
+
+        getChildren().addAll(canvas, scrollBar);
+        scrollBar.valueProperty().addListener((obs, oldVal, newVal) -> repaintVisible());
+        canvas.setOnScroll(e -> scrollBar.setValue(Math.max(scrollBar.getMin(),
+                Math.min(scrollBar.getMax(), scrollBar.getValue() - e.getDeltaY()))));
+        canvas.setOnMouseClicked(e -> {
+            int index = tileAt(e.getX(), e.getY());
+            if (index >= 0 && onFlightSelected != null) {
+                onFlightSelected.accept(flights.get(index));
+            }
+        });
+    }
+
+    /**
+     * Gösterilecek uçuşları ayarlar. Kutu boyutu en büyük uçağa göre belirlenir.
+     */
+    public void setFlights(List<Flight> flights) {
+        this.flights = new ArrayList<>(flights);
+        this.drawn.clear();
+        double maxWidth = 0;
+        double maxHeight = 0;
+        java.util.Iterator<Flight> iterator = this.flights.iterator();
+        while (iterator.hasNext()) {
+            SeatMapLayout layout = layoutFor(iterator.next().getPlane());
+            maxWidth = Math.max(maxWidth, layout.getWidth());
+            maxHeight = Math.max(maxHeight, layout.getHeight());
+        }
+        this.tileWidth = Math.max(maxWidth, 70) + TILE_PADDING;
+        this.tileHeight = maxHeight + HEADER_HEIGHT + TILE_PADDING;
+        requestLayout();
+        updateScrollRange();
+        repaintVisible();
+    }
+
+    /**
+     * Görünen tüm uçuşlarda sadece değişen koltukları yeniden çizer.
+     * @return Yeniden çizilen koltuk sayısı
+     */
+    public int refresh() {
+        int repainted = 0;
+        int index = firstVisibleIndex();
+        int last = lastVisibleIndex();
+        while (index <= last) {
+            repainted += refreshTile(index);
+            index++;
+        }
+        return repainted;
+    }
+
+    /**
+     * Tek bir uçuşun kutusunu (görünüyorsa) günceller.
+     * @return Yeniden çizilen koltuk sayısı
+     */
+    public int refreshFlight(String flightNum) {
+        int index = firstVisibleIndex();
+        int last = lastVisibleIndex();
+        while (index <= last) {
+            if (flights.get(index).getFlightNum().equals(flightNum)) {
+                return refreshTile(index);
+            }
+            index++;
+        }
+        return 0;
+    }
+
+    /**
+     * Bir uçuş kutusuna tıklandığında çağrılacak fonksiyonu ayarlar.
+     */
+    public void setOnFlightSelected(Consumer<Flight> onFlightSelected) {
+        this.onFlightSelected = onFlightSelected;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double barWidth = scrollBar.prefWidth(-1);
+        double width = Math.max(0, getWidth() - barWidth);
+        canvas.setWidth(width);
+        canvas.setHeight(getHeight());
+        scrollBar.resizeRelocate(width, 0, barWidth, getHeight());
+        columns = tileWidth > 0 ? Math.max(1, (int) (width / tileWidth)) : 1;
+        updateScrollRange();
+        repaintVisible();
+    }
+
+    private void updateScrollRange() {
+        int tileRows = (flights.size() + columns - 1) / columns;
+        double max = Math.max(0, tileRows * tileHeight - canvas.getHeight());
+        scrollBar.setMax(max);
+        scrollBar.setVisibleAmount(canvas.getHeight());
+        scrollBar.setValue(Math.min(scrollBar.getValue(), max));
+    }
+
+    /**
+     * Görünür alandaki tüm kutuları baştan çizer (kaydırma ve boyut değişiminde).
+     */
+    private void repaintVisible() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (flights.isEmpty() || tileHeight == 0) {
+            return;
+        }
+        int index = firstVisibleIndex();
+        int last = lastVisibleIndex();
+        while (index <= last) {
+            drawTile(gc, index);
+            index++;
+        }
+    }
+
+    private void drawTile(GraphicsContext gc, int index) {
+        Flight flight = flights.get(index);
+        double x = tileX(index);
+        double y = tileY(index);
+        gc.setFill(TILE_BACKGROUND);
+        gc.fillRoundRect(x, y, tileWidth - TILE_PADDING, tileHeight - TILE_PADDING, 8, 8);
+
+        BitSet occupancy = flight.getPlane().getOccupancyBitmap();
+        drawn.put(flight.getFlightNum(), occupancy);
+        drawHeader(gc, index, occupancy);
+
+        Seat[] seats = flight.getPlane().getSeatArray();
+        SeatMapLayout layout = layoutFor(flight.getPlane());
+        int i = 0;
+        while (i < seats.length) {
+            drawSeat(gc, layout, x, y, seats[i], i, occupancy.get(i));
+            i++;
+        }
+    }
+
+    /**
+     * Kutudaki koltukları son çizilen durumla karşılaştırıp sadece farkı çizer.
+     */
+    private int refreshTile(int index) {
+        Flight flight = flights.get(index);
+        BitSet previous = drawn.get(flight.getFlightNum());
+        if (previous == null) {
+            drawTile(canvas.getGraphicsContext2D(), index);
+            return flight.getPlane().getCapacity();
+        }
+        BitSet current = flight.getPlane().getOccupancyBitmap();
+        BitSet dirty = (BitSet) current.clone();
+        dirty.xor(previous);
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        drawn.put(flight.getFlightNum(), current);
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        Seat[] seats = flight.getPlane().getSeatArray();
+        SeatMapLayout layout = layoutFor(flight.getPlane());
+        double x = tileX(index);
+        double y = tileY(index);
+        int i = dirty.nextSetBit(0);
+        while (i >= 0) {
+            drawSeat(gc, layout, x, y, seats[i], i, current.get(i));
+            i = dirty.nextSetBit(i + 1);
+        }
+        drawHeader(gc, index, current);
+        return dirty.cardinality();
+    }
+
+    private void drawHeader(GraphicsContext gc, int index, BitSet occupancy) {
+        Flight flight = flights.get(index);
+        double x = tileX(index);
+        double y = tileY(index);
+        gc.setFill(TILE_BACKGROUND);
+        gc.fillRect(x + 2, y + 1, tileWidth - TILE_PADDING - 4, HEADER_HEIGHT - 2);
+
+        int capacity = flight.getPlane().getCapacity();
+        double rate = capacity > 0 ? occupancy.cardinality() * 100.0 / capacity : 0;
+        gc.setFill(Color.WHITE);
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.fillText(flight.getFlightNum(), x + 4, y + 12);
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.fillText(String.format("%%%.0f", rate), x + tileWidth - TILE_PADDING - 4, y + 12);
+    }
+
+    private void drawSeat(GraphicsContext gc, SeatMapLayout layout, double tileX, double tileY,
+                          Seat seat, int index, boolean reserved) {
+        if (reserved) {
+            gc.setFill(RESERVED);
+        } else {
+            gc.setFill(seat.getClass_() == SeatClass.BUSINESS ? BUSINESS_FREE : ECONOMY_FREE);
+        }
+        gc.fillRect(tileX + layout.getSeatX(index), tileY + HEADER_HEIGHT + layout.getSeatY(index),
+                CELL_SIZE, CELL_SIZE);
+    }
+
+    private SeatMapLayout layoutFor(Plane plane) {
+        return layouts.computeIfAbsent(plane.getRows() + "x" + plane.getSeatsPerRow(),
+                key -> new SeatMapLayout(plane.getRows(), plane.getSeatsPerRow(), CELL_SIZE, false));
+    }
+
+    private double tileX(int index) {
+        return (index % columns) * tileWidth + TILE_PADDING / 2;
+    }
+
+    private double tileY(int index) {
+        return (index / columns) * tileHeight - scrollBar.getValue() + TILE_PADDING / 2;
+    }
+
+    private int firstVisibleIndex() {
+        if (tileHeight == 0) {
+            return 0;
+        }
+        return (int) (scrollBar.getValue() / tileHeight) * columns;
+    }
+
+    private int lastVisibleIndex() {
+        if (tileHeight == 0) {
+            return -1;
+        }
+        int lastRow = (int) ((scrollBar.getValue() + canvas.getHeight()) / tileHeight);
+        return Math.min(flights.size() - 1, (lastRow + 1) * columns - 1);
+    }
+
+    /**
+     * Tıklanan noktadaki uçuşun indeksini aritmetik olarak bulur.
+     */
+    private int tileAt(double x, double y) {
+        if (tileHeight == 0) {
+            return -1;
+        }
+        int col = (int) (x / tileWidth);
+        int row = (int) ((y + scrollBar.getValue()) / tileHeight);
+        int index = row * columns + col;
+        return col < columns && index < flights.size() ? index : -1;
+    }
+}
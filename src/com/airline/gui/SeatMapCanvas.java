@@ -0,0 +1,221 @@
+package com.airline.gui;
+
+import com.airline.model.Plane;
+import com.airline.model.Seat;
+import com.airline.model.enums.SeatClass;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.BitSet;
+import java.util.function.Consumer;
+
+/**
+ * Tek bir Canvas üzerine çizilen koltuk haritası.
+ * Koltuk başına düğüm oluşturmaz; uçağın doluluk bit dizisinden çizer ve
+ * refresh çağrısında sadece durumu değişen koltukları yeniden boyar.
+ * Tıklanan koltuk SeatMapLayout ile aritmetik olarak bulunur.
+ */
+public class SeatMapCanvas extends Canvas {
+
+    private static final Color BACKGROUND = Color.web("#37474f");
+    private static final Color ECONOMY_FREE = Color.LIGHTGREEN;
+    private static final Color BUSINESS_FREE = Color.LIGHTBLUE;
+    private static final Color RESERVED = Color.ORANGERED;
+    private static final Color CONFLICT = Color.DARKRED;
+    private static final Color SELECTED = Color.GOLD;
+
+    private final double cellSize;
+    private final boolean labels;
+    private Plane plane;
+    private Seat[] seats;
+    private SeatMapLayout layout;
+    private BitSet drawn;     // Son çizilen doluluk durumu
+    private BitSet conflicts; // Çakışma olarak işaretlenen koltuklar
+    private int selectedIndex = -1;
+    private boolean selectable;
+    private Consumer<Seat> onSeatSelected;
+
+    /**
+     * SeatMapCanvas oluşturur.
+     * @param cellSize Koltuk kenar uzunluğu (piksel)
+     * @param labels Sıra numarası ve kolon harfleri çizilsin mi
+     */
+    public SeatMapCanvas(double cellSize, boolean labels) {
+        this.cellSize = cellSize;
+        this.labels = labels;
+        setOnMouseClicked(e -> handleClick(e.getX(), e.getY()));
+    }
+
+    /**
+     * Gösterilecek uçağı ayarlar ve haritayı baştan çizer.
+     */
+    public void setPlane(Plane plane) {
+        if (plane == null) {
+            throw new IllegalArgumentException("Uçak boş olamaz!");
+        }
+        this.plane = plane;
+        this.seats = plane.getSeatArray();
+        this.layout = new SeatMapLayout(plane.getRows(), plane.getSeatsPerRow(), cellSize, labels);
+        this.conflicts = new BitSet(seats.length);
+        this.selectedIndex = -1;
+        setWidth(layout.getWidth());
+        setHeight(layout.getHeight());
+        repaintAll();
+    }
+
+    /**
+     * Doluluk bit dizisini son çizilenle karşılaştırır ve sadece
+     * değişen koltukları yeniden çizer.
+     * @return Yeniden çizilen koltuk sayısı
+     */
+    public int refresh() {
+        if (plane == null) {
+            return 0;
+        }
+        BitSet current = plane.getOccupancyBitmap();
+        BitSet dirty = (BitSet) current.clone();
+        dirty.xor(drawn);
+        drawn = current;
+
+        GraphicsContext gc = getGraphicsContext2D();
+        int index = dirty.nextSetBit(0);
+        while (index >= 0) {
+            if (index == selectedIndex && current.get(index)) {
+                selectedIndex = -1; // Seçili koltuk bu arada başkası tarafından alındı
+            }
+            drawSeat(gc, index);
+            index = dirty.nextSetBit(index + 1);
+        }
+        return dirty.cardinality();
+    }
+
+    /**
+     * Koltuğu çakışma (race condition) olarak işaretler ve yeniden çizer.
+     */
+    public void markConflict(Seat seat) {
+        int index = plane != null ? plane.getSeatIndex(seat) : -1;
+        if (index >= 0) {
+            conflicts.set(index);
+            drawSeat(getGraphicsContext2D(), index);
+        }
+    }
+
+    /**
+     * Haritanın tamamını yeniden çizer.
+     */
+    public void repaintAll() {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, getWidth(), getHeight());
+        if (plane == null) {
+            return;
+        }
+        if (labels) {
+            drawLabels(gc);
+        }
+        drawn = plane.getOccupancyBitmap();
+        int i = 0;
+        while (i < seats.length) {
+            drawSeat(gc, i);
+            i++;
+        }
+    }
+
+    private void drawLabels(GraphicsContext gc) {
+        gc.setFill(Color.WHITE);
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, cellSize * 0.45));
+        gc.setTextAlign(TextAlignment.CENTER);
+        int col = 0;
+        while (col < layout.getSeatsPerRow()) {
+            gc.fillText(String.valueOf(Plane.SEAT_LETTERS.charAt(col)),
+                    layout.getColumnX(col) + cellSize / 2, layout.getRowY(0) - cellSize * 0.3);
+            col++;
+        }
+        gc.setFont(Font.font("Arial", cellSize * 0.4));
+        gc.setTextAlign(TextAlignment.RIGHT);
+        int row = 0;
+        while (row < layout.getRows()) {
+            gc.fillText(String.valueOf(row + 1), layout.getColumnX(0) - cellSize * 0.3,
+                    layout.getRowY(row) + cellSize * 0.7);
+            row++;
+        }
+    }
+
+    /**
+     * Tek bir koltuğu kendi hücresinde çizer (hücre önce arka planla temizlenir).
+     */
+    private void drawSeat(GraphicsContext gc, int index) {
+        double x = layout.getSeatX(index);
+        double y = layout.getSeatY(index);
+        gc.setFill(BACKGROUND);
+        gc.fillRect(x, y, cellSize, cellSize);
+
+        Seat seat = seats[index];
+        if (index == selectedIndex) {
+            gc.setFill(SELECTED);
+        } else if (conflicts.get(index)) {
+            gc.setFill(CONFLICT);
+        } else if (drawn.get(index)) {
+            gc.setFill(RESERVED);
+        } else {
+            gc.setFill(seat.getClass_() == SeatClass.BUSINESS ? BUSINESS_FREE : ECONOMY_FREE);
+        }
+        double arc = cellSize / 4;
+        gc.fillRoundRect(x, y, cellSize, cellSize, arc, arc);
+    }
+
+    private void handleClick(double x, double y) {
+        if (!selectable || layout == null) {
+            return;
+        }
+        int index = layout.hitTest(x, y);
+        if (index < 0 || index >= seats.length || seats[index].isReserveStatus()) {
+            return;
+        }
+        int previous = selectedIndex;
+        selectedIndex = index;
+        GraphicsContext gc = getGraphicsContext2D();
+        if (previous >= 0) {
+            drawSeat(gc, previous);
+        }
+        drawSeat(gc, index);
+        if (onSeatSelected != null) {
+            onSeatSelected.accept(seats[index]);
+        }
+    }
+
+    /**
+     * Seçili koltuğu döndürür.
+     * @return Seçili koltuk, seçim yoksa null
+     */
+    public Seat getSelectedSeat() {
+        return selectedIndex >= 0 ? seats[selectedIndex] : null;
+    }
+
+    /**
+     * Boş koltukların tıklanarak seçilip seçilemeyeceğini ayarlar.
+     */
+    public void setSelectable(boolean selectable) {
+        this.selectable = selectable;
+    }
+
+    /**
+     * Koltuk seçildiğinde çağrılacak fonksiyonu ayarlar.
+     */
+    public void setOnSeatSelected(Consumer<Seat> onSeatSelected) {
+        this.onSeatSelected = onSeatSelected;
+    }
+
+    public Plane getPlane() {
+        return plane;
+    }
+
+    public SeatMapLayout getLayout() {
+        return layout;
+    }
+}
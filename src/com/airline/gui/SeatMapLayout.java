@@ -0,0 +1,145 @@
+package com.airline.gui;
+
+/**
+ * Koltuk haritasının piksel düzenini hesaplar.
+ * Koltuk konumları ve tıklama testi (hit-test) tamamen aritmetikle yapılır;
+ * koltuk başına sahne düğümü gerekmez.
+ * Koltuk indeksi Plane.getSeatArray ile aynıdır: (sıra - 1) * seatsPerRow + kolon.
+ */
+public final class SeatMapLayout {
+
+    private final int rows;
+    private final int seatsPerRow;
+    private final double cellSize;
+    private final double gap;
+    private final double left;  // Sıra numarası alanı dahil ilk kolonun x'i
+    private final double top;   // Kolon başlığı dahil ilk sıranın y'si
+    private final double[] columnX;
+    private final double width;
+    private final double height;
+
+    /**
+     * SeatMapLayout oluşturur.
+     * @param rows Sıra sayısı
+     * @param seatsPerRow Sıradaki koltuk sayısı
+     * @param cellSize Koltuk kenar uzunluğu (piksel)
+     * @param labels Sıra numarası ve kolon harfi için yer ayrılsın mı
+     */
+    public SeatMapLayout(int rows, int seatsPerRow, double cellSize, boolean labels) {
+        if (rows <= 0 || seatsPerRow <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Geçersiz koltuk haritası düzeni!");
+        }
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+        this.cellSize = cellSize;
+        this.gap = Math.max(1, Math.round(cellSize / 6));
+        this.left = labels ? cellSize * 1.5 : gap;
+        this.top = labels ? cellSize * 1.2 : gap;
+
+        // Koridorlar bir koltuk genişliğinin yarısı kadar boşluk bırakır
+        double aisleWidth = Math.max(gap * 2, cellSize / 2);
+        int[] aisles = aisleColumns(seatsPerRow);
+        this.columnX = new double[seatsPerRow];
+        double x = left;
+        int aisle = 0;
+        int col = 0;
+        while (col < seatsPerRow) {
+            if (aisle < aisles.length && aisles[aisle] == col) {
+                x += aisleWidth;
+                aisle++;
+            }
+            columnX[col] = x;
+            x += cellSize + gap;
+            col++;
+        }
+        this.width = x + gap;
+        this.height = top + rows * (cellSize + gap) + gap;
+    }
+
+    /**
+     * Koridorların hangi kolonlardan önce geldiğini döndürür.
+     * Örn: 6 koltuk (3-3) için {3}, 10 koltuk (3-4-3) için {3, 7}.
+     */
+    static int[] aisleColumns(int seatsPerRow) {
+        switch (seatsPerRow) {
+            case 4:
+            case 5:
+                return new int[] {2};
+            case 6:
+                return new int[] {3};
+            case 7:
+                return new int[] {2, 5};
+            case 8:
+                return new int[] {2, 6};
+            case 9:
+                return new int[] {3, 6};
+            case 10:
+                return new int[] {3, 7};
+            default:
+                return new int[0];
+        }
+    }
+
+    /**
+     * Verilen noktadaki koltuğun indeksini bulur.
+     * @return Koltuk indeksi, nokta bir koltuğun üzerinde değilse -1
+     */
+    public int hitTest(double x, double y) {
+        double pitch = cellSize + gap;
+        if (y < top) {
+            return -1;
+        }
+        int row = (int) ((y - top) / pitch);
+        if (row >= rows || (y - top) - row * pitch > cellSize) {
+            return -1; // Sıralar arası boşluk
+        }
+        // En fazla 10 kolon var; koridorlar yüzünden küçük bir tarama yeterli
+        int col = 0;
+        while (col < seatsPerRow) {
+            if (x >= columnX[col] && x <= columnX[col] + cellSize) {
+                return row * seatsPerRow + col;
+            }
+            if (x < columnX[col]) {
+                return -1;
+            }
+            col++;
+        }
+        return -1;
+    }
+
+    public double getSeatX(int index) {
+        return columnX[index % seatsPerRow];
+    }
+
+    public double getSeatY(int index) {
+        return getRowY(index / seatsPerRow);
+    }
+
+    public double getColumnX(int col) {
+        return columnX[col];
+    }
+
+    public double getRowY(int row) {
+        return top + row * (cellSize + gap);
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+}
@@ -1,8 +1,13 @@
 package com.airline.gui;
 
+import com.airline.concurrency.SeatReservationStrategy;
 import com.airline.manager.ReservationManager;
 import com.airline.model.Plane;
 import com.airline.model.Seat;
+import com.airline.simulation.LoadSimulationConfig;
+import com.airline.simulation.LoadSimulationResult;
+import com.airline.simulation.LoadSimulator;
+import com.airline.simulation.SeatChoice;
 
 import javafx.application.Platform;
 import javafx.geometry.Insets;
@@ -15,16 +20,15 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Eşzamanlı Koltuk Rezervasyonu Simülasyon Paneli.
  * Senaryo 1: 90 yolcu 180 koltuğa aynı anda rezervasyon yapmaya çalışır.
  * Synchronized ve unsynchronized modları gösterir.
+ * Simülasyonu LoadSimulator çalıştırır; bu panel sadece görsel ön yüzdür.
+ * Müşteri thread'lerinin koltuk güncellemeleri FrameUpdateBuffer ile
+ * her karede toplu olarak uygulanır.
  */
 public class SeatSimulationPanel extends VBox {
 
@@ -32,90 +36,46 @@ public class SeatSimulationPanel extends VBox {
     private static final int SEATS_PER_ROW = 6;
     private static final int PASSENGER_COUNT = 90;
 
-    private GridPane seatGrid;
-    private Rectangle[][] seatRectangles;
+    private SeatMapCanvas seatMap;
     private Label statusLabel;
     private Label occupiedLabel;
     private Label emptyLabel;
-    private Plane simulationPlane;
     private ReservationManager reservationManager;
+    private final FrameUpdateBuffer<SeatUpdate> seatUpdates;
+    private boolean synchronizedMode; // Çalışan simülasyonun modu (FX thread)
+    private int successCount;
+    private int conflictCount;
+
+    /**
+     * Bir müşteri thread'inin yayınladığı koltuk durumu değişikliği.
+     */
+    private static final class SeatUpdate {
+        private final Seat seat;
+        private final boolean reserved;
+
+        private SeatUpdate(Seat seat, boolean reserved) {
+            this.seat = seat;
+            this.reserved = reserved;
+        }
+    }
 
     public SeatSimulationPanel() {
         setSpacing(15);
         setPadding(new Insets(10));
         setAlignment(Pos.CENTER);
 
-        reservationManager = new ReservationManager();
+        // Simülasyon rezervasyonları gerçek veri dosyalarına yazılmaz
+        reservationManager = new ReservationManager(false);
+        seatUpdates = new FrameUpdateBuffer<>(this::applySeatUpdates);
 
         createSeatGrid();
         createStatusPanel();
     }
 
     private void createSeatGrid() {
-        seatGrid = new GridPane();
-        seatGrid.setHgap(3);
-        seatGrid.setVgap(3);
-        seatGrid.setAlignment(Pos.CENTER);
-        seatGrid.setStyle("-fx-background-color: #37474f; -fx-padding: 15; -fx-background-radius: 10;");
-
-        seatRectangles = new Rectangle[ROWS][SEATS_PER_ROW];
-
-        // Sütun başlıkları (A-F)
-        char[] columns = {'A', 'B', 'C', ' ', 'D', 'E', 'F'};
-        int c = 0;
-        while (c < columns.length) {
-            if (columns[c] != ' ') {
-                Label label = new Label(String.valueOf(columns[c]));
-                label.setFont(Font.font("Arial", FontWeight.BOLD, 10));
-                label.setTextFill(Color.WHITE);
-                label.setMinWidth(25);
-                label.setAlignment(Pos.CENTER);
-                seatGrid.add(label, c + 1, 0);
-            }
-            c++;
-        }
-
-        // Koltukları oluştur
-        int row = 0;
-        while (row < ROWS) {
-            // Sıra numarası
-            Label rowLabel = new Label(String.valueOf(row + 1));
-            rowLabel.setFont(Font.font("Arial", 9));
-            rowLabel.setTextFill(Color.WHITE);
-            rowLabel.setMinWidth(20);
-            seatGrid.add(rowLabel, 0, row + 1);
-
-            int colIndex = 0;
-            int col = 0;
-            while (col < 7) {
-                if (col == 3) {
-                    // Koridor
-                    Region corridor = new Region();
-                    corridor.setMinWidth(15);
-                    seatGrid.add(corridor, col + 1, row + 1);
-                } else {
-                    int actualCol = colIndex;
-                    Rectangle rect = new Rectangle(22, 22);
-                    rect.setFill(Color.LIGHTGREEN); // Boş = yeşil
-                    rect.setStroke(Color.DARKGREEN);
-                    rect.setStrokeWidth(1);
-                    rect.setArcWidth(5);
-                    rect.setArcHeight(5);
-
-                    // İlk 5 sıra business (farklı renk)
-                    if (row < 5) {
-                        rect.setFill(Color.LIGHTBLUE);
-                        rect.setStroke(Color.DARKBLUE);
-                    }
-
-                    seatRectangles[row][actualCol] = rect;
-                    seatGrid.add(rect, col + 1, row + 1);
-                    colIndex++;
-                }
-                col++;
-            }
-            row++;
-        }
+        // Tek Canvas üzerine çizilen koltuk haritası (koltuk başına düğüm yok)
+        seatMap = new SeatMapCanvas(22, true);
+        seatMap.setPlane(new Plane("SIM-1", "Simulation Plane", ROWS, SEATS_PER_ROW, 5, 500));
 
         // Lejant
         HBox legend = new HBox(20);
@@ -131,7 +91,7 @@ public class SeatSimulationPanel extends VBox {
 
         VBox gridContainer = new VBox(10);
         gridContainer.setAlignment(Pos.CENTER);
-        gridContainer.getChildren().addAll(seatGrid, legend);
+        gridContainer.getChildren().addAll(seatMap, legend);
 
         // ScrollPane ile kaydırılabilir yap
         ScrollPane scrollPane = new ScrollPane(gridContainer);
@@ -184,108 +144,49 @@ public class SeatSimulationPanel extends VBox {
     }
 
     public void runSimulation(boolean synchronized_) {
+        runSimulation(synchronized_, null);
+    }
+
+    /**
+     * Simülasyonu verilen koltuk rezervasyon stratejisiyle çalıştırır.
+     * @param strategy Kullanılacak strateji, null ise mevcut strateji korunur
+     */
+    public void runSimulation(boolean synchronized_, SeatReservationStrategy strategy) {
         // Önce tüm koltukları sıfırla
         resetSeats();
 
-        // Yeni uçak oluştur
-        simulationPlane = new Plane("SIM-001", "Simulation Plane", ROWS, SEATS_PER_ROW, 5, 500);
+        // Senaryo 1: 90 yolcu, tek uçak, tekrar deneme yok
+        LoadSimulationConfig config = new LoadSimulationConfig();
+        config.setCustomerCount(PASSENGER_COUNT);
+        config.setFlightCount(1);
+        config.setRows(ROWS);
+        config.setSeatsPerRow(SEATS_PER_ROW);
+        config.setBusinessRows(5);
+        config.setThinkTime(0, 0);
+        config.setMaxRetries(0);
+        config.setSeatChoice(SeatChoice.AVAILABLE_RANDOM);
+        config.setSynchronizedBooking(synchronized_);
+        config.setFallbackThreads(PASSENGER_COUNT);
+        config.setSeatStrategy(strategy);
+
+        LoadSimulator simulator = new LoadSimulator(config, reservationManager);
+        synchronizedMode = synchronized_;
+
+        // Müşteri thread'leri sadece kuyruğa yazar, çizim karede bir kez yapılır
+        simulator.setBookingListener((flightIndex, seat, reserved) ->
+                seatUpdates.publish(new SeatUpdate(seat, reserved)));
+        seatMap.setPlane(simulator.getFlights().get(0).getPlane());
 
         statusLabel.setText("Simülasyon çalışıyor...");
+        seatUpdates.start();
 
-        // Thread'leri başlat
+        // Simülatörü arka planda çalıştır
         Thread simulationThread = new Thread(() -> {
-            AtomicInteger successCount = new AtomicInteger(0);
-            AtomicInteger failCount = new AtomicInteger(0);
-            AtomicInteger conflictCount = new AtomicInteger(0);
-
-            List<Thread> passengerThreads = new ArrayList<>();
-            CountDownLatch startLatch = new CountDownLatch(1);
-            CountDownLatch endLatch = new CountDownLatch(PASSENGER_COUNT);
-
-            Random random = new Random();
-
-            // 90 yolcu thread'i oluştur
-            int i = 0;
-            while (i < PASSENGER_COUNT) {
-                final int passengerId = i;
-
-                Thread passengerThread = new Thread(() -> {
-                    try {
-                        // Tüm thread'lerin aynı anda başlamasını bekle
-                        startLatch.await();
-
-                        // Rastgele bir boş koltuk seç
-                        List<Seat> availableSeats = simulationPlane.getAvailableSeats();
-                        if (availableSeats.isEmpty()) {
-                            endLatch.countDown();
-                            return;
-                        }
-
-                        Seat selectedSeat = availableSeats.get(random.nextInt(availableSeats.size()));
-                        int row = selectedSeat.getRow() - 1;
-                        int col = getColumnIndex(selectedSeat.getColumn());
-
-                        boolean reserved;
-                        if (synchronized_) {
-                            // Thread-safe rezervasyon
-                            reserved = reservationManager.synchronizedReserve(selectedSeat);
-                        } else {
-                            // Thread-safe OLMAYAN rezervasyon (race condition olabilir)
-                            reserved = reservationManager.unsynchronizedReserve(selectedSeat);
-                        }
-
-                        // GUI'yi güncelle
-                        final boolean wasReserved = reserved;
-
-                        Platform.runLater(() -> {
-                            if (row >= 0 && row < ROWS && col >= 0 && col < SEATS_PER_ROW) {
-                                if (wasReserved) {
-                                    // Başarılı rezervasyon - turuncu
-                                    seatRectangles[row][col].setFill(Color.ORANGERED);
-                                    successCount.incrementAndGet();
-                                } else if (!synchronized_) {
-                                    // Unsynchronized modda başarısız = çakışma (race condition)
-                                    // Koltuk zaten dolu olarak işaretlenmiş ama biz de seçmiştik
-                                    seatRectangles[row][col].setFill(Color.DARKRED);
-                                    conflictCount.incrementAndGet();
-                                }
-                                updateStatus(successCount.get(), conflictCount.get());
-                            }
-                        });
-
-                    } catch (Exception e) {
-                        failCount.incrementAndGet();
-                    } finally {
-                        endLatch.countDown();
-                    }
-                });
-
-                passengerThread.setName("Passenger-" + passengerId);
-                passengerThreads.add(passengerThread);
-                i++;
-            }
-
-            // Tüm thread'leri başlat
-            java.util.Iterator<Thread> threadIterator = passengerThreads.iterator();
-            while (threadIterator.hasNext()) {
-                Thread t = threadIterator.next();
-                t.start();
-            }
-
-            // Hepsini aynı anda serbest bırak
-            startLatch.countDown();
-
-            // Tamamlanmasını bekle
-            try {
-                endLatch.await();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-            // Sonuçları göster
-            int occupied = simulationPlane.getReservedSeatCount();
+            LoadSimulationResult result = simulator.run();
+            int occupied = result.getReservedSeats();
 
             Platform.runLater(() -> {
+                seatUpdates.stop(); // Kalan güncellemeler sonuçtan önce çizilir
                 if (synchronized_) {
                     statusLabel.setText("Tamamlandı (Synchronized) - Doğru sonuç!");
                     statusLabel.setTextFill(Color.GREEN);
@@ -298,7 +199,7 @@ public class SeatSimulationPanel extends VBox {
                         statusLabel.setTextFill(Color.ORANGE);
                     }
                 }
-                updateStatus(occupied, conflictCount.get());
+                updateStatus(occupied, conflictCount);
             });
         });
 
@@ -306,35 +207,34 @@ public class SeatSimulationPanel extends VBox {
         simulationThread.start();
     }
 
-    private int getColumnIndex(char column) {
-        switch (column) {
-            case 'A': return 0;
-            case 'B': return 1;
-            case 'C': return 2;
-            case 'D': return 3;
-            case 'E': return 4;
-            case 'F': return 5;
-            default: return -1;
+    /**
+     * Bir karede biriken koltuk güncellemelerini tek geçişte uygular.
+     * Sayaçlar ve etiketler kare başına bir kez güncellenir.
+     */
+    private void applySeatUpdates(List<SeatUpdate> updates) {
+        java.util.Iterator<SeatUpdate> iterator = updates.iterator();
+        while (iterator.hasNext()) {
+            SeatUpdate update = iterator.next();
+            if (update.reserved) {
+                successCount++;
+            } else if (!synchronizedMode) {
+                // Unsynchronized modda başarısız = çakışma (race condition)
+                // Koltuk zaten dolu olarak işaretlenmiş ama biz de seçmiştik
+                seatMap.markConflict(update.seat);
+                conflictCount++;
+            }
         }
+        // Dolu koltuklar uçağın doluluk bit dizisinden, sadece değişenler çizilir
+        seatMap.refresh();
+        updateStatus(successCount, conflictCount);
     }
 
     private void resetSeats() {
         statusLabel.setText("Hazır");
         statusLabel.setTextFill(Color.BLACK);
-
-        int row = 0;
-        while (row < ROWS) {
-            int col = 0;
-            while (col < SEATS_PER_ROW) {
-                if (row < 5) {
-                    seatRectangles[row][col].setFill(Color.LIGHTBLUE);
-                } else {
-                    seatRectangles[row][col].setFill(Color.LIGHTGREEN);
-                }
-                col++;
-            }
-            row++;
-        }
+        seatUpdates.clear();
+        successCount = 0;
+        conflictCount = 0;
         updateStatus(0, 0);
     }
 
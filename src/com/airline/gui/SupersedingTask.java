@@ -0,0 +1,108 @@
+package com.airline.gui;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Aynı arayüz alanını (örn. uçuş tablosu) dolduran işler için "sadece son iş" çalıştırıcısı.
+ * Yeni bir iş gönderildiğinde önceki iş iptal edilir (thread kesilir) ve
+ * geç biten eski işlerin sonuçları teslim edilmez; tabloya her zaman
+ * en son isteğin sonucu yazılır.
+ */
+public class SupersedingTask {
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Future<?> current;
+
+    /**
+     * Önceki işi iptal eder ve yenisini arka planda başlatır.
+     * @param work Arka planda çalışacak iş
+     * @param onSuccess Sonucu alan fonksiyon; iş bu arada geçersiz kaldıysa çağrılmaz (FX thread)
+     * @param onError Hata fonksiyonu; iş geçersiz kaldıysa çağrılmaz (FX thread)
+     */
+    public <T> void submit(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        long myGeneration = generation.incrementAndGet();
+        Future<?> previous = current;
+        if (previous != null) {
+            previous.cancel(true);
+        }
+        current = BackgroundExecutor.submit(work,
+                result -> {
+                    if (generation.get() == myGeneration && onSuccess != null) {
+                        onSuccess.accept(result);
+                    }
+                },
+                error -> {
+                    if (generation.get() == myGeneration) {
+                        if (onError != null) {
+                            onError.accept(error);
+                        } else {
+                            System.err.println("Arka plan işi başarısız: " + error.getMessage());
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Sonucu parça parça üreten işi başlatır; önceki iş iptal edilir.
+     * İşe verilen yayıncı her parçayı FX thread'ine sırayla taşır; iş geçersiz
+     * kaldığında false döner, böylece iş kalan parçaları hesaplamadan durabilir.
+     * @param work Yayıncıyı alıp parçaları üreten iş (arka plan)
+     * @param onPart Her parçayı alan fonksiyon (FX thread)
+     * @param onError Hata fonksiyonu; iş geçersiz kaldıysa çağrılmaz (FX thread)
+     */
+    public <P> void stream(Consumer<Predicate<P>> work, Consumer<P> onPart, Consumer<Throwable> onError) {
+        if (work == null || onPart == null) {
+            throw new IllegalArgumentException("Arka plan işi boş olamaz!");
+        }
+        long myGeneration = generation.incrementAndGet();
+        Predicate<P> publisher = part -> {
+            if (generation.get() != myGeneration) {
+                return false;
+            }
+            BackgroundExecutor.deliver(() -> {
+                if (generation.get() == myGeneration) {
+                    onPart.accept(part);
+                }
+            });
+            return true;
+        };
+        Future<?> previous = current;
+        if (previous != null) {
+            previous.cancel(true);
+        }
+        current = BackgroundExecutor.submit(() -> {
+            work.accept(publisher);
+            return null;
+        }, null, error -> {
+            if (generation.get() == myGeneration) {
+                if (onError != null) {
+                    onError.accept(error);
+                } else {
+                    System.err.println("Arka plan işi başarısız: " + error.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Çalışan işi iptal eder; sonucu teslim edilmez.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        Future<?> previous = current;
+        if (previous != null) {
+            previous.cancel(true);
+        }
+    }
+
+    /**
+     * Şimdiye kadar gönderilen iş sayısını döndürür.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+}
@@ -0,0 +1,28 @@
+package com.airline.manager;
+
+/**
+ * Yönetici sınıflarındaki veri değişikliklerini dinler.
+ * Fiyatlandırma ve arama gibi servisler bu arayüz sayesinde
+ * tüm veriyi yeniden taramak yerine sadece değişen kaydı günceller.
+ *
+ * @param <T> Değişen kaydın türü
+ */
+@FunctionalInterface
+public interface DataChangeListener<T> {
+
+    /**
+     * Değişiklik türleri
+     */
+    enum ChangeType {
+        ADDED, // Yeni kayıt eklendi
+        UPDATED, // Mevcut kayıt güncellendi
+        REMOVED // Kayıt silindi
+    }
+
+    /**
+     * Bir kayıt değiştiğinde çağrılır.
+     * @param type Değişiklik türü
+     * @param item Değişen kayıt
+     */
+    void onChange(ChangeType type, T item);
+}
@@ -1,30 +1,54 @@
 package com.airline.manager;
 
+import com.airline.metrics.LatencyHistogram;
+import com.airline.metrics.MetricsRegistry;
 import com.airline.model.Flight;
 import com.airline.model.Plane;
 import com.airline.model.Route;
+import com.airline.util.AppClock;
 import com.airline.util.FileManager;
+import com.airline.util.TextFolding;
 import com.airline.exception.DuplicateEntryException;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 /**
  * Uçuş yönetimi işlemlerini gerçekleştirir.
  * Uçuş oluşturma, güncelleme, silme ve arama işlemleri yapar.
+ *
+ * Listeler ve indeksler bir okuma/yazma kilidiyle korunur: FX thread'i, arama
+ * thread'leri ve arşivleyici aynı anda erişebilir. Dinleyiciler kilit
+ * bırakıldıktan sonra bilgilendirilir.
  */
 public class FlightManager {
 
     private static final String FLIGHTS_FILE = "flights.dat";
     private static final String PLANES_FILE = "planes.dat";
     private static final String ROUTES_FILE = "routes.dat";
+    private static final LatencyHistogram SAVE_LATENCY = MetricsRegistry.getDefault().histogram("flight.save");
 
     private List<Flight> flights;
     private List<Plane> planes;
     private List<Route> routes;
+    private final List<DataChangeListener<Flight>> changeListeners;
+    private final List<DataChangeListener<Route>> routeListeners;
+    private final AtomicLong catalogVersion; // Uçuş listesi her değiştiğinde artar
+    private final Map<String, Flight> flightIndex; // Büyük harfli uçuş numarası -> uçuş
+    private final Map<String, Plane> planeIndex; // Uçak ID -> uçak
+    private final ReentrantReadWriteLock lock; // Listeleri, indeksleri ve toplu işlem durumunu korur
+    private volatile List<Flight> flightsView; // Salt okunur anlık görüntü, değişiklikte sıfırlanır
+    private int batchDepth; // İç içe toplu işlem sayısı
+    private boolean dirty; // Toplu işlem sırasında ertelenmiş kayıt var mı
 
     /**
      * FlightManager oluşturur ve verileri dosyadan yükler.
@@ -33,31 +57,180 @@ public class FlightManager {
         this.flights = new ArrayList<>();
         this.planes = new ArrayList<>();
         this.routes = new ArrayList<>();
+        this.changeListeners = new CopyOnWriteArrayList<>();
+        this.routeListeners = new CopyOnWriteArrayList<>();
+        this.catalogVersion = new AtomicLong();
+        this.flightIndex = new HashMap<>();
+        this.planeIndex = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
         loadFromFile();
     }
 
     /**
-     * Yeni bir uçuş oluşturur.
+     * Uçuş değişikliklerini dinleyecek nesneyi ekler.
      */
-    public Flight createFlight(String flightNum, Route route, LocalDate date,
-                               LocalTime hour, int duration, Plane plane) {
-        // Aynı numarada uçuş var mı kontrol et
-        if (getFlightByNumber(flightNum) != null) {
-            throw new DuplicateEntryException("Uçuş numarası", flightNum);
+    public void addChangeListener(DataChangeListener<Flight> listener) {
+        if (listener != null && !changeListeners.contains(listener)) {
+            changeListeners.add(listener);
+        }
+    }
+
+    /**
+     * Dinleyiciyi kaldırır.
+     */
+    public void removeChangeListener(DataChangeListener<Flight> listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Dinleyicilere değişikliği bildirir.
+     */
+    private void fireChange(DataChangeListener.ChangeType type, Flight flight) {
+        java.util.Iterator<DataChangeListener<Flight>> iterator = changeListeners.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().onChange(type, flight);
+        }
+    }
+
+    /**
+     * Uçuş kataloğunun sürüm numarasını döndürür.
+     * Önbellekler bu değer değiştiğinde sonuçlarını geçersiz sayar.
+     */
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * Toplu işlem başlatır. endBatch çağrılana kadar dosyaya kayıt ertelenir;
+     * binlerce değişiklik tek bir kayıtla diske yazılır. İç içe çağrılabilir.
+     */
+    public void beginBatch() {
+        lock.writeLock().lock();
+        try {
+            batchDepth++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Toplu işlemi bitirir. En dıştaki çağrıda ertelenen kayıt yapılır.
+     */
+    public void endBatch() {
+        lock.writeLock().lock();
+        try {
+            if (batchDepth == 0) {
+                throw new IllegalStateException("Başlatılmış bir toplu işlem yok!");
+            }
+            batchDepth--;
+            if (batchDepth == 0 && dirty) {
+                saveToFile();
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
+    }
 
-        Flight flight = new Flight(flightNum, route, date, hour, duration, plane);
-        flights.add(flight);
+    /**
+     * Toplu işlem içinde olup olmadığını döndürür.
+     */
+    public boolean isInBatch() {
+        lock.readLock().lock();
+        try {
+            return batchDepth > 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-        // Uçak ve rotayı da listeye ekle (eğer yoksa)
-        if (!planes.contains(plane)) {
+    private static String indexKey(String flightNum) {
+        return flightNum.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Arama indekslerini listelerden yeniden kurar. Yazma kilidi tutulurken çağrılır.
+     */
+    private void rebuildIndexes() {
+        flightsView = null;
+        flightIndex.clear();
+        java.util.Iterator<Flight> iterator = flights.iterator();
+        while (iterator.hasNext()) {
+            Flight flight = iterator.next();
+            flightIndex.putIfAbsent(indexKey(flight.getFlightNum()), flight);
+        }
+        planeIndex.clear();
+        java.util.Iterator<Plane> planeIterator = planes.iterator();
+        while (planeIterator.hasNext()) {
+            Plane plane = planeIterator.next();
+            planeIndex.putIfAbsent(plane.getPlaneId(), plane);
+        }
+    }
+
+    private void indexPlane(Plane plane) {
+        if (plane != null && !planeIndex.containsKey(plane.getPlaneId())) {
             planes.add(plane);
+            planeIndex.put(plane.getPlaneId(), plane);
         }
-        if (route != null && !routes.contains(route)) {
-            routes.add(route);
+    }
+
+    /**
+     * Rota değişikliklerini dinleyecek nesneyi ekler.
+     */
+    public void addRouteListener(DataChangeListener<Route> listener) {
+        if (listener != null && !routeListeners.contains(listener)) {
+            routeListeners.add(listener);
         }
+    }
 
-        saveToFile();
+    /**
+     * Rota dinleyicisini kaldırır.
+     */
+    public void removeRouteListener(DataChangeListener<Route> listener) {
+        routeListeners.remove(listener);
+    }
+
+    private void fireRouteChange(DataChangeListener.ChangeType type, Route route) {
+        java.util.Iterator<DataChangeListener<Route>> iterator = routeListeners.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().onChange(type, route);
+        }
+    }
+
+    /**
+     * Yeni bir uçuş oluşturur.
+     */
+    public Flight createFlight(String flightNum, Route route, LocalDate date,
+                               LocalTime hour, int duration, Plane plane) {
+        Flight flight;
+        boolean newRoute;
+        lock.writeLock().lock();
+        try {
+            // Aynı numarada uçuş var mı kontrol et
+            if (getFlightByNumber(flightNum) != null) {
+                throw new DuplicateEntryException("Uçuş numarası", flightNum);
+            }
+
+            flight = new Flight(flightNum, route, date, hour, duration, plane);
+            flights.add(flight);
+            flightsView = null;
+            flightIndex.put(indexKey(flightNum), flight);
+
+            // Uçak ve rotayı da listeye ekle (eğer yoksa)
+            indexPlane(plane);
+            newRoute = route != null && !routes.contains(route);
+            if (newRoute) {
+                routes.add(route);
+            }
+
+            saveToFile();
+            catalogVersion.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (newRoute) {
+            fireRouteChange(DataChangeListener.ChangeType.ADDED, route);
+        }
+        fireChange(DataChangeListener.ChangeType.ADDED, flight);
         return flight;
     }
 
@@ -75,25 +248,99 @@ public class FlightManager {
      * Uçuşu günceller.
      */
     public boolean updateFlight(Flight flight) {
-        int i = 0;
-        while (i < flights.size()) {
-            if (flights.get(i).getFlightNum().equals(flight.getFlightNum())) {
-                flights.set(i, flight);
-                saveToFile();
-                return true;
+        boolean updated = false;
+        lock.writeLock().lock();
+        try {
+            int i = 0;
+            while (i < flights.size() && !updated) {
+                if (flights.get(i).getFlightNum().equals(flight.getFlightNum())) {
+                    flights.set(i, flight);
+                    flightsView = null;
+                    flightIndex.put(indexKey(flight.getFlightNum()), flight);
+                    saveToFile();
+                    catalogVersion.incrementAndGet();
+                    updated = true;
+                }
+                i++;
             }
-            i++;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return false;
+        if (updated) {
+            fireChange(DataChangeListener.ChangeType.UPDATED, flight);
+        }
+        return updated;
     }
 
     /**
      * Uçuşu siler.
      */
     public boolean deleteFlight(String flightNum) {
-        boolean removed = flights.removeIf(f -> f.getFlightNum().equals(flightNum));
-        if (removed) {
+        List<Flight> removed;
+        lock.writeLock().lock();
+        try {
+            removed = flights.stream()
+                    .filter(f -> f.getFlightNum().equals(flightNum))
+                    .collect(Collectors.toList());
+            if (removed.isEmpty()) {
+                return false;
+            }
+            flights.removeAll(removed);
+            flightsView = null;
+            flightIndex.remove(indexKey(flightNum));
             saveToFile();
+            catalogVersion.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        java.util.Iterator<Flight> iterator = removed.iterator();
+        while (iterator.hasNext()) {
+            fireChange(DataChangeListener.ChangeType.REMOVED, iterator.next());
+        }
+        return true;
+    }
+
+    /**
+     * Verilen zamanda kalkmış uçuşları listeden çıkarmadan döndürür (arşivleme için).
+     * @param nowEpochMinute Şu anki zaman (dakika)
+     * @return Kalkmış uçuşlar
+     */
+    public List<Flight> getExpiredFlights(long nowEpochMinute) {
+        return filterFlights(f -> f.isExpiredAt(nowEpochMinute));
+    }
+
+    /**
+     * Verilen uçuşları listeden çıkarır (arşivleme için).
+     * Dosyaya tek seferde kaydedilir ve her uçuş için REMOVED bildirilir.
+     * @param toRemove Çıkarılacak uçuşlar
+     * @return Listede bulunup çıkarılan uçuşlar
+     */
+    public List<Flight> removeFlights(List<Flight> toRemove) {
+        java.util.Set<Flight> targets = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>());
+        targets.addAll(toRemove);
+        List<Flight> removed = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            java.util.Iterator<Flight> listIterator = flights.iterator();
+            while (listIterator.hasNext()) {
+                Flight flight = listIterator.next();
+                if (targets.contains(flight)) {
+                    listIterator.remove();
+                    removed.add(flight);
+                }
+            }
+            if (removed.isEmpty()) {
+                return removed;
+            }
+            rebuildIndexes();
+            saveToFile();
+            catalogVersion.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        java.util.Iterator<Flight> iterator = removed.iterator();
+        while (iterator.hasNext()) {
+            fireChange(DataChangeListener.ChangeType.REMOVED, iterator.next());
         }
         return removed;
     }
@@ -102,66 +349,95 @@ public class FlightManager {
      * Uçuş numarasına göre uçuş arar.
      */
     public Flight getFlightByNumber(String flightNum) {
-        java.util.Iterator<Flight> iterator = flights.iterator();
-        while (iterator.hasNext()) {
-            Flight flight = iterator.next();
-            if (flight.getFlightNum().equalsIgnoreCase(flightNum)) {
-                return flight;
-            }
+        if (flightNum == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return flightIndex.get(indexKey(flightNum));
+        } finally {
+            lock.readLock().unlock();
         }
-        return null;
     }
 
     /**
      * Tüm uçuşları döndürür.
      */
     public List<Flight> getAllFlights() {
-        return new ArrayList<>(flights);
+        return new ArrayList<>(getFlightsView());
+    }
+
+    /**
+     * Uçuş listesinin salt okunur anlık görüntüsünü döndürür.
+     * Görüntü her değişiklikten sonraki ilk çağrıda bir kez kopyalanır; tek geçişte
+     * tarama yapan aramalar kilit tutmadan ve kopyalamadan gezebilir.
+     */
+    public List<Flight> getFlightsView() {
+        List<Flight> view = flightsView;
+        if (view != null) {
+            return view;
+        }
+        lock.writeLock().lock(); // Görüntü eski listeyle yarışarak yazılmasın
+        try {
+            if (flightsView == null) {
+                flightsView = java.util.Collections.unmodifiableList(new ArrayList<>(flights));
+            }
+            return flightsView;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Anlık görüntüdeki uçuşları süzer.
+     */
+    private List<Flight> filterFlights(java.util.function.Predicate<Flight> filter) {
+        return getFlightsView().stream()
+                .filter(filter)
+                .collect(Collectors.toList());
     }
 
     /**
      * Aktif (henüz kalkmamış) uçuşları döndürür.
      */
     public List<Flight> getActiveFlights() {
-        return flights.stream()
-                .filter(f -> !f.isExpired())
-                .collect(Collectors.toList());
+        long now = AppClock.currentEpochMinute();
+        return filterFlights(f -> !f.isExpiredAt(now));
     }
 
     /**
      * Belirli bir tarihteki uçuşları döndürür.
      */
     public List<Flight> getFlightsByDate(LocalDate date) {
-        return flights.stream()
-                .filter(f -> f.getDate().equals(date))
-                .collect(Collectors.toList());
+        return filterFlights(f -> f.getDate().equals(date));
     }
 
     /**
      * Kalkış yerine göre uçuşları filtreler.
      */
     public List<Flight> getFlightsByDeparture(String departure) {
-        return flights.stream()
-                .filter(f -> f.getDeparturePlace().equalsIgnoreCase(departure))
-                .collect(Collectors.toList());
+        return filterFlights(f -> TextFolding.equalsFolded(f.getDeparturePlace(), departure));
     }
 
     /**
      * Varış yerine göre uçuşları filtreler.
      */
     public List<Flight> getFlightsByArrival(String arrival) {
-        return flights.stream()
-                .filter(f -> f.getArrivalPlace().equalsIgnoreCase(arrival))
-                .collect(Collectors.toList());
+        return filterFlights(f -> TextFolding.equalsFolded(f.getArrivalPlace(), arrival));
     }
 
     /**
      * Yeni uçak ekler.
      */
     public void addPlane(Plane plane) {
-        if (!planes.contains(plane)) {
-            planes.add(plane);
-            saveToFile();
+        lock.writeLock().lock();
+        try {
+            if (!planeIndex.containsKey(plane.getPlaneId())) {
+                indexPlane(plane);
+                saveToFile();
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -169,47 +445,78 @@ public class FlightManager {
      * Tüm uçakları döndürür.
      */
     public List<Plane> getAllPlanes() {
-        return new ArrayList<>(planes);
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(planes);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
      * Uçak ID'sine göre uçak arar.
      */
     public Plane getPlaneById(String planeId) {
-        java.util.Iterator<Plane> iterator = planes.iterator();
-        while (iterator.hasNext()) {
-            Plane plane = iterator.next();
-            if (plane.getPlaneId().equals(planeId)) {
-                return plane;
-            }
+        if (planeId == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return planeIndex.get(planeId);
+        } finally {
+            lock.readLock().unlock();
         }
-        return null;
     }
 
     /**
      * Yeni rota ekler.
      */
     public void addRoute(Route route) {
-        if (!routes.contains(route)) {
+        lock.writeLock().lock();
+        try {
+            if (routes.contains(route)) {
+                return;
+            }
             routes.add(route);
             saveToFile();
+        } finally {
+            lock.writeLock().unlock();
         }
+        fireRouteChange(DataChangeListener.ChangeType.ADDED, route);
     }
 
     /**
      * Tüm rotaları döndürür.
      */
     public List<Route> getAllRoutes() {
-        return new ArrayList<>(routes);
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(routes);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
      * Verileri dosyaya kaydeder.
+     * Toplu işlem sürerken kayıt endBatch'e ertelenir.
      */
     public void saveToFile() {
-        FileManager.saveList(flights, FLIGHTS_FILE);
-        FileManager.saveList(planes, PLANES_FILE);
-        FileManager.saveList(routes, ROUTES_FILE);
+        lock.writeLock().lock();
+        try {
+            if (batchDepth > 0) {
+                dirty = true;
+                return;
+            }
+            dirty = false;
+            long start = System.nanoTime();
+            FileManager.saveList(flights, FLIGHTS_FILE);
+            FileManager.saveList(planes, PLANES_FILE);
+            FileManager.saveList(routes, ROUTES_FILE);
+            SAVE_LATENCY.recordSince(start);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -220,14 +527,21 @@ public class FlightManager {
         List<Plane> loadedPlanes = FileManager.loadList(PLANES_FILE);
         List<Route> loadedRoutes = FileManager.loadList(ROUTES_FILE);
 
-        if (loadedFlights != null && !loadedFlights.isEmpty()) {
-            this.flights = loadedFlights;
-        }
-        if (loadedPlanes != null && !loadedPlanes.isEmpty()) {
-            this.planes = loadedPlanes;
-        }
-        if (loadedRoutes != null && !loadedRoutes.isEmpty()) {
-            this.routes = loadedRoutes;
+        lock.writeLock().lock();
+        try {
+            if (loadedFlights != null && !loadedFlights.isEmpty()) {
+                this.flights = loadedFlights;
+                catalogVersion.incrementAndGet();
+            }
+            if (loadedPlanes != null && !loadedPlanes.isEmpty()) {
+                this.planes = loadedPlanes;
+            }
+            if (loadedRoutes != null && !loadedRoutes.isEmpty()) {
+                this.routes = loadedRoutes;
+            }
+            rebuildIndexes();
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -235,90 +549,133 @@ public class FlightManager {
      * Uçuş sayısını döndürür.
      */
     public int getFlightCount() {
-        return flights.size();
+        lock.readLock().lock();
+        try {
+            return flights.size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
      * Bugünkü uçuşları döndürür.
      */
     public List<Flight> getTodaysFlights() {
-        return getFlightsByDate(LocalDate.now());
+        return getFlightsByDate(AppClock.today());
     }
 
     /**
      * Örnek veriler oluşturur (test için).
      */
     public void createSampleData() {
-        // Örnek rotalar
-        Route route1 = new Route("İstanbul", "İstanbul Havalimanı", "IST",
-                                 "Ankara", "Esenboğa Havalimanı", "ESB");
-        Route route2 = new Route("İstanbul", "İstanbul Havalimanı", "IST",
-                                 "İzmir", "Adnan Menderes Havalimanı", "ADB");
-        Route route3 = new Route("Ankara", "Esenboğa Havalimanı", "ESB",
-                                 "Antalya", "Antalya Havalimanı", "AYT");
-        Route route4 = new Route("İstanbul", "İstanbul Havalimanı", "IST",
-                                 "Antalya", "Antalya Havalimanı", "AYT");
-        Route route5 = new Route("İzmir", "Adnan Menderes Havalimanı", "ADB",
-                                 "Trabzon", "Trabzon Havalimanı", "TZX");
-
-        routes.add(route1);
-        routes.add(route2);
-        routes.add(route3);
-        routes.add(route4);
-        routes.add(route5);
-
-        // Örnek uçuşlar (bugün ve yarın için)
-        // Her uçuş için ayrı plane instance oluştur (doluluk oranları karışmasın)
-        LocalDate today = LocalDate.now();
-        LocalDate tomorrow = today.plusDays(1);
-        LocalDate nextWeek = today.plusDays(7);
-
-        // Bugünkü uçuşlar
-        Plane plane101 = new Plane("TC-101", "Boeing 737-800", 500);
-        Plane plane102 = new Plane("TC-102", "Airbus A320", 450);
-        Plane plane103 = new Plane("TC-103", "Boeing 737-800", 500);
-        planes.add(plane101);
-        planes.add(plane102);
-        planes.add(plane103);
-        flights.add(new Flight("TK101", route1, today, LocalTime.of(8, 30), 60, plane101));
-        flights.add(new Flight("TK102", route2, today, LocalTime.of(10, 0), 75, plane102));
-        flights.add(new Flight("TK103", route4, today, LocalTime.of(14, 30), 90, plane103));
-
-        // Yarınki uçuşlar
-        Plane plane201 = new Plane("TC-201", "Boeing 737-800", 500);
-        Plane plane202 = new Plane("TC-202", "Airbus A320", 450);
-        Plane plane203 = new Plane("TC-203", "Boeing 777", 600);
-        Plane plane204 = new Plane("TC-204", "Boeing 737-800", 500);
-        planes.add(plane201);
-        planes.add(plane202);
-        planes.add(plane203);
-        planes.add(plane204);
-        flights.add(new Flight("TK201", route1, tomorrow, LocalTime.of(7, 0), 60, plane201));
-        flights.add(new Flight("TK202", route3, tomorrow, LocalTime.of(9, 30), 75, plane202));
-        flights.add(new Flight("TK203", route2, tomorrow, LocalTime.of(12, 0), 75, plane203));
-        flights.add(new Flight("TK204", route5, tomorrow, LocalTime.of(16, 0), 105, plane204));
-
-        // Gelecek hafta uçuşları
-        Plane plane301 = new Plane("TC-301", "Boeing 737-800", 500);
-        Plane plane302 = new Plane("TC-302", "Airbus A320", 450);
-        Plane plane303 = new Plane("TC-303", "Boeing 777", 600);
-        planes.add(plane301);
-        planes.add(plane302);
-        planes.add(plane303);
-        flights.add(new Flight("TK301", route1, nextWeek, LocalTime.of(6, 0), 60, plane301));
-        flights.add(new Flight("TK302", route4, nextWeek, LocalTime.of(11, 0), 90, plane302));
-        flights.add(new Flight("TK303", route2, nextWeek, LocalTime.of(15, 30), 75, plane303));
-
-        saveToFile();
+        List<Route> addedRoutes;
+        List<Flight> added;
+        lock.writeLock().lock();
+        try {
+            // Örnek rotalar
+            Route route1 = new Route("İstanbul", "İstanbul Havalimanı", "IST",
+                                     "Ankara", "Esenboğa Havalimanı", "ESB");
+            Route route2 = new Route("İstanbul", "İstanbul Havalimanı", "IST",
+                                     "İzmir", "Adnan Menderes Havalimanı", "ADB");
+            Route route3 = new Route("Ankara", "Esenboğa Havalimanı", "ESB",
+                                     "Antalya", "Antalya Havalimanı", "AYT");
+            Route route4 = new Route("İstanbul", "İstanbul Havalimanı", "IST",
+                                     "Antalya", "Antalya Havalimanı", "AYT");
+            Route route5 = new Route("İzmir", "Adnan Menderes Havalimanı", "ADB",
+                                     "Trabzon", "Trabzon Havalimanı", "TZX");
+
+            routes.add(route1);
+            routes.add(route2);
+            routes.add(route3);
+            routes.add(route4);
+            routes.add(route5);
+
+            // Örnek uçuşlar (bugün ve yarın için)
+            // Her uçuş için ayrı plane instance oluştur (doluluk oranları karışmasın)
+            LocalDate today = AppClock.today();
+            LocalDate tomorrow = today.plusDays(1);
+            LocalDate nextWeek = today.plusDays(7);
+
+            // Bugünkü uçuşlar
+            Plane plane101 = new Plane("TC-101", "Boeing 737-800", 500);
+            Plane plane102 = new Plane("TC-102", "Airbus A320", 450);
+            Plane plane103 = new Plane("TC-103", "Boeing 737-800", 500);
+            planes.add(plane101);
+            planes.add(plane102);
+            planes.add(plane103);
+            flights.add(new Flight("TK101", route1, today, LocalTime.of(8, 30), 60, plane101));
+            flights.add(new Flight("TK102", route2, today, LocalTime.of(10, 0), 75, plane102));
+            flights.add(new Flight("TK103", route4, today, LocalTime.of(14, 30), 90, plane103));
+
+            // Yarınki uçuşlar
+            Plane plane201 = new Plane("TC-201", "Boeing 737-800", 500);
+            Plane plane202 = new Plane("TC-202", "Airbus A320", 450);
+            Plane plane203 = new Plane("TC-203", "Boeing 777", 42, 10, 6, 600); // Geniş gövde 3-4-3
+            Plane plane204 = new Plane("TC-204", "Boeing 737-800", 500);
+            planes.add(plane201);
+            planes.add(plane202);
+            planes.add(plane203);
+            planes.add(plane204);
+            flights.add(new Flight("TK201", route1, tomorrow, LocalTime.of(7, 0), 60, plane201));
+            flights.add(new Flight("TK202", route3, tomorrow, LocalTime.of(9, 30), 75, plane202));
+            flights.add(new Flight("TK203", route2, tomorrow, LocalTime.of(12, 0), 75, plane203));
+            flights.add(new Flight("TK204", route5, tomorrow, LocalTime.of(16, 0), 105, plane204));
+
+            // Gelecek hafta uçuşları
+            Plane plane301 = new Plane("TC-301", "Boeing 737-800", 500);
+            Plane plane302 = new Plane("TC-302", "Airbus A320", 450);
+            Plane plane303 = new Plane("TC-303", "Boeing 777", 42, 10, 6, 600);
+            planes.add(plane301);
+            planes.add(plane302);
+            planes.add(plane303);
+            flights.add(new Flight("TK301", route1, nextWeek, LocalTime.of(6, 0), 60, plane301));
+            flights.add(new Flight("TK302", route4, nextWeek, LocalTime.of(11, 0), 90, plane302));
+            flights.add(new Flight("TK303", route2, nextWeek, LocalTime.of(15, 30), 75, plane303));
+
+            rebuildIndexes();
+            saveToFile();
+            catalogVersion.incrementAndGet();
+            addedRoutes = new ArrayList<>(routes);
+            added = new ArrayList<>(flights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        java.util.Iterator<Route> routeIterator = addedRoutes.iterator();
+        while (routeIterator.hasNext()) {
+            fireRouteChange(DataChangeListener.ChangeType.ADDED, routeIterator.next());
+        }
+        java.util.Iterator<Flight> iterator = added.iterator();
+        while (iterator.hasNext()) {
+            fireChange(DataChangeListener.ChangeType.ADDED, iterator.next());
+        }
     }
 
     /**
      * Tüm verileri temizler.
      */
     public void clearAllData() {
-        flights.clear();
-        planes.clear();
-        routes.clear();
-        saveToFile();
+        List<Flight> removed;
+        List<Route> removedRoutes;
+        lock.writeLock().lock();
+        try {
+            removed = new ArrayList<>(flights);
+            removedRoutes = new ArrayList<>(routes);
+            flights.clear();
+            planes.clear();
+            routes.clear();
+            rebuildIndexes();
+            saveToFile();
+            catalogVersion.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        java.util.Iterator<Flight> iterator = removed.iterator();
+        while (iterator.hasNext()) {
+            fireChange(DataChangeListener.ChangeType.REMOVED, iterator.next());
+        }
+        java.util.Iterator<Route> routeIterator = removedRoutes.iterator();
+        while (routeIterator.hasNext()) {
+            fireRouteChange(DataChangeListener.ChangeType.REMOVED, routeIterator.next());
+        }
     }
 }
@@ -1,64 +1,271 @@
 package com.airline.manager;
 
+import com.airline.concurrency.GlobalLockSeatStrategy;
+import com.airline.concurrency.SeatReservationStrategy;
+import com.airline.metrics.Counter;
+import com.airline.metrics.LatencyHistogram;
+import com.airline.metrics.MetricsRegistry;
+import com.airline.metrics.ReservationCancelledEvent;
+import com.airline.metrics.InstrumentedLock;
+import com.airline.metrics.ReservationMadeEvent;
 import com.airline.model.*;
 import com.airline.model.enums.ReservationStatus;
 import com.airline.util.FileManager;
 import com.airline.exception.SeatNotAvailableException;
 
 import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
  * Rezervasyon yönetimi işlemlerini gerçekleştirir.
  * Multithreading (eşzamanlılık) kontrolü içerir.
- * ReentrantLock kullanarak thread-safe rezervasyon yapar.
+ * ReentrantLock (InstrumentedLock) kullanarak thread-safe rezervasyon yapar.
+ * Listeler hem yazma hem okuma sırasında kilit altında gezilir; kod ve bilet
+ * ID aramaları eşzamanlı indekslerden kilitsiz yapılır.
  */
 public class ReservationManager {
 
     private static final String RESERVATIONS_FILE = "reservations.dat";
     private static final String TICKETS_FILE = "tickets.dat";
 
+    // Sıcak yol metrikleri
+    private static final LatencyHistogram MAKE_LATENCY = MetricsRegistry.getDefault().histogram("reservation.make");
+    private static final LatencyHistogram CANCEL_LATENCY = MetricsRegistry.getDefault().histogram("reservation.cancel");
+    private static final LatencyHistogram SAVE_LATENCY = MetricsRegistry.getDefault().histogram("reservation.save");
+    private static final Counter SEAT_CONFLICTS = MetricsRegistry.getDefault().counter("reservation.seat_conflict");
+    private static final Counter TICKETS_CREATED = MetricsRegistry.getDefault().counter("ticket.created");
+
     private List<Reservation> reservations;
     private List<Ticket> tickets;
-    private final ReentrantLock lock;
+    private final InstrumentedLock lock;
+    private final List<DataChangeListener<Reservation>> changeListeners;
+    private final List<DataChangeListener<Ticket>> ticketListeners;
+    private final boolean persistent; // false ise dosyaya okuma/yazma yapılmaz
+    private volatile SeatReservationStrategy seatStrategy;
+    private final Map<String, Reservation> reservationIndex; // Büyük harfli kod -> rezervasyon
+    private final Map<String, Ticket> ticketIndex; // Bilet ID -> bilet
+    private int batchDepth; // İç içe toplu işlem sayısı (lock altında)
+    private boolean dirty; // Toplu işlem sırasında ertelenmiş kayıt var mı
 
     /**
      * ReservationManager oluşturur.
      */
     public ReservationManager() {
+        this(true);
+    }
+
+    /**
+     * ReservationManager oluşturur.
+     * @param persistent false ise veriler sadece bellekte tutulur (simülasyon ve testler için)
+     */
+    public ReservationManager(boolean persistent) {
+        this.persistent = persistent;
         this.reservations = new ArrayList<>();
         this.tickets = new ArrayList<>();
-        this.lock = new ReentrantLock();
-        loadFromFile();
+        this.lock = new InstrumentedLock("reservation");
+        this.changeListeners = new CopyOnWriteArrayList<>();
+        this.ticketListeners = new CopyOnWriteArrayList<>();
+        this.seatStrategy = new GlobalLockSeatStrategy(lock);
+        this.reservationIndex = new ConcurrentHashMap<>();
+        this.ticketIndex = new ConcurrentHashMap<>();
+        if (persistent) {
+            loadFromFile();
+        }
+    }
+
+    /**
+     * Toplu işlem başlatır. endBatch çağrılana kadar dosyaya kayıt ertelenir.
+     * İç içe çağrılabilir.
+     */
+    public void beginBatch() {
+        lock.lock();
+        try {
+            batchDepth++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Toplu işlemi bitirir. En dıştaki çağrıda ertelenen kayıt yapılır.
+     */
+    public void endBatch() {
+        lock.lock();
+        try {
+            if (batchDepth == 0) {
+                throw new IllegalStateException("Başlatılmış bir toplu işlem yok!");
+            }
+            batchDepth--;
+            if (batchDepth == 0 && dirty) {
+                saveToFile();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String indexKey(String reservationCode) {
+        return reservationCode.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Arama indekslerini listelerden yeniden kurar (lock altında çağrılır).
+     */
+    private void rebuildIndexes() {
+        reservationIndex.clear();
+        java.util.Iterator<Reservation> iterator = reservations.iterator();
+        while (iterator.hasNext()) {
+            Reservation reservation = iterator.next();
+            reservationIndex.putIfAbsent(indexKey(reservation.getReservationCode()), reservation);
+        }
+        ticketIndex.clear();
+        java.util.Iterator<Ticket> ticketIterator = tickets.iterator();
+        while (ticketIterator.hasNext()) {
+            Ticket ticket = ticketIterator.next();
+            ticketIndex.putIfAbsent(ticket.getTicketId(), ticket);
+        }
+    }
+
+    /**
+     * Rezervasyon değişikliklerini dinleyecek nesneyi ekler.
+     */
+    public void addChangeListener(DataChangeListener<Reservation> listener) {
+        if (listener != null && !changeListeners.contains(listener)) {
+            changeListeners.add(listener);
+        }
+    }
+
+    /**
+     * Dinleyiciyi kaldırır.
+     */
+    public void removeChangeListener(DataChangeListener<Reservation> listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Bilet değişikliklerini dinleyecek nesneyi ekler.
+     */
+    public void addTicketListener(DataChangeListener<Ticket> listener) {
+        if (listener != null && !ticketListeners.contains(listener)) {
+            ticketListeners.add(listener);
+        }
+    }
+
+    /**
+     * Bilet dinleyicisini kaldırır.
+     */
+    public void removeTicketListener(DataChangeListener<Ticket> listener) {
+        ticketListeners.remove(listener);
+    }
+
+    private void fireTicketChange(DataChangeListener.ChangeType type, Ticket ticket) {
+        java.util.Iterator<DataChangeListener<Ticket>> iterator = ticketListeners.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().onChange(type, ticket);
+        }
+    }
+
+    /**
+     * Dinleyicilere değişikliği bildirir.
+     * Kilit dışında çağrılır, böylece yavaş bir dinleyici rezervasyonları bekletmez.
+     */
+    private void fireChange(DataChangeListener.ChangeType type, Reservation reservation) {
+        java.util.Iterator<DataChangeListener<Reservation>> iterator = changeListeners.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().onChange(type, reservation);
+        }
     }
 
     /**
      * Yeni rezervasyon yapar (thread-safe).
+     * Koltuk önce seçili stratejiyle alınır; kayıt sırasında hata olursa koltuk
+     * strateji üzerinden serbest bırakılır. Varsayılan strateji bu yöneticinin
+     * kilidini kullandığında koltuk ve kayıt tek kilit alımında yapılır.
      * @param flight Uçuş
      * @param passenger Yolcu
      * @param seat Koltuk
      * @return Oluşturulan rezervasyon
      */
     public Reservation makeReservation(Flight flight, Passenger passenger, Seat seat) {
-        lock.lock();
+        long start = System.nanoTime();
+        ReservationMadeEvent event = new ReservationMadeEvent();
+        event.begin();
+        SeatReservationStrategy strategy = seatStrategy;
+        // Strateji aynı kilidi kullanıyorsa kilit bir kez alınır; iç alımlar metriklerde sayılmaz
+        boolean sharedLock = strategy instanceof GlobalLockSeatStrategy
+                && ((GlobalLockSeatStrategy) strategy).getLock() == lock;
+        Reservation reservation = null;
+        if (sharedLock) {
+            lock.lock();
+        }
         try {
-            // Koltuk zaten rezerve mi kontrol et
-            if (seat.isReserveStatus()) {
+            // Koltuk, seçili strateji ile atomik olarak alınır
+            if (!strategy.tryReserve(flight, seat)) {
+                SEAT_CONFLICTS.increment();
                 throw new SeatNotAvailableException(seat.getSeatNum(), "Koltuk zaten rezerve edilmiş");
             }
 
-            // Rezervasyon oluştur
-            Reservation reservation = new Reservation(flight, passenger, seat);
-            reservation.confirm(); // Koltuğu da rezerve eder
-            reservations.add(reservation);
+            lock.lock();
+            try {
+                // Rezervasyon oluştur
+                reservation = new Reservation(flight, passenger, seat);
+                while (reservationIndex.containsKey(indexKey(reservation.getReservationCode()))) {
+                    reservation = new Reservation(flight, passenger, seat); // Kod çakıştı, yenisini üret
+                }
+                reservation.confirm(); // Koltuk zaten alındı, durum onaylanır
+                reservations.add(reservation);
+                reservationIndex.put(indexKey(reservation.getReservationCode()), reservation);
 
-            saveToFile();
-            return reservation;
+                saveToFile();
+            } catch (RuntimeException e) {
+                // Kayıt tamamlanamadı: eklenen rezervasyonu geri al ve koltuğu bırak
+                if (reservation != null) {
+                    reservations.remove(reservation);
+                    reservationIndex.remove(indexKey(reservation.getReservationCode()), reservation);
+                }
+                strategy.release(flight, seat);
+                throw e;
+            } finally {
+                lock.unlock();
+            }
         } finally {
-            lock.unlock();
+            if (sharedLock) {
+                lock.unlock();
+            }
+        }
+        fireChange(DataChangeListener.ChangeType.ADDED, reservation);
+        MAKE_LATENCY.recordSince(start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.flightNum = flight != null ? flight.getFlightNum() : null;
+            event.seatNum = seat.getSeatNum();
+            event.reservationCode = reservation.getReservationCode();
+            event.commit();
+        }
+        return reservation;
+    }
+
+    /**
+     * Koltuk rezervasyon stratejisini değiştirir.
+     */
+    public void setSeatStrategy(SeatReservationStrategy seatStrategy) {
+        if (seatStrategy == null) {
+            throw new IllegalArgumentException("Rezervasyon stratejisi boş olamaz!");
         }
+        this.seatStrategy = seatStrategy;
+    }
+
+    /**
+     * Kullanılan koltuk rezervasyon stratejisini döndürür.
+     */
+    public SeatReservationStrategy getSeatStrategy() {
+        return seatStrategy;
     }
 
     /**
@@ -108,23 +315,40 @@ public class ReservationManager {
     }
 
     /**
-     * Rezervasyonu iptal eder.
+     * Rezervasyonu iptal eder; koltuk seçili strateji üzerinden serbest bırakılır.
      * @param reservationCode Rezervasyon kodu
      * @return İptal başarılı ise true
      */
     public boolean cancelReservation(String reservationCode) {
+        long start = System.nanoTime();
+        ReservationCancelledEvent event = new ReservationCancelledEvent();
+        event.begin();
+        Reservation reservation;
         lock.lock();
         try {
-            Reservation reservation = getReservation(reservationCode);
-            if (reservation != null && reservation.isActive()) {
-                reservation.cancel();
-                saveToFile();
-                return true;
+            reservation = getReservation(reservationCode);
+            if (reservation == null || !reservation.isActive()) {
+                return false;
             }
-            return false;
+            reservation.cancel();
+            // Koltuk, alındığı strateji üzerinden bırakılır (kilit sırası makeReservation'daki geri alma ile aynı)
+            if (reservation.getSeat() != null) {
+                seatStrategy.release(reservation.getFlight(), reservation.getSeat());
+            }
+            saveToFile();
         } finally {
             lock.unlock();
         }
+        fireChange(DataChangeListener.ChangeType.UPDATED, reservation);
+        CANCEL_LATENCY.recordSince(start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.flightNum = reservation.getFlight() != null ? reservation.getFlight().getFlightNum() : null;
+            event.seatNum = reservation.getSeat() != null ? reservation.getSeat().getSeatNum() : null;
+            event.reservationCode = reservation.getReservationCode();
+            event.commit();
+        }
+        return true;
     }
 
     /**
@@ -133,14 +357,10 @@ public class ReservationManager {
      * @return Bulunan rezervasyon veya null
      */
     public Reservation getReservation(String reservationCode) {
-        java.util.Iterator<Reservation> iterator = reservations.iterator();
-        while (iterator.hasNext()) {
-            Reservation r = iterator.next();
-            if (r.getReservationCode().equalsIgnoreCase(reservationCode)) {
-                return r;
-            }
+        if (reservationCode == null) {
+            return null;
         }
-        return null;
+        return reservationIndex.get(indexKey(reservationCode));
     }
 
     /**
@@ -149,9 +369,7 @@ public class ReservationManager {
      * @return Rezervasyon listesi
      */
     public List<Reservation> getReservationsByPassenger(String passengerId) {
-        return reservations.stream()
-                .filter(r -> r.getPassenger().getPassengerId().equals(passengerId))
-                .collect(Collectors.toList());
+        return filterReservations(r -> r.getPassenger().getPassengerId().equals(passengerId));
     }
 
     /**
@@ -160,34 +378,47 @@ public class ReservationManager {
      * @return Rezervasyon listesi
      */
     public List<Reservation> getReservationsByFlight(String flightNum) {
-        return reservations.stream()
-                .filter(r -> r.getFlight().getFlightNum().equals(flightNum))
-                .collect(Collectors.toList());
+        return filterReservations(r -> r.getFlight().getFlightNum().equals(flightNum));
     }
 
     /**
      * Tüm rezervasyonları döndürür.
      */
     public List<Reservation> getAllReservations() {
-        return new ArrayList<>(reservations);
+        lock.lock();
+        try {
+            return new ArrayList<>(reservations);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * Aktif rezervasyonları döndürür.
      */
     public List<Reservation> getActiveReservations() {
-        return reservations.stream()
-                .filter(Reservation::isActive)
-                .collect(Collectors.toList());
+        return filterReservations(Reservation::isActive);
     }
 
     /**
      * Duruma göre rezervasyonları filtreler.
      */
     public List<Reservation> getReservationsByStatus(ReservationStatus status) {
-        return reservations.stream()
-                .filter(r -> r.getStatus() == status)
-                .collect(Collectors.toList());
+        return filterReservations(r -> r.getStatus() == status);
+    }
+
+    /**
+     * Rezervasyon listesini kilit altında süzer; yazmalarla yarışmaz.
+     */
+    private List<Reservation> filterReservations(java.util.function.Predicate<Reservation> filter) {
+        lock.lock();
+        try {
+            return reservations.stream()
+                    .filter(filter)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -197,44 +428,121 @@ public class ReservationManager {
      * @return Oluşturulan bilet
      */
     public Ticket createTicket(Reservation reservation, double price) {
+        Ticket ticket;
         lock.lock();
         try {
-            Ticket ticket = new Ticket(reservation, price);
+            ticket = new Ticket(reservation, price);
             tickets.add(ticket);
+            ticketIndex.put(ticket.getTicketId(), ticket);
             saveToFile();
-            return ticket;
         } finally {
             lock.unlock();
         }
+        TICKETS_CREATED.increment();
+        fireTicketChange(DataChangeListener.ChangeType.ADDED, ticket);
+        return ticket;
     }
 
     /**
      * Bilet ID'sine göre bilet arar.
      */
     public Ticket getTicketById(String ticketId) {
-        java.util.Iterator<Ticket> iterator = tickets.iterator();
-        while (iterator.hasNext()) {
-            Ticket t = iterator.next();
-            if (t.getTicketId().equals(ticketId)) {
-                return t;
-            }
-        }
-        return null;
+        return ticketId != null ? ticketIndex.get(ticketId) : null;
     }
 
     /**
      * Tüm biletleri döndürür.
      */
     public List<Ticket> getAllTickets() {
-        return new ArrayList<>(tickets);
+        lock.lock();
+        try {
+            return new ArrayList<>(tickets);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Verilen uçuşlara ait rezervasyonları ve biletlerini listelerden çıkarmadan döndürür
+     * (arşivleme için). Bulunan biletler tickets listesine eklenir.
+     * @param flightNums Uçuş numaraları
+     * @param flightTickets Biletlerin ekleneceği liste
+     * @return Uçuşlara ait rezervasyonlar
+     */
+    public List<Reservation> getReservationsForFlights(Set<String> flightNums, List<Ticket> flightTickets) {
+        lock.lock();
+        try {
+            List<Reservation> found = reservations.stream()
+                    .filter(r -> r.getFlight() != null && flightNums.contains(r.getFlight().getFlightNum()))
+                    .collect(Collectors.toList());
+            Set<String> codes = found.stream()
+                    .map(Reservation::getReservationCode)
+                    .collect(Collectors.toSet());
+            java.util.Iterator<Ticket> ticketIterator = tickets.iterator();
+            while (ticketIterator.hasNext()) {
+                Ticket ticket = ticketIterator.next();
+                if (ticket.getReservation() != null
+                        && codes.contains(ticket.getReservation().getReservationCode())) {
+                    flightTickets.add(ticket);
+                }
+            }
+            return found;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Verilen rezervasyonları ve biletleri listelerden çıkarır (arşivleme için).
+     * Dosyaya tek seferde kaydedilir ve her kayıt için REMOVED bildirilir.
+     * @param removed Çıkarılacak rezervasyonlar
+     * @param removedTickets Çıkarılacak biletler
+     */
+    public void removeReservations(List<Reservation> removed, List<Ticket> removedTickets) {
+        if (removed.isEmpty() && removedTickets.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            reservations.removeAll(new java.util.HashSet<>(removed));
+            tickets.removeAll(new java.util.HashSet<>(removedTickets));
+            rebuildIndexes();
+            saveToFile();
+        } finally {
+            lock.unlock();
+        }
+        java.util.Iterator<Reservation> iterator = removed.iterator();
+        while (iterator.hasNext()) {
+            fireChange(DataChangeListener.ChangeType.REMOVED, iterator.next());
+        }
+        java.util.Iterator<Ticket> ticketIterator = removedTickets.iterator();
+        while (ticketIterator.hasNext()) {
+            fireTicketChange(DataChangeListener.ChangeType.REMOVED, ticketIterator.next());
+        }
     }
 
     /**
      * Verileri dosyaya kaydeder.
+     * Toplu işlem sürerken kayıt endBatch'e ertelenir.
      */
     public void saveToFile() {
-        FileManager.saveList(reservations, RESERVATIONS_FILE);
-        FileManager.saveList(tickets, TICKETS_FILE);
+        if (!persistent) {
+            return;
+        }
+        lock.lock(); // Listeler yazılırken değişmesin
+        try {
+            if (batchDepth > 0) {
+                dirty = true;
+                return;
+            }
+            dirty = false;
+            long start = System.nanoTime();
+            FileManager.saveList(reservations, RESERVATIONS_FILE);
+            FileManager.saveList(tickets, TICKETS_FILE);
+            SAVE_LATENCY.recordSince(start);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -244,11 +552,17 @@ public class ReservationManager {
         List<Reservation> loadedReservations = FileManager.loadList(RESERVATIONS_FILE);
         List<Ticket> loadedTickets = FileManager.loadList(TICKETS_FILE);
 
-        if (loadedReservations != null && !loadedReservations.isEmpty()) {
-            this.reservations = loadedReservations;
-        }
-        if (loadedTickets != null && !loadedTickets.isEmpty()) {
-            this.tickets = loadedTickets;
+        lock.lock();
+        try {
+            if (loadedReservations != null && !loadedReservations.isEmpty()) {
+                this.reservations = loadedReservations;
+            }
+            if (loadedTickets != null && !loadedTickets.isEmpty()) {
+                this.tickets = loadedTickets;
+            }
+            rebuildIndexes();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -256,14 +570,24 @@ public class ReservationManager {
      * Rezervasyon sayısını döndürür.
      */
     public int getReservationCount() {
-        return reservations.size();
+        lock.lock();
+        try {
+            return reservations.size();
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * Aktif rezervasyon sayısını döndürür.
      */
     public int getActiveReservationCount() {
-        return (int) reservations.stream().filter(Reservation::isActive).count();
+        lock.lock();
+        try {
+            return (int) reservations.stream().filter(Reservation::isActive).count();
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -274,6 +598,7 @@ public class ReservationManager {
         try {
             reservations.clear();
             tickets.clear();
+            rebuildIndexes();
             saveToFile();
         } finally {
             lock.unlock();
@@ -281,9 +606,9 @@ public class ReservationManager {
     }
 
     /**
-     * Lock nesnesini döndürür (test için).
+     * Lock nesnesini döndürür (test ve çekişme istatistikleri için).
      */
-    public ReentrantLock getLock() {
+    public InstrumentedLock getLock() {
         return lock;
     }
 }
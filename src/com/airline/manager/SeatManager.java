@@ -5,6 +5,8 @@ import com.airline.model.Seat;
 import com.airline.model.enums.SeatClass;
 import com.airline.exception.SeatNotFoundException;
 import com.airline.exception.ResourceNotFoundException;
+import com.airline.metrics.Counter;
+import com.airline.metrics.MetricsRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +18,10 @@ import java.util.List;
  */
 public class SeatManager {
 
+    private static final Counter RESERVED = MetricsRegistry.getDefault().counter("seat.reserve");
+    private static final Counter REJECTED = MetricsRegistry.getDefault().counter("seat.reserve.rejected");
+    private static final Counter RELEASED = MetricsRegistry.getDefault().counter("seat.release");
+
     private Plane plane;
 
     /**
@@ -76,10 +82,12 @@ public class SeatManager {
         }
 
         if (seat.isReserveStatus()) {
+            REJECTED.increment();
             return false; // Koltuk zaten rezerve
         }
 
         seat.reserve();
+        RESERVED.increment();
         return true;
     }
 
@@ -104,6 +112,7 @@ public class SeatManager {
         }
 
         seat.release();
+        RELEASED.increment();
         return true;
     }
 
@@ -0,0 +1,113 @@
+package com.airline.manager;
+
+import com.airline.model.User;
+import com.airline.model.enums.UserRole;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Giriş yapmış bir kullanıcının oturumu.
+ * Rol ve yetkiler oturum açılırken bir kez hesaplanıp saklanır; yetki kontrolü
+ * her istekte kullanıcı nesnesine gitmeden yapılır. Son erişim zamanı kayan
+ * süre aşımı için SessionManager tarafından güncellenir. Kullanıcının rolü,
+ * yetkileri veya şifresi değişince oturum geçersiz sayılır (bkz. matches).
+ */
+public final class Session {
+
+    private final String token;
+    private final User user;
+    private final UserRole role;
+    private final Set<String> permissions;
+    private final String credential; // Oturum açılırken geçerli olan şifre (değişirse oturum kapanır)
+    private final long createdMillis;
+    private volatile long lastAccessMillis;
+
+    Session(String token, User user, long nowMillis) {
+        this.token = token;
+        this.user = user;
+        this.role = user.getRole();
+        this.permissions = Collections.unmodifiableSet(new HashSet<>(user.getPermissions()));
+        this.credential = user.getPassword();
+        this.createdMillis = nowMillis;
+        this.lastAccessMillis = nowMillis;
+    }
+
+    /**
+     * Son erişimden bu yana boşta geçen süre zaman aşımını geçtiyse true döner.
+     */
+    boolean isExpiredAt(long nowMillis, long idleTimeoutMillis) {
+        return nowMillis - lastAccessMillis >= idleTimeoutMillis;
+    }
+
+    /**
+     * Son erişim zamanını günceller. Sık gelen isteklerde her seferinde yazılmaz.
+     */
+    void touch(long nowMillis, long granularityMillis) {
+        if (nowMillis - lastAccessMillis >= granularityMillis) {
+            lastAccessMillis = nowMillis;
+        }
+    }
+
+    /**
+     * Saklanan rol, yetkiler ve şifre kullanıcının güncel bilgileriyle aynıysa
+     * ve kullanıcı aktifse true döner.
+     */
+    boolean matches(User current) {
+        return current.isActive()
+                && role == current.getRole()
+                && Objects.equals(credential, current.getPassword())
+                && permissions.equals(new HashSet<>(current.getPermissions()));
+    }
+
+    public boolean hasPermission(String permission) {
+        return permissions.contains(permission);
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+
+    /**
+     * Personel veya admin ise true döner.
+     */
+    public boolean isStaff() {
+        return role == UserRole.STAFF || role == UserRole.ADMIN;
+    }
+
+    // Getter metodları
+    public String getToken() {
+        return token;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getUserId() {
+        return user.getUserId();
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public Set<String> getPermissions() {
+        return permissions;
+    }
+
+    public long getCreatedMillis() {
+        return createdMillis;
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Session[%s, %s]", user.getUsername(), role);
+    }
+}
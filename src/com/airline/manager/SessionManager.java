@@ -0,0 +1,236 @@
+package com.airline.manager;
+
+import com.airline.metrics.Counter;
+import com.airline.metrics.MetricsRegistry;
+import com.airline.model.User;
+import com.airline.util.AppClock;
+import com.airline.util.ThreadSupport;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eşzamanlı kullanıcı oturumlarını token ile yönetir.
+ * Oturumlar ConcurrentHashMap'te tutulur; her istekteki yetki kontrolü tek bir
+ * hash aramasıdır. Süre aşımı kayan pencere şeklindedir: her erişim süreyi uzatır.
+ * Süresi dolan oturumlar erişildiklerinde veya zamanlanmış temizlikte silinir.
+ */
+public class SessionManager {
+
+    public static final long DEFAULT_IDLE_TIMEOUT_MINUTES = 30;
+    public static final long DEFAULT_SWEEP_SECONDS = 60;
+    private static final long TOUCH_GRANULARITY_MILLIS = 1000; // Son erişim en fazla saniyede bir yazılır
+    private static final int TOKEN_BYTES = 24;
+
+    private static final Counter OPENED = MetricsRegistry.getDefault().counter("session.opened");
+    private static final Counter EXPIRED = MetricsRegistry.getDefault().counter("session.expired");
+
+    private final Map<String, Session> sessions;
+    private final long idleTimeoutMillis;
+    private final SecureRandom random;
+    private ScheduledExecutorService sweeper;
+
+    public SessionManager() {
+        this(TimeUnit.MINUTES.toMillis(DEFAULT_IDLE_TIMEOUT_MINUTES));
+    }
+
+    /**
+     * @param idleTimeoutMillis Erişim olmadan oturumun açık kalacağı süre (ms)
+     */
+    public SessionManager(long idleTimeoutMillis) {
+        if (idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Oturum zaman aşımı pozitif olmalıdır!");
+        }
+        this.sessions = new ConcurrentHashMap<>();
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.random = new SecureRandom();
+    }
+
+    /**
+     * Kullanıcı için yeni oturum açar.
+     * @param user Kimliği doğrulanmış kullanıcı
+     * @return Yeni oturum
+     */
+    public Session open(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("Kullanıcı boş olamaz!");
+        }
+        Session session = new Session(newToken(), user, now());
+        sessions.put(session.getToken(), session);
+        OPENED.increment();
+        return session;
+    }
+
+    /**
+     * Token'a ait geçerli oturumu döndürür ve süresini uzatır.
+     * @return Oturum; bulunamazsa veya süresi dolmuşsa null
+     */
+    public Session get(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = now();
+        if (session.isExpiredAt(now, idleTimeoutMillis)) {
+            if (sessions.remove(token, session)) {
+                EXPIRED.increment();
+            }
+            return null;
+        }
+        session.touch(now, TOUCH_GRANULARITY_MILLIS);
+        return session;
+    }
+
+    /**
+     * Geçerli oturumu döndürür, yoksa SecurityException fırlatır.
+     */
+    public Session require(String token) {
+        Session session = get(token);
+        if (session == null) {
+            throw new SecurityException("Oturum bulunamadı veya süresi doldu!");
+        }
+        return session;
+    }
+
+    /**
+     * Oturum admin'e ait değilse SecurityException fırlatır.
+     */
+    public Session requireAdmin(String token) {
+        Session session = require(token);
+        if (!session.isAdmin()) {
+            throw new SecurityException("Bu işlem için admin yetkisi gerekli!");
+        }
+        return session;
+    }
+
+    /**
+     * Oturum personel veya admin'e ait değilse SecurityException fırlatır.
+     */
+    public Session requireStaff(String token) {
+        Session session = require(token);
+        if (!session.isStaff()) {
+            throw new SecurityException("Bu işlem için personel yetkisi gerekli!");
+        }
+        return session;
+    }
+
+    /**
+     * Oturumu kapatır.
+     * @return Oturum açıksa true
+     */
+    public boolean close(String token) {
+        return token != null && sessions.remove(token) != null;
+    }
+
+    /**
+     * Kullanıcının tüm oturumlarını kapatır (silinen veya pasifleştirilen kullanıcılar için).
+     * @return Kapatılan oturum sayısı
+     */
+    public int closeUserSessions(String userId) {
+        int closed = 0;
+        java.util.Iterator<Session> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getUserId().equals(userId)) {
+                iterator.remove();
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * Kullanıcının, rolü, yetkileri veya şifresi değiştiği için artık geçerli
+     * olmayan oturumlarını kapatır (pasifleştirilen kullanıcının tüm oturumları dahil).
+     * @return Kapatılan oturum sayısı
+     */
+    public int closeStaleSessions(User user) {
+        int closed = 0;
+        java.util.Iterator<Session> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            Session session = iterator.next();
+            if (session.getUserId().equals(user.getUserId()) && !session.matches(user)) {
+                iterator.remove();
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * Süresi dolmuş oturumları siler.
+     * @return Silinen oturum sayısı
+     */
+    public int evictExpired() {
+        long now = now();
+        int evicted = 0;
+        java.util.Iterator<Session> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpiredAt(now, idleTimeoutMillis)) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        EXPIRED.add(evicted);
+        return evicted;
+    }
+
+    /**
+     * Süresi dolan oturumları belirli aralıklarla silen daemon thread'i başlatır.
+     * Zaten başlatılmışsa bir şey yapmaz.
+     */
+    public synchronized void startEvictionSweep(long periodSeconds) {
+        if (periodSeconds <= 0) {
+            throw new IllegalArgumentException("Temizlik aralığı pozitif olmalıdır!");
+        }
+        if (sweeper != null) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(ThreadSupport.daemonFactory("session-sweep"));
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                evictExpired();
+            } catch (RuntimeException e) {
+                System.err.println("Oturum temizleme hatası: " + e.getMessage());
+            }
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Zamanlanmış temizliği durdurur.
+     */
+    public synchronized void stopEvictionSweep() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+
+    /**
+     * Açık oturum sayısını döndürür (süresi dolmuş ama henüz silinmemişler dahil).
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static long now() {
+        return AppClock.getClock().millis();
+    }
+}
@@ -7,11 +7,19 @@ import com.airline.exception.DuplicateEntryException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Kullanıcı yönetimi işlemlerini gerçekleştirir.
  * Giriş, kayıt ve kullanıcı CRUD işlemleri yapar.
+ * Kullanıcı adı ve ID aramaları hash indeksleri üzerinden yapılır; listeler
+ * sadece kayıt ve toplu listeleme için tutulur (this üzerinde senkronize).
+ *
+ * Aynı anda birden fazla kullanıcıya hizmet için yetki kontrolleri oturum
+ * token'ı ile yapılır (SessionManager). Token almayan metotlar masaüstü ve
+ * CLI'daki tek yerel oturumu kullanır.
  */
 public class UserManager {
 
@@ -20,60 +28,181 @@ public class UserManager {
 
     private List<User> users;
     private List<Passenger> passengers;
-    private User currentUser; // Şu an giriş yapmış kullanıcı
+    private volatile Session currentSession; // Masaüstü/CLI'daki yerel oturum (süre aşımına uğramaz)
+    private final SessionManager sessionManager;
+    private final boolean persistent; // false ise dosyaya okuma/yazma yapılmaz
+    private final Map<String, User> usernameIndex; // Katlanmış kullanıcı adı -> kullanıcı
+    private final Map<String, User> userIndex; // Kullanıcı ID -> kullanıcı
+    private final Map<String, String> indexedUsernames; // Kullanıcı ID -> indekslenmiş katlanmış ad
+    private final Map<String, Passenger> passengerIndex; // Yolcu ID -> yolcu
 
     /**
      * UserManager oluşturur ve verileri yükler.
      */
     public UserManager() {
+        this(true);
+    }
+
+    /**
+     * UserManager oluşturur.
+     * @param persistent false ise veriler sadece bellekte tutulur (testler için)
+     */
+    public UserManager(boolean persistent) {
+        this.persistent = persistent;
         this.users = new ArrayList<>();
         this.passengers = new ArrayList<>();
-        loadFromFile();
+        this.usernameIndex = new ConcurrentHashMap<>();
+        this.userIndex = new ConcurrentHashMap<>();
+        this.indexedUsernames = new ConcurrentHashMap<>();
+        this.passengerIndex = new ConcurrentHashMap<>();
+        this.sessionManager = new SessionManager();
+        if (persistent) {
+            loadFromFile();
+        }
         createDefaultAdmin();
     }
 
+    /**
+     * Kullanıcı adını indeks anahtarına çevirir.
+     * Her karakter önce büyük sonra küçük harfe çevrilir; bu String.equalsIgnoreCase ile
+     * aynı eşitliği verir ve varsayılan dilden bağımsızdır (Türkçe "I/ı/İ/i" sorunu olmaz).
+     */
+    private static String usernameKey(String username) {
+        StringBuilder key = new StringBuilder(username.length());
+        int i = 0;
+        while (i < username.length()) {
+            int codePoint = username.codePointAt(i);
+            key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+            i += Character.charCount(codePoint);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Arama indekslerini listelerden yeniden kurar (this kilidi altında çağrılır).
+     * Aynı kullanıcı adı birden fazla kayıtta varsa ilki kullanılır.
+     */
+    private void rebuildIndexes() {
+        usernameIndex.clear();
+        userIndex.clear();
+        indexedUsernames.clear();
+        passengerIndex.clear();
+        java.util.Iterator<User> userIterator = users.iterator();
+        while (userIterator.hasNext()) {
+            User user = userIterator.next();
+            userIndex.putIfAbsent(user.getUserId(), user);
+            String key = usernameKey(user.getUsername());
+            if (usernameIndex.putIfAbsent(key, user) == null) {
+                indexedUsernames.put(user.getUserId(), key);
+            }
+        }
+        java.util.Iterator<Passenger> passengerIterator = passengers.iterator();
+        while (passengerIterator.hasNext()) {
+            Passenger passenger = passengerIterator.next();
+            passengerIndex.putIfAbsent(passenger.getPassengerId(), passenger);
+        }
+    }
+
+    /**
+     * Kullanıcı adını yeni kullanıcı için ayırır. Eşzamanlı kayıtlarda sadece bir
+     * thread başarılı olur; kontrol ve ekleme tek bir putIfAbsent işlemidir.
+     */
+    private void claimUsername(User user) {
+        if (user.getUsername() == null || user.getUsername().trim().isEmpty()) {
+            throw new IllegalArgumentException("Kullanıcı adı boş olamaz!");
+        }
+        String key = usernameKey(user.getUsername());
+        if (usernameIndex.putIfAbsent(key, user) != null) {
+            throw new DuplicateEntryException("Kullanıcı adı", user.getUsername());
+        }
+        indexedUsernames.put(user.getUserId(), key);
+        userIndex.put(user.getUserId(), user);
+    }
+
     /**
      * Varsayılan admin hesabını oluşturur (yoksa).
      */
-    private void createDefaultAdmin() {
+    private synchronized void createDefaultAdmin() {
         boolean adminExists = users.stream()
                 .anyMatch(u -> u.getRole() == UserRole.ADMIN);
 
         if (!adminExists) {
             Admin admin = new Admin("admin", "admin123", "admin@airline.com", 2);
             users.add(admin);
+            rebuildIndexes();
             saveToFile();
         }
     }
 
     /**
-     * Kullanıcı girişi yapar.
+     * Kullanıcı adı ve şifreyi doğrular.
+     * @return Doğrulanan kullanıcı, değilse null
+     */
+    private User authenticate(String username, String password) {
+        if (username == null) {
+            return null;
+        }
+        User user = usernameIndex.get(usernameKey(username));
+        if (user != null && user.login(username, password)) {
+            return user;
+        }
+        return null;
+    }
+
+    /**
+     * Kullanıcı girişi yapar ve yerel oturumu açar (masaüstü/CLI).
      * @param username Kullanıcı adı
      * @param password Şifre
      * @return Giriş başarılı ise kullanıcı, değilse null
      */
     public User login(String username, String password) {
-        java.util.Iterator<User> iterator = users.iterator();
-        while (iterator.hasNext()) {
-            User user = iterator.next();
-            if (user.login(username, password)) {
-                currentUser = user;
-                return user;
-            }
+        User user = authenticate(username, password);
+        if (user == null) {
+            return null;
         }
-        return null;
+        Session previous = currentSession;
+        currentSession = sessionManager.open(user);
+        if (previous != null) {
+            sessionManager.close(previous.getToken());
+        }
+        return user;
     }
 
     /**
-     * Kullanıcı çıkışı yapar.
+     * Kullanıcı girişi yapar ve yeni bir oturum açar. Yerel oturumu değiştirmez;
+     * aynı süreçte birden çok kullanıcıya hizmet eden sunucular için kullanılır.
+     * @return Oturum (token'ı sonraki isteklerde kullanılır), giriş başarısızsa null
+     */
+    public Session openSession(String username, String password) {
+        User user = authenticate(username, password);
+        return user != null ? sessionManager.open(user) : null;
+    }
+
+    /**
+     * Kullanıcı çıkışı yapar (yerel oturum).
      */
     public void logout() {
-        if (currentUser != null) {
-            currentUser.logout();
-            currentUser = null;
+        Session session = currentSession;
+        if (session != null) {
+            session.getUser().logout();
+            sessionManager.close(session.getToken());
+            currentSession = null;
         }
     }
 
+    /**
+     * Token'a ait oturumu kapatır.
+     * @return Oturum açıksa true
+     */
+    public boolean logout(String sessionToken) {
+        Session session = sessionManager.get(sessionToken);
+        if (session == null) {
+            return false;
+        }
+        session.getUser().logout();
+        return sessionManager.close(sessionToken);
+    }
+
     /**
      * Yeni müşteri kaydı yapar.
      * @param username Kullanıcı adı
@@ -86,39 +215,54 @@ public class UserManager {
      */
     public Customer registerCustomer(String username, String password, String email,
                                       String name, String surname, String phone) {
-        // Kullanıcı adı kontrolü
-        if (isUsernameTaken(username)) {
-            throw new DuplicateEntryException("Kullanıcı adı", username);
-        }
-
-        // Yolcu oluştur
+        // Yolcu ve müşteri oluştur, ardından kullanıcı adını atomik olarak ayır
         Passenger passenger = new Passenger(name, surname, email, phone);
-        passengers.add(passenger);
-
-        // Müşteri oluştur
         Customer customer = new Customer(username, password, email, passenger);
-        users.add(customer);
+        claimUsername(customer);
 
-        saveToFile();
+        synchronized (this) {
+            passengers.add(passenger);
+            passengerIndex.putIfAbsent(passenger.getPassengerId(), passenger);
+            users.add(customer);
+            saveToFile();
+        }
         return customer;
     }
 
     /**
-     * Yeni personel kaydı yapar (sadece admin yapabilir).
+     * Yeni personel kaydı yapar (sadece admin yapabilir, yerel oturum).
      */
     public Staff registerStaff(String username, String password, String email,
                                String department, String position) {
-        if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
-            throw new SecurityException("Bu işlem için admin yetkisi gerekli!");
-        }
+        requireLocalAdmin();
+        return addStaff(username, password, email, department, position);
+    }
 
-        if (isUsernameTaken(username)) {
-            throw new DuplicateEntryException("Kullanıcı adı", username);
+    /**
+     * Yeni personel kaydı yapar; yetki token'ın oturumundan kontrol edilir.
+     */
+    public Staff registerStaff(String sessionToken, String username, String password, String email,
+                               String department, String position) {
+        sessionManager.requireAdmin(sessionToken);
+        return addStaff(username, password, email, department, position);
+    }
+
+    private void requireLocalAdmin() {
+        Session session = currentSession;
+        if (session == null || !session.isAdmin()) {
+            throw new SecurityException("Bu işlem için admin yetkisi gerekli!");
         }
+    }
 
+    private Staff addStaff(String username, String password, String email,
+                           String department, String position) {
         Staff staff = new Staff(username, password, email, department, position);
-        users.add(staff);
-        saveToFile();
+        claimUsername(staff);
+
+        synchronized (this) {
+            users.add(staff);
+            saveToFile();
+        }
         return staff;
     }
 
@@ -126,81 +270,129 @@ public class UserManager {
      * Kullanıcı adının kullanılıp kullanılmadığını kontrol eder.
      */
     public boolean isUsernameTaken(String username) {
-        return users.stream()
-                .anyMatch(u -> u.getUsername().equalsIgnoreCase(username));
+        return username != null && usernameIndex.containsKey(usernameKey(username));
     }
 
     /**
      * Kullanıcı adına göre kullanıcı arar.
      */
     public User getUserByUsername(String username) {
-        java.util.Iterator<User> iterator = users.iterator();
-        while (iterator.hasNext()) {
-            User user = iterator.next();
-            if (user.getUsername().equalsIgnoreCase(username)) {
-                return user;
-            }
-        }
-        return null;
+        return username != null ? usernameIndex.get(usernameKey(username)) : null;
     }
 
     /**
      * ID'ye göre kullanıcı arar.
      */
     public User getUserById(String userId) {
-        java.util.Iterator<User> iterator = users.iterator();
-        while (iterator.hasNext()) {
-            User user = iterator.next();
-            if (user.getUserId().equals(userId)) {
-                return user;
+        return userId != null ? userIndex.get(userId) : null;
+    }
+
+    /**
+     * Kullanıcıyı siler (sadece admin yapabilir, yerel oturum).
+     */
+    public boolean deleteUser(String userId) {
+        requireLocalAdmin();
+        return removeUser(userId);
+    }
+
+    /**
+     * Kullanıcıyı siler; yetki token'ın oturumundan kontrol edilir.
+     */
+    public boolean deleteUser(String sessionToken, String userId) {
+        sessionManager.requireAdmin(sessionToken);
+        return removeUser(userId);
+    }
+
+    /**
+     * Kullanıcıyı listeden ve indekslerden çıkarır, açık oturumlarını kapatır.
+     * Admin hesapları silinmez.
+     */
+    private boolean removeUser(String userId) {
+        synchronized (this) {
+            User user = getUserById(userId);
+            if (user == null || user.getRole() == UserRole.ADMIN) {
+                return false;
             }
+            users.remove(user);
+            userIndex.remove(userId);
+            String key = indexedUsernames.remove(userId);
+            if (key != null) {
+                usernameIndex.remove(key, user);
+            }
+            closeUserSessions(userId);
+            saveToFile();
+            return true;
         }
-        return null;
     }
 
     /**
-     * Kullanıcıyı siler (sadece admin yapabilir).
+     * Kullanıcının tüm oturumlarını kapatır; yerel oturum ona aitse o da kapanır.
      */
-    public boolean deleteUser(String userId) {
-        if (currentUser == null || currentUser.getRole() != UserRole.ADMIN) {
-            throw new SecurityException("Bu işlem için admin yetkisi gerekli!");
+    private void closeUserSessions(String userId) {
+        sessionManager.closeUserSessions(userId);
+        Session session = currentSession;
+        if (session != null && session.getUserId().equals(userId)) {
+            currentSession = null;
         }
+    }
 
-        boolean removed = users.removeIf(u -> u.getUserId().equals(userId) &&
-                                              u.getRole() != UserRole.ADMIN);
-        if (removed) {
-            saveToFile();
+    /**
+     * Kullanıcının güncel rolü, yetkileri veya şifresiyle uyuşmayan oturumlarını kapatır;
+     * yerel oturum da uyuşmuyorsa kapanır.
+     */
+    private void closeStaleSessions(User user) {
+        sessionManager.closeStaleSessions(user);
+        Session session = currentSession;
+        if (session != null && session.getUserId().equals(user.getUserId()) && !session.matches(user)) {
+            currentSession = null;
         }
-        return removed;
     }
 
     /**
-     * Kullanıcı bilgilerini günceller.
+     * Kullanıcı bilgilerini günceller. Kullanıcı adı değiştiyse indeks de güncellenir;
+     * yeni ad başka bir kullanıcıya aitse DuplicateEntryException fırlatılır.
+     * Rolü, yetkileri veya şifresi değişen ya da pasifleştirilen kullanıcının oturumları kapatılır.
      */
-    public boolean updateUser(User user) {
-        int i = 0;
-        while (i < users.size()) {
-            if (users.get(i).getUserId().equals(user.getUserId())) {
-                users.set(i, user);
-                saveToFile();
-                return true;
+    public synchronized boolean updateUser(User user) {
+        User existing = getUserById(user.getUserId());
+        if (existing == null) {
+            return false;
+        }
+
+        String oldKey = indexedUsernames.get(user.getUserId());
+        String newKey = usernameKey(user.getUsername());
+        if (!newKey.equals(oldKey)) {
+            User owner = usernameIndex.putIfAbsent(newKey, user);
+            if (owner != null && owner != existing) {
+                throw new DuplicateEntryException("Kullanıcı adı", user.getUsername());
+            }
+            if (oldKey != null) {
+                usernameIndex.remove(oldKey, existing);
             }
-            i++;
+            indexedUsernames.put(user.getUserId(), newKey);
         }
-        return false;
+        usernameIndex.replace(newKey, existing, user);
+
+        if (existing != user) {
+            users.set(users.indexOf(existing), user);
+            userIndex.put(user.getUserId(), user);
+        }
+        closeStaleSessions(user);
+        saveToFile();
+        return true;
     }
 
     /**
      * Tüm kullanıcıları döndürür.
      */
-    public List<User> getAllUsers() {
+    public synchronized List<User> getAllUsers() {
         return new ArrayList<>(users);
     }
 
     /**
      * Role göre kullanıcıları filtreler.
      */
-    public List<User> getUsersByRole(UserRole role) {
+    public synchronized List<User> getUsersByRole(UserRole role) {
         return users.stream()
                 .filter(u -> u.getRole() == role)
                 .collect(Collectors.toList());
@@ -209,7 +401,7 @@ public class UserManager {
     /**
      * Tüm müşterileri döndürür.
      */
-    public List<Customer> getAllCustomers() {
+    public synchronized List<Customer> getAllCustomers() {
         return users.stream()
                 .filter(u -> u instanceof Customer)
                 .map(u -> (Customer) u)
@@ -219,7 +411,7 @@ public class UserManager {
     /**
      * Tüm personeli döndürür.
      */
-    public List<Staff> getAllStaff() {
+    public synchronized List<Staff> getAllStaff() {
         return users.stream()
                 .filter(u -> u instanceof Staff)
                 .map(u -> (Staff) u)
@@ -229,8 +421,8 @@ public class UserManager {
     /**
      * Yolcu ekler.
      */
-    public void addPassenger(Passenger passenger) {
-        if (!passengers.contains(passenger)) {
+    public synchronized void addPassenger(Passenger passenger) {
+        if (passengerIndex.putIfAbsent(passenger.getPassengerId(), passenger) == null) {
             passengers.add(passenger);
             saveToFile();
         }
@@ -239,7 +431,7 @@ public class UserManager {
     /**
      * Tüm yolcuları döndürür.
      */
-    public List<Passenger> getAllPassengers() {
+    public synchronized List<Passenger> getAllPassengers() {
         return new ArrayList<>(passengers);
     }
 
@@ -247,49 +439,58 @@ public class UserManager {
      * ID'ye göre yolcu arar.
      */
     public Passenger getPassengerById(String passengerId) {
-        java.util.Iterator<Passenger> iterator = passengers.iterator();
-        while (iterator.hasNext()) {
-            Passenger p = iterator.next();
-            if (p.getPassengerId().equals(passengerId)) {
-                return p;
-            }
-        }
-        return null;
+        return passengerId != null ? passengerIndex.get(passengerId) : null;
     }
 
     /**
-     * Şu an giriş yapmış kullanıcıyı döndürür.
+     * Şu an giriş yapmış kullanıcıyı döndürür (yerel oturum).
      */
     public User getCurrentUser() {
-        return currentUser;
+        Session session = currentSession;
+        return session != null ? session.getUser() : null;
+    }
+
+    /**
+     * Yerel oturumu döndürür, giriş yapılmamışsa null.
+     */
+    public Session getCurrentSession() {
+        return currentSession;
     }
 
     /**
      * Kullanıcı giriş yapmış mı kontrol eder.
      */
     public boolean isLoggedIn() {
-        return currentUser != null;
+        return currentSession != null;
     }
 
     /**
      * Şu anki kullanıcının admin olup olmadığını kontrol eder.
      */
     public boolean isCurrentUserAdmin() {
-        return currentUser != null && currentUser.getRole() == UserRole.ADMIN;
+        Session session = currentSession;
+        return session != null && session.isAdmin();
     }
 
     /**
      * Şu anki kullanıcının personel olup olmadığını kontrol eder.
      */
     public boolean isCurrentUserStaff() {
-        return currentUser != null &&
-               (currentUser.getRole() == UserRole.STAFF || currentUser.getRole() == UserRole.ADMIN);
+        Session session = currentSession;
+        return session != null && session.isStaff();
+    }
+
+    public SessionManager getSessionManager() {
+        return sessionManager;
     }
 
     /**
      * Verileri dosyaya kaydeder.
      */
-    public void saveToFile() {
+    public synchronized void saveToFile() {
+        if (!persistent) {
+            return;
+        }
         FileManager.saveList(users, USERS_FILE);
         FileManager.saveList(passengers, PASSENGERS_FILE);
     }
@@ -297,7 +498,7 @@ public class UserManager {
     /**
      * Verileri dosyadan yükler.
      */
-    public void loadFromFile() {
+    public synchronized void loadFromFile() {
         List<User> loadedUsers = FileManager.loadList(USERS_FILE);
         List<Passenger> loadedPassengers = FileManager.loadList(PASSENGERS_FILE);
 
@@ -307,12 +508,13 @@ public class UserManager {
         if (loadedPassengers != null && !loadedPassengers.isEmpty()) {
             this.passengers = loadedPassengers;
         }
+        rebuildIndexes();
     }
 
     /**
      * Kullanıcı sayısını döndürür.
      */
-    public int getUserCount() {
+    public synchronized int getUserCount() {
         return users.size();
     }
 }
@@ -0,0 +1,41 @@
+package com.airline.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Artan sayaç. Çok sayıda thread aynı anda artırdığında da
+ * çekişme olmaması için LongAdder (parçalı sayaç) kullanır.
+ */
+public final class Counter {
+
+    private final String name;
+    private final LongAdder value;
+
+    Counter(String name) {
+        this.name = name;
+        this.value = new LongAdder();
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * Sayacın güncel değerini döndürür (okuma sırasında gelen artışlar dahil olmayabilir).
+     */
+    public long get() {
+        return value.sum();
+    }
+
+    void reset() {
+        value.reset();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
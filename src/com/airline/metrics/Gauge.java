@@ -0,0 +1,43 @@
+package com.airline.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Anlık değer tutan gösterge (örn. kilit kuyruğundaki thread sayısı).
+ * Sayaçtan farkı, değerin artıp azalabilmesidir.
+ */
+public final class Gauge {
+
+    private final String name;
+    private final AtomicLong value;
+
+    Gauge(String name) {
+        this.name = name;
+        this.value = new AtomicLong();
+    }
+
+    public void set(long newValue) {
+        value.set(newValue);
+    }
+
+    /**
+     * Değer mevcut değerden büyükse günceller (en yüksek değeri tutmak için).
+     */
+    public void recordMax(long candidate) {
+        if (candidate > value.get()) {
+            value.accumulateAndGet(candidate, Math::max);
+        }
+    }
+
+    public long get() {
+        return value.get();
+    }
+
+    void reset() {
+        value.set(0);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,71 @@
+package com.airline.metrics;
+
+/**
+ * Gecikme histogramının belirli bir andaki özetini tutar.
+ * Tüm süreler nanosaniye cinsindendir; yüzdelikler kova üst sınırıdır
+ * (en fazla %12.5 yukarı yuvarlanmış değer).
+ */
+public final class HistogramSnapshot {
+
+    private final String name;
+    private final long count;
+    private final long sumNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    public HistogramSnapshot(String name, long count, long sumNanos, long p50Nanos, long p99Nanos,
+                             long p999Nanos, long maxNanos) {
+        this.name = name;
+        this.count = count;
+        this.sumNanos = sumNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Ortalama süreyi döndürür.
+     */
+    public double getMeanNanos() {
+        return count > 0 ? (double) sumNanos / count : 0;
+    }
+
+    // Getter metodları
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSumNanos() {
+        return sumNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s count=%d mean=%.1fus p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus",
+                name, count, getMeanNanos() / 1000.0, p50Nanos / 1000.0, p99Nanos / 1000.0,
+                p999Nanos / 1000.0, maxNanos / 1000.0);
+    }
+}
@@ -0,0 +1,208 @@
+package com.airline.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Çekişme istatistiklerini kaydeden ReentrantLock.
+ * Her dıştaki alımda bekleme ve tutma süresi histogramlara, çekişmeli alımlar
+ * sayaca, kuyruk uzunluğu göstergelere yazılır. Alımların 1/64'ünde kilidi alan
+ * çağrı noktası örneklenir ve tutma süresi o noktanın histogramına da eklenir;
+ * böylece global kilidi en uzun tutan metotlar metrik çıktısında görünür.
+ *
+ * Metrik isimleri "isim.lock_wait", "isim.lock_hold", "isim.lock_contended",
+ * "isim.lock_queue", "isim.lock_queue_max" ve "isim.lock_owner[Sınıf.metot:satır]"
+ * şeklindedir. Aynı isimli kilitler metriklerini paylaşır.
+ * Condition.await() sırasında geçen süre tutma süresine dahildir.
+ */
+public class InstrumentedLock extends ReentrantLock {
+
+    private static final long serialVersionUID = 1L;
+    private static final int SAMPLE_RATE = 64; // Her 64 alımdan biri için çağrı noktası alınır
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final String name;
+    private final transient MetricsRegistry registry;
+    private final transient LatencyHistogram waitTime;
+    private final transient LatencyHistogram holdTime;
+    private final transient Counter contended;
+    private final transient Gauge queueLength;
+    private final transient Gauge maxQueueLength;
+    private transient long holdStart; // Sadece kilidi tutan thread yazar ve okur
+    private transient String holdSite; // Örneklenmiş alımın çağrı noktası, yoksa null
+
+    public InstrumentedLock(String name) {
+        this(name, MetricsRegistry.getDefault());
+    }
+
+    /**
+     * @param name Metrik isimlerinin ön eki (örn. "reservation")
+     * @param registry Metriklerin yazılacağı kayıt defteri
+     */
+    public InstrumentedLock(String name, MetricsRegistry registry) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Kilit ismi boş olamaz!");
+        }
+        if (registry == null) {
+            throw new IllegalArgumentException("Metrik kayıt defteri boş olamaz!");
+        }
+        this.name = name;
+        this.registry = registry;
+        this.waitTime = registry.histogram(name + ".lock_wait");
+        this.holdTime = registry.histogram(name + ".lock_hold");
+        this.contended = registry.counter(name + ".lock_contended");
+        this.queueLength = registry.gauge(name + ".lock_queue");
+        this.maxQueueLength = registry.gauge(name + ".lock_queue_max");
+    }
+
+    @Override
+    public void lock() {
+        if (isHeldByCurrentThread()) {
+            super.lock();
+            return;
+        }
+        String site = sampleSite();
+        SeatLockWaitEvent event = new SeatLockWaitEvent();
+        event.begin();
+        long start = System.nanoTime();
+        if (!super.tryLock()) {
+            recordContention();
+            super.lock();
+        }
+        acquired(start, site, event);
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (isHeldByCurrentThread()) {
+            super.lockInterruptibly();
+            return;
+        }
+        String site = sampleSite();
+        SeatLockWaitEvent event = new SeatLockWaitEvent();
+        event.begin();
+        long start = System.nanoTime();
+        if (!super.tryLock()) {
+            recordContention();
+            super.lockInterruptibly();
+        }
+        acquired(start, site, event);
+    }
+
+    @Override
+    public boolean tryLock() {
+        if (isHeldByCurrentThread()) {
+            return super.tryLock();
+        }
+        String site = sampleSite();
+        long start = System.nanoTime();
+        if (!super.tryLock()) {
+            return false;
+        }
+        acquired(start, site, null);
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+        if (isHeldByCurrentThread()) {
+            return super.tryLock(timeout, unit);
+        }
+        String site = sampleSite();
+        SeatLockWaitEvent event = new SeatLockWaitEvent();
+        event.begin();
+        long start = System.nanoTime();
+        if (!super.tryLock()) {
+            recordContention();
+            if (!super.tryLock(timeout, unit)) {
+                waitTime.recordSince(start);
+                return false;
+            }
+        }
+        acquired(start, site, event);
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        if (getHoldCount() != 1) {
+            super.unlock(); // İç içe alım veya kilidi tutmayan thread (hata fırlatır)
+            return;
+        }
+        long held = System.nanoTime() - holdStart;
+        holdTime.record(held);
+        if (holdSite != null) {
+            registry.histogram(name + ".lock_owner[" + holdSite + "]").record(held);
+            holdSite = null;
+        }
+        maxQueueLength.recordMax(getQueueLength()); // Bırakırken bekleyenlerin hepsi kuyruktadır
+        super.unlock();
+        queueLength.set(getQueueLength());
+    }
+
+    /**
+     * Kilit için beklemeye başlayan thread'i kuyruk göstergelerine yansıtır.
+     */
+    private void recordContention() {
+        contended.increment();
+        int waiting = getQueueLength() + 1;
+        queueLength.set(waiting);
+        maxQueueLength.recordMax(waiting);
+    }
+
+    private void acquired(long start, String site, SeatLockWaitEvent event) {
+        long now = System.nanoTime();
+        waitTime.record(now - start);
+        holdStart = now;
+        holdSite = site;
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.lockName = name;
+                event.queueLength = getQueueLength();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Örnekleme sırası gelmişse kilidi isteyen çağrı noktasını döndürür.
+     * Yığın kilit alınmadan önce okunur; tutma süresine eklenmez.
+     */
+    private static String sampleSite() {
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) != 0) {
+            return null;
+        }
+        return WALKER.walk(frames -> {
+            java.util.Iterator<StackWalker.StackFrame> iterator = frames.iterator();
+            while (iterator.hasNext()) {
+                StackWalker.StackFrame frame = iterator.next();
+                String className = frame.getClassName();
+                if (!className.equals(InstrumentedLock.class.getName())) {
+                    return className.substring(className.lastIndexOf('.') + 1) + "."
+                            + frame.getMethodName() + ":" + frame.getLineNumber();
+                }
+            }
+            return "?";
+        });
+    }
+
+    /**
+     * Kilidin çekişme durumunu tek satırda özetler (süreler µs).
+     */
+    public String getSummary() {
+        HistogramSnapshot waits = waitTime.snapshot();
+        HistogramSnapshot holds = holdTime.snapshot();
+        double contendedPercent = waits.getCount() > 0 ? 100.0 * contended.get() / waits.getCount() : 0;
+        return String.format(Locale.ROOT,
+                "%s kilidi: %d alım, %%%.1f çekişmeli, bekleme p99=%.1f max=%.1f, tutma p99=%.1f max=%.1f, kuyruk=%d (en fazla %d)",
+                name, waits.getCount(), contendedPercent, waits.getP99Nanos() / 1000.0, waits.getMaxNanos() / 1000.0,
+                holds.getP99Nanos() / 1000.0, holds.getMaxNanos() / 1000.0, queueLength.get(), maxQueueLength.get());
+    }
+
+    public String getName() {
+        return name;
+    }
+}
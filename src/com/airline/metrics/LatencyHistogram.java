@@ -0,0 +1,130 @@
+package com.airline.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Kilitsiz, logaritmik kovalı gecikme histogramı.
+ * Her ikinin kuvveti aralığı 8 alt kovaya bölünür; böylece 1 ns ile ~18 dakika
+ * arasındaki süreler 304 kovada, en fazla %12.5 hata ile tutulur. Kayıt işlemi
+ * bir dizi elemanını artırmaktan ibarettir, kilit veya bellek ayırma yapmaz.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS; // İkinin kuvveti başına alt kova
+    private static final int MAX_BITS = 40; // 2^40 ns üzerindeki süreler son kovaya yazılır
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+    static final int BUCKET_COUNT = (MAX_BITS - SUB_BITS + 1) * SUB_COUNT;
+
+    private final String name;
+    private final AtomicLongArray buckets;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    LatencyHistogram(String name) {
+        this.name = name;
+        this.buckets = new AtomicLongArray(BUCKET_COUNT);
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Bir süreyi kaydeder.
+     * @param nanos Süre (nanosaniye); negatif değerler 0 sayılır
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+        buckets.incrementAndGet(bucketIndex(value));
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * System.nanoTime() ile alınmış başlangıçtan bu yana geçen süreyi kaydeder.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Kova indeksini hesaplar. 8'den küçük değerler birebir, diğerleri
+     * en yüksek biti ve ardından gelen 3 bite göre yerleştirilir.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BITS;
+        int sub = (int) ((value >>> shift) & (SUB_COUNT - 1));
+        return (shift + 1) * SUB_COUNT + sub;
+    }
+
+    /**
+     * Kovanın içerdiği en büyük değeri döndürür.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_COUNT - 1;
+        long lower = (long) (SUB_COUNT + index % SUB_COUNT) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * Histogramın özetini çıkarır. Kayıtlar sürerken de çağrılabilir;
+     * sonuç o anki kovaların tutarlı olmayabilen ama yaklaşık bir görüntüsüdür.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        int i = 0;
+        while (i < BUCKET_COUNT) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+            i++;
+        }
+        long maxValue = max.get();
+        return new HistogramSnapshot(name, total, sum.sum(),
+                percentile(counts, total, 0.50, maxValue),
+                percentile(counts, total, 0.99, maxValue),
+                percentile(counts, total, 0.999, maxValue),
+                maxValue);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        int i = 0;
+        while (i < counts.length) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxValue);
+            }
+            i++;
+        }
+        return maxValue;
+    }
+
+    void reset() {
+        int i = 0;
+        while (i < BUCKET_COUNT) {
+            buckets.set(i, 0);
+            i++;
+        }
+        sum.reset();
+        max.set(0);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
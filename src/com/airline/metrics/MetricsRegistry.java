@@ -0,0 +1,188 @@
+package com.airline.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uygulama içi sayaç, gösterge ve gecikme histogramlarını isimle tutar.
+ * Sıcak yollar metriklerini bir kez alıp static alanda saklar; kayıt sırasında
+ * haritaya bakılmaz. Metrikler düz metin olarak (satır başına bir metrik)
+ * ekrana veya data/metrics.txt dosyasına yazılabilir.
+ */
+public final class MetricsRegistry {
+
+    public static final String SCRAPE_FILE = "metrics.txt";
+
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final Map<String, Counter> counters;
+    private final Map<String, Gauge> gauges;
+    private final Map<String, LatencyHistogram> histograms;
+    private final long startMillis;
+    private ScheduledExecutorService exporter;
+
+    public MetricsRegistry() {
+        this.counters = new ConcurrentHashMap<>();
+        this.gauges = new ConcurrentHashMap<>();
+        this.histograms = new ConcurrentHashMap<>();
+        this.startMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Uygulama genelinde kullanılan kayıt defterini döndürür.
+     */
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * İsimli sayacı döndürür, yoksa oluşturur.
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * İsimli göstergeyi döndürür, yoksa oluşturur.
+     */
+    public Gauge gauge(String name) {
+        return gauges.computeIfAbsent(name, Gauge::new);
+    }
+
+    /**
+     * İsimli gecikme histogramını döndürür, yoksa oluşturur.
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Tüm histogramların özetini isim sırasına göre döndürür.
+     */
+    public List<HistogramSnapshot> snapshotHistograms() {
+        List<String> names = new ArrayList<>(histograms.keySet());
+        Collections.sort(names);
+        List<HistogramSnapshot> snapshots = new ArrayList<>();
+        java.util.Iterator<String> iterator = names.iterator();
+        while (iterator.hasNext()) {
+            snapshots.add(histograms.get(iterator.next()).snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Tüm sayaçları, göstergeleri ve histogramları sıfırlar.
+     */
+    public void reset() {
+        java.util.Iterator<Counter> counterIterator = counters.values().iterator();
+        while (counterIterator.hasNext()) {
+            counterIterator.next().reset();
+        }
+        java.util.Iterator<Gauge> gaugeIterator = gauges.values().iterator();
+        while (gaugeIterator.hasNext()) {
+            gaugeIterator.next().reset();
+        }
+        java.util.Iterator<LatencyHistogram> histogramIterator = histograms.values().iterator();
+        while (histogramIterator.hasNext()) {
+            histogramIterator.next().reset();
+        }
+    }
+
+    /**
+     * Metrikleri düz metin olarak biçimlendirir. Her satır "tür isim değerler" şeklindedir,
+     * süreler mikrosaniyedir; grep/awk ile veya bir toplayıcı ile okunabilir.
+     */
+    public String formatText() {
+        StringBuilder text = new StringBuilder();
+        text.append("# airline metrics uptime_s=")
+                .append((System.currentTimeMillis() - startMillis) / 1000)
+                .append(" unit=us\n");
+
+        List<String> names = new ArrayList<>(counters.keySet());
+        Collections.sort(names);
+        java.util.Iterator<String> iterator = names.iterator();
+        while (iterator.hasNext()) {
+            String name = iterator.next();
+            text.append("counter ").append(name).append(' ').append(counters.get(name).get()).append('\n');
+        }
+
+        names = new ArrayList<>(gauges.keySet());
+        Collections.sort(names);
+        iterator = names.iterator();
+        while (iterator.hasNext()) {
+            String name = iterator.next();
+            text.append("gauge ").append(name).append(' ').append(gauges.get(name).get()).append('\n');
+        }
+
+        java.util.Iterator<HistogramSnapshot> snapshots = snapshotHistograms().iterator();
+        while (snapshots.hasNext()) {
+            HistogramSnapshot snapshot = snapshots.next();
+            text.append(String.format(java.util.Locale.ROOT,
+                    "histogram %s count=%d mean=%.1f p50=%.1f p99=%.1f p999=%.1f max=%.1f%n",
+                    snapshot.getName(), snapshot.getCount(), snapshot.getMeanNanos() / 1000.0,
+                    snapshot.getP50Nanos() / 1000.0, snapshot.getP99Nanos() / 1000.0,
+                    snapshot.getP999Nanos() / 1000.0, snapshot.getMaxNanos() / 1000.0));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Metrikleri dosyaya yazar. Önce geçici dosyaya yazılıp taşınır;
+     * dosyayı okuyan bir toplayıcı yarım içerik görmez.
+     */
+    public void writeScrapeFile(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, formatText().getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (java.nio.file.AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Metrik dosyasını belirli aralıklarla yeniden yazan daemon thread'i başlatır.
+     * Zaten başlatılmışsa bir şey yapmaz.
+     */
+    public synchronized void startScrapeExport(Path file, long periodSeconds) {
+        if (periodSeconds <= 0) {
+            throw new IllegalArgumentException("Yazma aralığı pozitif olmalıdır!");
+        }
+        if (exporter != null) {
+            return;
+        }
+        exporter = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        exporter.scheduleAtFixedRate(() -> {
+            try {
+                writeScrapeFile(file);
+            } catch (IOException e) {
+                System.err.println("Metrik dosyası yazılamadı: " + e.getMessage());
+            }
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Dosya yazan thread'i durdurur.
+     */
+    public synchronized void stopScrapeExport() {
+        if (exporter != null) {
+            exporter.shutdownNow();
+            exporter = null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.airline.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Rapor üretiminin bir bölümü (doluluk, gelir, rezervasyon).
+ * Varsayılan olarak kapalıdır.
+ */
+@Name("com.airline.ReportPhase")
+@Label("Rapor Bölümü")
+@Category({ "Airline", "Reports" })
+@Description("ReportGenerator'ın bir rapor bölümünü hazırlaması")
+@Enabled(false)
+@StackTrace(false)
+public class ReportPhaseEvent extends jdk.jfr.Event {
+
+    @Label("Rapor Türü")
+    public String reportType;
+
+    @Label("Bölüm")
+    public String phase;
+
+    @Label("Çıktı")
+    @Description("screen, TEXT, CSV veya JSON")
+    public String output;
+}
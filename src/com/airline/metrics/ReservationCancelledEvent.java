@@ -0,0 +1,29 @@
+package com.airline.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Rezervasyon iptali için JFR olayı. Varsayılan olarak kapalıdır.
+ */
+@Name("com.airline.ReservationCancelled")
+@Label("Rezervasyon İptal Edildi")
+@Category({ "Airline", "Booking" })
+@Description("Rezervasyon iptali ve kaydı")
+@Enabled(false)
+@StackTrace(false)
+public class ReservationCancelledEvent extends jdk.jfr.Event {
+
+    @Label("Uçuş")
+    public String flightNum;
+
+    @Label("Koltuk")
+    public String seatNum;
+
+    @Label("Rezervasyon Kodu")
+    public String reservationCode;
+}
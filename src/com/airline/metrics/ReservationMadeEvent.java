@@ -0,0 +1,31 @@
+package com.airline.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Tamamlanan rezervasyon için JFR olayı. Olayın süresi koltuk alımından
+ * dinleyicilerin bildirimine kadar geçen süredir.
+ * Varsayılan olarak kapalıdır; booking.jfc profili ile açılır.
+ */
+@Name("com.airline.ReservationMade")
+@Label("Rezervasyon Yapıldı")
+@Category({ "Airline", "Booking" })
+@Description("Koltuk rezervasyonu ve kaydı")
+@Enabled(false)
+@StackTrace(false)
+public class ReservationMadeEvent extends jdk.jfr.Event {
+
+    @Label("Uçuş")
+    public String flightNum;
+
+    @Label("Koltuk")
+    public String seatNum;
+
+    @Label("Rezervasyon Kodu")
+    public String reservationCode;
+}
@@ -0,0 +1,30 @@
+package com.airline.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Uçuş araması için JFR olayı. Varsayılan olarak kapalıdır.
+ */
+@Name("com.airline.SearchExecuted")
+@Label("Uçuş Araması")
+@Category({ "Airline", "Search" })
+@Description("FlightSearchEngine üzerinde çalışan arama")
+@Enabled(false)
+@StackTrace(false)
+public class SearchExecutedEvent extends jdk.jfr.Event {
+
+    @Label("Tür")
+    @Description("list, page veya stream")
+    public String kind;
+
+    @Label("Filtre")
+    public String filter;
+
+    @Label("Sonuç Sayısı")
+    public int resultCount;
+}
@@ -0,0 +1,28 @@
+package com.airline.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * İzlenen bir kilidi (InstrumentedLock) almak için beklenen süre.
+ * Varsayılan olarak kapalıdır; booking.jfc sadece eşiği aşan beklemeleri kaydeder.
+ */
+@Name("com.airline.SeatLockWait")
+@Label("Rezervasyon Kilidi Beklemesi")
+@Category({ "Airline", "Locks" })
+@Description("Rezervasyon kilidinin alınmasına kadar geçen süre")
+@Enabled(false)
+@StackTrace(false)
+public class SeatLockWaitEvent extends jdk.jfr.Event {
+
+    @Label("Kilit")
+    public String lockName;
+
+    @Label("Bekleyen Thread Sayısı")
+    @Description("Kilit alındığı anda kuyrukta bekleyen thread sayısı (yaklaşık)")
+    public int queueLength;
+}
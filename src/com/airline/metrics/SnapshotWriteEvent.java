@@ -0,0 +1,32 @@
+package com.airline.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * FileManager'ın bir veri dosyasını baştan yazması. Yazma süresi olayın süresidir.
+ * Varsayılan olarak kapalıdır.
+ */
+@Name("com.airline.SnapshotWrite")
+@Label("Veri Dosyası Yazma")
+@Category({ "Airline", "Persistence" })
+@Description("Serileştirilmiş veri dosyasının diske yazılması")
+@Enabled(false)
+@StackTrace(false)
+public class SnapshotWriteEvent extends jdk.jfr.Event {
+
+    @Label("Dosya")
+    public String fileName;
+
+    @Label("Boyut")
+    @DataAmount
+    public long bytes;
+
+    @Label("Başarılı")
+    public boolean success;
+}
@@ -1,6 +1,10 @@
 package com.airline.model;
 
 import com.airline.model.enums.FlightStatus;
+import com.airline.util.AppClock;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,6 +27,7 @@ public class Flight implements Serializable {
     private Plane plane;
     private Route route;
     private FlightStatus status;
+    private transient long departureEpochMinute; // Kalkış zamanı (dakika), tarih/saat ile güncellenir
 
     /**
      * Yeni bir uçuş oluşturur.
@@ -38,6 +43,7 @@ public class Flight implements Serializable {
         this.duration = duration;
         this.plane = plane;
         this.status = FlightStatus.SCHEDULED;
+        updateDepartureMinute();
     }
 
     /**
@@ -54,6 +60,7 @@ public class Flight implements Serializable {
         this.plane = plane;
         this.status = FlightStatus.SCHEDULED;
         this.route = null;
+        updateDepartureMinute();
     }
 
     /**
@@ -77,18 +84,34 @@ public class Flight implements Serializable {
         return getArrivalDateTime().toLocalTime();
     }
 
+    /**
+     * Kalkış zamanını dakika cinsinden döndürür.
+     */
+    public long getDepartureEpochMinute() {
+        return departureEpochMinute;
+    }
+
     /**
      * Uçuşun geçip geçmediğini kontrol eder.
      */
     public boolean isExpired() {
-        return LocalDateTime.now().isAfter(getDepartureDateTime());
+        return isExpiredAt(AppClock.currentEpochMinute());
+    }
+
+    /**
+     * Verilen zamanda uçuşun kalkmış olup olmadığını kontrol eder.
+     * Çok sayıda uçuş taranırken saat bir kez okunup buraya verilir.
+     * @param nowEpochMinute Şu anki zaman (dakika)
+     */
+    public boolean isExpiredAt(long nowEpochMinute) {
+        return nowEpochMinute >= departureEpochMinute;
     }
 
     /**
      * Uçuşun bugün olup olmadığını kontrol eder.
      */
     public boolean isToday() {
-        return date.equals(LocalDate.now());
+        return date.equals(AppClock.today());
     }
 
     /**
@@ -185,6 +208,7 @@ public class Flight implements Serializable {
 
     public void setDate(LocalDate date) {
         this.date = date;
+        updateDepartureMinute();
     }
 
     public LocalTime getHour() {
@@ -193,6 +217,7 @@ public class Flight implements Serializable {
 
     public void setHour(LocalTime hour) {
         this.hour = hour;
+        updateDepartureMinute();
     }
 
     public int getDuration() {
@@ -231,6 +256,20 @@ public class Flight implements Serializable {
         this.status = status;
     }
 
+    private void updateDepartureMinute() {
+        if (date != null && hour != null) {
+            departureEpochMinute = AppClock.toEpochMinute(LocalDateTime.of(date, hour));
+        }
+    }
+
+    /**
+     * Dosyadan yüklenince transient kalkış dakikasını yeniden hesaplar.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        updateDepartureMinute();
+    }
+
     @Override
     public String toString() {
         return String.format("Flight{num='%s', %s→%s, date=%s, time=%s, status=%s}",
@@ -20,17 +20,26 @@ public class Plane implements Serializable {
     private int seatsPerRow;
     private int businessRows; // İlk kaç sıra business class
 
+    /** Kolon harfleri; geniş gövdede A-K arası, I harfi 1 ile karışmasın diye atlanır. */
+    public static final String SEAT_LETTERS = "ABCDEFGHJK";
+
+    // Sıra-kolon düzeninde koltuk dizisi (indeks ile hızlı erişim, ilk kullanımda oluşturulur)
+    private transient Seat[] seatArray;
+
     /**
      * Yeni bir uçak oluşturur ve koltukları initialize eder.
      * @param planeId Uçak ID
      * @param planeModel Uçak modeli (örn: "Boeing 737")
      * @param rows Toplam sıra sayısı
-     * @param seatsPerRow Her sıradaki koltuk sayısı (genellikle 6: A-F)
+     * @param seatsPerRow Her sıradaki koltuk sayısı (dar gövde 6: A-F, geniş gövde en fazla 10: A-K)
      * @param businessRows İlk kaç sıra business class
      * @param basePrice Ekonomi sınıfı baz fiyat
      */
     public Plane(String planeId, String planeModel, int rows, int seatsPerRow,
                  int businessRows, double basePrice) {
+        if (rows <= 0 || seatsPerRow <= 0 || seatsPerRow > SEAT_LETTERS.length()) {
+            throw new IllegalArgumentException("Geçersiz koltuk düzeni: " + rows + "x" + seatsPerRow);
+        }
         this.planeId = planeId;
         this.planeModel = planeModel;
         this.rows = rows;
@@ -50,16 +59,14 @@ public class Plane implements Serializable {
 
     /**
      * Tüm koltukları oluşturur.
-     * A, B, C koridor D, E, F şeklinde düzenlenir.
+     * Dar gövdede A, B, C koridor D, E, F şeklinde düzenlenir.
      */
     private void initializeSeats(double basePrice) {
-        char[] columns = {'A', 'B', 'C', 'D', 'E', 'F'};
-
         int row = 1;
         while (row <= rows) {
             int col = 0;
-            while (col < seatsPerRow && col < columns.length) {
-                String seatNum = row + String.valueOf(columns[col]);
+            while (col < seatsPerRow) {
+                String seatNum = row + String.valueOf(SEAT_LETTERS.charAt(col));
                 SeatClass seatClass = (row <= businessRows) ? SeatClass.BUSINESS : SeatClass.ECONOMY;
                 Seat seat = new Seat(seatNum, seatClass, basePrice);
                 seatMatrix.put(seatNum, seat);
@@ -79,6 +86,48 @@ public class Plane implements Serializable {
         return seatMatrix.get(seatNum.toUpperCase());
     }
 
+    /**
+     * Koltukları sıra-kolon düzeninde dizi olarak döndürür.
+     * İndeks (sıra - 1) * seatsPerRow + kolon şeklindedir; dizi paylaşılır, değiştirilmemelidir.
+     */
+    public Seat[] getSeatArray() {
+        Seat[] array = seatArray;
+        if (array == null) {
+            array = seatMatrix.values().toArray(new Seat[0]);
+            seatArray = array;
+        }
+        return array;
+    }
+
+    /**
+     * Koltuğun getSeatArray içindeki indeksini hesaplar.
+     * @return İndeks, koltuk bu düzene uymuyorsa -1
+     */
+    public int getSeatIndex(Seat seat) {
+        int col = SEAT_LETTERS.indexOf(seat.getColumn());
+        if (seat.getRow() < 1 || seat.getRow() > rows || col < 0 || col >= seatsPerRow) {
+            return -1;
+        }
+        return (seat.getRow() - 1) * seatsPerRow + col;
+    }
+
+    /**
+     * Dolu koltukların anlık görüntüsünü bit dizisi olarak döndürür.
+     * Bit i, getSeatArray()[i] koltuğu doluysa 1'dir.
+     */
+    public BitSet getOccupancyBitmap() {
+        Seat[] array = getSeatArray();
+        BitSet bitmap = new BitSet(array.length);
+        int i = 0;
+        while (i < array.length) {
+            if (array[i].isReserveStatus()) {
+                bitmap.set(i);
+            }
+            i++;
+        }
+        return bitmap;
+    }
+
     /**
      * Tüm boş koltukları döndürür.
      */
@@ -131,6 +180,21 @@ public class Plane implements Serializable {
         return count;
     }
 
+    /**
+     * Belirli bir sınıftaki boş koltuk sayısını döndürür.
+     */
+    public int getAvailableSeatCountByClass(SeatClass seatClass) {
+        int count = 0;
+        java.util.Iterator<Seat> iterator = seatMatrix.values().iterator();
+        while (iterator.hasNext()) {
+            Seat seat = iterator.next();
+            if (!seat.isReserveStatus() && seat.getClass_() == seatClass) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Dolu koltuk sayısını döndürür.
      */
@@ -1,6 +1,7 @@
 package com.airline.model;
 
 import com.airline.model.enums.ReservationStatus;
+import com.airline.util.AppClock;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -28,7 +29,7 @@ public class Reservation implements Serializable {
         this.flight = flight;
         this.passenger = passenger;
         this.seat = seat;
-        this.dateOfReservation = LocalDateTime.now();
+        this.dateOfReservation = AppClock.now();
         this.status = ReservationStatus.PENDING;
     }
 
@@ -59,13 +60,11 @@ public class Reservation implements Serializable {
     }
 
     /**
-     * Rezervasyonu iptal eder ve koltuğu serbest bırakır.
+     * Rezervasyonu iptal edildi olarak işaretler. Koltuk burada bırakılmaz;
+     * ReservationManager.cancelReservation koltuğu seçili strateji üzerinden bırakır.
      */
     public void cancel() {
         this.status = ReservationStatus.CANCELLED;
-        if (seat != null) {
-            seat.release();
-        }
     }
 
     /**
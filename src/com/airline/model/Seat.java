@@ -2,6 +2,8 @@ package com.airline.model;
 
 import com.airline.model.enums.SeatClass;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 
 /**
  * Uçaktaki bir koltuğu temsil eder.
@@ -13,7 +15,7 @@ public class Seat implements Serializable {
     private String seatNum;      // Örn: "15A"
     private SeatClass Class; // ECONOMY veya BUSINESS
     private double price;        // Koltuk fiyatı
-    private boolean reserveStatus;    // Rezerve edilmiş mi?
+    private volatile boolean reserveStatus;    // Rezerve edilmiş mi?
     private int row;             // Sıra numarası
     private char column;         // Kolon harfi (A, B, C, D, E, F)
 
@@ -23,6 +25,17 @@ public class Seat implements Serializable {
     @SuppressWarnings("unused")
     private transient boolean reserved;
 
+    // Kilitsiz (CAS) rezervasyon için reserveStatus alanına erişim
+    private static final VarHandle RESERVE_STATUS;
+
+    static {
+        try {
+            RESERVE_STATUS = MethodHandles.lookup().findVarHandle(Seat.class, "reserveStatus", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
      * Yeni bir koltuk oluşturur.
      * @param seatNum Koltuk numarası (örn: "15A")
@@ -59,6 +72,15 @@ public class Seat implements Serializable {
         this.reserveStatus = true;
     }
 
+    /**
+     * Koltuk boşsa atomik olarak (compare-and-set) rezerve eder.
+     * Kilit almaz; aynı koltuğu aynı anda isteyenlerden sadece biri kazanır.
+     * @return Koltuk bu çağrıyla rezerve edildiyse true
+     */
+    public boolean tryReserve() {
+        return RESERVE_STATUS.compareAndSet(this, false, true);
+    }
+
     /**
      * Koltuk rezervasyonunu iptal eder.
      */
@@ -1,6 +1,7 @@
 package com.airline.model;
 
 import com.airline.model.enums.TicketStatus;
+import com.airline.util.AppClock;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -28,7 +29,7 @@ public class Ticket implements Serializable {
         this.ticketId = generateTicketId();
         this.reservation = reservation;
         this.price = price;
-        this.issueDate = LocalDateTime.now();
+        this.issueDate = AppClock.now();
         this.ticketStatus = TicketStatus.ISSUED;
 
         // Bagaj hakkını koltuk sınıfına göre ayarla
@@ -45,7 +46,7 @@ public class Ticket implements Serializable {
         this.price = price;
         this.baggage = baggage;
         this.baggageAllowance = baggage != null ? baggage.getAllowance() : 0;
-        this.issueDate = LocalDateTime.now();
+        this.issueDate = AppClock.now();
         this.ticketStatus = TicketStatus.ISSUED;
     }
 
@@ -86,7 +87,8 @@ public class Ticket implements Serializable {
     }
 
     /**
-     * Bileti iade eder.
+     * Bileti iade eder ve rezervasyonu iptal edildi olarak işaretler
+     * (koltuk ReservationManager.cancelReservation ile bırakılır).
      */
     public void refund() {
         this.ticketStatus = TicketStatus.REFUNDED;
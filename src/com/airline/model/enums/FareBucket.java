@@ -0,0 +1,54 @@
+package com.airline.model.enums;
+
+/**
+ * Doluluk oranına göre fiyat kovalarını tanımlar.
+ * Uçak doldukça bilet daha yüksek bir kovadan satılır.
+ */
+public enum FareBucket {
+    PROMO(0.30, 0.85, "Promosyon"),
+    SAVER(0.60, 1.00, "Ekonomik"),
+    FLEX(0.85, 1.25, "Esnek"),
+    PEAK(1.00, 1.60, "Yoğun Talep");
+
+    private final double maxLoadFactor;
+    private final double multiplier;
+    private final String displayName;
+
+    FareBucket(double maxLoadFactor, double multiplier, String displayName) {
+        this.maxLoadFactor = maxLoadFactor;
+        this.multiplier = multiplier;
+        this.displayName = displayName;
+    }
+
+    /**
+     * Doluluk oranına (0-1 arası) uygun kovayı döndürür.
+     */
+    public static FareBucket forLoadFactor(double loadFactor) {
+        FareBucket[] buckets = values();
+        int i = 0;
+        while (i < buckets.length - 1) {
+            if (loadFactor < buckets[i].maxLoadFactor) {
+                return buckets[i];
+            }
+            i++;
+        }
+        return PEAK;
+    }
+
+    public double getMaxLoadFactor() {
+        return maxLoadFactor;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
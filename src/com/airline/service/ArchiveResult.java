@@ -0,0 +1,51 @@
+package com.airline.service;
+
+/**
+ * Bir arşivleme çalışmasının sonucunu tutar.
+ * Değiştirilemez (immutable) olduğu için thread'ler arasında güvenle paylaşılır.
+ */
+public final class ArchiveResult {
+
+    private final int archivedFlights;
+    private final int archivedReservations;
+    private final int archivedTickets;
+    private final long durationMillis;
+
+    public ArchiveResult(int archivedFlights, int archivedReservations, int archivedTickets,
+                         long durationMillis) {
+        this.archivedFlights = archivedFlights;
+        this.archivedReservations = archivedReservations;
+        this.archivedTickets = archivedTickets;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Hiçbir kayıt arşivlenmediyse true döner.
+     */
+    public boolean isEmpty() {
+        return archivedFlights == 0 && archivedReservations == 0 && archivedTickets == 0;
+    }
+
+    // Getter metodları
+    public int getArchivedFlights() {
+        return archivedFlights;
+    }
+
+    public int getArchivedReservations() {
+        return archivedReservations;
+    }
+
+    public int getArchivedTickets() {
+        return archivedTickets;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ArchiveResult{flights=%d, reservations=%d, tickets=%d, %d ms}",
+                archivedFlights, archivedReservations, archivedTickets, durationMillis);
+    }
+}
@@ -0,0 +1,299 @@
+package com.airline.service;
+
+import com.airline.exception.FlightNotFoundException;
+import com.airline.exception.InvalidOperationException;
+import com.airline.exception.ResourceNotFoundException;
+import com.airline.exception.SeatNotFoundException;
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Reservation;
+import com.airline.model.Route;
+import com.airline.model.Seat;
+import com.airline.model.Ticket;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Komut dosyasındaki işlemleri menü olmadan, satır satır uygular.
+ * Tüm çalıştırma tek bir toplu işlem içinde yapılır; yöneticiler dosyaya
+ * sadece sonda bir kez kaydeder. Her satırın sonucu hemen çıktıya yazılır,
+ * hatalı bir satır çalıştırmayı durdurmaz.
+ *
+ * Satır biçimi (alanlar boşlukla ayrılır, boşluk içeren alanlar çift tırnak içinde yazılır,
+ * '#' ile başlayan satırlar yorumdur):
+ * <pre>
+ * create-flight &lt;uçuşNo&gt; &lt;kalkış&gt; &lt;varış&gt; &lt;yyyy-MM-dd&gt; &lt;HH:mm&gt; [süreDk] [uçakModeli]
+ * reserve &lt;uçuşNo&gt; &lt;koltuk&gt; &lt;ad&gt; &lt;soyad&gt; [email] [telefon]
+ * cancel &lt;rezervasyonKodu|$&gt;
+ * cancel-flight &lt;uçuşNo&gt;
+ * ticket &lt;rezervasyonKodu|$&gt; [fiyat]
+ * report &lt;OCCUPANCY|REVENUE|RESERVATION|FULL&gt;
+ * </pre>
+ * '$' bu çalıştırmada yapılan son rezervasyonu gösterir.
+ */
+public class BatchCommandRunner {
+
+    private static final int FLUSH_INTERVAL = 256; // Kaç sonuç satırında bir çıktı boşaltılır
+    private static final int DEFAULT_DURATION = 60;
+    private static final String DEFAULT_PLANE_MODEL = "Boeing 737-800";
+    private static final double DEFAULT_BASE_PRICE = 500;
+    private static final String LAST_RESERVATION = "$";
+
+    private final FlightManager flightManager;
+    private final ReservationManager reservationManager;
+    private final Map<String, Route> routeCache; // "kalkış|varış" -> rota
+    private Reservation lastReservation;
+
+    public BatchCommandRunner(FlightManager flightManager, ReservationManager reservationManager) {
+        if (flightManager == null || reservationManager == null) {
+            throw new IllegalArgumentException("Yöneticiler boş olamaz!");
+        }
+        this.flightManager = flightManager;
+        this.reservationManager = reservationManager;
+        this.routeCache = new HashMap<>();
+    }
+
+    /**
+     * Komutları okuyup uygular.
+     * @param input Komut kaynağı (dosya veya standart girdi)
+     * @param output Sonuç satırlarının yazılacağı yer ("OK" / "ERR" ile başlar)
+     * @return Çalıştırma sonucu
+     */
+    public BatchResult run(BufferedReader input, PrintWriter output) throws IOException {
+        long start = System.currentTimeMillis();
+        long operations = 0;
+        long failures = 0;
+        int lineNumber = 0;
+
+        flightManager.beginBatch();
+        reservationManager.beginBatch();
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                operations++;
+                try {
+                    output.println("OK " + lineNumber + " " + execute(tokenize(trimmed)));
+                } catch (RuntimeException e) {
+                    failures++;
+                    output.println("ERR " + lineNumber + " " + e.getMessage());
+                }
+                if (operations % FLUSH_INTERVAL == 0) {
+                    output.flush();
+                }
+            }
+        } finally {
+            // Ertelenen kayıt burada tek seferde yapılır
+            reservationManager.endBatch();
+            flightManager.endBatch();
+        }
+
+        BatchResult result = new BatchResult(operations, failures, System.currentTimeMillis() - start);
+        output.println("# " + result.getSummary());
+        output.flush();
+        return result;
+    }
+
+    /**
+     * Tek bir komutu uygular.
+     * @return Sonuç satırının açıklama kısmı
+     */
+    private String execute(List<String> args) {
+        String command = args.get(0).toLowerCase(Locale.ROOT);
+        switch (command) {
+            case "create-flight":
+                return createFlight(args);
+            case "reserve":
+                return reserve(args);
+            case "cancel":
+                return cancel(args);
+            case "cancel-flight":
+                return cancelFlight(args);
+            case "ticket":
+                return ticket(args);
+            case "report":
+                return report(args);
+            default:
+                throw new InvalidOperationException("Bilinmeyen komut: " + command);
+        }
+    }
+
+    private String createFlight(List<String> args) {
+        requireArgs(args, 6, "create-flight <uçuşNo> <kalkış> <varış> <tarih> <saat> [süre] [model]");
+        String flightNum = args.get(1);
+        LocalDate date = LocalDate.parse(args.get(4));
+        LocalTime hour = LocalTime.parse(args.get(5));
+        int duration = args.size() > 6 ? Integer.parseInt(args.get(6)) : DEFAULT_DURATION;
+        String model = args.size() > 7 ? args.get(7) : DEFAULT_PLANE_MODEL;
+
+        Route route = findRoute(args.get(2), args.get(3));
+        Plane plane = new Plane("PL-" + flightNum, model, DEFAULT_BASE_PRICE);
+        Flight flight = flightManager.createFlight(flightNum, route, date, hour, duration, plane);
+        return "create-flight " + flight.getFlightNum();
+    }
+
+    private String reserve(List<String> args) {
+        requireArgs(args, 5, "reserve <uçuşNo> <koltuk> <ad> <soyad> [email] [telefon]");
+        Flight flight = findFlight(args.get(1));
+        Seat seat = flight.getPlane() != null ? flight.getPlane().getSeat(args.get(2)) : null;
+        if (seat == null) {
+            throw new SeatNotFoundException(args.get(2));
+        }
+        Passenger passenger = new Passenger(args.get(3), args.get(4),
+                args.size() > 5 ? args.get(5) : "", args.size() > 6 ? args.get(6) : "");
+        lastReservation = reservationManager.makeReservation(flight, passenger, seat);
+        return "reserve " + lastReservation.getReservationCode();
+    }
+
+    private String cancel(List<String> args) {
+        requireArgs(args, 2, "cancel <rezervasyonKodu|$>");
+        Reservation reservation = findReservation(args.get(1));
+        if (!reservationManager.cancelReservation(reservation.getReservationCode())) {
+            throw new InvalidOperationException("İptal", "Rezervasyon zaten iptal edilmiş");
+        }
+        return "cancel " + reservation.getReservationCode();
+    }
+
+    private String cancelFlight(List<String> args) {
+        requireArgs(args, 2, "cancel-flight <uçuşNo>");
+        Flight flight = findFlight(args.get(1));
+        int cancelled = 0;
+        java.util.Iterator<Reservation> iterator =
+                reservationManager.getReservationsByFlight(flight.getFlightNum()).iterator();
+        while (iterator.hasNext()) {
+            Reservation reservation = iterator.next();
+            if (reservation.isActive() && reservationManager.cancelReservation(reservation.getReservationCode())) {
+                cancelled++;
+            }
+        }
+        return "cancel-flight " + flight.getFlightNum() + " " + cancelled;
+    }
+
+    private String ticket(List<String> args) {
+        requireArgs(args, 2, "ticket <rezervasyonKodu|$> [fiyat]");
+        Reservation reservation = findReservation(args.get(1));
+        if (!reservation.isActive()) {
+            throw new InvalidOperationException("Bilet", "Rezervasyon aktif değil");
+        }
+        double price = args.size() > 2 ? Double.parseDouble(args.get(2))
+                : reservation.getSeat().getCalculatedPrice();
+        Ticket ticket = reservationManager.createTicket(reservation, price);
+        return "ticket " + ticket.getTicketId();
+    }
+
+    private String report(List<String> args) {
+        requireArgs(args, 2, "report <OCCUPANCY|REVENUE|RESERVATION|FULL>");
+        ReportGenerator.ReportType type;
+        try {
+            type = ReportGenerator.ReportType.valueOf(args.get(1).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResourceNotFoundException("Rapor", args.get(1));
+        }
+        ReportGenerator generator = new ReportGenerator(flightManager, reservationManager, type);
+        generator.run();
+        return "report " + type.name() + "\n" + generator.getReportResult();
+    }
+
+    /**
+     * Aynı şehir çifti için tek rota kullanır; yoksa yeni rota oluşturur.
+     */
+    private Route findRoute(String departure, String arrival) {
+        String key = departure + "|" + arrival;
+        Route route = routeCache.get(key);
+        if (route != null) {
+            return route;
+        }
+        java.util.Iterator<Route> iterator = flightManager.getAllRoutes().iterator();
+        while (iterator.hasNext()) {
+            Route candidate = iterator.next();
+            if (departure.equals(candidate.getDepartureCity()) && arrival.equals(candidate.getArrivalCity())) {
+                route = candidate;
+                break;
+            }
+        }
+        if (route == null) {
+            route = new Route(departure, airportCode(departure), arrival, airportCode(arrival));
+        }
+        routeCache.put(key, route);
+        return route;
+    }
+
+    private static String airportCode(String city) {
+        String letters = city.length() > 3 ? city.substring(0, 3) : city;
+        return letters.toUpperCase(Locale.ROOT);
+    }
+
+    private Flight findFlight(String flightNum) {
+        Flight flight = flightManager.getFlightByNumber(flightNum);
+        if (flight == null) {
+            throw new FlightNotFoundException(flightNum);
+        }
+        return flight;
+    }
+
+    private Reservation findReservation(String code) {
+        Reservation reservation = LAST_RESERVATION.equals(code) ? lastReservation
+                : reservationManager.getReservation(code);
+        if (reservation == null) {
+            throw new ResourceNotFoundException("Rezervasyon", code);
+        }
+        return reservation;
+    }
+
+    private static void requireArgs(List<String> args, int count, String usage) {
+        if (args.size() < count) {
+            throw new IllegalArgumentException("Eksik alan. Kullanım: " + usage);
+        }
+    }
+
+    /**
+     * Satırı alanlara ayırır. Çift tırnak içindeki boşluklar alanı bölmez.
+     */
+    static List<String> tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean hasToken = false;
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+                hasToken = true;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (hasToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    hasToken = false;
+                }
+            } else {
+                current.append(c);
+                hasToken = true;
+            }
+            i++;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Kapatılmamış tırnak");
+        }
+        if (hasToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,54 @@
+package com.airline.service;
+
+/**
+ * Toplu komut çalıştırmasının sonucunu tutar.
+ */
+public final class BatchResult {
+
+    private final long operations; // Çalıştırılan komut sayısı (yorum ve boş satırlar hariç)
+    private final long failures;
+    private final long elapsedMillis;
+
+    public BatchResult(long operations, long failures, long elapsedMillis) {
+        this.operations = operations;
+        this.failures = failures;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Saniyedeki işlem sayısını döndürür.
+     */
+    public double getOperationsPerSecond() {
+        return elapsedMillis > 0 ? operations * 1000.0 / elapsedMillis : operations;
+    }
+
+    /**
+     * Sonucu tek satırlık özet olarak döndürür.
+     */
+    public String getSummary() {
+        return String.format("%d işlem, %d başarılı, %d hatalı, %d ms (%.0f işlem/sn)",
+                operations, getSuccesses(), failures, elapsedMillis, getOperationsPerSecond());
+    }
+
+    // Getter metodları
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getSuccesses() {
+        return operations - failures;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{" + getSummary() + "}";
+    }
+}
@@ -0,0 +1,72 @@
+package com.airline.service;
+
+import com.airline.model.enums.FlightStatus;
+
+/**
+ * Değişiklik akışındaki tek bir olayı tutar (koltuk alındı/bırakıldı, uçuş durumu değişti).
+ * Sıra numarası akıştaki konumu gösterir ve artan sıradadır.
+ */
+public final class ChangeEvent {
+
+    /**
+     * Olay türleri
+     */
+    public enum Kind {
+        SEAT_RESERVED, // Koltuk rezerve edildi
+        SEAT_RELEASED, // Koltuk boşaldı (iptal)
+        FLIGHT_STATUS, // Uçuş durumu değişti
+        RESYNC // Abone geride kaldı, olaylar kaçtı; koltuk haritası yeniden okunmalı
+    }
+
+    private final long sequence;
+    private final Kind kind;
+    private final String flightNum;
+    private final String seatNum; // Sadece koltuk olaylarında dolu
+    private final FlightStatus status; // Sadece durum olaylarında dolu
+
+    public ChangeEvent(long sequence, Kind kind, String flightNum, String seatNum, FlightStatus status) {
+        this.sequence = sequence;
+        this.kind = kind;
+        this.flightNum = flightNum;
+        this.seatNum = seatNum;
+        this.status = status;
+    }
+
+    /**
+     * Birleştirme anahtarını döndürür. Aynı anahtarlı olaylardan sadece sonuncusu önemlidir;
+     * örn. aynı koltuk için art arda gelen "alındı" ve "bırakıldı" olayları tek olaya iner.
+     */
+    public String getCoalesceKey() {
+        if (kind == Kind.SEAT_RESERVED || kind == Kind.SEAT_RELEASED) {
+            return flightNum + "/" + seatNum;
+        }
+        return flightNum + "/" + kind.name();
+    }
+
+    // Getter metodları
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getFlightNum() {
+        return flightNum;
+    }
+
+    public String getSeatNum() {
+        return seatNum;
+    }
+
+    public FlightStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChangeEvent{#%d %s %s%s}", sequence, kind, flightNum,
+                seatNum != null ? " " + seatNum : status != null ? " " + status : "");
+    }
+}
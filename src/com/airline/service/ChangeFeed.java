@@ -0,0 +1,328 @@
+package com.airline.service;
+
+import com.airline.manager.DataChangeListener;
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Reservation;
+import com.airline.model.enums.FlightStatus;
+import com.airline.util.ThreadSupport;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Koltuk ve uçuş durumu değişikliklerini çok sayıda aboneye dağıtan akış.
+ * Olaylar sabit boyutlu bir halka tampona bir kez yazılır; her abone kendi
+ * okuma konumunu tutar. Yayıncılar hiçbir zaman beklemez: yavaş bir abone
+ * sadece kendi teslimatını geciktirir, biriken olaylar teslimatta birleştirilir
+ * ve tampon dolup olaylar kaçarsa aboneye RESYNC olayı gönderilir.
+ * Böylece açık olan binlerce koltuk haritası yoklama yapmadan güncellenir.
+ *
+ * Tüm uçuşları dinleyenler ortak halkayı okur. Tek bir uçuşu dinleyenler için
+ * o uçuşa ait ayrı bir halka (ve sıra numarası) tutulur; diğer uçuşlardaki
+ * yoğunluk bu abonelerin tamponunu taşırmaz. Uçuş halkası ilk abonelikte
+ * oluşturulur, son abonelik kapanınca bırakılır.
+ */
+public class ChangeFeed {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_READ_PER_DRAIN = 1024; // Bir teslimatta okunacak en fazla olay
+    private static final int FALLBACK_THREADS = 4;
+
+    /**
+     * Sabit boyutlu halka tampon. Her yazar bir sıra numarası alıp kendi yuvasına yazar.
+     */
+    private static final class Ring {
+        private final AtomicReferenceArray<ChangeEvent> slots;
+        private final int mask;
+        private final AtomicLong nextSequence; // Bir sonraki olayın alacağı sıra numarası
+
+        private Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.nextSequence = new AtomicLong();
+        }
+
+        private ChangeEvent append(ChangeEvent.Kind kind, String flightNum, String seatNum, FlightStatus status) {
+            long sequence = nextSequence.getAndIncrement();
+            ChangeEvent event = new ChangeEvent(sequence, kind, flightNum, seatNum, status);
+            slots.set((int) (sequence & mask), event);
+            return event;
+        }
+
+        private ChangeEvent get(long sequence) {
+            return slots.get((int) (sequence & mask));
+        }
+    }
+
+    /**
+     * Tek bir uçuşun halkası ve aboneleri.
+     */
+    private static final class FlightChannel {
+        private final Ring ring;
+        private final List<ChangeSubscription> subscribers;
+
+        private FlightChannel(int capacity) {
+            this.ring = new Ring(capacity);
+            this.subscribers = new CopyOnWriteArrayList<>();
+        }
+    }
+
+    private final Ring ring; // Tüm uçuşların olayları
+    private final int capacity;
+    private final Executor executor;
+    private final Map<String, FlightChannel> byFlight; // Uçuşa göre halka ve aboneler
+    private final List<ChangeSubscription> allFlights; // Tüm uçuşları dinleyen aboneler
+    private final Map<String, FlightStatus> lastStatus; // Durum değişikliğini anlamak için
+
+    private final DataChangeListener<Reservation> reservationListener = this::onReservationChange;
+    private final DataChangeListener<Flight> flightListener = this::onFlightChange;
+
+    /**
+     * Varsayılan kapasite ile ChangeFeed oluşturur.
+     */
+    public ChangeFeed() {
+        this(DEFAULT_CAPACITY, ThreadSupport.newPerTaskExecutor("change-feed", FALLBACK_THREADS));
+    }
+
+    /**
+     * ChangeFeed oluşturur.
+     * @param capacity Halka tampon boyutu (2'nin kuvveti olmalı)
+     * @param executor Abonelere teslimatın yapılacağı çalıştırıcı
+     */
+    public ChangeFeed(int capacity, Executor executor) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Kapasite 2'nin pozitif bir kuvveti olmalıdır!");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Çalıştırıcı boş olamaz!");
+        }
+        this.ring = new Ring(capacity);
+        this.capacity = capacity;
+        this.executor = executor;
+        this.byFlight = new ConcurrentHashMap<>();
+        this.allFlights = new CopyOnWriteArrayList<>();
+        this.lastStatus = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Rezervasyon değişikliklerini koltuk olayı olarak yayınlar.
+     */
+    public void attachTo(ReservationManager reservationManager) {
+        reservationManager.addChangeListener(reservationListener);
+    }
+
+    public void detachFrom(ReservationManager reservationManager) {
+        reservationManager.removeChangeListener(reservationListener);
+    }
+
+    /**
+     * Uçuş güncellemelerinde durum değiştiyse durum olayı yayınlar.
+     */
+    public void attachTo(FlightManager flightManager) {
+        java.util.Iterator<Flight> iterator = flightManager.getFlightsView().iterator();
+        while (iterator.hasNext()) {
+            rememberStatus(iterator.next());
+        }
+        flightManager.addChangeListener(flightListener);
+    }
+
+    public void detachFrom(FlightManager flightManager) {
+        flightManager.removeChangeListener(flightListener);
+    }
+
+    /**
+     * Uçuştaki değişiklikleri dinler.
+     * @param flightNum Uçuş numarası (null ise tüm uçuşlar)
+     * @param listener Birleştirilmiş olay listesini alan fonksiyon (teslimat thread'inde)
+     * @return Kapatılabilir abonelik
+     */
+    public ChangeSubscription subscribe(String flightNum, Consumer<List<ChangeEvent>> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Dinleyici boş olamaz!");
+        }
+        if (flightNum == null) {
+            ChangeSubscription subscription = new ChangeSubscription(this, null, listener, ring.nextSequence.get());
+            allFlights.add(subscription);
+            return subscription;
+        }
+        ChangeSubscription[] created = new ChangeSubscription[1];
+        // Kapanan son abonelikle yarışmaması için kanal atomik olarak alınır veya oluşturulur
+        byFlight.compute(flightNum, (key, channel) -> {
+            FlightChannel target = channel != null ? channel : new FlightChannel(capacity);
+            created[0] = new ChangeSubscription(this, flightNum, listener, target.ring.nextSequence.get());
+            target.subscribers.add(created[0]);
+            return target;
+        });
+        return created[0];
+    }
+
+    /**
+     * Olayı halka tampona yazar ve ilgili aboneleri uyandırır.
+     * @return Yayınlanan olay
+     */
+    public ChangeEvent publish(ChangeEvent.Kind kind, String flightNum, String seatNum, FlightStatus status) {
+        if (kind == null || kind == ChangeEvent.Kind.RESYNC || flightNum == null) {
+            throw new IllegalArgumentException("Geçersiz olay: " + kind + " " + flightNum);
+        }
+        ChangeEvent event = ring.append(kind, flightNum, seatNum, status);
+        FlightChannel channel = byFlight.get(flightNum);
+        if (channel != null) {
+            channel.ring.append(kind, flightNum, seatNum, status);
+            signalAll(channel.subscribers);
+        }
+        signalAll(allFlights);
+        return event;
+    }
+
+    /**
+     * Şimdiye kadar yayınlanan olay sayısını döndürür.
+     */
+    public long getPublishedCount() {
+        return ring.nextSequence.get();
+    }
+
+    /**
+     * Açık abonelik sayısını döndürür.
+     */
+    public int getSubscriberCount() {
+        int count = allFlights.size();
+        java.util.Iterator<FlightChannel> iterator = byFlight.values().iterator();
+        while (iterator.hasNext()) {
+            count += iterator.next().subscribers.size();
+        }
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void signalAll(List<ChangeSubscription> subscriptions) {
+        java.util.Iterator<ChangeSubscription> iterator = subscriptions.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().signal();
+        }
+    }
+
+    void schedule(Runnable drain) {
+        executor.execute(drain);
+    }
+
+    void unsubscribe(ChangeSubscription subscription) {
+        if (subscription.getFlightNum() == null) {
+            allFlights.remove(subscription);
+            return;
+        }
+        byFlight.computeIfPresent(subscription.getFlightNum(), (key, channel) -> {
+            channel.subscribers.remove(subscription);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    /**
+     * Abonenin okuduğu halkayı döndürür; uçuş kanalı kapandıysa null.
+     */
+    private Ring ringOf(ChangeSubscription subscription) {
+        if (subscription.getFlightNum() == null) {
+            return ring;
+        }
+        FlightChannel channel = byFlight.get(subscription.getFlightNum());
+        return channel != null ? channel.ring : null;
+    }
+
+    /**
+     * Abonenin konumundan itibaren okunabilecek olay olup olmadığını kontrol eder.
+     */
+    boolean hasEventFor(ChangeSubscription subscription) {
+        Ring source = ringOf(subscription);
+        if (source == null) {
+            return false;
+        }
+        long cursor = subscription.getCursor();
+        ChangeEvent event = source.get(cursor);
+        return event != null && event.getSequence() >= cursor;
+    }
+
+    /**
+     * Abonenin konumundan itibaren olayları okur ve birleştirir.
+     * Tampon abonenin konumunu geçtiyse kaçan olaylar yerine tek bir RESYNC olayı döner.
+     * @param subscription Abone (konumu güncellenir)
+     * @return Birleştirilmiş olaylar, okuma sırasına göre
+     */
+    List<ChangeEvent> read(ChangeSubscription subscription) {
+        Map<String, ChangeEvent> merged = new LinkedHashMap<>();
+        Ring source = ringOf(subscription);
+        if (source == null) {
+            return new ArrayList<>(); // Abonelik kapandı
+        }
+        long cursor = subscription.getCursor();
+        int read = 0;
+        while (read < MAX_READ_PER_DRAIN) {
+            ChangeEvent event = source.get(cursor);
+            if (event == null || event.getSequence() < cursor) {
+                break; // Henüz yazılmadı
+            }
+            if (event.getSequence() > cursor) {
+                // Yavaş abone: olaylar üzerine yazıldı, kalanlar anlamını yitirdi
+                merged.clear();
+                long oldest = Math.max(cursor, source.nextSequence.get() - capacity);
+                merged.put("resync", new ChangeEvent(oldest, ChangeEvent.Kind.RESYNC,
+                        subscription.getFlightNum(), null, null));
+                subscription.recordOverflow();
+                cursor = oldest;
+                continue;
+            }
+            cursor++;
+            read++;
+            if (subscription.getFlightNum() == null || subscription.getFlightNum().equals(event.getFlightNum())) {
+                ChangeEvent previous = merged.put(event.getCoalesceKey(), event);
+                if (previous != null) {
+                    subscription.recordCoalesced();
+                }
+            }
+        }
+        subscription.setCursor(cursor);
+        return new ArrayList<>(merged.values());
+    }
+
+    private void onReservationChange(DataChangeListener.ChangeType type, Reservation reservation) {
+        if (reservation.getFlight() == null || reservation.getSeat() == null) {
+            return;
+        }
+        String flightNum = reservation.getFlight().getFlightNum();
+        String seatNum = reservation.getSeat().getSeatNum();
+        if (type == DataChangeListener.ChangeType.ADDED) {
+            publish(ChangeEvent.Kind.SEAT_RESERVED, flightNum, seatNum, null);
+        } else if (type == DataChangeListener.ChangeType.UPDATED && !reservation.isActive()) {
+            publish(ChangeEvent.Kind.SEAT_RELEASED, flightNum, seatNum, null);
+        }
+    }
+
+    private void onFlightChange(DataChangeListener.ChangeType type, Flight flight) {
+        if (type == DataChangeListener.ChangeType.REMOVED) {
+            lastStatus.remove(flight.getFlightNum());
+            return;
+        }
+        FlightStatus previous = rememberStatus(flight);
+        if (type == DataChangeListener.ChangeType.UPDATED && flight.getStatus() != previous) {
+            publish(ChangeEvent.Kind.FLIGHT_STATUS, flight.getFlightNum(), null, flight.getStatus());
+        }
+    }
+
+    private FlightStatus rememberStatus(Flight flight) {
+        if (flight.getStatus() == null) {
+            return lastStatus.remove(flight.getFlightNum());
+        }
+        return lastStatus.put(flight.getFlightNum(), flight.getStatus());
+    }
+}
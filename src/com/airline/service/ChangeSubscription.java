@@ -0,0 +1,124 @@
+package com.airline.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * ChangeFeed üzerindeki tek bir abonelik.
+ * Aynı anda en fazla bir teslimat çalışır; teslimat sürerken gelen olaylar
+ * bir sonraki teslimatta birleştirilerek verilir.
+ */
+public final class ChangeSubscription implements AutoCloseable {
+
+    private final ChangeFeed feed;
+    private final String flightNum; // null ise tüm uçuşlar
+    private final Consumer<List<ChangeEvent>> listener;
+    private final AtomicBoolean scheduled; // Teslimat sırada veya çalışıyor
+    private final AtomicLong delivered;
+    private final AtomicLong coalesced;
+    private final AtomicLong overflows;
+    private volatile long cursor; // Okunacak bir sonraki olayın sıra numarası
+    private volatile boolean closed;
+
+    ChangeSubscription(ChangeFeed feed, String flightNum, Consumer<List<ChangeEvent>> listener, long cursor) {
+        this.feed = feed;
+        this.flightNum = flightNum;
+        this.listener = listener;
+        this.scheduled = new AtomicBoolean();
+        this.delivered = new AtomicLong();
+        this.coalesced = new AtomicLong();
+        this.overflows = new AtomicLong();
+        this.cursor = cursor;
+    }
+
+    /**
+     * Teslimat çalışmıyorsa yeni bir teslimat başlatır.
+     */
+    void signal() {
+        if (!closed && scheduled.compareAndSet(false, true)) {
+            feed.schedule(this::drain);
+        }
+    }
+
+    /**
+     * Biriken olayları okuyup dinleyiciye verir.
+     * Bu arada yeni olay geldiyse teslimat yeniden başlatılır.
+     */
+    private void drain() {
+        try {
+            if (closed) {
+                return;
+            }
+            List<ChangeEvent> events = feed.read(this);
+            if (!events.isEmpty()) {
+                delivered.addAndGet(events.size());
+                listener.accept(events);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Değişiklik akışı dinleyicisi başarısız: " + e.getMessage());
+        } finally {
+            scheduled.set(false);
+            if (!closed && feed.hasEventFor(this)) {
+                signal();
+            }
+        }
+    }
+
+    /**
+     * Aboneliği sonlandırır; sıradaki olaylar teslim edilmez.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            feed.unsubscribe(this);
+        }
+    }
+
+    void recordCoalesced() {
+        coalesced.incrementAndGet();
+    }
+
+    void recordOverflow() {
+        overflows.incrementAndGet();
+    }
+
+    long getCursor() {
+        return cursor;
+    }
+
+    void setCursor(long cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getFlightNum() {
+        return flightNum;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Dinleyiciye verilen olay sayısını döndürür.
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * Birleştirme ile atlanan olay sayısını döndürür.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Tampon taşıp RESYNC gönderilme sayısını döndürür.
+     */
+    public long getOverflowCount() {
+        return overflows.get();
+    }
+}
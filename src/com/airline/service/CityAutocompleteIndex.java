@@ -0,0 +1,513 @@
+package com.airline.service;
+
+import com.airline.manager.DataChangeListener;
+import com.airline.manager.FlightManager;
+import com.airline.model.Flight;
+import com.airline.model.Route;
+import com.airline.util.TextFolding;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Şehir, havalimanı adı ve IATA kodları için önek ağacı (trie).
+ * Anahtarlar TextFolding ile katlanır, böylece "ist", "İST" ve "Ist"
+ * aynı sonucu verir. Her terim referans sayısı ile tutulur; uçuş ve
+ * rota eklendikçe/silindikçe/güncellendikçe sadece ilgili terimler değişir.
+ * Uçuşlar yerinde değiştirilip güncellendiği için her uçuşun indekslenen
+ * terimleri ayrıca saklanır; güncellemede eski ve yeni hal karşılaştırılır.
+ */
+public class CityAutocompleteIndex {
+
+    private final Node root;
+    private final TreeMap<String, CityCount> departureCities; // Katlanmış ad -> şehir
+    private final TreeMap<String, CityCount> arrivalCities;
+    private final Map<String, FlightTerms> indexedFlights; // Uçuş no -> indekslenen terimler
+    private final ReentrantReadWriteLock lock;
+    private final DataChangeListener<Flight> flightListener;
+    private final DataChangeListener<Route> routeListener;
+    private FlightManager flightManager;
+
+    /**
+     * Trie düğümü. Çocuklar sıralı tutulur, böylece öneriler alfabetik gelir.
+     */
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private Map<String, Term> terms; // Bu düğümde biten terimler (şehir -> terim)
+    }
+
+    /**
+     * Bir düğümde biten terim ve kaç kayıt tarafından kullanıldığı.
+     */
+    private static final class Term {
+        private final String text;
+        private final CitySuggestion.MatchType type;
+        private int references;
+
+        private Term(String text, CitySuggestion.MatchType type) {
+            this.text = text;
+            this.type = type;
+        }
+    }
+
+    /**
+     * Şehir adı ve kaç uçuşta geçtiği.
+     */
+    private static final class CityCount {
+        private final String name;
+        private int references;
+
+        private CityCount(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Bir uçuş için indekse eklenen şehir ve rota terimlerinin kopyası.
+     */
+    private static final class FlightTerms {
+        private final String departurePlace;
+        private final String arrivalPlace;
+        private final String[] route; // Şehirler, havalimanları ve kodlar; rota yoksa null
+
+        private FlightTerms(Flight flight) {
+            this.departurePlace = flight.getDeparturePlace();
+            this.arrivalPlace = flight.getArrivalPlace();
+            Route r = flight.getRoute();
+            this.route = r == null ? null : new String[] {
+                    r.getDepartureCity(), r.getArrivalCity(), r.getDepartureAirport(), r.getArrivalAirport(),
+                    r.getDepartureAirportCode(), r.getArrivalAirportCode() };
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FlightTerms)) {
+                return false;
+            }
+            FlightTerms other = (FlightTerms) o;
+            return java.util.Objects.equals(departurePlace, other.departurePlace)
+                    && java.util.Objects.equals(arrivalPlace, other.arrivalPlace)
+                    && java.util.Arrays.equals(route, other.route);
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(departurePlace, arrivalPlace) * 31 + java.util.Arrays.hashCode(route);
+        }
+    }
+
+    /**
+     * Boş bir indeks oluşturur.
+     */
+    public CityAutocompleteIndex() {
+        this.root = new Node();
+        this.departureCities = new TreeMap<>();
+        this.arrivalCities = new TreeMap<>();
+        this.indexedFlights = new java.util.HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+        this.flightListener = (type, flight) -> {
+            if (type == DataChangeListener.ChangeType.ADDED) {
+                addFlight(flight);
+            } else if (type == DataChangeListener.ChangeType.REMOVED) {
+                removeFlight(flight);
+            } else {
+                updateFlight(flight);
+            }
+        };
+        this.routeListener = (type, route) -> {
+            if (type == DataChangeListener.ChangeType.REMOVED) {
+                removeRoute(route);
+            } else if (type == DataChangeListener.ChangeType.ADDED) {
+                addRoute(route);
+            }
+        };
+    }
+
+    /**
+     * FlightManager'daki uçuş ve rotalarla indeksi oluşturur ve değişiklikleri dinler.
+     */
+    public void attachTo(FlightManager flightManager) {
+        detach();
+        this.flightManager = flightManager;
+        rebuild();
+        flightManager.addChangeListener(flightListener);
+        flightManager.addRouteListener(routeListener);
+    }
+
+    /**
+     * Bağlı olunan FlightManager'ı dinlemeyi bırakır.
+     */
+    public void detach() {
+        if (flightManager != null) {
+            flightManager.removeChangeListener(flightListener);
+            flightManager.removeRouteListener(routeListener);
+            flightManager = null;
+        }
+    }
+
+    /**
+     * İndeksi bağlı FlightManager'dan yeniden oluşturur.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.terms = null;
+            departureCities.clear();
+            arrivalCities.clear();
+            indexedFlights.clear();
+            if (flightManager == null) {
+                return;
+            }
+            java.util.Iterator<Route> routeIterator = flightManager.getAllRoutes().iterator();
+            while (routeIterator.hasNext()) {
+                addRoute(routeIterator.next());
+            }
+            java.util.Iterator<Flight> flightIterator = flightManager.getFlightsView().iterator();
+            while (flightIterator.hasNext()) {
+                addFlight(flightIterator.next());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Uçuşun şehirlerini (ve rotası varsa havalimanlarını) ekler.
+     * Aynı numaralı uçuş zaten indeksliyse önceki terimleri yerine geçer.
+     */
+    public void addFlight(Flight flight) {
+        lock.writeLock().lock();
+        try {
+            FlightTerms terms = new FlightTerms(flight);
+            FlightTerms previous = indexedFlights.put(flight.getFlightNum(), terms);
+            if (previous != null) {
+                applyFlightTerms(previous, -1);
+            }
+            applyFlightTerms(terms, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Uçuşun eklediği terimleri geri alır.
+     */
+    public void removeFlight(Flight flight) {
+        lock.writeLock().lock();
+        try {
+            FlightTerms terms = indexedFlights.remove(flight.getFlightNum());
+            if (terms != null) {
+                applyFlightTerms(terms, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Güncellenen uçuşun değişen terimlerini düzeltir.
+     * Şehir ve rota bilgisi değişmediyse indekse dokunulmaz.
+     */
+    public void updateFlight(Flight flight) {
+        lock.writeLock().lock();
+        try {
+            FlightTerms terms = new FlightTerms(flight);
+            FlightTerms previous = indexedFlights.get(flight.getFlightNum());
+            if (terms.equals(previous)) {
+                return;
+            }
+            indexedFlights.put(flight.getFlightNum(), terms);
+            if (previous != null) {
+                applyFlightTerms(previous, -1);
+            }
+            applyFlightTerms(terms, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyFlightTerms(FlightTerms terms, int delta) {
+        updateCity(departureCities, terms.departurePlace, delta);
+        updateCity(arrivalCities, terms.arrivalPlace, delta);
+        if (terms.route != null) {
+            String[] r = terms.route;
+            updateRouteTerms(r[0], r[1], r[2], r[3], r[4], r[5], delta);
+        } else {
+            updateTerm(terms.departurePlace, terms.departurePlace, CitySuggestion.MatchType.CITY, delta);
+            updateTerm(terms.arrivalPlace, terms.arrivalPlace, CitySuggestion.MatchType.CITY, delta);
+        }
+    }
+
+    /**
+     * Rotanın şehir, havalimanı ve kodlarını ekler.
+     */
+    public void addRoute(Route route) {
+        lock.writeLock().lock();
+        try {
+            updateRoute(route, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rotanın eklediği terimleri geri alır.
+     */
+    public void removeRoute(Route route) {
+        lock.writeLock().lock();
+        try {
+            updateRoute(route, -1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Öneke uyan şehirleri döndürür. Her şehir bir kez yer alır;
+     * şehir adıyla eşleşenler havalimanı ve kod eşleşmelerinden önce gelir.
+     * @param prefix Kullanıcının yazdığı metin
+     * @param limit En fazla öneri sayısı
+     */
+    public List<CitySuggestion> suggest(String prefix, int limit) {
+        List<CitySuggestion> results = new ArrayList<>();
+        String key = TextFolding.fold(prefix);
+        if (key == null || key.isEmpty() || limit <= 0) {
+            return results;
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length() && node != null) {
+                node = node.children.get(key.charAt(i));
+                i++;
+            }
+            if (node == null) {
+                return results;
+            }
+
+            // Alt ağaçtaki terimleri topla, şehir başına en iyi eşleşmeyi tut
+            Map<String, CitySuggestion> byCity = new LinkedHashMap<>();
+            collect(node, byCity, limit);
+            List<CitySuggestion> cityMatches = new ArrayList<>();
+            java.util.Iterator<CitySuggestion> iterator = byCity.values().iterator();
+            while (iterator.hasNext()) {
+                CitySuggestion suggestion = iterator.next();
+                if (suggestion.getMatchType() == CitySuggestion.MatchType.CITY) {
+                    cityMatches.add(suggestion);
+                } else {
+                    results.add(suggestion);
+                }
+            }
+            cityMatches.addAll(results);
+            return cityMatches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Uçuşu olan kalkış şehirlerini sıralı döndürür.
+     */
+    public List<String> getDepartureCities() {
+        return cityNames(departureCities);
+    }
+
+    /**
+     * Uçuşu olan varış şehirlerini sıralı döndürür.
+     */
+    public List<String> getArrivalCities() {
+        return cityNames(arrivalCities);
+    }
+
+    /**
+     * İndeksteki terim düğümü sayısını döndürür (test için).
+     */
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return countTerms(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> cityNames(TreeMap<String, CityCount> cities) {
+        lock.readLock().lock();
+        try {
+            List<String> names = new ArrayList<>(cities.size());
+            java.util.Iterator<CityCount> iterator = cities.values().iterator();
+            while (iterator.hasNext()) {
+                names.add(iterator.next().name);
+            }
+            return names;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Alt ağacı derinlik öncelikli dolaşır, limit dolunca durur.
+     */
+    private void collect(Node node, Map<String, CitySuggestion> byCity, int limit) {
+        if (node.terms != null) {
+            java.util.Iterator<Map.Entry<String, Term>> iterator = node.terms.entrySet().iterator();
+            while (iterator.hasNext() && byCity.size() < limit) {
+                Map.Entry<String, Term> entry = iterator.next();
+                String cityKey = TextFolding.fold(entry.getKey());
+                CitySuggestion existing = byCity.get(cityKey);
+                Term term = entry.getValue();
+                if (existing == null || (existing.getMatchType() != CitySuggestion.MatchType.CITY
+                        && term.type == CitySuggestion.MatchType.CITY)) {
+                    byCity.put(cityKey, new CitySuggestion(entry.getKey(), term.text, term.type));
+                }
+            }
+        }
+        java.util.Iterator<Node> children = node.children.values().iterator();
+        while (children.hasNext() && byCity.size() < limit) {
+            collect(children.next(), byCity, limit);
+        }
+    }
+
+    private void updateRoute(Route route, int delta) {
+        updateRouteTerms(route.getDepartureCity(), route.getArrivalCity(), route.getDepartureAirport(),
+                route.getArrivalAirport(), route.getDepartureAirportCode(), route.getArrivalAirportCode(), delta);
+    }
+
+    private void updateRouteTerms(String departure, String arrival, String departureAirport, String arrivalAirport,
+                                  String departureCode, String arrivalCode, int delta) {
+        updateTerm(departure, departure, CitySuggestion.MatchType.CITY, delta);
+        updateTerm(arrival, arrival, CitySuggestion.MatchType.CITY, delta);
+        updateAirport(departure, departureAirport, delta);
+        updateAirport(arrival, arrivalAirport, delta);
+        updateTerm(departureCode, departure, CitySuggestion.MatchType.CODE, delta);
+        updateTerm(arrivalCode, arrival, CitySuggestion.MatchType.CODE, delta);
+    }
+
+    /**
+     * Havalimanı adını tamamıyla ve kelime kelime ekler ("Esenboğa Havalimanı" -> "esenboga", "havalimani").
+     */
+    private void updateAirport(String city, String airport, int delta) {
+        if (airport == null) {
+            return;
+        }
+        updateTerm(airport, city, CitySuggestion.MatchType.AIRPORT, delta);
+        String[] words = airport.trim().split("\\s+");
+        Set<String> seen = new HashSet<>();
+        seen.add(TextFolding.fold(airport));
+        int i = 1; // İlk kelime tam ad ile aynı önekten başlar
+        while (i < words.length) {
+            if (seen.add(TextFolding.fold(words[i]))) {
+                updateTerm(words[i], city, CitySuggestion.MatchType.AIRPORT, delta, airport);
+            }
+            i++;
+        }
+    }
+
+    private void updateTerm(String text, String city, CitySuggestion.MatchType type, int delta) {
+        updateTerm(text, city, type, delta, text);
+    }
+
+    /**
+     * Terimin referans sayısını değiştirir, sıfıra düşen terimleri ve boş dalları siler.
+     */
+    private void updateTerm(String text, String city, CitySuggestion.MatchType type, int delta, String display) {
+        String key = TextFolding.fold(text);
+        if (key == null || key.isEmpty() || city == null) {
+            return;
+        }
+
+        // Yol boyunca düğümleri tut, silmede geri dönerek boş dalları temizle
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            char c = key.charAt(i);
+            Node child = node.children.get(c);
+            if (child == null) {
+                if (delta < 0) {
+                    return;
+                }
+                child = new Node();
+                node.children.put(c, child);
+            }
+            node = child;
+            path.add(node);
+            i++;
+        }
+
+        if (node.terms == null) {
+            if (delta < 0) {
+                return;
+            }
+            node.terms = new TreeMap<>();
+        }
+        String cityName = city.trim();
+        Term term = node.terms.get(cityName);
+        if (term == null) {
+            if (delta < 0) {
+                return;
+            }
+            term = new Term(display.trim(), type);
+            node.terms.put(cityName, term);
+        }
+        term.references += delta;
+        if (term.references > 0) {
+            return;
+        }
+
+        node.terms.remove(cityName);
+        if (node.terms.isEmpty()) {
+            node.terms = null;
+        }
+        int depth = key.length();
+        while (depth > 0) {
+            Node current = path.get(depth);
+            if (current.terms != null || !current.children.isEmpty()) {
+                break;
+            }
+            path.get(depth - 1).children.remove(key.charAt(depth - 1));
+            depth--;
+        }
+    }
+
+    private void updateCity(TreeMap<String, CityCount> cities, String city, int delta) {
+        String key = TextFolding.fold(city);
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        CityCount count = cities.get(key);
+        if (count == null) {
+            if (delta < 0) {
+                return;
+            }
+            count = new CityCount(city.trim());
+            cities.put(key, count);
+        }
+        count.references += delta;
+        if (count.references <= 0) {
+            cities.remove(key);
+        }
+    }
+
+    private int countTerms(Node node) {
+        int count = node.terms != null ? node.terms.size() : 0;
+        java.util.Iterator<Node> iterator = node.children.values().iterator();
+        while (iterator.hasNext()) {
+            count += countTerms(iterator.next());
+        }
+        return count;
+    }
+}
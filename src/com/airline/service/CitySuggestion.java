@@ -0,0 +1,51 @@
+package com.airline.service;
+
+/**
+ * Otomatik tamamlama önerisi.
+ * Kullanıcı şehir, havalimanı adı veya IATA kodu yazabilir;
+ * her durumda seçilecek değer şehir adıdır.
+ */
+public final class CitySuggestion {
+
+    /**
+     * Önerinin hangi alandan eşleştiği
+     */
+    public enum MatchType {
+        CITY, // Şehir adı
+        AIRPORT, // Havalimanı adı
+        CODE // IATA kodu
+    }
+
+    private final String city;
+    private final String matchedText;
+    private final MatchType matchType;
+
+    public CitySuggestion(String city, String matchedText, MatchType matchType) {
+        this.city = city;
+        this.matchedText = matchedText;
+        this.matchType = matchType;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getMatchedText() {
+        return matchedText;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    /**
+     * Listede gösterilecek metin. Örn: "İstanbul", "Ankara (ESB)"
+     */
+    @Override
+    public String toString() {
+        if (matchType == MatchType.CITY) {
+            return city;
+        }
+        return city + " (" + matchedText + ")";
+    }
+}
@@ -0,0 +1,271 @@
+package com.airline.service;
+
+import com.airline.manager.DataChangeListener;
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Plane;
+import com.airline.model.Reservation;
+import com.airline.model.enums.FareBucket;
+import com.airline.model.enums.SeatClass;
+import com.airline.util.AppClock;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Doluluk oranı ve kalkışa kalan gün sayısına göre dinamik fiyat hesaplar.
+ * Fiyatlar uçuş bazında önbellekte tutulur; bir uçuşun doluluğu değiştiğinde
+ * sadece o uçuşun fiyatı yeniden hesaplanır. Hesaplanan FareQuote nesneleri
+ * değiştirilemez olduğundan okuyucular kilit almadan erişir.
+ */
+public class DynamicPricingEngine {
+
+    private final FlightManager flightManager; // null olabilir
+    private final PriceCalculator priceCalculator;
+    private final ConcurrentHashMap<String, FareQuote> quotes;
+    private final DataChangeListener<Reservation> reservationListener;
+    private final DataChangeListener<Flight> flightListener;
+    private final List<Consumer<FareQuote>> quoteListeners;
+
+    /**
+     * DynamicPricingEngine oluşturur.
+     * @param flightManager Uçuşların güncel halini bulmak için (null olabilir)
+     * @param priceCalculator Taban fiyat hesaplayıcı
+     */
+    public DynamicPricingEngine(FlightManager flightManager, PriceCalculator priceCalculator) {
+        if (priceCalculator == null) {
+            throw new IllegalArgumentException("Fiyat hesaplayıcı boş olamaz!");
+        }
+        this.flightManager = flightManager;
+        this.priceCalculator = priceCalculator;
+        this.quotes = new ConcurrentHashMap<>();
+        this.reservationListener = (type, reservation) -> {
+            if (reservation != null && reservation.getFlight() != null) {
+                onOccupancyChanged(reservation.getFlight());
+            }
+        };
+        this.flightListener = (type, flight) -> {
+            if (type == DataChangeListener.ChangeType.REMOVED) {
+                invalidate(flight.getFlightNum());
+            } else {
+                recompute(flight);
+            }
+        };
+        this.quoteListeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Rezervasyon değişikliklerini dinlemeye başlar.
+     * Bağlanmayan bir motor, doluluk değişikliklerinden haberdar olmaz.
+     */
+    public void attachTo(ReservationManager reservationManager) {
+        reservationManager.addChangeListener(reservationListener);
+    }
+
+    /**
+     * Uçuş ekleme, güncelleme ve silme işlemlerini dinlemeye başlar.
+     */
+    public void attachTo(FlightManager flightManager) {
+        flightManager.addChangeListener(flightListener);
+    }
+
+    /**
+     * Uçuş değişikliklerini dinlemeyi bırakır.
+     */
+    public void detachFrom(FlightManager flightManager) {
+        flightManager.removeChangeListener(flightListener);
+    }
+
+    /**
+     * Yeniden hesaplanan fiyatları dinleyecek callback ekler.
+     * Callback, hesaplamayı yapan thread üzerinde çağrılır.
+     */
+    public void addQuoteListener(Consumer<FareQuote> listener) {
+        if (listener != null) {
+            quoteListeners.add(listener);
+        }
+    }
+
+    /**
+     * Fiyat dinleyicisini kaldırır.
+     */
+    public void removeQuoteListener(Consumer<FareQuote> listener) {
+        quoteListeners.remove(listener);
+    }
+
+    /**
+     * Rezervasyon değişikliklerini dinlemeyi bırakır.
+     */
+    public void detachFrom(ReservationManager reservationManager) {
+        reservationManager.removeChangeListener(reservationListener);
+    }
+
+    /**
+     * Rezervasyon yöneticisine bağlanacak dinleyiciyi döndürür.
+     */
+    public DataChangeListener<Reservation> getReservationListener() {
+        return reservationListener;
+    }
+
+    /**
+     * Uçuşun güncel fiyat bilgisini döndürür.
+     * Önbellekte yoksa veya gün değiştiyse yeniden hesaplanır.
+     */
+    public FareQuote getQuote(Flight flight) {
+        if (flight == null) {
+            throw new IllegalArgumentException("Uçuş bilgisi boş olamaz!");
+        }
+        FareQuote quote = quotes.get(flight.getFlightNum());
+        if (quote == null || quote.getPricedOnDay() != AppClock.today().toEpochDay()) {
+            quote = recompute(flight);
+        }
+        return quote;
+    }
+
+    /**
+     * Belirli bir sınıf için güncel bilet fiyatını döndürür.
+     */
+    public double getFare(Flight flight, SeatClass seatClass) {
+        return getQuote(flight).getFare(seatClass);
+    }
+
+    /**
+     * Boş koltuğu olan en ucuz sınıfın fiyatını döndürür.
+     */
+    public double getLowestFare(Flight flight) {
+        return getQuote(flight).getLowestAvailableFare();
+    }
+
+    /**
+     * Uçuşun fiyatını yeniden hesaplar ve yayınlar.
+     * Aynı uçuş için eşzamanlı hesaplamalar sıraya girer, okuyucular beklemez.
+     */
+    public FareQuote recompute(Flight flight) {
+        Flight current = resolve(flight);
+        FareQuote quote = quotes.compute(current.getFlightNum(), (key, old) -> computeQuote(current));
+        // Dinleyiciler compute dışında bilgilendirilir
+        java.util.Iterator<Consumer<FareQuote>> iterator = quoteListeners.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().accept(quote);
+        }
+        return quote;
+    }
+
+    /**
+     * Doluluğu değişen uçuşun fiyatını günceller.
+     */
+    public void onOccupancyChanged(Flight flight) {
+        recompute(flight);
+    }
+
+    /**
+     * Uçuşun fiyatını önbellekten çıkarır (uçuş silindiğinde).
+     */
+    public void invalidate(String flightNum) {
+        if (flightNum != null) {
+            quotes.remove(flightNum);
+        }
+    }
+
+    /**
+     * Tüm önbelleği temizler.
+     */
+    public void clear() {
+        quotes.clear();
+    }
+
+    /**
+     * Verilen uçuşların fiyatlarını önceden hesaplar.
+     */
+    public void warmUp(List<Flight> flights) {
+        java.util.Iterator<Flight> iterator = flights.iterator();
+        while (iterator.hasNext()) {
+            recompute(iterator.next());
+        }
+    }
+
+    /**
+     * Uçuşları en düşük fiyata göre sıralar (dolu uçuşlar sona düşer).
+     * Eşit fiyatlarda kalkış saati önce olan öne geçer.
+     */
+    public List<Flight> sortByPrice(List<Flight> flights) {
+        List<Flight> sorted = new ArrayList<>(flights);
+        sorted.sort(Comparator.<Flight>comparingDouble(this::getLowestFare)
+                .thenComparing(Flight::getDepartureDateTime));
+        return sorted;
+    }
+
+    /**
+     * Önbellekteki fiyat sayısını döndürür.
+     */
+    public int getCachedQuoteCount() {
+        return quotes.size();
+    }
+
+    /**
+     * Fiyat bilgisini hesaplar.
+     * Fiyat = taban fiyat x doluluk kovası çarpanı x erken rezervasyon çarpanı
+     */
+    private FareQuote computeQuote(Flight flight) {
+        Plane plane = flight.getPlane();
+        int capacity = plane != null ? plane.getCapacity() : 0;
+        int availableEconomy = plane != null ? plane.getAvailableSeatCountByClass(SeatClass.ECONOMY) : 0;
+        int availableBusiness = plane != null ? plane.getAvailableSeatCountByClass(SeatClass.BUSINESS) : 0;
+        int reserved = capacity - availableEconomy - availableBusiness;
+        double loadFactor = capacity > 0 ? (double) reserved / capacity : 1.0;
+
+        LocalDate today = AppClock.today();
+        long daysToDeparture = Math.max(0, ChronoUnit.DAYS.between(today, flight.getDate()));
+
+        FareBucket bucket = FareBucket.forLoadFactor(loadFactor);
+        double factor = bucket.getMultiplier() * advancePurchaseMultiplier(daysToDeparture);
+
+        double economyFare = priceCalculator.roundPrice(
+                priceCalculator.calculatePrice(SeatClass.ECONOMY, flight) * factor);
+        double businessFare = priceCalculator.roundPrice(
+                priceCalculator.calculatePrice(SeatClass.BUSINESS, flight) * factor);
+
+        return new FareQuote(flight.getFlightNum(), economyFare, businessFare, loadFactor, bucket,
+                daysToDeparture, availableEconomy, availableBusiness, today.toEpochDay());
+    }
+
+    /**
+     * Kalkışa kalan gün sayısına göre çarpan döndürür.
+     * Erken alınan biletler daha ucuz, son günlerde alınanlar daha pahalıdır.
+     */
+    private double advancePurchaseMultiplier(long daysToDeparture) {
+        if (daysToDeparture >= 30) {
+            return 0.90;
+        }
+        if (daysToDeparture >= 14) {
+            return 1.00;
+        }
+        if (daysToDeparture >= 7) {
+            return 1.10;
+        }
+        if (daysToDeparture >= 2) {
+            return 1.25;
+        }
+        return 1.40;
+    }
+
+    /**
+     * Rezervasyonlardaki uçuş kopyası yerine FlightManager'daki güncel uçuşu bulur.
+     */
+    private Flight resolve(Flight flight) {
+        if (flightManager != null) {
+            Flight current = flightManager.getFlightByNumber(flight.getFlightNum());
+            if (current != null) {
+                return current;
+            }
+        }
+        return flight;
+    }
+}
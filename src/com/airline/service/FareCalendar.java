@@ -0,0 +1,368 @@
+package com.airline.service;
+
+import com.airline.manager.DataChangeListener;
+import com.airline.manager.FlightManager;
+import com.airline.model.Flight;
+import com.airline.util.AppClock;
+import com.airline.util.TextFolding;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Şehir çifti bazında önümüzdeki N gün için en düşük fiyat takvimini tutar.
+ * Her şehir çifti için gün başına en düşük fiyat ve boş koltuk sayısı
+ * dizilerde saklanır. Rezervasyon ve uçuş değişikliklerinde sadece
+ * ilgili günün hücresi yeniden hesaplanır, tüm katalog taranmaz.
+ */
+public class FareCalendar {
+
+    public static final int DEFAULT_DAYS = 90;
+
+    private static final Locale TURKISH = new Locale("tr", "TR");
+
+    private final FlightManager flightManager;
+    private final DynamicPricingEngine pricingEngine;
+    private final int days;
+    private final Map<String, PairCalendar> pairs;
+    private final Map<String, Slot> slots; // Uçuş numarası -> takvimdeki yeri
+    private final DataChangeListener<Flight> flightListener;
+    private final Consumer<FareQuote> quoteListener;
+    private long startDay; // Takvimin ilk günü (epoch day)
+
+    /**
+     * Bir şehir çiftinin günlük fiyat ve koltuk dizileri.
+     */
+    private static final class PairCalendar {
+        private final double[] lowestFares;
+        private final int[] seats;
+        private final List<List<Flight>> flightsByDay;
+
+        private PairCalendar(int days) {
+            this.lowestFares = new double[days];
+            this.seats = new int[days];
+            this.flightsByDay = new ArrayList<>(days);
+            java.util.Arrays.fill(lowestFares, Double.POSITIVE_INFINITY);
+            int i = 0;
+            while (i < days) {
+                flightsByDay.add(null); // Uçuş eklenince oluşturulur
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Bir uçuşun takvimdeki yeri.
+     */
+    private static final class Slot {
+        private final String pairKey;
+        private final int dayIndex;
+
+        private Slot(String pairKey, int dayIndex) {
+            this.pairKey = pairKey;
+            this.dayIndex = dayIndex;
+        }
+    }
+
+    /**
+     * Varsayılan gün sayısı ile FareCalendar oluşturur.
+     */
+    public FareCalendar(FlightManager flightManager, DynamicPricingEngine pricingEngine) {
+        this(flightManager, pricingEngine, DEFAULT_DAYS);
+    }
+
+    /**
+     * FareCalendar oluşturur, takvimi hesaplar ve değişiklikleri dinlemeye başlar.
+     * @param flightManager Uçuş yöneticisi
+     * @param pricingEngine Fiyatların alınacağı motor
+     * @param days Takvimde tutulacak gün sayısı
+     */
+    public FareCalendar(FlightManager flightManager, DynamicPricingEngine pricingEngine, int days) {
+        if (flightManager == null || pricingEngine == null) {
+            throw new IllegalArgumentException("Uçuş yöneticisi ve fiyatlandırma motoru boş olamaz!");
+        }
+        if (days <= 0) {
+            throw new IllegalArgumentException("Gün sayısı pozitif olmalıdır!");
+        }
+        this.flightManager = flightManager;
+        this.pricingEngine = pricingEngine;
+        this.days = days;
+        this.pairs = new HashMap<>();
+        this.slots = new HashMap<>();
+        this.flightListener = this::onFlightChanged;
+        this.quoteListener = this::onQuoteChanged;
+
+        rebuild();
+        flightManager.addChangeListener(flightListener);
+        pricingEngine.addQuoteListener(quoteListener);
+    }
+
+    /**
+     * Değişiklikleri dinlemeyi bırakır.
+     */
+    public void close() {
+        flightManager.removeChangeListener(flightListener);
+        pricingEngine.removeQuoteListener(quoteListener);
+    }
+
+    /**
+     * Takvimi tüm uçuşlardan yeniden oluşturur.
+     * Gün değiştiğinde pencere kaydığı için otomatik çağrılır.
+     */
+    public synchronized void rebuild() {
+        pairs.clear();
+        slots.clear();
+        startDay = AppClock.today().toEpochDay();
+
+        java.util.Iterator<Flight> iterator = flightManager.getAllFlights().iterator();
+        while (iterator.hasNext()) {
+            Slot slot = place(iterator.next());
+            if (slot != null) {
+                refreshCell(slot);
+            }
+        }
+    }
+
+    /**
+     * Belirli bir gün için en düşük fiyatı döndürür.
+     * @return En düşük fiyat, uçuş yoksa Double.POSITIVE_INFINITY
+     */
+    public synchronized double getLowestFare(String from, String to, LocalDate date) {
+        ensureWindow();
+        PairCalendar calendar = pairs.get(pairKey(from, to));
+        int index = indexOf(date);
+        if (calendar == null || index < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return calendar.lowestFares[index];
+    }
+
+    /**
+     * Belirli bir gün için toplam boş koltuk sayısını döndürür.
+     */
+    public synchronized int getAvailableSeats(String from, String to, LocalDate date) {
+        ensureWindow();
+        PairCalendar calendar = pairs.get(pairKey(from, to));
+        int index = indexOf(date);
+        if (calendar == null || index < 0) {
+            return 0;
+        }
+        return calendar.seats[index];
+    }
+
+    /**
+     * Tarih aralığındaki günlük en düşük fiyatları döndürür.
+     * Dizinin i. elemanı startDate + i gününe aittir.
+     */
+    public synchronized double[] getLowestFares(String from, String to, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        ensureWindow();
+        int length = (int) (endDate.toEpochDay() - startDate.toEpochDay() + 1);
+        double[] result = new double[length];
+        java.util.Arrays.fill(result, Double.POSITIVE_INFINITY);
+
+        PairCalendar calendar = pairs.get(pairKey(from, to));
+        if (calendar == null) {
+            return result;
+        }
+        int offset = (int) (startDate.toEpochDay() - startDay);
+        int from0 = Math.max(0, offset);
+        int to0 = Math.min(days - 1, offset + length - 1);
+        if (from0 <= to0) {
+            System.arraycopy(calendar.lowestFares, from0, result, from0 - offset, to0 - from0 + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Tarih aralığındaki en ucuz günü bulur.
+     * Eşit fiyatlarda daha erken gün seçilir.
+     * @return En ucuz gün veya uçuş yoksa null
+     */
+    public synchronized LocalDate findCheapestDay(String from, String to, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        ensureWindow();
+        PairCalendar calendar = pairs.get(pairKey(from, to));
+        if (calendar == null) {
+            return null;
+        }
+        int first = (int) Math.max(0, startDate.toEpochDay() - startDay);
+        int last = (int) Math.min(days - 1, endDate.toEpochDay() - startDay);
+
+        int cheapest = -1;
+        double cheapestFare = Double.POSITIVE_INFINITY;
+        int i = first;
+        while (i <= last) {
+            if (calendar.lowestFares[i] < cheapestFare) {
+                cheapestFare = calendar.lowestFares[i];
+                cheapest = i;
+            }
+            i++;
+        }
+        return cheapest < 0 ? null : LocalDate.ofEpochDay(startDay + cheapest);
+    }
+
+    /**
+     * Verilen aydaki en ucuz günü bulur.
+     */
+    public LocalDate findCheapestDayInMonth(String from, String to, YearMonth month) {
+        return findCheapestDay(from, to, month.atDay(1), month.atEndOfMonth());
+    }
+
+    /**
+     * Takvimin ilk gününü döndürür.
+     */
+    public synchronized LocalDate getStartDate() {
+        return LocalDate.ofEpochDay(startDay);
+    }
+
+    /**
+     * Takvimin son gününü döndürür.
+     */
+    public synchronized LocalDate getEndDate() {
+        return LocalDate.ofEpochDay(startDay + days - 1);
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Uçuş eklendiğinde, güncellendiğinde veya silindiğinde çağrılır.
+     */
+    private synchronized void onFlightChanged(DataChangeListener.ChangeType type, Flight flight) {
+        if (ensureWindow()) {
+            return; // Takvim zaten baştan oluşturuldu
+        }
+        if (type != DataChangeListener.ChangeType.ADDED) {
+            unplace(flight.getFlightNum());
+        }
+        if (type != DataChangeListener.ChangeType.REMOVED) {
+            Slot slot = place(flight);
+            if (slot != null) {
+                refreshCell(slot);
+            }
+        }
+    }
+
+    /**
+     * Bir uçuşun fiyatı yeniden hesaplandığında çağrılır.
+     */
+    private synchronized void onQuoteChanged(FareQuote quote) {
+        if (ensureWindow()) {
+            return;
+        }
+        Slot slot = slots.get(quote.getFlightNum().toUpperCase(TURKISH));
+        if (slot != null) {
+            refreshCell(slot);
+        }
+    }
+
+    /**
+     * Uçuşu takvimdeki hücresine ekler. Pencere dışındaysa null döner.
+     */
+    private Slot place(Flight flight) {
+        int index = indexOf(flight.getDate());
+        if (index < 0) {
+            return null;
+        }
+        String key = pairKey(flight.getDeparturePlace(), flight.getArrivalPlace());
+        PairCalendar calendar = pairs.computeIfAbsent(key, k -> new PairCalendar(days));
+        List<Flight> dayFlights = calendar.flightsByDay.get(index);
+        if (dayFlights == null) {
+            dayFlights = new ArrayList<>(2);
+            calendar.flightsByDay.set(index, dayFlights);
+        }
+        dayFlights.add(flight);
+
+        Slot slot = new Slot(key, index);
+        slots.put(flight.getFlightNum().toUpperCase(TURKISH), slot);
+        return slot;
+    }
+
+    /**
+     * Uçuşu eski hücresinden çıkarır ve hücreyi günceller.
+     */
+    private void unplace(String flightNum) {
+        Slot slot = slots.remove(flightNum.toUpperCase(TURKISH));
+        if (slot == null) {
+            return;
+        }
+        List<Flight> dayFlights = pairs.get(slot.pairKey).flightsByDay.get(slot.dayIndex);
+        if (dayFlights != null) {
+            dayFlights.removeIf(f -> f.getFlightNum().equalsIgnoreCase(flightNum));
+        }
+        refreshCell(slot);
+    }
+
+    /**
+     * Tek bir günün en düşük fiyatını ve koltuk sayısını yeniden hesaplar.
+     */
+    private void refreshCell(Slot slot) {
+        PairCalendar calendar = pairs.get(slot.pairKey);
+        List<Flight> dayFlights = calendar.flightsByDay.get(slot.dayIndex);
+
+        double lowest = Double.POSITIVE_INFINITY;
+        int seats = 0;
+        if (dayFlights != null) {
+            long now = AppClock.currentEpochMinute();
+            java.util.Iterator<Flight> iterator = dayFlights.iterator();
+            while (iterator.hasNext()) {
+                Flight flight = iterator.next();
+                if (flight.isExpiredAt(now)) {
+                    continue;
+                }
+                FareQuote quote = pricingEngine.getQuote(flight);
+                seats += quote.getAvailableEconomy() + quote.getAvailableBusiness();
+                lowest = Math.min(lowest, quote.getLowestAvailableFare());
+            }
+        }
+        calendar.lowestFares[slot.dayIndex] = lowest;
+        calendar.seats[slot.dayIndex] = seats;
+    }
+
+    /**
+     * Gün değiştiyse takvimi yeniden oluşturur.
+     * @return Takvim yeniden oluşturulduysa true
+     */
+    private boolean ensureWindow() {
+        if (AppClock.today().toEpochDay() != startDay) {
+            rebuild();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Tarihin takvimdeki indeksini döndürür, pencere dışındaysa -1.
+     */
+    private int indexOf(LocalDate date) {
+        if (date == null) {
+            return -1;
+        }
+        long index = date.toEpochDay() - startDay;
+        return index >= 0 && index < days ? (int) index : -1;
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Tarihler boş olamaz!");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Başlangıç tarihi bitiş tarihinden sonra olamaz!");
+        }
+    }
+
+    private static String pairKey(String from, String to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Kalkış ve varış şehri boş olamaz!");
+        }
+        return TextFolding.fold(from) + "|" + TextFolding.fold(to);
+    }
+}
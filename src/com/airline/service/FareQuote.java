@@ -0,0 +1,106 @@
+package com.airline.service;
+
+import com.airline.model.enums.FareBucket;
+import com.airline.model.enums.SeatClass;
+
+/**
+ * Bir uçuş için hesaplanmış güncel fiyat bilgisini tutar.
+ * Değiştirilemez (immutable) olduğu için okuyucular kilit almadan kullanabilir.
+ */
+public final class FareQuote {
+
+    private final String flightNum;
+    private final double economyFare;
+    private final double businessFare;
+    private final double loadFactor; // 0-1 arası
+    private final FareBucket bucket;
+    private final long daysToDeparture;
+    private final int availableEconomy;
+    private final int availableBusiness;
+    private final long pricedOnDay; // Hesaplandığı gün (epoch day)
+
+    public FareQuote(String flightNum, double economyFare, double businessFare,
+                     double loadFactor, FareBucket bucket, long daysToDeparture,
+                     int availableEconomy, int availableBusiness, long pricedOnDay) {
+        this.flightNum = flightNum;
+        this.economyFare = economyFare;
+        this.businessFare = businessFare;
+        this.loadFactor = loadFactor;
+        this.bucket = bucket;
+        this.daysToDeparture = daysToDeparture;
+        this.availableEconomy = availableEconomy;
+        this.availableBusiness = availableBusiness;
+        this.pricedOnDay = pricedOnDay;
+    }
+
+    /**
+     * Sınıfa göre bilet fiyatını döndürür.
+     */
+    public double getFare(SeatClass seatClass) {
+        return seatClass == SeatClass.BUSINESS ? businessFare : economyFare;
+    }
+
+    /**
+     * Boş koltuğu olan en ucuz sınıfın fiyatını döndürür.
+     * Uçuş doluysa Double.POSITIVE_INFINITY döner (sıralamada sona düşer).
+     */
+    public double getLowestAvailableFare() {
+        if (availableEconomy > 0) {
+            return economyFare;
+        }
+        if (availableBusiness > 0) {
+            return businessFare;
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Uçuşta boş koltuk kalmadıysa true döner.
+     */
+    public boolean isSoldOut() {
+        return availableEconomy + availableBusiness == 0;
+    }
+
+    // Getter metodları
+    public String getFlightNum() {
+        return flightNum;
+    }
+
+    public double getEconomyFare() {
+        return economyFare;
+    }
+
+    public double getBusinessFare() {
+        return businessFare;
+    }
+
+    public double getLoadFactor() {
+        return loadFactor;
+    }
+
+    public FareBucket getBucket() {
+        return bucket;
+    }
+
+    public long getDaysToDeparture() {
+        return daysToDeparture;
+    }
+
+    public int getAvailableEconomy() {
+        return availableEconomy;
+    }
+
+    public int getAvailableBusiness() {
+        return availableBusiness;
+    }
+
+    public long getPricedOnDay() {
+        return pricedOnDay;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FareQuote{flight='%s', economy=%.2f, business=%.2f, bucket=%s, load=%.2f}",
+                flightNum, economyFare, businessFare, bucket, loadFactor);
+    }
+}
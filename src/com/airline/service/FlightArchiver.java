@@ -0,0 +1,321 @@
+package com.airline.service;
+
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Reservation;
+import com.airline.model.Ticket;
+import com.airline.model.enums.ReservationStatus;
+import com.airline.util.AppClock;
+import com.airline.util.FileManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Kalkmış uçuşları ve bu uçuşlara ait rezervasyon/biletleri sıkıştırılmış
+ * arşiv dosyalarına taşır. Böylece yöneticilerdeki çalışma listeleri ve
+ * .dat dosyaları sadece güncel verileri içerir.
+ * Arşivdeki veriler raporlar için diskten okunarak sorgulanabilir (yavaş yol).
+ *
+ * Her çalışma kendi arşiv parçasını (örn. archive_flights-0001718000000000.dat.gz)
+ * yazar; mevcut arşiv dosyaları yeniden yazılmaz. Kayıtlar çalışma listelerinden
+ * ancak tüm parçalar diske yazıldıktan sonra çıkarılır.
+ */
+public class FlightArchiver {
+
+    private static final String FLIGHTS_ARCHIVE = "archive_flights";
+    private static final String RESERVATIONS_ARCHIVE = "archive_reservations";
+    private static final String TICKETS_ARCHIVE = "archive_tickets";
+    private static final String ARCHIVE_SUFFIX = ".dat.gz"; // Eski tek dosya: archive_flights.dat.gz
+
+    public static final long DEFAULT_INTERVAL_MINUTES = 60;
+
+    private final FlightManager flightManager;
+    private final ReservationManager reservationManager;
+    private ScheduledExecutorService scheduler;
+    private Consumer<ArchiveResult> onArchiveComplete;
+    private volatile ArchiveResult lastResult;
+
+    /**
+     * FlightArchiver oluşturur.
+     */
+    public FlightArchiver(FlightManager flightManager, ReservationManager reservationManager) {
+        if (flightManager == null || reservationManager == null) {
+            throw new IllegalArgumentException("Uçuş ve rezervasyon yöneticisi boş olamaz!");
+        }
+        this.flightManager = flightManager;
+        this.reservationManager = reservationManager;
+    }
+
+    /**
+     * Kalkmış uçuşları ve ilgili kayıtları arşive taşır.
+     * Önce kayıtlar bu çalışmaya ait arşiv parçalarına yazılır; yazma başarısız olursa
+     * yazılan parçalar silinir, IllegalStateException fırlatılır ve hiçbir kayıt
+     * çalışma listelerinden çıkarılmaz. Yazma başarılıysa önce rezervasyonlar çıkarılır,
+     * böylece fiyat ve arama servisleri uçuş silinmeden önce güncellenir.
+     * @return Arşivleme sonucu
+     */
+    public synchronized ArchiveResult archiveExpired() {
+        long start = System.currentTimeMillis();
+        long now = AppClock.currentEpochMinute();
+
+        List<Flight> flights = flightManager.getExpiredFlights(now);
+        if (flights.isEmpty()) {
+            return publish(new ArchiveResult(0, 0, 0, System.currentTimeMillis() - start));
+        }
+        Set<String> departed = new HashSet<>();
+        java.util.Iterator<Flight> iterator = flights.iterator();
+        while (iterator.hasNext()) {
+            departed.add(iterator.next().getFlightNum());
+        }
+
+        List<Ticket> tickets = new ArrayList<>();
+        List<Reservation> reservations = reservationManager.getReservationsForFlights(departed, tickets);
+        java.util.Iterator<Reservation> reservationIterator = reservations.iterator();
+        while (reservationIterator.hasNext()) {
+            Reservation reservation = reservationIterator.next();
+            if (reservation.isActive()) {
+                reservation.complete(); // Uçuş gerçekleşti; arşiv yazılamasa da geçerli durum
+            }
+        }
+
+        String runId = nextRunId();
+        List<String> written = new ArrayList<>();
+        try {
+            writeSegment(written, segmentName(FLIGHTS_ARCHIVE, runId), flights);
+            writeSegment(written, segmentName(RESERVATIONS_ARCHIVE, runId), reservations);
+            writeSegment(written, segmentName(TICKETS_ARCHIVE, runId), tickets);
+        } catch (IOException e) {
+            java.util.Iterator<String> writtenIterator = written.iterator();
+            while (writtenIterator.hasNext()) {
+                FileManager.deleteFile(writtenIterator.next());
+            }
+            throw new IllegalStateException("Arşiv yazılamadı, kayıtlar taşınmadı: " + e.getMessage(), e);
+        }
+
+        reservationManager.removeReservations(reservations, tickets);
+        flightManager.removeFlights(flights);
+
+        return publish(new ArchiveResult(flights.size(), reservations.size(), tickets.size(),
+                System.currentTimeMillis() - start));
+    }
+
+    /**
+     * Arşivlemeyi belirli aralıklarla arka planda çalıştırır.
+     * İlk çalışma bir aralık sonra yapılır; açılışta archiveExpired() doğrudan çağrılmalıdır.
+     * @param intervalMinutes Çalışma aralığı (dakika)
+     */
+    public synchronized void start(long intervalMinutes) {
+        if (intervalMinutes <= 0) {
+            throw new IllegalArgumentException("Arşivleme aralığı pozitif olmalıdır!");
+        }
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flight-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                archiveExpired();
+            } catch (RuntimeException e) {
+                System.err.println("Arşivleme hatası: " + e.getMessage());
+            }
+        }, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Zamanlanmış arşivlemeyi durdurur.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Zamanlanmış arşivleme çalışıyorsa true döner.
+     */
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Her arşivleme sonrası çağrılacak callback'i ayarlar.
+     * Callback, arşivlemeyi yapan thread üzerinde çağrılır.
+     */
+    public void onArchiveComplete(Consumer<ArchiveResult> callback) {
+        this.onArchiveComplete = callback;
+    }
+
+    /**
+     * Son arşivleme sonucunu döndürür (henüz çalışmadıysa null).
+     */
+    public ArchiveResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Arşivlenmiş uçuşları diskten okur.
+     * @throws IllegalStateException Arşiv parçalarından biri okunamazsa
+     */
+    public synchronized List<Flight> getArchivedFlights() {
+        return readArchive(FLIGHTS_ARCHIVE);
+    }
+
+    /**
+     * Arşivlenmiş rezervasyonları diskten okur.
+     * @throws IllegalStateException Arşiv parçalarından biri okunamazsa
+     */
+    public synchronized List<Reservation> getArchivedReservations() {
+        return readArchive(RESERVATIONS_ARCHIVE);
+    }
+
+    /**
+     * Arşivlenmiş biletleri diskten okur.
+     * @throws IllegalStateException Arşiv parçalarından biri okunamazsa
+     */
+    public synchronized List<Ticket> getArchivedTickets() {
+        return readArchive(TICKETS_ARCHIVE);
+    }
+
+    /**
+     * Arşivde rezervasyon koduna göre arama yapar.
+     * @return Bulunan rezervasyon veya null
+     */
+    public Reservation findArchivedReservation(String reservationCode) {
+        java.util.Iterator<Reservation> iterator = getArchivedReservations().iterator();
+        while (iterator.hasNext()) {
+            Reservation reservation = iterator.next();
+            if (reservation.getReservationCode().equalsIgnoreCase(reservationCode)) {
+                return reservation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Arşivdeki tamamlanmış rezervasyonların toplam gelirini hesaplar.
+     * Bilet fiyatı yoksa koltuk fiyatı kullanılır (gelir raporu ile aynı kural).
+     */
+    public double getArchivedRevenue() {
+        Map<String, Double> ticketPrices = new HashMap<>();
+        java.util.Iterator<Ticket> ticketIterator = getArchivedTickets().iterator();
+        while (ticketIterator.hasNext()) {
+            Ticket ticket = ticketIterator.next();
+            if (ticket.getReservation() != null) {
+                ticketPrices.put(ticket.getReservation().getReservationCode(), ticket.getPrice());
+            }
+        }
+
+        double revenue = 0;
+        java.util.Iterator<Reservation> iterator = getArchivedReservations().iterator();
+        while (iterator.hasNext()) {
+            Reservation reservation = iterator.next();
+            if (reservation.getStatus() == ReservationStatus.COMPLETED
+                    || reservation.getStatus() == ReservationStatus.CONFIRMED) {
+                revenue += ticketPrices.getOrDefault(reservation.getReservationCode(),
+                        reservation.getSeat() != null ? reservation.getSeat().getCalculatedPrice() : 0);
+            }
+        }
+        return revenue;
+    }
+
+    /**
+     * Arşiv dosyalarının toplam boyutunu byte cinsinden döndürür.
+     */
+    public synchronized long getArchiveSizeBytes() {
+        long size = 0;
+        java.util.Iterator<String> iterator = archiveFiles().iterator();
+        while (iterator.hasNext()) {
+            size += FileManager.fileSize(iterator.next());
+        }
+        return size;
+    }
+
+    /**
+     * Tüm arşiv dosyalarını siler.
+     */
+    public synchronized void clearArchive() {
+        java.util.Iterator<String> iterator = archiveFiles().iterator();
+        while (iterator.hasNext()) {
+            FileManager.deleteFile(iterator.next());
+        }
+    }
+
+    /**
+     * Bir arşiv parçasını yazar. Liste boşsa dosya oluşturulmaz.
+     * Yazılan dosyanın adı written listesine eklenir (hata durumunda silmek için).
+     */
+    protected <T> void writeSegment(List<String> written, String filename, List<T> items) throws IOException {
+        if (items.isEmpty()) {
+            return;
+        }
+        FileManager.writeCompressedList(items, filename);
+        written.add(filename);
+    }
+
+    /**
+     * Bir arşiv türünün tüm parçalarını (eski tek dosya dahil) okuyup birleştirir.
+     */
+    private <T> List<T> readArchive(String prefix) {
+        List<T> archived = new ArrayList<>();
+        java.util.Iterator<String> iterator = FileManager.listFiles(prefix, ARCHIVE_SUFFIX).iterator();
+        while (iterator.hasNext()) {
+            String filename = iterator.next();
+            try {
+                List<T> segment = FileManager.readCompressedList(filename);
+                archived.addAll(segment);
+            } catch (IOException e) {
+                throw new IllegalStateException("Arşiv okunamadı: " + filename + " (" + e.getMessage() + ")", e);
+            }
+        }
+        return archived;
+    }
+
+    private static List<String> archiveFiles() {
+        List<String> files = new ArrayList<>();
+        files.addAll(FileManager.listFiles(FLIGHTS_ARCHIVE, ARCHIVE_SUFFIX));
+        files.addAll(FileManager.listFiles(RESERVATIONS_ARCHIVE, ARCHIVE_SUFFIX));
+        files.addAll(FileManager.listFiles(TICKETS_ARCHIVE, ARCHIVE_SUFFIX));
+        return files;
+    }
+
+    private static String segmentName(String prefix, String runId) {
+        return prefix + "-" + runId + ARCHIVE_SUFFIX;
+    }
+
+    /**
+     * Bu çalışmanın parça numarasını üretir: zaman damgası, aynı milisaniyede
+     * mevcut bir parça varsa bir sonraki sayı. Sıfırla doldurulur; isimler sıralanabilir.
+     */
+    private static String nextRunId() {
+        long id = System.currentTimeMillis();
+        while (FileManager.fileExists(segmentName(FLIGHTS_ARCHIVE, String.format("%016d", id)))) {
+            id++;
+        }
+        return String.format("%016d", id);
+    }
+
+    private ArchiveResult publish(ArchiveResult result) {
+        lastResult = result;
+        Consumer<ArchiveResult> callback = onArchiveComplete;
+        if (callback != null) {
+            callback.accept(result);
+        }
+        return result;
+    }
+}
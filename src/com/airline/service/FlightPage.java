@@ -0,0 +1,44 @@
+package com.airline.service;
+
+import com.airline.model.Flight;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sayfalı uçuş aramasının bir sayfasını tutar.
+ * Sonraki sayfa için nextCursor değeri aramaya geri verilir.
+ */
+public final class FlightPage {
+
+    private final List<Flight> flights;
+    private final String nextCursor; // Son sayfada null
+
+    public FlightPage(List<Flight> flights, String nextCursor) {
+        this.flights = Collections.unmodifiableList(flights);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Sonraki sayfa varsa true döner.
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    public List<Flight> getFlights() {
+        return flights;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    public boolean isEmpty() {
+        return flights.isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.airline.service;
+
+import com.airline.model.Flight;
+import com.airline.util.TextFolding;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Sayfalı uçuş aramasının kriterlerini tutar.
+ * Boş bırakılan kriterler filtre olarak uygulanmaz.
+ */
+public final class FlightQuery {
+
+    private final String departure; // null ise tüm kalkış şehirleri
+    private final String arrival; // null ise tüm varış şehirleri
+    private final LocalDate date; // null ise tüm tarihler
+    private final boolean availableOnly; // Sadece boş koltuğu olan uçuşlar
+
+    public FlightQuery(String departure, String arrival, LocalDate date, boolean availableOnly) {
+        this.departure = normalize(departure);
+        this.arrival = normalize(arrival);
+        this.date = date;
+        this.availableOnly = availableOnly;
+    }
+
+    /**
+     * Boş koltuğu olan tüm uçuşlar için sorgu oluşturur.
+     */
+    public static FlightQuery availableFlights() {
+        return new FlightQuery(null, null, null, true);
+    }
+
+    /**
+     * Uçuşun sorgu kriterlerine uyup uymadığını kontrol eder.
+     * Süresi geçmiş uçuş kontrolü arama motorunda yapılır.
+     */
+    public boolean matches(Flight flight) {
+        return matchesIgnoringSeats(flight) && (!availableOnly || flight.getAvailableSeatCount() > 0);
+    }
+
+    /**
+     * Koltuk durumu dışındaki kriterleri kontrol eder.
+     * İptal ile yeniden müsait olan bir uçuşun hangi sorgulara gireceğini bulmak için kullanılır.
+     */
+    public boolean matchesIgnoringSeats(Flight flight) {
+        if (departure != null && !TextFolding.equalsFolded(departure, flight.getDeparturePlace())) {
+            return false;
+        }
+        if (arrival != null && !TextFolding.equalsFolded(arrival, flight.getArrivalPlace())) {
+            return false;
+        }
+        return date == null || date.equals(flight.getDate());
+    }
+
+    // Getter metodları
+    public String getDeparture() {
+        return departure;
+    }
+
+    public String getArrival() {
+        return arrival;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public boolean isAvailableOnly() {
+        return availableOnly;
+    }
+
+    private static String normalize(String city) {
+        if (city == null || city.trim().isEmpty()) {
+            return null;
+        }
+        return city.trim();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FlightQuery that = (FlightQuery) o;
+        return availableOnly == that.availableOnly
+                && Objects.equals(TextFolding.fold(departure), TextFolding.fold(that.departure))
+                && Objects.equals(TextFolding.fold(arrival), TextFolding.fold(that.arrival))
+                && Objects.equals(date, that.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(TextFolding.fold(departure), TextFolding.fold(arrival), date, availableOnly);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FlightQuery{from='%s', to='%s', date=%s, availableOnly=%s}",
+                departure, arrival, date, availableOnly);
+    }
+}
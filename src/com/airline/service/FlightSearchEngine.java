@@ -1,11 +1,23 @@
 package com.airline.service;
 
 import com.airline.manager.FlightManager;
+import com.airline.metrics.LatencyHistogram;
+import com.airline.metrics.MetricsRegistry;
+import com.airline.metrics.SearchExecutedEvent;
 import com.airline.model.Flight;
+import com.airline.util.AppClock;
+import com.airline.util.TextFolding;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -14,14 +26,85 @@ import java.util.stream.Collectors;
  */
 public class FlightSearchEngine {
 
+    /**
+     * Gidiş-dönüş puanlamasında uçuşta geçen her dakikanın TL karşılığı.
+     */
+    public static final double DEFAULT_DURATION_WEIGHT = 2.0;
+
+    /**
+     * Gidiş-dönüş seçeneklerinin sıralaması: önce puan, eşitlikte erken kalkış.
+     */
+    private static final Comparator<RoundTripItinerary> ITINERARY_ORDER =
+            Comparator.comparingDouble(RoundTripItinerary::getScore)
+                    .thenComparing(i -> i.getOutbound().getDepartureDateTime())
+                    .thenComparing(i -> i.getInbound().getDepartureDateTime())
+                    .thenComparing(i -> i.getOutbound().getFlightNum())
+                    .thenComparing(i -> i.getInbound().getFlightNum());
+
+    /**
+     * Sayfalı aramalarda kalkış zamanına, eşitlikte uçuş numarasına göre sıralama.
+     */
+    private static final Comparator<Flight> DEPARTURE_ORDER =
+            Comparator.comparingLong(Flight::getDepartureEpochMinute).thenComparing(Flight::getFlightNum);
+
+    // Önbellek dahil arama süresi ve sadece katalog taraması süresi
+    private static final LatencyHistogram QUERY_LATENCY = MetricsRegistry.getDefault().histogram("search.query");
+    private static final LatencyHistogram SCAN_LATENCY = MetricsRegistry.getDefault().histogram("search.scan");
+    private static final LatencyHistogram PAGE_LATENCY = MetricsRegistry.getDefault().histogram("search.page");
+
     private FlightManager flightManager;
+    private final DynamicPricingEngine pricingEngine;
+    private final CityAutocompleteIndex cityIndex;
+    private SearchResultCache resultCache; // null ise önbellek kullanılmaz
+
+    /**
+     * Gidiş-dönüş eşleştirmesinde kullanılan tek yön uçuş bilgisi.
+     */
+    private static final class Leg {
+        private final Flight flight;
+        private final double fare;
+        private final double score;
+
+        private Leg(Flight flight, double fare, double score) {
+            this.flight = flight;
+            this.fare = fare;
+            this.score = score;
+        }
+    }
 
     /**
      * FlightSearchEngine oluşturur.
+     * Kendi fiyatlandırma motorunu kurar ve uçuş değişikliklerine bağlar; rezervasyonlarla
+     * fiyatların güncel kalması için getPricingEngine().attachTo(reservationManager) çağrılmalıdır.
      * @param flightManager Uçuş yöneticisi
      */
     public FlightSearchEngine(FlightManager flightManager) {
+        this(flightManager, newAttachedPricingEngine(flightManager));
+    }
+
+    private static DynamicPricingEngine newAttachedPricingEngine(FlightManager flightManager) {
+        DynamicPricingEngine engine = new DynamicPricingEngine(flightManager, new PriceCalculator());
+        if (flightManager != null) {
+            engine.attachTo(flightManager);
+        }
+        return engine;
+    }
+
+    /**
+     * Paylaşılan fiyatlandırma motoru ile FlightSearchEngine oluşturur.
+     * @param flightManager Uçuş yöneticisi
+     * @param pricingEngine Dinamik fiyatlandırma motoru
+     */
+    public FlightSearchEngine(FlightManager flightManager, DynamicPricingEngine pricingEngine) {
+        if (pricingEngine == null) {
+            throw new IllegalArgumentException("Fiyatlandırma motoru boş olamaz!");
+        }
         this.flightManager = flightManager;
+        this.pricingEngine = pricingEngine;
+        this.cityIndex = new CityAutocompleteIndex();
+        if (flightManager != null) {
+            cityIndex.attachTo(flightManager);
+        }
     }
 
     /**
@@ -35,23 +118,55 @@ public class FlightSearchEngine {
         if (from == null || to == null) {
             throw new IllegalArgumentException("Kalkış ve varış şehri boş olamaz!");
         }
+        long start = System.nanoTime();
+        SearchExecutedEvent event = new SearchExecutedEvent();
+        event.begin();
+        FlightQuery query = new FlightQuery(from, to, date, false); // Önbellek anahtarı ve olay filtresi
+        List<Flight> results;
+        if (resultCache != null) {
+            results = new ArrayList<>(resultCache.get(query, () -> scanFlights(from, to, date)));
+        } else {
+            results = scanFlights(from, to, date);
+        }
+        QUERY_LATENCY.recordSince(start);
+        commitSearchEvent(event, "list", query, results.size());
+        return results;
+    }
 
-        List<Flight> results = flightManager.getAllFlights().stream()
-                .filter(f -> f.getDeparturePlace().equalsIgnoreCase(from.trim()))
-                .filter(f -> f.getArrivalPlace().equalsIgnoreCase(to.trim()))
-                .filter(f -> !f.isExpired()) // Süresi geçmiş uçuşları çıkar
-                .collect(Collectors.toList());
-
-        // Tarih filtresi varsa uygula
-        if (date != null) {
-            results = results.stream()
-                    .filter(f -> f.getDate().equals(date))
-                    .collect(Collectors.toList());
+    /**
+     * Arama olayını bitirir ve JFR açıksa kaydeder. Her arama yolu olayı sadece burada bitirir;
+     * filtre nesnesi metne sadece kayıt sırasında çevrilir.
+     */
+    private static void commitSearchEvent(SearchExecutedEvent event, String kind, Object filter, int resultCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.filter = String.valueOf(filter);
+            event.resultCount = resultCount;
+            event.commit();
         }
+    }
+
+    /**
+     * Kataloğu tarayarak uçuş arar (önbellek dışı yol).
+     */
+    private List<Flight> scanFlights(String from, String to, LocalDate date) {
+        long start = System.nanoTime();
+        // Tarih filtresi de aynı geçişte uygulanır
+        String fromKey = TextFolding.fold(from);
+        String toKey = TextFolding.fold(to);
+        long now = AppClock.currentEpochMinute(); // Saat sorgu başına bir kez okunur
+        List<Flight> results = flightManager.getFlightsView().stream()
+                .filter(f -> fromKey.equals(TextFolding.fold(f.getDeparturePlace())))
+                .filter(f -> toKey.equals(TextFolding.fold(f.getArrivalPlace())))
+                .filter(f -> date == null || f.getDate().equals(date))
+                .filter(f -> !f.isExpiredAt(now)) // Süresi geçmiş uçuşları çıkar
+                .collect(Collectors.toList());
 
         // Saate göre sırala
         results.sort(Comparator.comparing(Flight::getDepartureDateTime));
 
+        SCAN_LATENCY.recordSince(start);
         return results;
     }
 
@@ -72,9 +187,11 @@ public class FlightSearchEngine {
             throw new IllegalArgumentException("Şehir adı boş olamaz!");
         }
 
-        return flightManager.getAllFlights().stream()
-                .filter(f -> f.getDeparturePlace().equalsIgnoreCase(city.trim()))
-                .filter(f -> !f.isExpired())
+        String cityKey = TextFolding.fold(city);
+        long now = AppClock.currentEpochMinute();
+        return flightManager.getFlightsView().stream()
+                .filter(f -> cityKey.equals(TextFolding.fold(f.getDeparturePlace())))
+                .filter(f -> !f.isExpiredAt(now))
                 .sorted(Comparator.comparing(Flight::getDepartureDateTime))
                 .collect(Collectors.toList());
     }
@@ -89,9 +206,11 @@ public class FlightSearchEngine {
             throw new IllegalArgumentException("Şehir adı boş olamaz!");
         }
 
-        return flightManager.getAllFlights().stream()
-                .filter(f -> f.getArrivalPlace().equalsIgnoreCase(city.trim()))
-                .filter(f -> !f.isExpired())
+        String cityKey = TextFolding.fold(city);
+        long now = AppClock.currentEpochMinute();
+        return flightManager.getFlightsView().stream()
+                .filter(f -> cityKey.equals(TextFolding.fold(f.getArrivalPlace())))
+                .filter(f -> !f.isExpiredAt(now))
                 .sorted(Comparator.comparing(Flight::getDepartureDateTime))
                 .collect(Collectors.toList());
     }
@@ -106,20 +225,23 @@ public class FlightSearchEngine {
             throw new IllegalArgumentException("Tarih boş olamaz!");
         }
 
-        return flightManager.getAllFlights().stream()
+        long now = AppClock.currentEpochMinute();
+        return flightManager.getFlightsView().stream()
                 .filter(f -> f.getDate().equals(date))
-                .filter(f -> !f.isExpired())
+                .filter(f -> !f.isExpiredAt(now))
                 .sorted(Comparator.comparing(Flight::getHour))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Süresi geçmiş uçuşları listeden çıkarır.
+     * Süresi geçmiş uçuşları hariç tutan bir kopya döndürür.
+     * Uçuşları gerçekten kaldırmak için FlightArchiver kullanılır.
      * @return Aktif uçuşlar
      */
     public List<Flight> removeExpiredFlights() {
-        return flightManager.getAllFlights().stream()
-                .filter(f -> !f.isExpired())
+        long now = AppClock.currentEpochMinute();
+        return flightManager.getFlightsView().stream()
+                .filter(f -> !f.isExpiredAt(now))
                 .sorted(Comparator.comparing(Flight::getDepartureDateTime))
                 .collect(Collectors.toList());
     }
@@ -129,8 +251,9 @@ public class FlightSearchEngine {
      * @return Süresi geçmiş uçuşlar
      */
     public List<Flight> getExpiredFlights() {
-        return flightManager.getAllFlights().stream()
-                .filter(Flight::isExpired)
+        long now = AppClock.currentEpochMinute();
+        return flightManager.getFlightsView().stream()
+                .filter(f -> f.isExpiredAt(now))
                 .sorted(Comparator.comparing(Flight::getDepartureDateTime))
                 .collect(Collectors.toList());
     }
@@ -140,19 +263,176 @@ public class FlightSearchEngine {
      * @return Müsait uçuşlar
      */
     public List<Flight> getAvailableFlights() {
-        return flightManager.getAllFlights().stream()
-                .filter(f -> !f.isExpired())
+        if (resultCache != null) {
+            return new ArrayList<>(resultCache.get(FlightQuery.availableFlights(), this::scanAvailableFlights));
+        }
+        return scanAvailableFlights();
+    }
+
+    private List<Flight> scanAvailableFlights() {
+        long now = AppClock.currentEpochMinute();
+        return flightManager.getFlightsView().stream()
+                .filter(f -> !f.isExpiredAt(now))
                 .filter(f -> f.getAvailableSeatCount() > 0)
                 .sorted(Comparator.comparing(Flight::getDepartureDateTime))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Müsait uçuşları sayfa sayfa döndürür.
+     * @param cursor Önceki sayfanın imleci (ilk sayfa için null)
+     * @param limit Sayfa boyutu
+     */
+    public FlightPage getAvailableFlightsPage(String cursor, int limit) {
+        return searchPage(FlightQuery.availableFlights(), cursor, limit);
+    }
+
+    /**
+     * Sorguya uyan uçuşlardan sadece istenen sayfayı kalkış sırasına göre döndürür.
+     * Katalog tek geçişte taranır ve en fazla limit + 1 elemanlı bir heap
+     * tutulur; tüm sonuçlar listeye alınıp sıralanmaz.
+     * @param query Arama kriterleri
+     * @param cursor Önceki sayfanın imleci (ilk sayfa için null)
+     * @param limit Sayfa boyutu
+     * @return İstenen sayfa ve sonraki sayfanın imleci
+     */
+    public FlightPage searchPage(FlightQuery query, String cursor, int limit) {
+        if (query == null) {
+            throw new IllegalArgumentException("Arama kriterleri boş olamaz!");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Sayfa boyutu pozitif olmalıdır!");
+        }
+        long afterMinute = Long.MIN_VALUE;
+        String afterFlightNum = "";
+        if (cursor != null) {
+            String[] parts = decodeCursor(cursor);
+            afterMinute = Long.parseLong(parts[0]);
+            afterFlightNum = parts[1];
+        }
+
+        long start = System.nanoTime();
+        SearchExecutedEvent event = new SearchExecutedEvent();
+        event.begin();
+        // Başında sayfanın en geç uçuşu duran heap; bir fazla eleman sonraki sayfayı gösterir
+        int capacity = limit + 1;
+        PriorityQueue<Flight> window = new PriorityQueue<>(capacity, DEPARTURE_ORDER.reversed());
+
+        long now = AppClock.currentEpochMinute();
+        java.util.Iterator<Flight> iterator = flightManager.getFlightsView().iterator();
+        while (iterator.hasNext()) {
+            Flight flight = iterator.next();
+            long minute = flight.getDepartureEpochMinute();
+            if (minute < afterMinute
+                    || (minute == afterMinute && flight.getFlightNum().compareTo(afterFlightNum) <= 0)) {
+                continue; // Önceki sayfalarda döndürüldü
+            }
+            if (window.size() == capacity && DEPARTURE_ORDER.compare(flight, window.peek()) >= 0) {
+                continue; // Sayfaya girmeyecek kadar geç
+            }
+            if (flight.isExpiredAt(now) || !query.matches(flight)) {
+                continue;
+            }
+            window.offer(flight);
+            if (window.size() > capacity) {
+                window.poll();
+            }
+        }
+
+        List<Flight> page = new ArrayList<>(window);
+        page.sort(DEPARTURE_ORDER);
+        String nextCursor = null;
+        if (page.size() > limit) {
+            page.remove(limit);
+            nextCursor = encodeCursor(page.get(limit - 1));
+        }
+        PAGE_LATENCY.recordSince(start);
+        commitSearchEvent(event, "page", query, page.size());
+        return new FlightPage(page, nextCursor);
+    }
+
+    /**
+     * Sorguya uyan uçuşları kalkış sırasına göre parça parça üretir.
+     * Katalog bir kez taranır ve eşleşenler bir heap'e alınır; her parça heap'ten
+     * sırayla çekilir. İlk parça tüm sonuçlar sıralanmadan teslim edilir. Alıcı
+     * false döndürürse veya thread kesilirse arama durur ve kalan parçalar sıralanmaz.
+     * Sonuç yoksa alıcıya bir kez boş liste verilir.
+     * @param query Arama kriterleri
+     * @param batchSize Parça boyutu
+     * @param sink Her parçayı alan fonksiyon; false dönerse arama durur
+     * @return Teslim edilen uçuş sayısı
+     */
+    public int streamSearch(FlightQuery query, int batchSize, Predicate<List<Flight>> sink) {
+        if (query == null) {
+            throw new IllegalArgumentException("Arama kriterleri boş olamaz!");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Parça boyutu pozitif olmalıdır!");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Sonuç alıcısı boş olamaz!");
+        }
+        SearchExecutedEvent event = new SearchExecutedEvent();
+        event.begin();
+        PriorityQueue<Flight> pending = new PriorityQueue<>(DEPARTURE_ORDER);
+        long now = AppClock.currentEpochMinute();
+        java.util.Iterator<Flight> iterator = flightManager.getFlightsView().iterator();
+        while (iterator.hasNext()) {
+            Flight flight = iterator.next();
+            if (!flight.isExpiredAt(now) && query.matches(flight)) {
+                pending.offer(flight);
+            }
+        }
+
+        int delivered = 0;
+        do {
+            if (Thread.currentThread().isInterrupted()) {
+                break; // Sorgu geçersiz kaldı
+            }
+            List<Flight> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            while (batch.size() < batchSize && !pending.isEmpty()) {
+                batch.add(pending.poll());
+            }
+            delivered += batch.size();
+            if (!sink.test(batch)) {
+                break;
+            }
+        } while (!pending.isEmpty());
+        commitSearchEvent(event, "stream", query, delivered);
+        return delivered;
+    }
+
+    /**
+     * Sayfanın son uçuşundan imleç oluşturur.
+     */
+    private static String encodeCursor(Flight last) {
+        String raw = last.getDepartureEpochMinute() + ":" + last.getFlightNum();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * İmleci kalkış dakikası ve uçuş numarasına ayırır.
+     */
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 2);
+            Long.parseLong(parts[0]);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Geçersiz sayfa imleci!");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci!", e);
+        }
+    }
+
     /**
      * Bugünkü uçuşları döndürür.
      * @return Bugünkü uçuşlar
      */
     public List<Flight> getTodaysFlights() {
-        return filterByDate(LocalDate.now());
+        return filterByDate(AppClock.today());
     }
 
     /**
@@ -160,7 +440,7 @@ public class FlightSearchEngine {
      * @return Yarınki uçuşlar
      */
     public List<Flight> getTomorrowsFlights() {
-        return filterByDate(LocalDate.now().plusDays(1));
+        return filterByDate(AppClock.today().plusDays(1));
     }
 
     /**
@@ -177,10 +457,11 @@ public class FlightSearchEngine {
             throw new IllegalArgumentException("Başlangıç tarihi bitiş tarihinden sonra olamaz!");
         }
 
-        return flightManager.getAllFlights().stream()
+        long now = AppClock.currentEpochMinute();
+        return flightManager.getFlightsView().stream()
                 .filter(f -> !f.getDate().isBefore(startDate))
                 .filter(f -> !f.getDate().isAfter(endDate))
-                .filter(f -> !f.isExpired())
+                .filter(f -> !f.isExpiredAt(now))
                 .sorted(Comparator.comparing(Flight::getDepartureDateTime))
                 .collect(Collectors.toList());
     }
@@ -202,11 +483,7 @@ public class FlightSearchEngine {
      * @return Kalkış şehirleri listesi
      */
     public List<String> getAllDepartureCities() {
-        return flightManager.getAllFlights().stream()
-                .map(Flight::getDeparturePlace)
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
+        return cityIndex.getDepartureCities();
     }
 
     /**
@@ -214,30 +491,170 @@ public class FlightSearchEngine {
      * @return Varış şehirleri listesi
      */
     public List<String> getAllArrivalCities() {
-        return flightManager.getAllFlights().stream()
-                .map(Flight::getArrivalPlace)
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
+        return cityIndex.getArrivalCities();
+    }
+
+    /**
+     * Şehir, havalimanı adı veya IATA kodunun başına göre şehir önerir.
+     * Örn: "esen" -> Ankara (Esenboğa Havalimanı), "ayt" -> Antalya (AYT)
+     * @param prefix Yazılan metin
+     * @param limit En fazla öneri sayısı
+     * @return Öneriler
+     */
+    public List<CitySuggestion> suggestCities(String prefix, int limit) {
+        return cityIndex.suggest(prefix, limit);
     }
 
     /**
      * Belirli bir rotadaki en ucuz uçuşu bulur.
+     * Dinamik fiyatlar karşılaştırılır, dolu uçuşlar dikkate alınmaz.
      * @param from Kalkış
      * @param to Varış
      * @return En ucuz uçuş veya null
      */
     public Flight findCheapestFlight(String from, String to) {
-        List<Flight> flights = searchFlights(from, to);
-        if (flights.isEmpty()) {
-            return null;
+        Flight cheapest = null;
+        double cheapestFare = Double.POSITIVE_INFINITY;
+        java.util.Iterator<Flight> iterator = searchFlights(from, to).iterator();
+        while (iterator.hasNext()) {
+            Flight flight = iterator.next();
+            double fare = pricingEngine.getLowestFare(flight);
+            if (fare < cheapestFare) {
+                cheapestFare = fare;
+                cheapest = flight;
+            }
+        }
+        return cheapest;
+    }
+
+    /**
+     * Kalkış ve varış şehrine göre uçuş arar, sonuçları fiyata göre sıralar.
+     * @param from Kalkış şehri
+     * @param to Varış şehri
+     * @param date Tarih (null ise tüm tarihler)
+     * @return En ucuzdan pahalıya uçuşlar
+     */
+    public List<Flight> searchFlightsByPrice(String from, String to, LocalDate date) {
+        return pricingEngine.sortByPrice(searchFlights(from, to, date));
+    }
+
+    /**
+     * Gidiş-dönüş seçeneklerini toplam fiyat ve süreye göre sıralı döndürür.
+     * @param from Kalkış şehri
+     * @param to Varış şehri
+     * @param departDate Gidiş tarihi (null ise tüm tarihler)
+     * @param returnDate Dönüş tarihi (null ise tüm tarihler)
+     * @param minStay Varış ile dönüş kalkışı arasındaki en kısa süre
+     * @param limit Döndürülecek en fazla seçenek sayısı
+     * @return En iyi seçenekler (puanı en düşükten yükseğe)
+     */
+    public List<RoundTripItinerary> searchRoundTrips(String from, String to, LocalDate departDate,
+                                                     LocalDate returnDate, Duration minStay, int limit) {
+        return searchRoundTrips(from, to, departDate, returnDate, minStay, limit, DEFAULT_DURATION_WEIGHT);
+    }
+
+    /**
+     * Gidiş-dönüş seçeneklerini verilen süre ağırlığı ile puanlar.
+     * Puan = toplam fiyat + (toplam uçuş süresi x süre ağırlığı)
+     *
+     * Her iki yön puana göre sıralanır ve en fazla limit elemanlı bir heap
+     * tutulur. Heap dolduktan sonra en kötü seçenekten daha kötü olan
+     * eşleşmeler taranmadan atlanır, bu yüzden yüzlerce aday olsa bile
+     * tüm çiftler oluşturulmaz.
+     */
+    public List<RoundTripItinerary> searchRoundTrips(String from, String to, LocalDate departDate,
+                                                     LocalDate returnDate, Duration minStay, int limit,
+                                                     double durationWeight) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Sonuç sayısı pozitif olmalıdır!");
+        }
+        if (minStay != null && minStay.isNegative()) {
+            throw new IllegalArgumentException("Minimum kalış süresi negatif olamaz!");
+        }
+        if (durationWeight < 0) {
+            throw new IllegalArgumentException("Süre ağırlığı negatif olamaz!");
         }
+        Duration stay = minStay != null ? minStay : Duration.ZERO;
 
-        // En az dolu (en çok boş koltuk olan) uçuşu döndür
-        // Gerçek uygulamada fiyat karşılaştırması yapılır
-        return flights.stream()
-                .max(Comparator.comparing(Flight::getAvailableSeatCount))
-                .orElse(null);
+        List<Leg> outboundLegs = toLegs(searchFlights(from, to, departDate), durationWeight);
+        List<Leg> inboundLegs = toLegs(searchFlights(to, from, returnDate), durationWeight);
+        if (outboundLegs.isEmpty() || inboundLegs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Başında en kötü seçenek duran sınırlı heap
+        PriorityQueue<RoundTripItinerary> best = new PriorityQueue<>(limit, ITINERARY_ORDER.reversed());
+        double bestOutboundScore = outboundLegs.get(0).score;
+
+        java.util.Iterator<Leg> inboundIterator = inboundLegs.iterator();
+        while (inboundIterator.hasNext()) {
+            Leg inbound = inboundIterator.next();
+            if (best.size() == limit && inbound.score + bestOutboundScore > best.peek().getScore()) {
+                break; // Kalan dönüş uçuşları daha iyi bir seçenek oluşturamaz
+            }
+            LocalDateTime latestArrival = inbound.flight.getDepartureDateTime().minus(stay);
+
+            java.util.Iterator<Leg> outboundIterator = outboundLegs.iterator();
+            while (outboundIterator.hasNext()) {
+                Leg outbound = outboundIterator.next();
+                double score = outbound.score + inbound.score;
+                if (best.size() == limit && score > best.peek().getScore()) {
+                    break;
+                }
+                if (outbound.flight.getArrivalDateTime().isAfter(latestArrival)) {
+                    continue; // Minimum kalış süresi sağlanmıyor
+                }
+                double totalPrice = Math.round((outbound.fare + inbound.fare) * 100.0) / 100.0;
+                RoundTripItinerary candidate = new RoundTripItinerary(outbound.flight, inbound.flight,
+                        totalPrice, score);
+                if (best.size() < limit) {
+                    best.offer(candidate);
+                } else if (ITINERARY_ORDER.compare(candidate, best.peek()) < 0) {
+                    best.poll();
+                    best.offer(candidate);
+                }
+            }
+        }
+
+        List<RoundTripItinerary> results = new ArrayList<>(best);
+        results.sort(ITINERARY_ORDER);
+        return results;
+    }
+
+    /**
+     * Uçuşları puanlanmış tek yön listesine çevirir, dolu uçuşları çıkarır.
+     */
+    private List<Leg> toLegs(List<Flight> flights, double durationWeight) {
+        List<Leg> legs = new ArrayList<>(flights.size());
+        java.util.Iterator<Flight> iterator = flights.iterator();
+        while (iterator.hasNext()) {
+            Flight flight = iterator.next();
+            double fare = pricingEngine.getLowestFare(flight);
+            if (Double.isInfinite(fare)) {
+                continue;
+            }
+            legs.add(new Leg(flight, fare, fare + flight.getDuration() * durationWeight));
+        }
+        legs.sort(Comparator.comparingDouble(leg -> leg.score));
+        return legs;
+    }
+
+    /**
+     * Arama sonuçları için önbellek ayarlar (null ise önbellek kapatılır).
+     */
+    public void setResultCache(SearchResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    public SearchResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Fiyatlandırma motorunu döndürür.
+     */
+    public DynamicPricingEngine getPricingEngine() {
+        return pricingEngine;
     }
 
     /**
@@ -252,5 +669,9 @@ public class FlightSearchEngine {
      */
     public void setFlightManager(FlightManager flightManager) {
         this.flightManager = flightManager;
+        cityIndex.detach();
+        if (flightManager != null) {
+            cityIndex.attachTo(flightManager);
+        }
     }
 }
@@ -1,5 +1,7 @@
 package com.airline.service;
 
+import com.airline.metrics.Counter;
+import com.airline.metrics.MetricsRegistry;
 import com.airline.model.Flight;
 import com.airline.model.Seat;
 import com.airline.model.enums.AdditionalService;
@@ -26,6 +28,9 @@ public class PriceCalculator {
     private static final double DEFAULT_ECONOMY_MULTIPLIER = 1.0;
     private static final double DEFAULT_SERVICE_FEE = 35.0;
 
+    // Hesaplama çok kısa sürdüğü için sadece sayılır, süre ölçülmez
+    private static final Counter CALCULATIONS = MetricsRegistry.getDefault().counter("price.calculate");
+
     /**
      * Varsayılan değerlerle PriceCalculator oluşturur.
      */
@@ -59,9 +64,25 @@ public class PriceCalculator {
         if (seat == null) {
             throw new IllegalArgumentException("Koltuk bilgisi boş olamaz!");
         }
+        return calculatePrice(seat.getClass_(), flight);
+    }
+
+    /**
+     * Koltuk sınıfı ve uçuş bilgisine göre fiyat hesaplar.
+     * Dinamik fiyatlandırma bu değeri taban fiyat olarak kullanır.
+     * 
+     * @param seatClass Koltuk sınıfı
+     * @param flight    Uçuş
+     * @return Hesaplanan fiyat (vergi dahil)
+     */
+    public double calculatePrice(SeatClass seatClass, Flight flight) {
+        if (seatClass == null) {
+            throw new IllegalArgumentException("Koltuk sınıfı boş olamaz!");
+        }
+        CALCULATIONS.increment();
 
         double price;
-        if (seat.getClass_() == SeatClass.BUSINESS) {
+        if (seatClass == SeatClass.BUSINESS) {
             price = calculateBusinessPrice(basePrice);
         } else {
             price = calculateEconomyPrice(basePrice);
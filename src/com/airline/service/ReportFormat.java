@@ -0,0 +1,31 @@
+package com.airline.service;
+
+/**
+ * Dosyaya yazılan raporların biçimlerini tanımlar.
+ */
+public enum ReportFormat {
+    TEXT("txt", "Metin"),
+    CSV("csv", "CSV"),
+    JSONL("jsonl", "JSON Lines");
+
+    private final String extension;
+    private final String displayName;
+
+    ReportFormat(String extension, String displayName) {
+        this.extension = extension;
+        this.displayName = displayName;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -2,10 +2,14 @@ package com.airline.service;
 
 import com.airline.manager.FlightManager;
 import com.airline.manager.ReservationManager;
+import com.airline.metrics.ReportPhaseEvent;
 import com.airline.model.Flight;
 import com.airline.model.Reservation;
+import com.airline.model.enums.ReservationStatus;
+import com.airline.util.AppClock;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.function.Consumer;
@@ -19,6 +23,10 @@ public class ReportGenerator implements Runnable {
 	private String reportResult;
 	private ReportType reportType;
 	private volatile boolean cancelled = false;
+	private FlightArchiver archiver; // null ise arşiv rapora dahil edilmez
+	private ReservationColumnStore columnStore; // null ise nesneler tek tek dolaşılır
+	private ReportFormat outputFormat; // null ise rapor ekrana String olarak üretilir
+	private Path outputPath;
 
 	/**
 	 * Rapor türleri
@@ -52,6 +60,16 @@ public class ReportGenerator implements Runnable {
 	@Override
 	public void run() {
 		try {
+			if (outputFormat != null) {
+				outputPath = writeReport(outputFormat);
+				reportResult = outputPath.toString();
+				if (onComplete != null && !cancelled) {
+					onComplete.accept(reportResult);
+				}
+				return;
+			}
+			ReportPhaseEvent event = new ReportPhaseEvent();
+			event.begin();
 			switch (reportType) {
 				case OCCUPANCY:
 					reportResult = generateOccupancyReport();
@@ -66,6 +84,7 @@ public class ReportGenerator implements Runnable {
 					reportResult = generateFullReport();
 					break;
 			}
+			commitPhase(event, reportType, "screen");
 
 			if (onComplete != null && !cancelled) {
 				onComplete.accept(reportResult);
@@ -78,6 +97,169 @@ public class ReportGenerator implements Runnable {
 		}
 	}
 
+	/**
+	 * Raporu data/reports altındaki bir dosyaya satır satır yazar.
+	 * Rapor bellekte biriktirilmez; büyük veri setlerinde bu yol kullanılmalıdır.
+	 * @param format Dosya biçimi
+	 * @return Yazılan dosyanın yolu
+	 */
+	public Path writeReport(ReportFormat format) throws IOException {
+		Path path = ReportWriter.newReportPath(reportType.name(), format);
+		try (ReportWriter out = new ReportWriter(path, format)) {
+			if (reportType == ReportType.FULL) {
+				writeSection(ReportType.OCCUPANCY, out, format);
+				writeSection(ReportType.REVENUE, out, format);
+				writeSection(ReportType.RESERVATION, out, format);
+			} else {
+				writeSection(reportType, out, format);
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * Tek bir rapor bölümünü yazar; süresi JFR ReportPhase olayı olarak kaydedilir.
+	 */
+	private void writeSection(ReportType section, ReportWriter out, ReportFormat format) throws IOException {
+		ReportPhaseEvent event = new ReportPhaseEvent();
+		event.begin();
+		switch (section) {
+			case OCCUPANCY:
+				writeOccupancy(out);
+				break;
+			case REVENUE:
+				writeRevenue(out);
+				break;
+			case RESERVATION:
+				writeReservations(out);
+				break;
+			default:
+				break;
+		}
+		commitPhase(event, section, format.name());
+	}
+
+	private void commitPhase(ReportPhaseEvent event, ReportType section, String output) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.reportType = reportType.name();
+			event.phase = section.name();
+			event.output = output;
+			event.commit();
+		}
+	}
+
+	private void writeOccupancy(ReportWriter out) throws IOException {
+		out.beginSection("              UÇUŞ DOLULUK ORANI RAPORU", "doluluk",
+				"ucus", "kalkis", "varis", "doluluk");
+		out.text("Oluşturulma: " + getCurrentDateTime());
+
+		List<Flight> flights = flightManager.getAllFlights();
+		int[] activeCounts = columnStore != null ? columnStore.countActiveByFlight() : null;
+		double totalOccupancy = 0;
+		int flightCount = 0;
+
+		java.util.Iterator<Flight> flightIterator = flights.iterator();
+		while (flightIterator.hasNext() && !cancelled) {
+			Flight flight = flightIterator.next();
+			double occupancy = activeCounts != null
+					? columnOccupancyRate(flight, activeCounts)
+					: calculateOccupancyRate(flight);
+			totalOccupancy += occupancy;
+			flightCount++;
+			out.row(flight.getFlightNum(), flight.getDeparturePlace(), flight.getArrivalPlace(), occupancy);
+			reportProgress(flightCount, flights.size());
+		}
+
+		out.text("───────────────────────────────────────────────────────────");
+		out.text(String.format("ORTALAMA DOLULUK ORANI: %.2f%%",
+				flightCount > 0 ? totalOccupancy / flightCount : 0));
+		out.text("Toplam Uçuş Sayısı: " + flightCount);
+	}
+
+	private void writeRevenue(ReportWriter out) throws IOException {
+		out.beginSection("                    GELİR RAPORU", "gelir", "kalem", "deger");
+		out.text("Oluşturulma: " + getCurrentDateTime());
+
+		int confirmedCount = 0;
+		int cancelledCount = 0;
+		int totalCount;
+		double totalRevenue = 0;
+		if (columnStore != null) {
+			int[] statusCounts = columnStore.countByStatus();
+			confirmedCount = statusCounts[ReservationStatus.CONFIRMED.ordinal()]
+					+ statusCounts[ReservationStatus.COMPLETED.ordinal()];
+			cancelledCount = statusCounts[ReservationStatus.CANCELLED.ordinal()];
+			totalCount = columnStore.size();
+			totalRevenue = columnStore.getTotalRevenueCents() / 100.0;
+		} else {
+			java.util.Map<String, Double> ticketPrices = new java.util.HashMap<>();
+			java.util.Iterator<com.airline.model.Ticket> ticketIterator = reservationManager.getAllTickets().iterator();
+			while (ticketIterator.hasNext()) {
+				com.airline.model.Ticket ticket = ticketIterator.next();
+				if (ticket.getReservation() != null) {
+					ticketPrices.put(ticket.getReservation().getReservationCode(), ticket.getPrice());
+				}
+			}
+			List<Reservation> reservations = reservationManager.getAllReservations();
+			totalCount = reservations.size();
+			java.util.Iterator<Reservation> iterator = reservations.iterator();
+			while (iterator.hasNext()) {
+				Reservation res = iterator.next();
+				if (res.getStatus() == ReservationStatus.CONFIRMED || res.getStatus() == ReservationStatus.COMPLETED) {
+					totalRevenue += ticketPrices.getOrDefault(res.getReservationCode(),
+							res.getSeat().getCalculatedPrice());
+					confirmedCount++;
+				} else if (res.getStatus() == ReservationStatus.CANCELLED) {
+					cancelledCount++;
+				}
+			}
+		}
+
+		out.row("onaylanan_rezervasyon", confirmedCount);
+		out.row("iptal_edilen", cancelledCount);
+		out.row("toplam_rezervasyon", totalCount);
+		out.row("toplam_gelir", totalRevenue);
+		if (archiver != null) {
+			double archivedRevenue = archiver.getArchivedRevenue();
+			out.row("arsivlenmis_gelir", archivedRevenue);
+			out.row("genel_toplam", totalRevenue + archivedRevenue);
+		}
+	}
+
+	private void writeReservations(ReportWriter out) throws IOException {
+		out.beginSection("                 REZERVASYON RAPORU", "rezervasyon",
+				"kod", "yolcu", "kalkis", "varis", "koltuk", "durum");
+		out.text("Oluşturulma: " + getCurrentDateTime());
+
+		List<Reservation> reservations = reservationManager.getAllReservations();
+		int written = 0;
+		java.util.Iterator<Reservation> iterator = reservations.iterator();
+		while (iterator.hasNext() && !cancelled) {
+			Reservation res = iterator.next();
+			out.row(res.getReservationCode(),
+					res.getPassenger().getFullName(),
+					res.getFlight().getDeparturePlace(),
+					res.getFlight().getArrivalPlace(),
+					res.getSeat().getSeatNum(),
+					res.getStatus().getDescription());
+			written++;
+			reportProgress(written, reservations.size());
+		}
+
+		out.text("───────────────────────────────────────────────────────────");
+		out.text("Toplam Rezervasyon: " + written);
+	}
+
+	/**
+	 * İlerlemeyi yüzde olarak bildirir (her yüzde değişiminde bir kez).
+	 */
+	private void reportProgress(int done, int total) {
+		if (onProgress != null && total > 0 && (done * 100L / total) != ((done - 1) * 100L / total)) {
+			onProgress.accept((int) (done * 100L / total));
+		}
+	}
+
 	/**
 	 * Doluluk oranı raporu oluşturur.
 	 */
@@ -97,6 +279,8 @@ public class ReportGenerator implements Runnable {
 
 		double totalOccupancy = 0;
 		int flightCount = 0;
+		// Sütun deposu varsa aktif rezervasyonlar tek taramada sayılır
+		int[] activeCounts = columnStore != null ? columnStore.countActiveByFlight() : null;
 
 		java.util.Iterator<Flight> flightIterator = flights.iterator();
 		while (flightIterator.hasNext()) {
@@ -104,10 +288,14 @@ public class ReportGenerator implements Runnable {
 			if (cancelled)
 				return "Rapor iptal edildi.";
 
-			// Simüle edilmiş gecikme (uzun işlem)
-			simulateDelay(100);
-
-			double occupancy = calculateOccupancyRate(flight);
+			double occupancy;
+			if (activeCounts != null) {
+				occupancy = columnOccupancyRate(flight, activeCounts);
+			} else {
+				// Simüle edilmiş gecikme (uzun işlem)
+				simulateDelay(100);
+				occupancy = calculateOccupancyRate(flight);
+			}
 			totalOccupancy += occupancy;
 			flightCount++;
 
@@ -143,6 +331,10 @@ public class ReportGenerator implements Runnable {
 		report.append("═══════════════════════════════════════════════════════════\n");
 		report.append("Oluşturulma: ").append(getCurrentDateTime()).append("\n\n");
 
+		if (columnStore != null) {
+			return appendColumnRevenue(report);
+		}
+
 		List<Reservation> reservations = reservationManager.getAllReservations();
 
 		if (reservations.isEmpty()) {
@@ -198,11 +390,49 @@ public class ReportGenerator implements Runnable {
 		report.append("───────────────────────────────────────────────────────────\n");
 		report.append(String.format("TOPLAM GELİR          : %.2f TL\n", totalRevenue));
 		report.append("(Ek hizmetler dahil)\n");
+		appendArchivedRevenue(report, totalRevenue);
 		report.append("═══════════════════════════════════════════════════════════\n");
 
 		return report.toString();
 	}
 
+	/**
+	 * Gelir raporunu sütun deposundan oluşturur (nesne grafiği dolaşılmaz).
+	 */
+	private String appendColumnRevenue(StringBuilder report) {
+		int[] statusCounts = columnStore.countByStatus();
+		int confirmedCount = statusCounts[ReservationStatus.CONFIRMED.ordinal()]
+				+ statusCounts[ReservationStatus.COMPLETED.ordinal()];
+		double totalRevenue = columnStore.getTotalRevenueCents() / 100.0;
+
+		report.append(String.format("Onaylanan Rezervasyon  : %d\n", confirmedCount));
+		report.append(String.format("İptal Edilen          : %d\n",
+				statusCounts[ReservationStatus.CANCELLED.ordinal()]));
+		report.append(String.format("Toplam Rezervasyon    : %d\n", columnStore.size()));
+		report.append("───────────────────────────────────────────────────────────\n");
+		java.util.Iterator<java.util.Map.Entry<String, Long>> iterator = columnStore
+				.groupRevenueBy(ReservationColumnStore.Dimension.SEAT_CLASS).entrySet().iterator();
+		while (iterator.hasNext()) {
+			java.util.Map.Entry<String, Long> entry = iterator.next();
+			report.append(String.format("%-22s: %.2f TL\n", entry.getKey(), entry.getValue() / 100.0));
+		}
+		report.append(String.format("TOPLAM GELİR          : %.2f TL\n", totalRevenue));
+		report.append("(Ek hizmetler dahil)\n");
+		appendArchivedRevenue(report, totalRevenue);
+		report.append("═══════════════════════════════════════════════════════════\n");
+
+		return report.toString();
+	}
+
+	private void appendArchivedRevenue(StringBuilder report, double totalRevenue) {
+		if (archiver != null) {
+			// Arşiv diskten okunur (yavaş yol)
+			double archivedRevenue = archiver.getArchivedRevenue();
+			report.append(String.format("Arşivlenmiş Gelir     : %.2f TL\n", archivedRevenue));
+			report.append(String.format("GENEL TOPLAM          : %.2f TL\n", totalRevenue + archivedRevenue));
+		}
+	}
+
 	/**
 	 * Rezervasyon raporu oluşturur.
 	 */
@@ -238,6 +468,14 @@ public class ReportGenerator implements Runnable {
 		}
 
 		report.append("───────────────────────────────────────────────────────────\n");
+		if (columnStore != null) {
+			java.util.Iterator<java.util.Map.Entry<String, Long>> iterator = columnStore
+					.groupCountBy(ReservationColumnStore.Dimension.STATUS).entrySet().iterator();
+			while (iterator.hasNext()) {
+				java.util.Map.Entry<String, Long> entry = iterator.next();
+				report.append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+			}
+		}
 		report.append("Toplam Rezervasyon: ").append(reservations.size()).append("\n");
 		report.append("═══════════════════════════════════════════════════════════\n");
 
@@ -260,6 +498,18 @@ public class ReportGenerator implements Runnable {
 		return report.toString();
 	}
 
+	/**
+	 * Sütun deposundaki aktif rezervasyon sayısına göre doluluk oranını hesaplar.
+	 */
+	private double columnOccupancyRate(Flight flight, int[] activeCounts) {
+		int index = columnStore.getFlightIndex(flight.getFlightNum());
+		if (index < 0 || index >= activeCounts.length || flight.getPlane() == null
+				|| flight.getPlane().getCapacity() == 0) {
+			return 0;
+		}
+		return (double) activeCounts[index] / flight.getPlane().getCapacity() * 100;
+	}
+
 	/**
 	 * Bir uçuşun doluluk oranını hesaplar.
 	 *
@@ -298,7 +548,7 @@ public class ReportGenerator implements Runnable {
 	 * Şu anki tarih ve saati formatlanmış olarak döndürür.
 	 */
 	private String getCurrentDateTime() {
-		return LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss"));
+		return AppClock.now().format(DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss"));
 	}
 
 	/**
@@ -319,6 +569,34 @@ public class ReportGenerator implements Runnable {
 		return reportResult;
 	}
 
+	/**
+	 * Raporun ekrana değil dosyaya yazılmasını sağlar (null ise ekrana).
+	 */
+	public void setOutputFormat(ReportFormat outputFormat) {
+		this.outputFormat = outputFormat;
+	}
+
+	/**
+	 * Dosyaya yazılan raporun yolunu döndürür (ekran modunda null).
+	 */
+	public Path getOutputPath() {
+		return outputPath;
+	}
+
+	/**
+	 * Raporların sütun deposundan hesaplanmasını sağlar.
+	 */
+	public void setColumnStore(ReservationColumnStore columnStore) {
+		this.columnStore = columnStore;
+	}
+
+	/**
+	 * Gelir raporuna arşivlenmiş kayıtların da eklenmesini sağlar.
+	 */
+	public void setArchiver(FlightArchiver archiver) {
+		this.archiver = archiver;
+	}
+
 	/**
 	 * Rapor türünü ayarlar.
 	 */
@@ -0,0 +1,267 @@
+package com.airline.service;
+
+import com.airline.util.AppClock;
+import com.airline.util.FileManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Raporları satır satır bir dosyaya yazar.
+ * Rapor bellekte tek bir String olarak tutulmaz; satırlar tamponlu bir
+ * FileChannel üzerinden doğrudan diske akar, böylece bellek kullanımı
+ * satır sayısından bağımsızdır.
+ */
+public class ReportWriter implements Closeable {
+
+    private static final String REPORTS_DIR = "reports";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final Path path;
+    private final ReportFormat format;
+    private final Writer writer;
+    private String section;
+    private String[] columns;
+    private long rowCount;
+
+    /**
+     * Verilen dosyaya yazacak bir ReportWriter oluşturur (dosya varsa üzerine yazılır).
+     */
+    public ReportWriter(Path path, ReportFormat format) throws IOException {
+        if (path == null || format == null) {
+            throw new IllegalArgumentException("Rapor dosyası ve biçimi boş olamaz!");
+        }
+        this.path = path;
+        this.format = format;
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1),
+                BUFFER_SIZE);
+    }
+
+    /**
+     * data/reports klasöründe rapor türü ve zamana göre yeni bir dosya yolu oluşturur.
+     */
+    public static Path newReportPath(String reportName, ReportFormat format) throws IOException {
+        Path dir = Paths.get(FileManager.getDataDirectory(), REPORTS_DIR);
+        Files.createDirectories(dir);
+        String name = reportName.toLowerCase(Locale.ROOT) + "_" + AppClock.now().format(FILE_TIME)
+                + "." + format.getExtension();
+        return dir.resolve(name);
+    }
+
+    /**
+     * Yeni bir bölüm başlatır.
+     * Metin biçiminde başlık yazılır, CSV biçiminde sütun satırı yazılır.
+     * @param title Bölüm başlığı
+     * @param sectionKey CSV/JSON satırlarındaki "rapor" alanının değeri
+     * @param columns Sütun adları
+     */
+    public void beginSection(String title, String sectionKey, String... columns) throws IOException {
+        this.section = sectionKey;
+        this.columns = columns;
+        switch (format) {
+            case TEXT:
+                writer.write("═══════════════════════════════════════════════════════════\n");
+                writer.write(title);
+                writer.write('\n');
+                writer.write("═══════════════════════════════════════════════════════════\n");
+                break;
+            case CSV:
+                writer.write("rapor");
+                int i = 0;
+                while (i < columns.length) {
+                    writer.write(',');
+                    writer.write(escapeCsv(columns[i]));
+                    i++;
+                }
+                writer.write('\n');
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Bir veri satırı yazar. Değer sayısı bölümün sütun sayısıyla aynı olmalıdır.
+     */
+    public void row(Object... values) throws IOException {
+        if (columns == null || values.length != columns.length) {
+            throw new IllegalArgumentException("Satır değerleri sütunlarla uyuşmuyor!");
+        }
+        int i = 0;
+        switch (format) {
+            case TEXT:
+                while (i < values.length) {
+                    if (i > 0) {
+                        writer.write(" | ");
+                    }
+                    writer.write(formatValue(values[i]));
+                    i++;
+                }
+                break;
+            case CSV:
+                writer.write(escapeCsv(section));
+                while (i < values.length) {
+                    writer.write(',');
+                    writer.write(escapeCsv(formatValue(values[i])));
+                    i++;
+                }
+                break;
+            default:
+                writer.write("{\"rapor\":\"");
+                writer.write(escapeJson(section));
+                writer.write('"');
+                while (i < values.length) {
+                    writer.write(",\"");
+                    writer.write(escapeJson(columns[i]));
+                    writer.write("\":");
+                    writer.write(jsonValue(values[i]));
+                    i++;
+                }
+                writer.write('}');
+                break;
+        }
+        writer.write('\n');
+        rowCount++;
+    }
+
+    /**
+     * Sadece metin biçiminde serbest bir satır yazar (özet ve ayraçlar için).
+     */
+    public void text(String line) throws IOException {
+        if (format == ReportFormat.TEXT) {
+            writer.write(line);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Yazılan veri satırı sayısını döndürür.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Rapor dosyasının bir sayfasını okur (önizleme için).
+     * Önceki satırlar atlanır, dosyanın tamamı belleğe alınmaz.
+     * @param path Rapor dosyası
+     * @param pageIndex Sayfa numarası (0'dan başlar)
+     * @param pageSize Sayfadaki satır sayısı
+     * @return Sayfadaki satırlar
+     */
+    public static List<String> readPage(Path path, int pageIndex, int pageSize) throws IOException {
+        if (pageIndex < 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Geçersiz sayfa bilgisi!");
+        }
+        List<String> lines = new ArrayList<>(pageSize);
+        long skip = (long) pageIndex * pageSize;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null && lines.size() < pageSize) {
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static String formatValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return String.format(Locale.ROOT, "%.2f", ((Number) value).doubleValue());
+        }
+        return value.toString();
+    }
+
+    private static String jsonValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return formatValue(value);
+        }
+        return "\"" + escapeJson(value.toString()) + "\"";
+    }
+
+    /**
+     * CSV alanını gerekiyorsa tırnak içine alır.
+     */
+    static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * JSON string içindeki özel karakterleri kaçışlar.
+     */
+    static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    escaped.append("\\\"");
+                    break;
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                    break;
+            }
+            i++;
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,450 @@
+package com.airline.service;
+
+import com.airline.manager.DataChangeListener;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Reservation;
+import com.airline.model.Ticket;
+import com.airline.model.enums.ReservationStatus;
+import com.airline.model.enums.SeatClass;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Rapor sorguları için rezervasyon ve bilet verilerini sütun bazlı tutar.
+ * Her alan ayrı bir primitive dizide saklanır (uçuş indeksi, gün, durum,
+ * koltuk sınıfı, kuruş cinsinden fiyat). Raporlar nesne grafiğini dolaşmak
+ * yerine bu dizileri sıkı döngülerle tarar.
+ * Rezervasyon ve bilet değişiklikleriyle satır satır güncellenir.
+ */
+public class ReservationColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int PARALLEL_THRESHOLD = 100_000; // Bu satır sayısından sonra paralel taranır
+    private static final byte REMOVED = -1; // Silinen satırın durum değeri
+
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+    private static final SeatClass[] SEAT_CLASSES = SeatClass.values();
+
+    /**
+     * Gruplama yapılabilecek alanlar
+     */
+    public enum Dimension {
+        FLIGHT, // Uçuş numarası
+        DAY, // Uçuş tarihi
+        STATUS, // Rezervasyon durumu
+        SEAT_CLASS // Koltuk sınıfı
+    }
+
+    // Sütunlar
+    private int[] flightIndex;
+    private int[] epochDay;
+    private byte[] status;
+    private byte[] seatClass;
+    private long[] priceCents;
+    private int size;
+    private int removedCount;
+
+    // Uçuş sözlüğü
+    private final List<String> flightNums;
+    private final Map<String, Integer> flightIds;
+    private int[] flightCapacity;
+
+    private final Map<String, Integer> rowByCode;
+    private final DataChangeListener<Reservation> reservationListener;
+    private final DataChangeListener<Ticket> ticketListener;
+
+    /**
+     * Boş bir ReservationColumnStore oluşturur.
+     */
+    public ReservationColumnStore() {
+        this.flightNums = new ArrayList<>();
+        this.flightIds = new HashMap<>();
+        this.flightCapacity = new int[64];
+        this.rowByCode = new HashMap<>();
+        allocate(INITIAL_CAPACITY);
+        this.reservationListener = (type, reservation) -> {
+            if (type == DataChangeListener.ChangeType.REMOVED) {
+                remove(reservation);
+            } else {
+                upsert(reservation);
+            }
+        };
+        this.ticketListener = (type, ticket) -> {
+            if (type != DataChangeListener.ChangeType.REMOVED) {
+                applyTicket(ticket);
+            }
+        };
+    }
+
+    /**
+     * Mevcut verilerden sütunları oluşturur ve değişiklikleri dinlemeye başlar.
+     * Anlık görüntü ve dinleyici kaydı yöneticinin kilidi altında yapılır; arada
+     * yapılan bir değişiklik kaçmaz. Görüntüye zaten giren değişikliklerin
+     * kilitten sonra gelen olayları tekrar uygulanır, bu da sonucu değiştirmez.
+     */
+    public void attachTo(ReservationManager reservationManager) {
+        reservationManager.getLock().lock();
+        try {
+            rebuild(reservationManager.getAllReservations(), reservationManager.getAllTickets());
+            reservationManager.addChangeListener(reservationListener);
+            reservationManager.addTicketListener(ticketListener);
+        } finally {
+            reservationManager.getLock().unlock();
+        }
+    }
+
+    /**
+     * Değişiklikleri dinlemeyi bırakır.
+     */
+    public void detachFrom(ReservationManager reservationManager) {
+        reservationManager.removeChangeListener(reservationListener);
+        reservationManager.removeTicketListener(ticketListener);
+    }
+
+    /**
+     * Sütunları baştan oluşturur.
+     */
+    public synchronized void rebuild(List<Reservation> reservations, List<Ticket> tickets) {
+        allocate(Math.max(INITIAL_CAPACITY, reservations.size()));
+        size = 0;
+        removedCount = 0;
+        rowByCode.clear();
+        flightNums.clear();
+        flightIds.clear();
+
+        java.util.Iterator<Reservation> iterator = reservations.iterator();
+        while (iterator.hasNext()) {
+            upsert(iterator.next());
+        }
+        java.util.Iterator<Ticket> ticketIterator = tickets.iterator();
+        while (ticketIterator.hasNext()) {
+            applyTicket(ticketIterator.next());
+        }
+    }
+
+    /**
+     * Rezervasyonu ekler veya mevcut satırın durumunu günceller.
+     */
+    public synchronized void upsert(Reservation reservation) {
+        if (reservation == null || reservation.getFlight() == null) {
+            return;
+        }
+        Integer row = rowByCode.get(reservation.getReservationCode());
+        if (row != null) {
+            status[row] = (byte) reservation.getStatus().ordinal();
+            return;
+        }
+        ensureCapacity(size + 1);
+        Flight flight = reservation.getFlight();
+        flightIndex[size] = flightIdOf(flight);
+        epochDay[size] = (int) flight.getDate().toEpochDay();
+        status[size] = (byte) reservation.getStatus().ordinal();
+        seatClass[size] = reservation.getSeat() != null
+                ? (byte) reservation.getSeat().getClass_().ordinal()
+                : (byte) SeatClass.ECONOMY.ordinal();
+        priceCents[size] = reservation.getSeat() != null
+                ? Math.round(reservation.getSeat().getCalculatedPrice() * 100)
+                : 0;
+        rowByCode.put(reservation.getReservationCode(), size);
+        size++;
+    }
+
+    /**
+     * Rezervasyonun satırını silindi olarak işaretler.
+     * Silinen satırlar çoğalınca sütunlar sıkıştırılır.
+     */
+    public synchronized void remove(Reservation reservation) {
+        Integer row = rowByCode.remove(reservation.getReservationCode());
+        if (row == null) {
+            return;
+        }
+        status[row] = REMOVED;
+        removedCount++;
+        if (removedCount > size / 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Bilet fiyatını (ek hizmetler dahil) ilgili satıra yazar.
+     */
+    public synchronized void applyTicket(Ticket ticket) {
+        if (ticket == null || ticket.getReservation() == null) {
+            return;
+        }
+        Integer row = rowByCode.get(ticket.getReservation().getReservationCode());
+        if (row != null) {
+            priceCents[row] = Math.round(ticket.getPrice() * 100);
+        }
+    }
+
+    /**
+     * Onaylanan ve tamamlanan rezervasyonların toplam gelirini kuruş cinsinden döndürür.
+     */
+    public synchronized long getTotalRevenueCents() {
+        IntStream rows = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        return rows.filter(i -> isRevenue(status[i])).mapToLong(i -> priceCents[i]).sum();
+    }
+
+    /**
+     * Durumlara göre rezervasyon sayılarını döndürür (ReservationStatus sırasıyla).
+     */
+    public synchronized int[] countByStatus() {
+        int[] counts = new int[STATUSES.length];
+        int i = 0;
+        while (i < size) {
+            byte s = status[i];
+            if (s != REMOVED) {
+                counts[s]++;
+            }
+            i++;
+        }
+        return counts;
+    }
+
+    /**
+     * Verilen durumdaki rezervasyon sayısını döndürür.
+     */
+    public int countByStatus(ReservationStatus reservationStatus) {
+        return countByStatus()[reservationStatus.ordinal()];
+    }
+
+    /**
+     * Uçuşların aktif rezervasyon sayılarını uçuş indeksine göre döndürür.
+     */
+    public synchronized int[] countActiveByFlight() {
+        int[] counts = new int[flightNums.size()];
+        int i = 0;
+        while (i < size) {
+            if (isActive(status[i])) {
+                counts[flightIndex[i]]++;
+            }
+            i++;
+        }
+        return counts;
+    }
+
+    /**
+     * Uçuşun sözlükteki indeksini döndürür (yoksa -1).
+     */
+    public synchronized int getFlightIndex(String flightNum) {
+        Integer id = flightIds.get(flightNum);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Uçuşun doluluk oranını aktif rezervasyonlara göre hesaplar (0-100).
+     */
+    public double getOccupancyRate(String flightNum) {
+        int[] counts = countActiveByFlight();
+        synchronized (this) {
+            int id = getFlightIndex(flightNum);
+            if (id < 0 || id >= counts.length || flightCapacity[id] == 0) {
+                return 0;
+            }
+            return (double) counts[id] / flightCapacity[id] * 100;
+        }
+    }
+
+    /**
+     * Satır sayılarını verilen alana göre gruplar.
+     * Silinmiş satırlar dışında tüm durumlar sayılır.
+     */
+    public Map<String, Long> groupCountBy(Dimension dimension) {
+        return groupBy(dimension, false);
+    }
+
+    /**
+     * Geliri (kuruş) verilen alana göre gruplar.
+     * Sadece onaylanan ve tamamlanan rezervasyonlar dahil edilir.
+     */
+    public Map<String, Long> groupRevenueBy(Dimension dimension) {
+        return groupBy(dimension, true);
+    }
+
+    /**
+     * Silinmemiş satır sayısını döndürür.
+     */
+    public synchronized int size() {
+        return size - removedCount;
+    }
+
+    /**
+     * Gruplamayı anahtar aralığı kadar yoğun bir dizide yapar, sonra etiketler.
+     */
+    private synchronized Map<String, Long> groupBy(Dimension dimension, boolean revenue) {
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+        if (dimension == Dimension.DAY) {
+            int i = 0;
+            while (i < size) {
+                if (status[i] != REMOVED) {
+                    minDay = Math.min(minDay, epochDay[i]);
+                    maxDay = Math.max(maxDay, epochDay[i]);
+                }
+                i++;
+            }
+            if (minDay > maxDay) {
+                return new LinkedHashMap<>();
+            }
+        }
+
+        int keyCount;
+        switch (dimension) {
+            case FLIGHT:
+                keyCount = flightNums.size();
+                break;
+            case DAY:
+                keyCount = maxDay - minDay + 1;
+                break;
+            case STATUS:
+                keyCount = STATUSES.length;
+                break;
+            default:
+                keyCount = SEAT_CLASSES.length;
+                break;
+        }
+
+        long[] totals = new long[keyCount];
+        boolean[] seen = new boolean[keyCount];
+        int i = 0;
+        while (i < size) {
+            byte s = status[i];
+            if (s != REMOVED && (!revenue || isRevenue(s))) {
+                int key;
+                switch (dimension) {
+                    case FLIGHT:
+                        key = flightIndex[i];
+                        break;
+                    case DAY:
+                        key = epochDay[i] - minDay;
+                        break;
+                    case STATUS:
+                        key = s;
+                        break;
+                    default:
+                        key = seatClass[i];
+                        break;
+                }
+                totals[key] += revenue ? priceCents[i] : 1;
+                seen[key] = true;
+            }
+            i++;
+        }
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        int key = 0;
+        while (key < keyCount) {
+            if (seen[key]) {
+                result.put(labelOf(dimension, key, minDay), totals[key]);
+            }
+            key++;
+        }
+        return result;
+    }
+
+    private String labelOf(Dimension dimension, int key, int minDay) {
+        switch (dimension) {
+            case FLIGHT:
+                return flightNums.get(key);
+            case DAY:
+                return LocalDate.ofEpochDay((long) minDay + key).toString();
+            case STATUS:
+                return STATUSES[key].getDescription();
+            default:
+                return SEAT_CLASSES[key].getDisplayName();
+        }
+    }
+
+    private static boolean isRevenue(byte s) {
+        return s == ReservationStatus.CONFIRMED.ordinal() || s == ReservationStatus.COMPLETED.ordinal();
+    }
+
+    private static boolean isActive(byte s) {
+        return s == ReservationStatus.CONFIRMED.ordinal() || s == ReservationStatus.PENDING.ordinal();
+    }
+
+    private int flightIdOf(Flight flight) {
+        Integer id = flightIds.get(flight.getFlightNum());
+        if (id != null) {
+            return id;
+        }
+        int newId = flightNums.size();
+        flightNums.add(flight.getFlightNum());
+        flightIds.put(flight.getFlightNum(), newId);
+        if (newId >= flightCapacity.length) {
+            flightCapacity = Arrays.copyOf(flightCapacity, flightCapacity.length * 2);
+        }
+        flightCapacity[newId] = flight.getPlane() != null ? flight.getPlane().getCapacity() : 0;
+        return newId;
+    }
+
+    /**
+     * Silinmiş satırları atarak sütunları sıkıştırır.
+     */
+    private void compact() {
+        int write = 0;
+        int read = 0;
+        while (read < size) {
+            if (status[read] != REMOVED) {
+                flightIndex[write] = flightIndex[read];
+                epochDay[write] = epochDay[read];
+                status[write] = status[read];
+                seatClass[write] = seatClass[read];
+                priceCents[write] = priceCents[read];
+                write++;
+            }
+            read++;
+        }
+        // Satır numaraları kaydığı için kod eşlemesi yeniden kurulur
+        Map<Integer, String> codeByRow = new HashMap<>();
+        java.util.Iterator<Map.Entry<String, Integer>> iterator = rowByCode.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Integer> entry = iterator.next();
+            codeByRow.put(entry.getValue(), entry.getKey());
+        }
+        rowByCode.clear();
+        int newRow = 0;
+        int oldRow = 0;
+        while (oldRow < size) {
+            String code = codeByRow.get(oldRow);
+            if (code != null) {
+                rowByCode.put(code, newRow++);
+            }
+            oldRow++;
+        }
+        size = write;
+        removedCount = 0;
+    }
+
+    private void allocate(int capacity) {
+        flightIndex = new int[capacity];
+        epochDay = new int[capacity];
+        status = new byte[capacity];
+        seatClass = new byte[capacity];
+        priceCents = new long[capacity];
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= flightIndex.length) {
+            return;
+        }
+        int capacity = Math.max(required, flightIndex.length * 2);
+        flightIndex = Arrays.copyOf(flightIndex, capacity);
+        epochDay = Arrays.copyOf(epochDay, capacity);
+        status = Arrays.copyOf(status, capacity);
+        seatClass = Arrays.copyOf(seatClass, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+    }
+}
@@ -0,0 +1,67 @@
+package com.airline.service;
+
+import com.airline.model.Flight;
+
+import java.time.Duration;
+
+/**
+ * Gidiş ve dönüş uçuşundan oluşan bir seyahat seçeneğini tutar.
+ * Puan ne kadar düşükse seçenek o kadar iyidir.
+ */
+public final class RoundTripItinerary {
+
+    private final Flight outbound;
+    private final Flight inbound;
+    private final double totalPrice;
+    private final int totalDuration; // Dakika
+    private final double score;
+
+    public RoundTripItinerary(Flight outbound, Flight inbound, double totalPrice, double score) {
+        this.outbound = outbound;
+        this.inbound = inbound;
+        this.totalPrice = totalPrice;
+        this.totalDuration = outbound.getDuration() + inbound.getDuration();
+        this.score = score;
+    }
+
+    /**
+     * Varıştan dönüş uçuşunun kalkışına kadar geçen süreyi döndürür.
+     */
+    public Duration getStay() {
+        return Duration.between(outbound.getArrivalDateTime(), inbound.getDepartureDateTime());
+    }
+
+    /**
+     * Toplam uçuş süresini formatlı döndürür.
+     */
+    public String getFormattedDuration() {
+        return String.format("%d sa %d dk", totalDuration / 60, totalDuration % 60);
+    }
+
+    // Getter metodları
+    public Flight getOutbound() {
+        return outbound;
+    }
+
+    public Flight getInbound() {
+        return inbound;
+    }
+
+    public double getTotalPrice() {
+        return totalPrice;
+    }
+
+    public int getTotalDuration() {
+        return totalDuration;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s + %s (%.2f TL, %s)", outbound.getFlightNum(), inbound.getFlightNum(),
+                totalPrice, getFormattedDuration());
+    }
+}
@@ -0,0 +1,266 @@
+package com.airline.service;
+
+import com.airline.manager.DataChangeListener;
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Reservation;
+import com.airline.util.AppClock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Uçuş arama sonuçları için sınırlı boyutlu LRU önbellek.
+ *
+ * Kayıtlar üç durumda geçersiz olur:
+ * - Uçuş kataloğu değiştiğinde (FlightManager sürüm numarası artar)
+ * - Sonuçtaki bir uçuşun koltuk durumu değiştiğinde
+ * - Sonuçtaki en erken uçuşun kalkış saati geçtiğinde
+ *
+ * Sonuçlar kilit dışında hesaplanır. Hesaplama sürerken katalog veya herhangi bir
+ * uçuşun koltuk durumu değişirse sonuç döndürülür ama saklanmaz; böylece
+ * geçersiz kılma, kendisinden önce başlamış bir hesaplamayla geri alınamaz.
+ */
+public class SearchResultCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private final FlightManager flightManager;
+    private final int maxEntries;
+    private final LinkedHashMap<FlightQuery, Entry> entries;
+    private final Map<String, Set<FlightQuery>> queriesByFlight; // Uçuş numarası -> sorgular
+    private final DataChangeListener<Reservation> reservationListener;
+    private long seatChanges; // invalidateFlight çağrı sayısı (this ile korunur)
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Önbellekteki bir arama sonucu.
+     */
+    private static final class Entry {
+        private final List<Flight> flights;
+        private final long catalogVersion;
+        private final long expiresAtMinute; // En erken kalkış (dakika)
+
+        private Entry(List<Flight> flights, long catalogVersion, long expiresAtMinute) {
+            this.flights = flights;
+            this.catalogVersion = catalogVersion;
+            this.expiresAtMinute = expiresAtMinute;
+        }
+    }
+
+    /**
+     * Varsayılan boyutla önbellek oluşturur.
+     */
+    public SearchResultCache(FlightManager flightManager) {
+        this(flightManager, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Önbellek oluşturur.
+     * @param flightManager Katalog sürümünün okunacağı uçuş yöneticisi
+     * @param maxEntries En fazla tutulacak sorgu sayısı
+     */
+    public SearchResultCache(FlightManager flightManager, int maxEntries) {
+        if (flightManager == null) {
+            throw new IllegalArgumentException("Uçuş yöneticisi boş olamaz!");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Önbellek boyutu pozitif olmalıdır!");
+        }
+        this.flightManager = flightManager;
+        this.maxEntries = maxEntries;
+        this.queriesByFlight = new HashMap<>();
+        this.entries = new LinkedHashMap<FlightQuery, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FlightQuery, Entry> eldest) {
+                if (size() > SearchResultCache.this.maxEntries) {
+                    unindex(eldest.getKey(), eldest.getValue());
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.reservationListener = (type, reservation) -> {
+            if (reservation != null && reservation.getFlight() != null) {
+                invalidateFlight(reservation.getFlight());
+            }
+        };
+    }
+
+    /**
+     * Rezervasyon değişikliklerini dinleyerek koltuk durumu değişen uçuşların
+     * sonuçlarını geçersiz kılar.
+     */
+    public void attachTo(ReservationManager reservationManager) {
+        reservationManager.addChangeListener(reservationListener);
+    }
+
+    public void detachFrom(ReservationManager reservationManager) {
+        reservationManager.removeChangeListener(reservationListener);
+    }
+
+    /**
+     * Sorgunun sonucunu önbellekten döndürür, yoksa hesaplayıp saklar.
+     * @param query Normalleştirilmiş sorgu
+     * @param loader Önbellekte yoksa sonucu hesaplayan fonksiyon
+     * @return Değiştirilemez sonuç listesi
+     */
+    public List<Flight> get(FlightQuery query, Supplier<List<Flight>> loader) {
+        long version = flightManager.getCatalogVersion();
+        long nowMinute = AppClock.currentEpochMinute();
+        long seatVersion;
+
+        synchronized (this) {
+            seatVersion = seatChanges;
+            Entry entry = entries.get(query);
+            if (entry != null) {
+                if (entry.catalogVersion == version && nowMinute < entry.expiresAtMinute) {
+                    hits.incrementAndGet();
+                    return entry.flights;
+                }
+                remove(query);
+                invalidations.incrementAndGet();
+            }
+        }
+
+        // Hesaplama kilit dışında yapılır; aynı sorgu iki kez hesaplanabilir ama beklenmez
+        misses.incrementAndGet();
+        List<Flight> flights = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+        long expiresAt = Long.MAX_VALUE;
+        java.util.Iterator<Flight> iterator = flights.iterator();
+        while (iterator.hasNext()) {
+            expiresAt = Math.min(expiresAt, iterator.next().getDepartureEpochMinute());
+        }
+
+        synchronized (this) {
+            // Hesaplama sırasında katalog veya koltuk durumu değiştiyse sonucu saklama
+            if (flightManager.getCatalogVersion() == version && seatChanges == seatVersion) {
+                remove(query);
+                Entry entry = new Entry(flights, version, expiresAt);
+                entries.put(query, entry);
+                index(query, entry);
+            }
+        }
+        return flights;
+    }
+
+    /**
+     * Uçuşu içeren sonuçları ve uçuşla eşleşen "sadece müsait" sorgularını
+     * geçersiz kılar. İptal ile yeniden müsait olan uçuşlar da böylece sonuca girer.
+     */
+    public synchronized void invalidateFlight(Flight flight) {
+        seatChanges++;
+        Set<FlightQuery> affected = new HashSet<>();
+        Set<FlightQuery> containing = queriesByFlight.get(flight.getFlightNum());
+        if (containing != null) {
+            affected.addAll(containing);
+        }
+        java.util.Iterator<FlightQuery> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            FlightQuery query = iterator.next();
+            if (query.isAvailableOnly() && query.matchesIgnoringSeats(flight)) {
+                affected.add(query);
+            }
+        }
+
+        java.util.Iterator<FlightQuery> affectedIterator = affected.iterator();
+        while (affectedIterator.hasNext()) {
+            if (remove(affectedIterator.next())) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Tüm önbelleği temizler.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        queriesByFlight.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * İsabet oranını döndürür (0-1 arası).
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+
+    /**
+     * Önbellek istatistiklerini metin olarak döndürür.
+     */
+    public String getStatsSummary() {
+        return String.format("Arama önbelleği: %d/%d kayıt, isabet %d, ıska %d (%%%.1f), çıkarılan %d, geçersiz %d",
+                size(), maxEntries, getHitCount(), getMissCount(), getHitRate() * 100,
+                getEvictionCount(), getInvalidationCount());
+    }
+
+    private boolean remove(FlightQuery query) {
+        Entry entry = entries.remove(query);
+        if (entry == null) {
+            return false;
+        }
+        unindex(query, entry);
+        return true;
+    }
+
+    private void index(FlightQuery query, Entry entry) {
+        java.util.Iterator<Flight> iterator = entry.flights.iterator();
+        while (iterator.hasNext()) {
+            queriesByFlight.computeIfAbsent(iterator.next().getFlightNum(), k -> new HashSet<>()).add(query);
+        }
+    }
+
+    private void unindex(FlightQuery query, Entry entry) {
+        java.util.Iterator<Flight> iterator = entry.flights.iterator();
+        while (iterator.hasNext()) {
+            String flightNum = iterator.next().getFlightNum();
+            Set<FlightQuery> queries = queriesByFlight.get(flightNum);
+            if (queries != null) {
+                queries.remove(query);
+                if (queries.isEmpty()) {
+                    queriesByFlight.remove(flightNum);
+                }
+            }
+        }
+    }
+}
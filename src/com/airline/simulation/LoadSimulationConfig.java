@@ -0,0 +1,166 @@
+package com.airline.simulation;
+
+import com.airline.concurrency.SeatReservationStrategy;
+
+/**
+ * Yük simülasyonunun parametrelerini tutar.
+ * Varsayılan değerler çok sayıda uçuşa dağılmış on bin müşteriyi simüle eder.
+ */
+public class LoadSimulationConfig {
+
+    private int customerCount = 10_000;
+    private int flightCount = 20;
+    private int rows = 30;
+    private int seatsPerRow = 6;
+    private int businessRows = 5;
+    private int minThinkMillis = 0;
+    private int maxThinkMillis = 5;
+    private int maxRetries = 3;
+    private SeatChoice seatChoice = SeatChoice.AVAILABLE_RANDOM;
+    private boolean synchronizedBooking = true;
+    private int fallbackThreads = 256; // Sanal thread yoksa kullanılacak havuz boyutu
+    private long seed = System.nanoTime();
+    private SeatReservationStrategy seatStrategy; // null ise yöneticinin varsayılan stratejisi kullanılır
+
+    /**
+     * Parametreleri kontrol eder.
+     * @throws IllegalArgumentException Geçersiz bir değer varsa
+     */
+    public void validate() {
+        if (customerCount <= 0 || flightCount <= 0) {
+            throw new IllegalArgumentException("Müşteri ve uçuş sayısı pozitif olmalıdır!");
+        }
+        if (rows <= 0 || seatsPerRow <= 0 || seatsPerRow > 6 || businessRows < 0 || businessRows > rows) {
+            throw new IllegalArgumentException("Geçersiz uçak yerleşimi!");
+        }
+        if (minThinkMillis < 0 || maxThinkMillis < minThinkMillis) {
+            throw new IllegalArgumentException("Geçersiz düşünme süresi aralığı!");
+        }
+        if (maxRetries < 0 || fallbackThreads <= 0) {
+            throw new IllegalArgumentException("Tekrar ve thread sayısı negatif olamaz!");
+        }
+        if (seatChoice == null) {
+            throw new IllegalArgumentException("Koltuk seçim davranışı boş olamaz!");
+        }
+    }
+
+    /**
+     * Toplam koltuk sayısını döndürür.
+     */
+    public int getTotalSeats() {
+        return flightCount * rows * seatsPerRow;
+    }
+
+    // Getter ve Setter metodları
+    public int getCustomerCount() {
+        return customerCount;
+    }
+
+    public void setCustomerCount(int customerCount) {
+        this.customerCount = customerCount;
+    }
+
+    public int getFlightCount() {
+        return flightCount;
+    }
+
+    public void setFlightCount(int flightCount) {
+        this.flightCount = flightCount;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public void setSeatsPerRow(int seatsPerRow) {
+        this.seatsPerRow = seatsPerRow;
+    }
+
+    public int getBusinessRows() {
+        return businessRows;
+    }
+
+    public void setBusinessRows(int businessRows) {
+        this.businessRows = businessRows;
+    }
+
+    public int getMinThinkMillis() {
+        return minThinkMillis;
+    }
+
+    public void setMinThinkMillis(int minThinkMillis) {
+        this.minThinkMillis = minThinkMillis;
+    }
+
+    public int getMaxThinkMillis() {
+        return maxThinkMillis;
+    }
+
+    public void setMaxThinkMillis(int maxThinkMillis) {
+        this.maxThinkMillis = maxThinkMillis;
+    }
+
+    /**
+     * Düşünme süresini tek seferde ayarlar.
+     */
+    public void setThinkTime(int minMillis, int maxMillis) {
+        this.minThinkMillis = minMillis;
+        this.maxThinkMillis = maxMillis;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public SeatChoice getSeatChoice() {
+        return seatChoice;
+    }
+
+    public void setSeatChoice(SeatChoice seatChoice) {
+        this.seatChoice = seatChoice;
+    }
+
+    public boolean isSynchronizedBooking() {
+        return synchronizedBooking;
+    }
+
+    public void setSynchronizedBooking(boolean synchronizedBooking) {
+        this.synchronizedBooking = synchronizedBooking;
+    }
+
+    public int getFallbackThreads() {
+        return fallbackThreads;
+    }
+
+    public void setFallbackThreads(int fallbackThreads) {
+        this.fallbackThreads = fallbackThreads;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public SeatReservationStrategy getSeatStrategy() {
+        return seatStrategy;
+    }
+
+    public void setSeatStrategy(SeatReservationStrategy seatStrategy) {
+        this.seatStrategy = seatStrategy;
+    }
+}
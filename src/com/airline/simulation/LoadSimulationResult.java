@@ -0,0 +1,133 @@
+package com.airline.simulation;
+
+/**
+ * Bir yük simülasyonunun ölçüm sonuçlarını tutar.
+ * Gecikmeler mikrosaniye cinsindendir ve sadece rezervasyon denemesini kapsar
+ * (müşterinin düşünme süresi hariç).
+ */
+public final class LoadSimulationResult {
+
+    private final int customers;
+    private final int successful;
+    private final int failed;
+    private final int conflicts;
+    private final int retries;
+    private final int reservedSeats; // Simülasyon sonunda uçaklarda gerçekten dolu olan koltuklar
+    private final long elapsedMillis;
+    private final long p50Micros;
+    private final long p95Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+    private final boolean virtualThreads;
+
+    public LoadSimulationResult(int customers, int successful, int failed, int conflicts, int retries,
+                                int reservedSeats, long elapsedMillis, long p50Micros, long p95Micros,
+                                long p99Micros, long maxMicros, boolean virtualThreads) {
+        this.customers = customers;
+        this.successful = successful;
+        this.failed = failed;
+        this.conflicts = conflicts;
+        this.retries = retries;
+        this.reservedSeats = reservedSeats;
+        this.elapsedMillis = elapsedMillis;
+        this.p50Micros = p50Micros;
+        this.p95Micros = p95Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Saniyedeki başarılı rezervasyon sayısını döndürür.
+     */
+    public double getThroughput() {
+        return elapsedMillis > 0 ? successful * 1000.0 / elapsedMillis : successful;
+    }
+
+    /**
+     * Başarılı sayılan rezervasyonlar dolu koltuk sayısından fazlaysa
+     * aynı koltuk birden fazla kez satılmıştır (race condition).
+     */
+    public boolean isOversold() {
+        return successful > reservedSeats;
+    }
+
+    /**
+     * Sonuçları okunabilir bir özet olarak döndürür.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("═══════════════════════════════════════════════════════════\n");
+        summary.append("                 YÜK SİMÜLASYONU SONUCU\n");
+        summary.append("═══════════════════════════════════════════════════════════\n");
+        summary.append(String.format("Müşteri Sayısı        : %d\n", customers));
+        summary.append(String.format("Thread Türü           : %s\n", virtualThreads ? "Sanal (virtual)" : "Platform havuzu"));
+        summary.append(String.format("Başarılı Rezervasyon  : %d\n", successful));
+        summary.append(String.format("Başarısız             : %d\n", failed));
+        summary.append(String.format("Çakışma / Tekrar      : %d / %d\n", conflicts, retries));
+        summary.append(String.format("Dolu Koltuk           : %d%s\n", reservedSeats,
+                isOversold() ? " (FAZLA SATIŞ!)" : ""));
+        summary.append("───────────────────────────────────────────────────────────\n");
+        summary.append(String.format("Süre                  : %d ms\n", elapsedMillis));
+        summary.append(String.format("Verim                 : %.1f rezervasyon/sn\n", getThroughput()));
+        summary.append(String.format("Gecikme p50/p95/p99   : %d / %d / %d µs\n", p50Micros, p95Micros, p99Micros));
+        summary.append(String.format("En Yüksek Gecikme     : %d µs\n", maxMicros));
+        summary.append("═══════════════════════════════════════════════════════════\n");
+        return summary.toString();
+    }
+
+    // Getter metodları
+    public int getCustomers() {
+        return customers;
+    }
+
+    public int getSuccessful() {
+        return successful;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getConflicts() {
+        return conflicts;
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    public int getReservedSeats() {
+        return reservedSeats;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP95Micros() {
+        return p95Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LoadSimulationResult{ok=%d, failed=%d, conflicts=%d, %.1f/s, p99=%dµs}",
+                successful, failed, conflicts, getThroughput(), p99Micros);
+    }
+}
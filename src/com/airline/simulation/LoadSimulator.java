@@ -0,0 +1,274 @@
+package com.airline.simulation;
+
+import com.airline.exception.SeatNotAvailableException;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Seat;
+import com.airline.util.AppClock;
+import com.airline.util.ThreadSupport;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Arayüzden bağımsız eşzamanlı rezervasyon yük simülatörü.
+ * Her müşteri ayrı bir thread'de (destekleniyorsa sanal thread) düşünür,
+ * bir uçuş ve koltuk seçer ve gerçek ReservationManager yolu üzerinden
+ * rezervasyon yapmaya çalışır. Çakışmada yeni bir koltukla tekrar dener.
+ * Verim, gecikme yüzdelikleri ve çakışma sayıları ölçülür.
+ */
+public class LoadSimulator {
+
+    /**
+     * Her rezervasyon denemesinden sonra çağrılır (görsel ön yüzler için).
+     * Müşteri thread'i üzerinde çağrıldığı için hızlı olmalıdır.
+     */
+    @FunctionalInterface
+    public interface BookingListener {
+        void onBooking(int flightIndex, Seat seat, boolean success);
+    }
+
+    private final LoadSimulationConfig config;
+    private final ReservationManager reservationManager;
+    private final List<Flight> flights;
+    private final Seat[][] seats; // Uçuş bazında koltuk dizileri (rastgele erişim için)
+    private BookingListener bookingListener;
+    private volatile boolean cancelled;
+
+    /**
+     * Dosyaya yazmayan bir ReservationManager ile simülatör oluşturur.
+     */
+    public LoadSimulator(LoadSimulationConfig config) {
+        this(config, new ReservationManager(false));
+    }
+
+    /**
+     * Verilen ReservationManager ile simülatör oluşturur.
+     */
+    public LoadSimulator(LoadSimulationConfig config, ReservationManager reservationManager) {
+        if (config == null || reservationManager == null) {
+            throw new IllegalArgumentException("Simülasyon ayarları ve rezervasyon yöneticisi boş olamaz!");
+        }
+        config.validate();
+        this.config = config;
+        this.reservationManager = reservationManager;
+        if (config.getSeatStrategy() != null) {
+            reservationManager.setSeatStrategy(config.getSeatStrategy());
+        }
+        this.flights = new ArrayList<>(config.getFlightCount());
+        this.seats = new Seat[config.getFlightCount()][];
+
+        int i = 0;
+        while (i < config.getFlightCount()) {
+            Plane plane = new Plane("SIM-" + (i + 1), "Simulation Plane", config.getRows(),
+                    config.getSeatsPerRow(), config.getBusinessRows(), 500);
+            Flight flight = new Flight("SIM" + (i + 1), "İstanbul", "Ankara",
+                    AppClock.today().plusDays(1), LocalTime.of(12, 0), 60, plane);
+            flights.add(flight);
+            seats[i] = plane.getAllSeats().toArray(new Seat[0]);
+            i++;
+        }
+    }
+
+    /**
+     * Rezervasyon denemesi dinleyicisini ayarlar.
+     */
+    public void setBookingListener(BookingListener bookingListener) {
+        this.bookingListener = bookingListener;
+    }
+
+    /**
+     * Çalışan simülasyonu durdurur; bekleyen müşteriler rezervasyon yapmadan çıkar.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Simülasyonda kullanılan uçuşları döndürür.
+     */
+    public List<Flight> getFlights() {
+        return Collections.unmodifiableList(flights);
+    }
+
+    /**
+     * Simülasyonu çalıştırır ve tüm müşteriler bitene kadar bekler.
+     * @return Ölçüm sonuçları
+     */
+    public LoadSimulationResult run() {
+        int customers = config.getCustomerCount();
+        long[] latencies = new long[customers];
+        AtomicInteger successful = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger retries = new AtomicInteger();
+
+        ExecutorService executor = ThreadSupport.newPerTaskExecutor("sim-customer",
+                Math.min(customers, config.getFallbackThreads()));
+        long start = System.nanoTime();
+        try {
+            int id = 0;
+            while (id < customers && !cancelled) {
+                final int customerId = id;
+                executor.execute(() -> runCustomer(customerId, latencies, successful, failed, conflicts, retries));
+                id++;
+            }
+        } finally {
+            executor.shutdown();
+        }
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (cancelled) {
+                    executor.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        int reservedSeats = 0;
+        java.util.Iterator<Flight> iterator = flights.iterator();
+        while (iterator.hasNext()) {
+            reservedSeats += iterator.next().getPlane().getReservedSeatCount();
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, customers);
+        Arrays.sort(sorted);
+        return new LoadSimulationResult(customers, successful.get(), failed.get(), conflicts.get(),
+                retries.get(), reservedSeats, elapsedMillis,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.length > 0 ? sorted[sorted.length - 1] : 0,
+                ThreadSupport.isVirtualThreadsAvailable());
+    }
+
+    /**
+     * Tek bir müşterinin davranışı: düşün, uçuş ve koltuk seç, rezervasyon yap.
+     */
+    private void runCustomer(int customerId, long[] latencies, AtomicInteger successful,
+                             AtomicInteger failed, AtomicInteger conflicts, AtomicInteger retries) {
+        if (cancelled) {
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(config.getSeed() + customerId * 0x9E3779B97F4A7C15L);
+        try {
+            int thinkRange = config.getMaxThinkMillis() - config.getMinThinkMillis();
+            int think = config.getMinThinkMillis() + (thinkRange > 0 ? random.nextInt(thinkRange + 1) : 0);
+            if (think > 0) {
+                Thread.sleep(think);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        int flightIndex = random.nextInt(flights.size());
+        Flight flight = flights.get(flightIndex);
+        Passenger passenger = new Passenger("SIM-" + customerId, "Müşteri", String.valueOf(customerId),
+                "musteri" + customerId + "@sim.local", "5550000000");
+
+        long begin = System.nanoTime();
+        boolean booked = false;
+        int attempt = 0;
+        while (attempt <= config.getMaxRetries() && !cancelled) {
+            Seat seat = chooseSeat(flightIndex, random);
+            if (seat == null) {
+                break; // Uçuş dolu
+            }
+            booked = book(flight, passenger, seat);
+            BookingListener listener = bookingListener;
+            if (listener != null) {
+                listener.onBooking(flightIndex, seat, booked);
+            }
+            if (booked) {
+                break;
+            }
+            conflicts.incrementAndGet();
+            if (attempt < config.getMaxRetries()) {
+                retries.incrementAndGet();
+            }
+            attempt++;
+        }
+        latencies[customerId] = (System.nanoTime() - begin) / 1000;
+        if (booked) {
+            successful.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Seçilen koltuk için rezervasyon yapar.
+     * Senkronize modda gerçek makeReservation yolu, diğer modda kilitsiz yol kullanılır.
+     */
+    private boolean book(Flight flight, Passenger passenger, Seat seat) {
+        if (!config.isSynchronizedBooking()) {
+            return reservationManager.unsynchronizedReserve(seat);
+        }
+        try {
+            reservationManager.makeReservation(flight, passenger, seat);
+            return true;
+        } catch (SeatNotAvailableException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Yapılandırmadaki davranışa göre bir koltuk seçer.
+     * @return Seçilen koltuk, boş koltuk kalmadıysa null
+     */
+    private Seat chooseSeat(int flightIndex, SplittableRandom random) {
+        Seat[] flightSeats = seats[flightIndex];
+        switch (config.getSeatChoice()) {
+            case UNIFORM:
+                return flightSeats[random.nextInt(flightSeats.length)];
+            case FRONT_HEAVY:
+                double r = random.nextDouble();
+                return flightSeats[(int) (r * r * flightSeats.length)];
+            default:
+                int[] available = new int[flightSeats.length];
+                int count = 0;
+                int i = 0;
+                while (i < flightSeats.length) {
+                    if (!flightSeats[i].isReserveStatus()) {
+                        available[count++] = i;
+                    }
+                    i++;
+                }
+                return count == 0 ? null : flightSeats[available[random.nextInt(count)]];
+        }
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * Simülasyonu komut satırından çalıştırır.
+     * Kullanım: LoadSimulator [müşteri sayısı] [uçuş sayısı]
+     */
+    public static void main(String[] args) {
+        LoadSimulationConfig config = new LoadSimulationConfig();
+        if (args.length > 0) {
+            config.setCustomerCount(Integer.parseInt(args[0]));
+        }
+        if (args.length > 1) {
+            config.setFlightCount(Integer.parseInt(args[1]));
+        }
+        System.out.println(new LoadSimulator(config).run().getSummary());
+    }
+}
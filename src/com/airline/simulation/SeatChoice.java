@@ -0,0 +1,25 @@
+package com.airline.simulation;
+
+/**
+ * Simülasyondaki müşterilerin koltuk seçme davranışlarını tanımlar.
+ */
+public enum SeatChoice {
+    AVAILABLE_RANDOM("Boş koltuklardan rastgele"), // Güncel koltuk haritasından seçer
+    UNIFORM("Tüm koltuklardan rastgele"), // Koltuğun dolu olup olmadığına bakmaz
+    FRONT_HEAVY("Ön sıralar tercihli"); // Ön sıralarda yığılma ve çakışma oluşturur
+
+    private final String displayName;
+
+    SeatChoice(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
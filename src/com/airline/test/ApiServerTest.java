@@ -0,0 +1,241 @@
+package com.airline.test;
+
+import com.airline.api.ApiLoadResult;
+import com.airline.api.ApiLoadTest;
+import com.airline.api.ApiServer;
+import com.airline.api.JsonWriter;
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.manager.UserManager;
+import com.airline.model.Plane;
+import com.airline.model.Route;
+import com.airline.service.ChangeFeed;
+import com.airline.service.FlightSearchEngine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ApiServer ve JsonWriter için JUnit 5 testleri.
+ * Sunucu boş bir portta başlatılır, rezervasyonlar sadece bellekte tutulur.
+ */
+public class ApiServerTest {
+
+    private FlightManager flightManager;
+    private ReservationManager reservationManager;
+    private UserManager userManager;
+    private ApiServer server;
+    private String baseUrl;
+    private String token; // Müşteri oturumu
+
+    @BeforeEach
+    void setUp() throws IOException {
+        flightManager = new FlightManager();
+        flightManager.clearAllData();
+        Route route = new Route("İstanbul", "IST", "Ankara", "ESB");
+        flightManager.createFlight("TK101", route, LocalDate.now().plusDays(1), LocalTime.NOON, 60,
+                new Plane("TEST-001", "Boeing 737", 500));
+
+        reservationManager = new ReservationManager(false);
+        userManager = new UserManager(false);
+        userManager.registerCustomer("ayse", "sifre", "ayse@test.com", "Ayşe", "Yılmaz", "555");
+        server = new ApiServer(new FlightSearchEngine(flightManager), reservationManager, userManager, 0);
+        server.start();
+        baseUrl = server.getBaseUrl();
+        token = ApiLoadTest.login(baseUrl, "ayse", "sifre");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Müşteri oturumuyla istek gönderir; yanıt "durum kodu|gövde" biçiminde döner.
+     */
+    private String request(String method, String path, String form) throws IOException {
+        return request(method, path, form, token);
+    }
+
+    /**
+     * Verilen token ile (null ise Authorization başlığı olmadan) istek gönderir.
+     */
+    private String request(String method, String path, String form, String sessionToken) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        if (sessionToken != null) {
+            connection.setRequestProperty("Authorization", "Bearer " + sessionToken);
+        }
+        if (form != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(form.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        try (InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream()) {
+            return status + "|" + new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * "durum|gövde" yanıtından metin alanını okur.
+     */
+    private static String field(String response, String name) {
+        String key = "\"" + name + "\":\"";
+        int start = response.indexOf(key);
+        assertTrue(start >= 0, response);
+        start += key.length();
+        return response.substring(start, response.indexOf('"', start));
+    }
+
+    @Test
+    @DisplayName("JSON yazıcının kaçış karakterleri ve iç içe yapılar testi")
+    void testJsonWriter() throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonWriter json = new JsonWriter(out)) {
+            json.beginObject()
+                    .field("ad", "Ali \"Veli\"\n")
+                    .name("liste").beginArray().value(1).value(true).nullValue().endArray()
+                    .field("oran", Double.NaN)
+                    .endObject();
+        }
+        assertEquals("{\"ad\":\"Ali \\\"Veli\\\"\\n\",\"liste\":[1,true,null],\"oran\":null}", out.toString());
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringWriter()).beginObject().value(1));
+    }
+
+    @Test
+    @DisplayName("Sunucunun varsayılan olarak sadece loopback dinlemesi testi")
+    void testBindsToLoopbackByDefault() {
+        String loopback = InetAddress.getLoopbackAddress().getHostAddress();
+        assertTrue(server.getBaseUrl().contains(loopback), server.getBaseUrl());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ApiServer(new FlightSearchEngine(flightManager), reservationManager, userManager, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ApiServer(new FlightSearchEngine(flightManager), reservationManager, null, 0));
+    }
+
+    @Test
+    @DisplayName("Arama, rezervasyon, bilet ve iptal uç noktaları testi")
+    void testBookingFlow() throws IOException {
+        String search = request("GET", "/api/flights?from=istanbul&to=Ankara", null);
+        assertTrue(search.startsWith("200|"));
+        assertTrue(search.contains("\"flightNum\":\"TK101\""));
+
+        String seats = request("GET", "/api/flights/TK101/seats", null);
+        assertTrue(seats.contains("\"seat\":\"1A\""), seats);
+
+        String booked = request("POST", "/api/reservations", "flight=TK101&seat=1A&name=Ay%C5%9Fe&surname=Y%C4%B1lmaz");
+        assertTrue(booked.startsWith("201|"), booked);
+        assertTrue(booked.contains("\"passenger\":\"Ayşe Yılmaz\""));
+        String code = booked.substring(booked.indexOf("\"code\":\"") + 8);
+        code = code.substring(0, code.indexOf('"'));
+
+        assertTrue(request("POST", "/api/reservations", "flight=TK101&seat=1A&name=A&surname=B").startsWith("409|"),
+                "Dolu koltuk 409 döndürmeli");
+        assertTrue(request("POST", "/api/reservations/" + code + "/ticket", "").startsWith("201|"));
+        assertTrue(request("DELETE", "/api/reservations/" + code, null).contains("\"status\":\"CANCELLED\""));
+
+        assertTrue(request("GET", "/api/flights/XX999", null).startsWith("404|"));
+        assertTrue(request("GET", "/api/flights?date=bozuk", null).startsWith("400|"));
+        assertTrue(request("POST", "/api/reservations", "flight=TK101").startsWith("400|"));
+    }
+
+    @Test
+    @DisplayName("Giriş, token kontrolü ve admin yetkisi testi")
+    void testSessionAuthorization() throws IOException {
+        assertTrue(request("POST", "/api/sessions", "username=ayse&password=yanlis", null).startsWith("401|"));
+        assertTrue(request("POST", "/api/reservations", "flight=TK101&seat=1A&name=A&surname=B", null)
+                .startsWith("401|"), "Token olmadan rezervasyon yapılmamalı");
+        assertTrue(request("GET", "/api/tickets/TKT-YOK", null, "bozuk-token").startsWith("401|"));
+        assertTrue(request("GET", "/api/flights/TK101", null, null).startsWith("200|"), "Uçuş arama açık kalmalı");
+
+        assertTrue(request("GET", "/api/reports/occupancy", null).startsWith("403|"), "Müşteri rapor alamamalı");
+        String admin = ApiLoadTest.login(baseUrl, "admin", "admin123");
+        assertTrue(request("GET", "/api/reports/occupancy", null, admin).startsWith("200|"));
+
+        assertTrue(request("DELETE", "/api/sessions", null).startsWith("200|"));
+        assertTrue(request("DELETE", "/api/reservations/RES-YOK", null).startsWith("401|"),
+                "Kapatılan oturum yetki vermemeli");
+    }
+
+    @Test
+    @DisplayName("Müşterinin başka yolcunun rezervasyon ve biletine erişememesi testi")
+    void testCustomerCannotAccessOthersReservations() throws IOException {
+        String booked = request("POST", "/api/reservations", "flight=TK101&seat=3A");
+        assertTrue(booked.startsWith("201|"), booked);
+        assertTrue(booked.contains("\"passenger\":\"Ayşe Yılmaz\""), "Müşteri kendi yolcu kaydıyla rezervasyon yapmalı");
+        String code = field(booked, "code");
+        String ticket = request("POST", "/api/reservations/" + code + "/ticket", "");
+        String ticketId = field(ticket, "ticketId");
+
+        userManager.registerCustomer("mehmet", "sifre", "m@test.com", "Mehmet", "Ak", "555");
+        String other = ApiLoadTest.login(baseUrl, "mehmet", "sifre");
+        assertTrue(request("GET", "/api/reservations/" + code, null, other).startsWith("404|"));
+        assertTrue(request("GET", "/api/tickets/" + ticketId, null, other).startsWith("404|"));
+        assertTrue(request("POST", "/api/reservations/" + code + "/ticket", "", other).startsWith("404|"));
+        assertTrue(request("DELETE", "/api/reservations/" + code, null, other).startsWith("404|"));
+        assertTrue(reservationManager.getReservation(code).isActive(), "Başka müşteri iptal edememeli");
+
+        assertTrue(request("GET", "/api/tickets/" + ticketId, null).startsWith("200|"));
+        String admin = ApiLoadTest.login(baseUrl, "admin", "admin123");
+        assertTrue(request("GET", "/api/reservations/" + code, null, admin).startsWith("200|"));
+        assertTrue(request("DELETE", "/api/reservations/" + code, null, admin).contains("\"status\":\"CANCELLED\""));
+    }
+
+    @Test
+    @DisplayName("Yük testinin hatasız istek üretmesi testi")
+    void testLoadTestRuns() {
+        ApiLoadResult result = new ApiLoadTest(4, 300).run(baseUrl, token, flightManager.getAllFlights());
+
+        assertTrue(result.getRequests() > 0, "İstek gönderilmeli");
+        assertEquals(0, result.getErrors(), result.getSummary());
+        assertTrue(result.getP99Micros() >= result.getP50Micros());
+    }
+
+    @Test
+    @DisplayName("Koltuk değişikliğinin SSE akışına düşmesi testi")
+    void testSeatEventsOverSse() throws IOException {
+        assertTrue(request("GET", "/api/events", null).startsWith("404|"), "Akış ayarlanmadan SSE kapalı olmalı");
+
+        ChangeFeed feed = new ChangeFeed(64, Runnable::run);
+        feed.attachTo(reservationManager);
+        server.setChangeFeed(feed);
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + "/api/flights/TK101/events").openConnection();
+        connection.setReadTimeout(5000);
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith("text/event-stream"));
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            assertTrue(request("POST", "/api/reservations", "flight=TK101&seat=2C&name=A&surname=B").startsWith("201|"));
+
+            String line = reader.readLine();
+            while (line != null && !line.startsWith("event:")) {
+                line = reader.readLine();
+            }
+            assertEquals("event: seat_reserved", line);
+            String data = reader.readLine();
+            assertTrue(data.contains("\"seat\":\"2C\""), data);
+        }
+        assertEquals(1, feed.getSubscriberCount());
+    }
+}
@@ -0,0 +1,114 @@
+package com.airline.test;
+
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.service.BatchCommandRunner;
+import com.airline.service.BatchResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchCommandRunner sınıfı için JUnit 5 testleri.
+ * Komut dosyasının toplu olarak uygulanmasını ve tek kayıtla kalıcı hale gelmesini test eder.
+ */
+public class BatchCommandRunnerTest {
+
+    private FlightManager flightManager;
+    private ReservationManager reservationManager;
+    private BatchCommandRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        flightManager = new FlightManager();
+        flightManager.clearAllData();
+        reservationManager = new ReservationManager(false);
+        runner = new BatchCommandRunner(flightManager, reservationManager);
+    }
+
+    private BatchResult run(String script, StringWriter out) throws IOException {
+        return runner.run(new BufferedReader(new StringReader(script)), new PrintWriter(out));
+    }
+
+    @Test
+    @DisplayName("Komutların uygulanması ve hatalı satırın çalıştırmayı durdurmaması testi")
+    void testCommandsAndErrors() throws IOException {
+        String date = LocalDate.now().plusDays(2).toString();
+        String script = "# Örnek program\n"
+                + "create-flight BT100 İstanbul Ankara " + date + " 09:30 60\n"
+                + "\n"
+                + "reserve BT100 1A Ali Veli ali@test.com 555\n"
+                + "ticket $\n"
+                + "reserve BT100 1A Ayşe Kaya\n" // Dolu koltuk
+                + "reserve XX999 1A Ayşe Kaya\n" // Olmayan uçuş
+                + "reserve BT100 2B \"Ayşe Nur\" Kaya\n"
+                + "cancel $\n"
+                + "bilinmeyen komut\n"
+                + "report OCCUPANCY\n";
+        StringWriter out = new StringWriter();
+        BatchResult result = run(script, out);
+
+        assertEquals(9, result.getOperations());
+        assertEquals(3, result.getFailures());
+        String output = out.toString();
+        assertTrue(output.contains("OK 2 create-flight BT100"));
+        assertTrue(output.contains("ERR 6 "), "Dolu koltuk satırı hata vermeli");
+        assertTrue(output.contains("ERR 7 "), "Olmayan uçuş satırı hata vermeli");
+        assertTrue(output.contains("ERR 10 "));
+        assertEquals(1, reservationManager.getAllTickets().size());
+        assertEquals(1, reservationManager.getActiveReservationCount(), "İkinci rezervasyon iptal edilmeli");
+        assertEquals("Ayşe Nur", reservationManager.getAllReservations().get(1).getPassenger().getName());
+    }
+
+    @Test
+    @DisplayName("Büyük toplu işlemin tek kayıtla kalıcı hale gelmesi testi")
+    void testLargeBatchIsPersistedOnce() throws IOException {
+        String date = LocalDate.now().plusDays(5).toString();
+        StringBuilder script = new StringBuilder();
+        int flight = 0;
+        while (flight < 200) {
+            script.append("create-flight BK").append(flight).append(" İzmir Trabzon ")
+                    .append(date).append(" 10:00\n");
+            flight++;
+        }
+        int i = 0;
+        while (i < 5000) {
+            // Her uçuşa 25 koltuk: sıra 1-5, A-E
+            script.append("reserve BK").append(i % 200).append(' ')
+                    .append(i / 200 / 5 + 1).append((char) ('A' + i / 200 % 5))
+                    .append(" Yolcu").append(i).append(" Test\n");
+            if (i % 2 == 0) {
+                script.append("cancel $\n");
+            }
+            i++;
+        }
+        script.append("cancel-flight BK7\n");
+
+        StringWriter out = new StringWriter();
+        BatchResult result = run(script.toString(), out);
+
+        assertEquals(200 + 5000 + 2500 + 1, result.getOperations());
+        assertEquals(0, result.getFailures(), () -> out.toString().lines()
+                .filter(line -> line.startsWith("ERR")).findFirst().orElse(""));
+        assertEquals(2500 - 25, reservationManager.getActiveReservationCount());
+        assertFalse(flightManager.isInBatch());
+
+        // Kayıt toplu işlem sonunda yapıldı: yeni yönetici tüm uçuşları dosyadan okumalı
+        FlightManager reloaded = new FlightManager();
+        assertEquals(200, reloaded.getFlightCount());
+        Flight loaded = reloaded.getFlightByNumber("bk199");
+        assertNotNull(loaded, "Uçuş numarası aramasında büyük/küçük harf farkı gözetilmemeli");
+        assertEquals(1, reloaded.getAllRoutes().size(), "Aynı şehir çifti için tek rota kullanılmalı");
+    }
+}
@@ -0,0 +1,138 @@
+package com.airline.test;
+
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Route;
+import com.airline.model.enums.FlightStatus;
+import com.airline.service.ChangeEvent;
+import com.airline.service.ChangeFeed;
+import com.airline.service.ChangeSubscription;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChangeFeed sınıfı için JUnit 5 testleri.
+ * Teslimatlar elle çalıştırılan bir kuyruk üzerinden yapılır; böylece
+ * yavaş abone ve birleştirme durumları belirli bir sırayla denenebilir.
+ */
+public class ChangeFeedTest {
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private final Executor manualExecutor = pendingDrains::add;
+
+    private void runDrains() {
+        while (!pendingDrains.isEmpty()) {
+            pendingDrains.remove(0).run();
+        }
+    }
+
+    @Test
+    @DisplayName("Yavaş abonede olayların birleştirilmesi ve uçuş filtresi testi")
+    void testCoalescingAndFilter() {
+        ChangeFeed feed = new ChangeFeed(16, manualExecutor);
+        List<ChangeEvent> received = new ArrayList<>();
+        ChangeSubscription subscription = feed.subscribe("TK1", received::addAll);
+
+        feed.publish(ChangeEvent.Kind.SEAT_RESERVED, "TK1", "1A", null);
+        feed.publish(ChangeEvent.Kind.SEAT_RESERVED, "TK2", "1A", null); // Başka uçuş
+        feed.publish(ChangeEvent.Kind.SEAT_RELEASED, "TK1", "1A", null); // Aynı koltuk, son durum
+        feed.publish(ChangeEvent.Kind.SEAT_RESERVED, "TK1", "2B", null);
+        assertEquals(1, pendingDrains.size(), "Teslimat sürerken tek teslimat sırada olmalı");
+        runDrains();
+
+        assertEquals(2, received.size());
+        assertEquals(ChangeEvent.Kind.SEAT_RELEASED, received.get(0).getKind());
+        assertEquals("2B", received.get(1).getSeatNum());
+        assertEquals(1, subscription.getCoalescedCount());
+
+        subscription.close();
+        feed.publish(ChangeEvent.Kind.SEAT_RESERVED, "TK1", "3C", null);
+        runDrains();
+        assertEquals(2, received.size(), "Kapatılan aboneliğe olay gelmemeli");
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Tampon taşınca abonenin RESYNC alması testi")
+    void testOverflowSendsResync() {
+        ChangeFeed feed = new ChangeFeed(8, manualExecutor);
+        List<ChangeEvent> received = new ArrayList<>();
+        ChangeSubscription subscription = feed.subscribe(null, received::addAll);
+
+        int i = 0;
+        while (i < 20) {
+            feed.publish(ChangeEvent.Kind.SEAT_RESERVED, "TK1", (i + 1) + "A", null);
+            i++;
+        }
+        runDrains();
+
+        assertEquals(ChangeEvent.Kind.RESYNC, received.get(0).getKind(), "Kaçan olaylar yerine RESYNC gelmeli");
+        assertEquals(1, subscription.getOverflowCount());
+        assertEquals("20A", received.get(received.size() - 1).getSeatNum(), "Tampondaki son olaylar yine gelmeli");
+        assertTrue(received.size() <= 9);
+    }
+
+    @Test
+    @DisplayName("Başka uçuşlardaki yoğunluğun uçuş abonesine RESYNC göndermemesi testi")
+    void testOtherFlightsDoNotOverflowSubscriber() {
+        ChangeFeed feed = new ChangeFeed(8192, manualExecutor);
+        List<ChangeEvent> received = new ArrayList<>();
+        ChangeSubscription subscription = feed.subscribe("TK1", received::addAll);
+
+        int i = 0;
+        while (i < 10000) {
+            feed.publish(ChangeEvent.Kind.SEAT_RESERVED, "TK" + (2 + i % 50), (i % 30 + 1) + "A", null);
+            i++;
+        }
+        assertTrue(pendingDrains.isEmpty(), "Başka uçuşların olayları aboneyi uyandırmamalı");
+        feed.publish(ChangeEvent.Kind.SEAT_RESERVED, "TK1", "1A", null);
+        runDrains();
+
+        assertEquals(1, received.size());
+        assertEquals(ChangeEvent.Kind.SEAT_RESERVED, received.get(0).getKind());
+        assertEquals("1A", received.get(0).getSeatNum());
+        assertEquals(0, subscription.getOverflowCount(), "Başka uçuşlar tamponu taşırmamalı");
+        assertEquals(10001, feed.getPublishedCount());
+    }
+
+    @Test
+    @DisplayName("Rezervasyon ve uçuş durumu değişikliklerinin yayınlanması testi")
+    void testManagerEventsArePublished() {
+        FlightManager flightManager = new FlightManager();
+        flightManager.clearAllData();
+        Flight flight = flightManager.createFlight("TK101", new Route("İstanbul", "IST", "Ankara", "ESB"),
+                LocalDate.now().plusDays(1), LocalTime.NOON, 60, new Plane("TEST-001", "Boeing 737", 500));
+        ReservationManager reservationManager = new ReservationManager(false);
+
+        ChangeFeed feed = new ChangeFeed(64, Runnable::run);
+        feed.attachTo(flightManager);
+        feed.attachTo(reservationManager);
+        List<ChangeEvent> received = new ArrayList<>();
+        feed.subscribe("TK101", received::addAll);
+
+        String code = reservationManager.makeReservation(flight,
+                new Passenger("Ali", "Veli", "ali@test.com", "555"), flight.getPlane().getSeat("1A"))
+                .getReservationCode();
+        reservationManager.cancelReservation(code);
+        flight.setStatus(FlightStatus.DELAYED);
+        flightManager.updateFlight(flight);
+        flightManager.updateFlight(flight); // Durum aynı, olay yok
+
+        assertEquals(3, received.size());
+        assertEquals(ChangeEvent.Kind.SEAT_RESERVED, received.get(0).getKind());
+        assertEquals(ChangeEvent.Kind.SEAT_RELEASED, received.get(1).getKind());
+        assertEquals(FlightStatus.DELAYED, received.get(2).getStatus());
+    }
+}
@@ -0,0 +1,123 @@
+package com.airline.test;
+
+import com.airline.manager.DataChangeListener;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Reservation;
+import com.airline.model.Route;
+import com.airline.model.Seat;
+import com.airline.model.enums.FareBucket;
+import com.airline.model.enums.SeatClass;
+import com.airline.service.DynamicPricingEngine;
+import com.airline.service.FareQuote;
+import com.airline.service.PriceCalculator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DynamicPricingEngine sınıfı için JUnit 5 testleri.
+ * Doluluk ve erken rezervasyona göre fiyat değişimini test eder.
+ */
+public class DynamicPricingEngineTest {
+
+    private DynamicPricingEngine pricingEngine;
+    private Route route;
+
+    @BeforeEach
+    void setUp() {
+        // FlightManager olmadan çalışır, dosyaya kayıt yapılmaz
+        pricingEngine = new DynamicPricingEngine(null, new PriceCalculator());
+        route = new Route("İstanbul", "IST", "Ankara", "ESB");
+    }
+
+    private Flight createFlight(String flightNum, int daysAhead) {
+        return new Flight(flightNum, route, LocalDate.now().plusDays(daysAhead),
+                LocalTime.of(12, 0), 60, new Plane("P-" + flightNum, "Boeing 737", 500));
+    }
+
+    private void reserveSeats(Flight flight, int count) {
+        java.util.Iterator<Seat> iterator = flight.getPlane().getAllSeats().iterator();
+        int reserved = 0;
+        while (iterator.hasNext() && reserved < count) {
+            Seat seat = iterator.next();
+            if (!seat.isReserveStatus()) {
+                seat.reserve();
+                reserved++;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Boş uçuşun promosyon kovasından fiyatlanması testi")
+    void testEmptyFlightUsesPromoBucket() {
+        FareQuote quote = pricingEngine.getQuote(createFlight("DP100", 20));
+
+        assertEquals(FareBucket.PROMO, quote.getBucket());
+        assertEquals(0.0, quote.getLoadFactor(), 0.001);
+        assertTrue(quote.getBusinessFare() > quote.getEconomyFare(), "Business daha pahalı olmalı");
+    }
+
+    @Test
+    @DisplayName("Doluluk arttıkça fiyatın yükselmesi testi")
+    void testFareIncreasesWithLoad() {
+        Flight flight = createFlight("DP200", 20);
+        double emptyFare = pricingEngine.getFare(flight, SeatClass.ECONOMY);
+
+        reserveSeats(flight, (int) (flight.getPlane().getCapacity() * 0.7));
+        FareQuote quote = pricingEngine.recompute(flight);
+
+        assertEquals(FareBucket.FLEX, quote.getBucket());
+        assertTrue(quote.getEconomyFare() > emptyFare, "Dolu uçuş daha pahalı olmalı");
+    }
+
+    @Test
+    @DisplayName("Erken rezervasyonun daha ucuz olması testi")
+    void testAdvancePurchaseIsCheaper() {
+        double early = pricingEngine.getFare(createFlight("DP300", 40), SeatClass.ECONOMY);
+        double late = pricingEngine.getFare(createFlight("DP301", 1), SeatClass.ECONOMY);
+
+        assertTrue(early < late, "Erken alınan bilet daha ucuz olmalı");
+    }
+
+    @Test
+    @DisplayName("Rezervasyon bildirimiyle fiyatın güncellenmesi testi")
+    void testListenerRecomputesQuote() {
+        Flight flight = createFlight("DP400", 20);
+        FareQuote before = pricingEngine.getQuote(flight);
+
+        // Bildirim gelmeden önbellekteki fiyat kullanılır
+        reserveSeats(flight, (int) (flight.getPlane().getCapacity() * 0.9));
+        assertSame(before, pricingEngine.getQuote(flight));
+
+        Reservation reservation = new Reservation(flight, new Passenger("Test", "Yolcu", "t@test.com", ""),
+                flight.getPlane().getAvailableSeats().get(0));
+        pricingEngine.getReservationListener().onChange(DataChangeListener.ChangeType.ADDED, reservation);
+
+        FareQuote after = pricingEngine.getQuote(flight);
+        assertEquals(FareBucket.PEAK, after.getBucket());
+        assertTrue(after.getEconomyFare() > before.getEconomyFare());
+    }
+
+    @Test
+    @DisplayName("Dolu uçuşların fiyat sıralamasında sona düşmesi testi")
+    void testSoldOutFlightSortedLast() {
+        Flight soldOut = createFlight("DP500", 20);
+        Flight open = createFlight("DP501", 20);
+        reserveSeats(soldOut, soldOut.getPlane().getCapacity());
+
+        assertTrue(pricingEngine.getQuote(soldOut).isSoldOut());
+        assertEquals(Double.POSITIVE_INFINITY, pricingEngine.getLowestFare(soldOut));
+
+        List<Flight> sorted = pricingEngine.sortByPrice(List.of(soldOut, open));
+        assertEquals("DP501", sorted.get(0).getFlightNum());
+    }
+}
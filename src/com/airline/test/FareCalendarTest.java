@@ -0,0 +1,112 @@
+package com.airline.test;
+
+import com.airline.manager.FlightManager;
+import com.airline.model.Flight;
+import com.airline.model.Plane;
+import com.airline.model.Route;
+import com.airline.model.Seat;
+import com.airline.service.DynamicPricingEngine;
+import com.airline.service.FareCalendar;
+import com.airline.service.PriceCalculator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FareCalendar sınıfı için JUnit 5 testleri.
+ * Günlük en düşük fiyat takviminin artımlı güncellenmesini test eder.
+ */
+public class FareCalendarTest {
+
+    private FlightManager flightManager;
+    private DynamicPricingEngine pricingEngine;
+    private FareCalendar fareCalendar;
+    private Route route;
+    private LocalDate day10;
+    private LocalDate day20;
+
+    @BeforeEach
+    void setUp() {
+        flightManager = new FlightManager();
+        flightManager.clearAllData();
+        pricingEngine = new DynamicPricingEngine(flightManager, new PriceCalculator());
+        pricingEngine.attachTo(flightManager);
+
+        route = new Route("İstanbul", "IST", "Ankara", "ESB");
+        day10 = LocalDate.now().plusDays(10);
+        day20 = LocalDate.now().plusDays(20);
+        flightManager.createFlight("FC101", route, day10, LocalTime.of(9, 0), 60, new Plane("FC-1", "Boeing 737", 500));
+        flightManager.createFlight("FC102", route, day10, LocalTime.of(18, 0), 60, new Plane("FC-2", "Boeing 737", 500));
+
+        fareCalendar = new FareCalendar(flightManager, pricingEngine, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fareCalendar.close();
+    }
+
+    @Test
+    @DisplayName("Günlük en düşük fiyat ve koltuk sayısı testi")
+    void testLowestFareAndSeats() {
+        Flight flight = flightManager.getFlightByNumber("FC101");
+        double expected = pricingEngine.getLowestFare(flight);
+
+        assertEquals(expected, fareCalendar.getLowestFare("İstanbul", "Ankara", day10), 0.001);
+        assertEquals(2 * flight.getPlane().getCapacity(), fareCalendar.getAvailableSeats("İstanbul", "Ankara", day10));
+        assertTrue(Double.isInfinite(fareCalendar.getLowestFare("İstanbul", "Ankara", day20)),
+                "Uçuş olmayan gün sonsuz fiyat döndürmeli");
+    }
+
+    @Test
+    @DisplayName("Yeni uçuş eklenince takvimin güncellenmesi testi")
+    void testFlightAddedUpdatesCalendar() {
+        flightManager.createFlight("FC201", route, day20, LocalTime.of(12, 0), 60, new Plane("FC-3", "Boeing 737", 500));
+
+        assertFalse(Double.isInfinite(fareCalendar.getLowestFare("İstanbul", "Ankara", day20)));
+        assertEquals(day20, fareCalendar.findCheapestDay("İstanbul", "Ankara", LocalDate.now(), day20),
+                "Daha ileri tarihli uçuş erken rezervasyon nedeniyle daha ucuz olmalı");
+    }
+
+    @Test
+    @DisplayName("Doluluk değişince günün fiyatının güncellenmesi testi")
+    void testOccupancyChangeUpdatesCell() {
+        Flight flight = flightManager.getFlightByNumber("FC101");
+        Flight other = flightManager.getFlightByNumber("FC102");
+        double before = fareCalendar.getLowestFare("İstanbul", "Ankara", day10);
+
+        // İki uçuşu da doldur, fiyat yükselmeli
+        fill(flight);
+        fill(other);
+        pricingEngine.recompute(flight);
+        pricingEngine.recompute(other);
+
+        assertTrue(fareCalendar.getLowestFare("İstanbul", "Ankara", day10) > before);
+    }
+
+    @Test
+    @DisplayName("Silinen uçuşun takvimden çıkması testi")
+    void testFlightRemovedClearsCell() {
+        flightManager.deleteFlight("FC101");
+        flightManager.deleteFlight("FC102");
+
+        assertTrue(Double.isInfinite(fareCalendar.getLowestFare("İstanbul", "Ankara", day10)));
+        assertNull(fareCalendar.findCheapestDay("İstanbul", "Ankara", LocalDate.now(), day20));
+    }
+
+    private void fill(Flight flight) {
+        java.util.Iterator<Seat> iterator = flight.getPlane().getAllSeats().iterator();
+        int count = 0;
+        while (iterator.hasNext() && count < flight.getPlane().getCapacity() - 1) {
+            iterator.next().reserve();
+            count++;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.airline.test;
+
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Reservation;
+import com.airline.model.Route;
+import com.airline.model.enums.ReservationStatus;
+import com.airline.service.ArchiveResult;
+import com.airline.service.FlightArchiver;
+import com.airline.util.FileManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FlightArchiver sınıfı için JUnit 5 testleri.
+ * Kalkmış uçuşların ve rezervasyonların arşive taşınmasını test eder.
+ */
+public class FlightArchiverTest {
+
+    private FlightManager flightManager;
+    private ReservationManager reservationManager;
+    private FlightArchiver archiver;
+    private Route route;
+
+    @BeforeEach
+    void setUp() {
+        flightManager = new FlightManager();
+        flightManager.clearAllData();
+        reservationManager = new ReservationManager();
+        reservationManager.clearAllData();
+        archiver = new FlightArchiver(flightManager, reservationManager);
+        archiver.clearArchive();
+        route = new Route("İstanbul", "IST", "Ankara", "ESB");
+    }
+
+    @AfterEach
+    void tearDown() {
+        archiver.clearArchive();
+    }
+
+    @Test
+    @DisplayName("Kalkmış uçuşun rezervasyon ve biletiyle arşive taşınması testi")
+    void testArchiveExpiredFlight() {
+        Flight past = flightManager.createFlight("AR100", route, LocalDate.now().minusDays(1),
+                LocalTime.of(10, 0), 60, new Plane("AR-1", "Boeing 737", 500));
+        flightManager.createFlight("AR200", route, LocalDate.now().plusDays(3),
+                LocalTime.of(10, 0), 60, new Plane("AR-2", "Boeing 737", 500));
+
+        Passenger passenger = new Passenger("Ali", "Yılmaz", "ali@test.com", "5551112233");
+        Reservation reservation = reservationManager.makeReservation(past, passenger,
+                past.getPlane().getSeat("1A"));
+        reservationManager.createTicket(reservation, 1500.0);
+
+        ArchiveResult result = archiver.archiveExpired();
+
+        assertEquals(1, result.getArchivedFlights());
+        assertEquals(1, result.getArchivedReservations());
+        assertEquals(1, result.getArchivedTickets());
+        assertNull(flightManager.getFlightByNumber("AR100"), "Kalkmış uçuş çalışma listesinden çıkmalı");
+        assertNotNull(flightManager.getFlightByNumber("AR200"));
+        assertEquals(0, reservationManager.getReservationCount());
+        assertEquals(0, reservationManager.getAllTickets().size());
+
+        Reservation archived = archiver.findArchivedReservation(reservation.getReservationCode());
+        assertNotNull(archived, "Arşivden sorgulanabilmeli");
+        assertEquals(ReservationStatus.COMPLETED, archived.getStatus());
+        assertEquals(1500.0, archiver.getArchivedRevenue(), 0.01);
+    }
+
+    @Test
+    @DisplayName("Arşivin ardışık çalışmalarda birikmesi testi")
+    void testArchiveAppends() {
+        flightManager.createFlight("AR300", route, LocalDate.now().minusDays(2),
+                LocalTime.of(8, 0), 60, new Plane("AR-3", "Boeing 737", 500));
+        archiver.archiveExpired();
+        flightManager.createFlight("AR301", route, LocalDate.now().minusDays(1),
+                LocalTime.of(8, 0), 60, new Plane("AR-4", "Boeing 737", 500));
+        archiver.archiveExpired();
+
+        assertEquals(2, archiver.getArchivedFlights().size());
+        assertTrue(archiver.getArchiveSizeBytes() > 0);
+        assertTrue(archiver.archiveExpired().isEmpty(), "Arşivlenecek uçuş kalmamalı");
+    }
+
+    @Test
+    @DisplayName("Arşiv yazılamazsa kayıtların yerinde kalması testi")
+    void testFailedWriteKeepsLiveData() {
+        flightManager.createFlight("AR400", route, LocalDate.now().minusDays(2),
+                LocalTime.of(8, 0), 60, new Plane("AR-5", "Boeing 737", 500));
+        archiver.archiveExpired();
+
+        Flight past = flightManager.createFlight("AR401", route, LocalDate.now().minusDays(1),
+                LocalTime.of(8, 0), 60, new Plane("AR-6", "Boeing 737", 500));
+        Passenger passenger = new Passenger("Ayşe", "Kaya", "ayse@test.com", "5551112233");
+        reservationManager.createTicket(reservationManager.makeReservation(past, passenger,
+                past.getPlane().getSeat("1A")), 900.0);
+
+        FlightArchiver failing = new FlightArchiver(flightManager, reservationManager) {
+            @Override
+            protected <T> void writeSegment(List<String> written, String filename, List<T> items)
+                    throws IOException {
+                if (filename.startsWith("archive_tickets")) {
+                    throw new IOException("Disk dolu");
+                }
+                super.writeSegment(written, filename, items);
+            }
+        };
+        assertThrows(IllegalStateException.class, failing::archiveExpired);
+
+        assertNotNull(flightManager.getFlightByNumber("AR401"), "Uçuş çalışma listesinde kalmalı");
+        assertEquals(1, reservationManager.getReservationCount());
+        assertEquals(1, reservationManager.getAllTickets().size());
+        assertEquals(1, archiver.getArchivedFlights().size(), "Önceki arşiv korunmalı");
+        assertTrue(archiver.getArchivedReservations().isEmpty(), "Yarım parça silinmeli");
+
+        assertEquals(1, archiver.archiveExpired().getArchivedFlights());
+        assertEquals(2, archiver.getArchivedFlights().size());
+        assertEquals(900.0, archiver.getArchivedRevenue(), 0.01);
+    }
+
+    @Test
+    @DisplayName("Bozuk arşiv parçasının boş liste yerine hata vermesi testi")
+    void testCorruptSegmentFailsLoudly() {
+        FileManager.writeText("bozuk", "archive_flights-0000000000000001.dat.gz");
+
+        assertThrows(IllegalStateException.class, () -> archiver.getArchivedFlights());
+        archiver.clearArchive();
+        assertTrue(archiver.getArchivedFlights().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Arşivleme sırasında uçuş listesinin eşzamanlı okunması testi")
+    void testConcurrentReadsDuringArchive() throws InterruptedException {
+        flightManager.beginBatch();
+        int i = 0;
+        while (i < 2000) {
+            LocalDate date = i % 2 == 0 ? LocalDate.now().minusDays(1) : LocalDate.now().plusDays(1);
+            flightManager.createFlight("CR" + i, route, date, LocalTime.of(9, 0), 60,
+                    new Plane("CR-" + i, "Boeing 737", 500));
+            i++;
+        }
+        flightManager.endBatch();
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    java.util.Iterator<Flight> iterator = flightManager.getFlightsView().iterator();
+                    while (iterator.hasNext()) {
+                        flightManager.getFlightByNumber(iterator.next().getFlightNum());
+                    }
+                    flightManager.getActiveFlights();
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+        ArchiveResult result = archiver.archiveExpired();
+        done.set(true);
+        reader.join();
+
+        assertNull(failure.get(), "Okuyucu thread hata almamalı");
+        assertEquals(1000, result.getArchivedFlights());
+        assertEquals(1000, flightManager.getFlightCount());
+        assertEquals(1000, flightManager.getFlightsView().size());
+    }
+}
@@ -4,14 +4,25 @@ import com.airline.manager.FlightManager;
 import com.airline.model.Flight;
 import com.airline.model.Plane;
 import com.airline.model.Route;
+import com.airline.service.DynamicPricingEngine;
+import com.airline.service.FlightPage;
+import com.airline.service.FlightQuery;
+import com.airline.service.CitySuggestion;
 import com.airline.service.FlightSearchEngine;
+import com.airline.service.SearchResultCache;
+import com.airline.service.RoundTripItinerary;
+import com.airline.util.AppClock;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,6 +50,11 @@ public class FlightSearchEngineTest {
         createTestFlights();
     }
 
+    @AfterEach
+    void tearDown() {
+        AppClock.reset();
+    }
+
     private void createTestFlights() {
         LocalDate today = LocalDate.now();
         LocalDate tomorrow = today.plusDays(1);
@@ -255,4 +271,321 @@ public class FlightSearchEngineTest {
         assertFalse(cities.isEmpty(), "En az bir varış şehri olmalı");
         assertTrue(cities.contains("Ankara"), "Ankara listede olmalı");
     }
+
+    @Test
+    @DisplayName("En ucuz uçuşun fiyata göre bulunması testi")
+    void testFindCheapestFlight() {
+        // TK102'nin uçağını neredeyse doldur, fiyatı yüksek kovaya çıksın
+        Flight busy = flightManager.getFlightByNumber("TK102");
+        java.util.Iterator<com.airline.model.Seat> iterator = busy.getPlane().getAllSeats().iterator();
+        int count = 0;
+        while (iterator.hasNext() && count < busy.getPlane().getCapacity() - 2) {
+            iterator.next().reserve();
+            count++;
+        }
+
+        Flight cheapest = searchEngine.findCheapestFlight("İstanbul", "Ankara");
+
+        assertNotNull(cheapest, "En ucuz uçuş bulunmalı");
+        assertEquals("TK101", cheapest.getFlightNum(), "Boş uçuş daha ucuz olmalı");
+        assertNull(searchEngine.findCheapestFlight("Ankara", "İstanbul"), "Olmayan rota için null dönmeli");
+    }
+
+    @Test
+    @DisplayName("Gidiş-dönüş eşleştirmesinde minimum kalış ve sıralama testi")
+    void testSearchRoundTrips() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        Route back = new Route("Ankara", "ESB", "İstanbul", "IST");
+        flightManager.createFlight("TK901", back, tomorrow, LocalTime.of(10, 0), 60, new Plane("RT-1", "Airbus A320", 450));
+        flightManager.createFlight("TK902", back, tomorrow.plusDays(2), LocalTime.of(10, 0), 60, new Plane("RT-2", "Airbus A320", 450));
+        flightManager.createFlight("TK903", back, tomorrow.plusDays(2), LocalTime.of(20, 0), 120, new Plane("RT-3", "Airbus A320", 450));
+
+        Duration minStay = Duration.ofHours(12);
+        List<RoundTripItinerary> results = searchEngine.searchRoundTrips("İstanbul", "Ankara", null, null, minStay, 3);
+
+        assertFalse(results.isEmpty(), "En az bir eşleşme bulunmalı");
+        assertTrue(results.size() <= 3, "Limit aşılmamalı");
+        double previous = Double.NEGATIVE_INFINITY;
+        java.util.Iterator<RoundTripItinerary> iterator = results.iterator();
+        while (iterator.hasNext()) {
+            RoundTripItinerary itinerary = iterator.next();
+            assertFalse(itinerary.getStay().compareTo(minStay) < 0, "Minimum kalış süresi sağlanmalı");
+            assertTrue(itinerary.getScore() >= previous, "Sonuçlar puana göre sıralı olmalı");
+            previous = itinerary.getScore();
+        }
+
+        // İlk sonuç tüm çiftler arasındaki en iyi seçenek olmalı
+        double bestScore = Double.POSITIVE_INFINITY;
+        List<Flight> outbound = searchEngine.searchFlights("İstanbul", "Ankara");
+        List<Flight> inbound = searchEngine.searchFlights("Ankara", "İstanbul");
+        int i = 0;
+        while (i < outbound.size()) {
+            int j = 0;
+            while (j < inbound.size()) {
+                Flight out = outbound.get(i);
+                Flight in = inbound.get(j);
+                if (!out.getArrivalDateTime().plus(minStay).isAfter(in.getDepartureDateTime())) {
+                    double score = searchEngine.getPricingEngine().getLowestFare(out)
+                            + searchEngine.getPricingEngine().getLowestFare(in)
+                            + (out.getDuration() + in.getDuration()) * FlightSearchEngine.DEFAULT_DURATION_WEIGHT;
+                    bestScore = Math.min(bestScore, score);
+                }
+                j++;
+            }
+            i++;
+        }
+        assertEquals(bestScore, results.get(0).getScore(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Dönüş uçuşu olmayan rota için boş gidiş-dönüş testi")
+    void testSearchRoundTripsNoReturn() {
+        List<RoundTripItinerary> results = searchEngine.searchRoundTrips("Ankara", "Antalya", null, null,
+                Duration.ofHours(2), 5);
+
+        assertTrue(results.isEmpty(), "Dönüş uçuşu yoksa eşleşme olmamalı");
+        assertThrows(IllegalArgumentException.class, () ->
+                searchEngine.searchRoundTrips("İstanbul", "Ankara", null, null, Duration.ZERO, 0));
+    }
+
+    @Test
+    @DisplayName("Sayfalı aramada tüm sayfaların sıralı ve tekrarsız gelmesi testi")
+    void testSearchPageTraversal() {
+        List<Flight> expected = searchEngine.getAvailableFlights();
+        List<Flight> collected = new java.util.ArrayList<>();
+
+        String cursor = null;
+        int pages = 0;
+        do {
+            FlightPage page = searchEngine.searchPage(FlightQuery.availableFlights(), cursor, 2);
+            assertTrue(page.size() <= 2, "Sayfa boyutu aşılmamalı");
+            collected.addAll(page.getFlights());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertEquals(expected.size(), collected.size(), "Tüm uçuşlar bir kez gelmeli");
+        int i = 1;
+        while (i < collected.size()) {
+            assertFalse(collected.get(i).getDepartureDateTime().isBefore(collected.get(i - 1).getDepartureDateTime()),
+                    "Sayfalar kalkış sırasına göre olmalı");
+            i++;
+        }
+    }
+
+    @Test
+    @DisplayName("Sayfalı aramada kriterlerin uygulanması testi")
+    void testSearchPageWithQuery() {
+        FlightPage page = searchEngine.searchPage(new FlightQuery("istanbul", null, null, false), null, 10);
+
+        assertEquals(3, page.size(), "İstanbul kalkışlı 3 uçuş olmalı");
+        assertFalse(page.hasMore(), "Tek sayfa yeterli olmalı");
+        assertThrows(IllegalArgumentException.class, () ->
+                searchEngine.searchPage(FlightQuery.availableFlights(), "bozuk-imlec", 10));
+    }
+
+    @Test
+    @DisplayName("Sonuçların parça parça gelmesi ve alıcı durunca aramanın kesilmesi testi")
+    void testStreamSearch() {
+        FlightQuery query = new FlightQuery("istanbul", null, null, false);
+        List<List<Flight>> batches = new java.util.ArrayList<>();
+
+        assertEquals(3, searchEngine.streamSearch(query, 2, batches::add));
+        assertEquals(2, batches.size(), "3 uçuş 2'li parçalarla gelmeli");
+        assertEquals(searchEngine.searchPage(query, null, 3).getFlights(),
+                List.of(batches.get(0).get(0), batches.get(0).get(1), batches.get(1).get(0)),
+                "Parçalar kalkış sırasına göre gelmeli");
+
+        batches.clear();
+        assertEquals(2, searchEngine.streamSearch(query, 2, batch -> batches.add(batch) && false),
+                "Alıcı durunca kalan parçalar hesaplanmamalı");
+        assertEquals(1, batches.size());
+
+        batches.clear();
+        searchEngine.streamSearch(new FlightQuery("Trabzon", null, null, false), 2, batches::add);
+        assertEquals(List.of(List.of()), batches, "Sonuç yoksa bir kez boş parça gelmeli");
+    }
+
+    @Test
+    @DisplayName("Parçalı aramada kataloğun bir kez taranması testi")
+    void testStreamSearchScansOnce() {
+        int[] scans = new int[1];
+        FlightManager counting = new FlightManager() {
+            @Override
+            public List<Flight> getFlightsView() {
+                scans[0]++;
+                return super.getFlightsView();
+            }
+        };
+        counting.clearAllData();
+        counting.beginBatch();
+        int i = 0;
+        while (i < 50) {
+            counting.createFlight("ST" + (100 + i), new Route("İstanbul", "IST", "Ankara", "ESB"),
+                    LocalDate.now().plusDays(1 + i % 5), LocalTime.of(8, i % 60), 60,
+                    new Plane("ST-" + i, "Boeing 737", 500));
+            i++;
+        }
+        counting.endBatch();
+        FlightSearchEngine engine = new FlightSearchEngine(counting);
+        List<Flight> streamed = new java.util.ArrayList<>();
+        scans[0] = 0;
+
+        int delivered = engine.streamSearch(new FlightQuery("İstanbul", "Ankara", null, false), 3, streamed::addAll);
+
+        assertEquals(1, scans[0], "Katalog parça başına değil bir kez taranmalı");
+        assertEquals(counting.getFlightCount(), delivered);
+        assertEquals(engine.searchPage(new FlightQuery("İstanbul", "Ankara", null, false), null, 100).getFlights(),
+                streamed, "Parçalar kalkış sırasına göre gelmeli");
+        counting.clearAllData();
+    }
+
+    @Test
+    @DisplayName("Türkçe karakterlerle büyük/küçük harf duyarsız arama testi")
+    void testSearchWithTurkishCaseFolding() {
+        assertEquals(2, searchEngine.searchFlights("ISTANBUL", "ankara").size(), "İ/I farkı eşleşmeyi bozmamalı");
+        assertEquals(1, searchEngine.searchFlights("istanbul", "Izmir").size(), "Aksansız yazım eşleşmeli");
+    }
+
+    @Test
+    @DisplayName("Şehir, havalimanı ve IATA koduna göre öneri testi")
+    void testSuggestCities() {
+        List<CitySuggestion> byCity = searchEngine.suggestCities("İst", 5);
+        assertEquals("İstanbul", byCity.get(0).getCity());
+
+        List<CitySuggestion> byCode = searchEngine.suggestCities("ayt", 5);
+        assertEquals(1, byCode.size());
+        assertEquals("Antalya", byCode.get(0).getCity());
+        assertEquals(CitySuggestion.MatchType.CODE, byCode.get(0).getMatchType());
+
+        assertTrue(searchEngine.suggestCities("xyz", 5).isEmpty(), "Eşleşmeyen önek için öneri olmamalı");
+    }
+
+    @Test
+    @DisplayName("Uçuş silinince şehir listesinin güncellenmesi testi")
+    void testCityIndexUpdatesOnDelete() {
+        assertTrue(searchEngine.getAllArrivalCities().contains("Antalya"));
+
+        flightManager.deleteFlight("TK301");
+
+        assertFalse(searchEngine.getAllArrivalCities().contains("Antalya"), "Uçuşu kalmayan şehir listeden çıkmalı");
+        assertFalse(searchEngine.getAllDepartureCities().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Uçuş güncellenince sadece değişen şehirlerin indekste düzeltilmesi testi")
+    void testCityIndexUpdatesOnFlightEdit() {
+        Flight flight = flightManager.getFlightByNumber("TK301");
+        flight.setDuration(95);
+        flightManager.updateFlight(flight); // Şehir değişmeyen güncelleme indeksi bozmamalı
+        assertTrue(searchEngine.getAllArrivalCities().contains("Antalya"));
+
+        flight.setRoute(new Route("Ankara", "ESB", "Trabzon", "TZX"));
+        flightManager.updateFlight(flight);
+
+        assertFalse(searchEngine.getAllArrivalCities().contains("Antalya"), "Eski varış şehri listeden çıkmalı");
+        assertTrue(searchEngine.getAllArrivalCities().contains("Trabzon"));
+        assertEquals("Trabzon", searchEngine.suggestCities("tzx", 5).get(0).getCity());
+
+        flightManager.deleteFlight("TK301");
+        assertFalse(searchEngine.getAllArrivalCities().contains("Trabzon"), "Silmede güncel terimler geri alınmalı");
+        assertTrue(searchEngine.suggestCities("tzx", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Arama önbelleğinin isabet ve katalog değişikliğinde geçersiz olma testi")
+    void testResultCacheHitAndCatalogInvalidation() {
+        SearchResultCache cache = new SearchResultCache(flightManager, 8);
+        searchEngine.setResultCache(cache);
+
+        List<Flight> first = searchEngine.searchFlights("İstanbul", "Ankara");
+        List<Flight> second = searchEngine.searchFlights("istanbul", "ANKARA");
+        assertEquals(first, second);
+        assertEquals(1, cache.getHitCount(), "Aynı sorgu önbellekten gelmeli");
+        assertEquals(1, cache.getMissCount());
+
+        // Yeni uçuş katalog sürümünü değiştirir
+        flightManager.createFlight("TK103", new Route("İstanbul", "IST", "Ankara", "ESB"),
+                LocalDate.now().plusDays(3), LocalTime.of(10, 0), 60, new Plane("TEST-003", "Airbus A320", 450));
+        assertEquals(3, searchEngine.searchFlights("İstanbul", "Ankara").size(), "Yeni uçuş sonuçta görünmeli");
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Koltuk durumu değişince ilgili sonuçların geçersiz olması testi")
+    void testResultCacheSeatInvalidation() {
+        SearchResultCache cache = new SearchResultCache(flightManager, 8);
+        searchEngine.setResultCache(cache);
+
+        searchEngine.searchFlights("İstanbul", "Ankara");
+        searchEngine.searchFlights("Ankara", "Antalya");
+        assertEquals(2, cache.size());
+
+        cache.invalidateFlight(flightManager.getFlightByNumber("TK102"));
+
+        assertEquals(1, cache.size(), "Sadece TK102'yi içeren sonuç silinmeli");
+        searchEngine.searchFlights("Ankara", "Antalya");
+        assertEquals(1, cache.getHitCount(), "Etkilenmeyen sonuç önbellekte kalmalı");
+    }
+
+    @Test
+    @DisplayName("Hesaplama sırasında koltuk değişirse sonucun saklanmaması testi")
+    void testResultCacheSkipsStoreAfterConcurrentInvalidation() {
+        SearchResultCache cache = new SearchResultCache(flightManager, 8);
+        FlightQuery query = new FlightQuery("İstanbul", "Ankara", null, true);
+        Flight flight = flightManager.getFlightByNumber("TK101");
+
+        // Yükleyici eski sonucu hesapladıktan sonra koltuk değişikliği gelir
+        List<Flight> stale = cache.get(query, () -> {
+            List<Flight> result = List.of(flight);
+            cache.invalidateFlight(flight);
+            return result;
+        });
+        assertEquals(1, stale.size());
+        assertEquals(0, cache.size(), "Geçersiz kılınan sonuç saklanmamalı");
+
+        cache.get(query, () -> List.of(flight));
+        assertEquals(1, cache.size(), "Değişiklik olmadan hesaplanan sonuç saklanmalı");
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Önbellek dolunca en eski kaydın çıkarılması testi")
+    void testResultCacheEviction() {
+        SearchResultCache cache = new SearchResultCache(flightManager, 1);
+        searchEngine.setResultCache(cache);
+
+        searchEngine.searchFlights("İstanbul", "Ankara");
+        searchEngine.searchFlights("İstanbul", "İzmir");
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Sabit saatle geçmiş uçuşların belirlenmesi testi")
+    void testExpiredFlightsWithFixedClock() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        ZoneId zone = ZoneId.systemDefault();
+        AppClock.setClock(Clock.fixed(tomorrow.atTime(10, 0).atZone(zone).toInstant(), zone));
+
+        List<Flight> expired = searchEngine.getExpiredFlights();
+        List<Flight> active = searchEngine.searchFlights("İstanbul", "Ankara");
+
+        assertEquals(3, expired.size(), "Yarın 10:00 itibarıyla sadece TK102 kalkmamış olmalı");
+        assertEquals(1, active.size());
+        assertEquals("TK102", active.get(0).getFlightNum());
+    }
+
+    @Test
+    @DisplayName("Varsayılan fiyatlandırma motorunun uçuş değişikliklerini izlemesi testi")
+    void testDefaultPricingEngineFollowsFlightChanges() {
+        DynamicPricingEngine pricing = searchEngine.getPricingEngine();
+        pricing.getQuote(flightManager.getFlightByNumber("TK101"));
+        int cached = pricing.getCachedQuoteCount();
+        assertTrue(cached > 0);
+
+        flightManager.deleteFlight("TK101");
+        assertEquals(cached - 1, pricing.getCachedQuoteCount(), "Silinen uçuşun fiyatı önbellekten çıkmalı");
+    }
 }
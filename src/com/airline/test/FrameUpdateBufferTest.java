@@ -0,0 +1,75 @@
+package com.airline.test;
+
+import com.airline.gui.FrameUpdateBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FrameUpdateBuffer sınıfı için JUnit 5 testleri.
+ * Kare zamanlayıcısı olmadan drain doğrudan çağrılır.
+ */
+public class FrameUpdateBufferTest {
+
+    @Test
+    @DisplayName("Birikmiş güncellemelerin tek seferde uygulanması testi")
+    void testDrainAppliesBatchInOrder() {
+        List<List<Integer>> batches = new ArrayList<>();
+        FrameUpdateBuffer<Integer> buffer = new FrameUpdateBuffer<>(batches::add);
+
+        buffer.publish(1);
+        buffer.publish(2);
+        buffer.publish(3);
+
+        assertEquals(3, buffer.drain());
+        assertEquals(0, buffer.drain(), "Boş kuyrukta uygulayıcı çağrılmamalı");
+        assertEquals(1, batches.size());
+        assertEquals(List.of(1, 2, 3), batches.get(0));
+        assertEquals(3.0, buffer.getAverageBatchSize(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Çok sayıda thread'den yayınlanan güncellemelerin kaybolmaması testi")
+    void testConcurrentPublishers() throws InterruptedException {
+        int[] applied = new int[1];
+        FrameUpdateBuffer<Integer> buffer = new FrameUpdateBuffer<>(batch -> applied[0] += batch.size());
+
+        Thread[] publishers = new Thread[8];
+        int i = 0;
+        while (i < publishers.length) {
+            publishers[i] = new Thread(() -> {
+                int n = 0;
+                while (n < 5000) {
+                    buffer.publish(n);
+                    n++;
+                }
+            });
+            publishers[i].start();
+            i++;
+        }
+        // Üreticiler çalışırken karelerin boşaltılması
+        while (isAnyAlive(publishers)) {
+            buffer.drain();
+        }
+        buffer.drain();
+
+        assertEquals(8 * 5000, applied[0]);
+        assertEquals(8 * 5000, buffer.getAppliedUpdates());
+    }
+
+    private boolean isAnyAlive(Thread[] threads) {
+        int i = 0;
+        while (i < threads.length) {
+            if (threads[i].isAlive()) {
+                return true;
+            }
+            i++;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+package com.airline.test;
+
+import com.airline.manager.ReservationManager;
+import com.airline.metrics.ReservationMadeEvent;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Reservation;
+import com.airline.model.Route;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rezervasyon JFR olayları için JUnit 5 testleri.
+ */
+public class JfrEventsTest {
+
+    @Test
+    @DisplayName("Kayıt yokken olayların kapalı olması testi")
+    void testEventsDisabledByDefault() {
+        assertFalse(new ReservationMadeEvent().isEnabled());
+    }
+
+    @Test
+    @DisplayName("Rezervasyon ve iptal olaylarının kayda alanlarıyla yazılması testi")
+    void testReservationEventsRecorded() throws Exception {
+        Flight flight = new Flight("JF100", new Route("İstanbul", "IST", "Ankara", "ESB"),
+                LocalDate.now().plusDays(1), LocalTime.NOON, 60, new Plane("JF-1", "Boeing 737", 500));
+        ReservationManager manager = new ReservationManager(false);
+        Passenger passenger = new Passenger("Ali", "Veli", "ali@test.com", "555");
+
+        Path file = Files.createTempFile("booking", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.airline.ReservationMade");
+            recording.enable("com.airline.ReservationCancelled");
+            recording.start();
+            Reservation reservation = manager.makeReservation(flight, passenger, flight.getPlane().getSeat("1A"));
+            manager.cancelReservation(reservation.getReservationCode());
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            RecordedEvent made = findEvent(events, "com.airline.ReservationMade");
+            RecordedEvent cancelled = findEvent(events, "com.airline.ReservationCancelled");
+
+            assertEquals("JF100", made.getString("flightNum"));
+            assertEquals("1A", made.getString("seatNum"));
+            assertEquals(reservation.getReservationCode(), made.getString("reservationCode"));
+            assertEquals(reservation.getReservationCode(), cancelled.getString("reservationCode"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        java.util.Iterator<RecordedEvent> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            RecordedEvent event = iterator.next();
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+        fail(name + " olayı kayıtta bulunamadı");
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package com.airline.test;
+
+import com.airline.gui.LiveTableModel;
+import com.airline.manager.DataChangeListener;
+import com.airline.manager.DataChangeListener.ChangeType;
+
+import javafx.collections.ListChangeListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LiveTableModel sınıfı için JUnit 5 testleri.
+ * Satırlar "anahtar:değer" biçiminde metinlerdir; anahtar ':' öncesidir.
+ */
+public class LiveTableModelTest {
+
+    private LiveTableModel<String, String> model;
+    private int changeEvents;
+
+    @BeforeEach
+    void setUp() {
+        model = new LiveTableModel<>(row -> row.substring(0, row.indexOf(':')));
+        model.getItems().addListener((ListChangeListener<String>) change -> changeEvents++);
+        changeEvents = 0;
+    }
+
+    @Test
+    @DisplayName("Yeniden yüklemede sadece farkların uygulanması testi")
+    void testSetAllAppliesDiff() {
+        List<String> rows = new ArrayList<>();
+        int i = 0;
+        while (i < 1000) {
+            rows.add("R" + i + ":v");
+            i++;
+        }
+        model.setAll(rows);
+        changeEvents = 0;
+
+        // Bir satır değişti, biri silindi; geri kalan 998 satır aynı nesneler
+        List<String> updated = new ArrayList<>(rows);
+        updated.set(10, "R10:yeni");
+        updated.remove(500);
+        model.setAll(updated);
+
+        assertEquals(updated, model.getItems());
+        assertEquals(2, changeEvents, "Sadece silme ve değiştirme olayı beklenir");
+    }
+
+    @Test
+    @DisplayName("Yönetici olaylarının filtreyle uygulanması testi")
+    void testChangeEventsWithFilter() {
+        model.setFilter(row -> !row.endsWith(":iptal"));
+        DataChangeListener<String> listener = model.listener();
+        model.setAll(List.of("A:1", "B:1"));
+
+        listener.onChange(ChangeType.ADDED, "C:1");
+        listener.onChange(ChangeType.UPDATED, "A:2");
+        listener.onChange(ChangeType.UPDATED, "B:iptal"); // Filtreyi geçmiyor, satır çıkar
+        listener.onChange(ChangeType.REMOVED, "X:1");     // Listede yok, etkisiz
+        assertEquals(4, model.flush());
+
+        assertEquals(List.of("A:2", "C:1"), model.getItems());
+    }
+
+    @Test
+    @DisplayName("Ekleme kapalıyken sadece mevcut satırların güncellenmesi testi")
+    void testInsertOnAddDisabled() {
+        model.setInsertOnAdd(false);
+        model.setAll(List.of("A:1"));
+        DataChangeListener<Integer> refresh = model.refreshListener(n -> n == 1 ? "A" : null);
+        changeEvents = 0;
+
+        model.listener().onChange(ChangeType.ADDED, "B:1");
+        refresh.onChange(ChangeType.ADDED, 1);
+        refresh.onChange(ChangeType.ADDED, 1); // Aynı karede tek yeniden çizim
+        refresh.onChange(ChangeType.ADDED, 2);
+        model.flush();
+
+        assertEquals(List.of("A:1"), model.getItems());
+        assertEquals(1, changeEvents);
+    }
+
+    @Test
+    @DisplayName("Sıra değişimi ve silmelerden sonra satır konumlarının doğru kalması testi")
+    void testPositionsAfterReorderAndRemovals() {
+        List<String> rows = new ArrayList<>();
+        int i = 0;
+        while (i < 5000) {
+            rows.add("R" + i + ":v");
+            i++;
+        }
+        model.setAll(rows);
+
+        // Ters sıra tek değişiklikle uygulanır
+        List<String> reversed = new ArrayList<>(rows);
+        java.util.Collections.reverse(reversed);
+        changeEvents = 0;
+        model.setAll(reversed);
+        assertEquals(reversed, model.getItems());
+        assertEquals(1, changeEvents);
+
+        // Aynı karede ardışık silme, güncelleme ve ekleme
+        DataChangeListener<String> listener = model.listener();
+        listener.onChange(ChangeType.REMOVED, "R4999:v");
+        listener.onChange(ChangeType.REMOVED, "R2500:v");
+        listener.onChange(ChangeType.UPDATED, "R0:yeni");
+        listener.onChange(ChangeType.ADDED, "R9000:v");
+        listener.onChange(ChangeType.UPDATED, "R9000:yeni");
+        listener.onChange(ChangeType.REMOVED, "R1:v");
+        model.flush();
+
+        List<String> expected = new ArrayList<>(reversed);
+        expected.remove("R4999:v");
+        expected.remove("R2500:v");
+        expected.set(expected.indexOf("R0:v"), "R0:yeni");
+        expected.remove("R1:v");
+        expected.add("R9000:yeni");
+        assertEquals(expected, model.getItems());
+
+        model.refreshRow("R9000");
+        assertEquals("R9000:yeni", model.getItems().get(model.getItems().size() - 1));
+    }
+}
@@ -0,0 +1,74 @@
+package com.airline.test;
+
+import com.airline.simulation.LoadSimulationConfig;
+import com.airline.simulation.LoadSimulationResult;
+import com.airline.simulation.LoadSimulator;
+import com.airline.simulation.SeatChoice;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoadSimulator sınıfı için JUnit 5 testleri.
+ * Çok sayıda eşzamanlı müşteride fazla satış olmamasını test eder.
+ */
+public class LoadSimulatorTest {
+
+    private LoadSimulationConfig createConfig(int customers, int flights) {
+        LoadSimulationConfig config = new LoadSimulationConfig();
+        config.setCustomerCount(customers);
+        config.setFlightCount(flights);
+        config.setThinkTime(0, 1);
+        config.setSeed(42);
+        return config;
+    }
+
+    @Test
+    @DisplayName("Kapasiteden fazla müşteride fazla satış olmaması testi")
+    void testNoOversellUnderContention() {
+        // 2 uçuş x 180 koltuk = 360 koltuk, 2000 müşteri
+        LoadSimulationConfig config = createConfig(2000, 2);
+        config.setSeatChoice(SeatChoice.FRONT_HEAVY);
+
+        LoadSimulationResult result = new LoadSimulator(config).run();
+
+        assertEquals(2000, result.getSuccessful() + result.getFailed());
+        assertEquals(result.getSuccessful(), result.getReservedSeats(), "Her başarılı rezervasyon tek koltuk almalı");
+        assertFalse(result.isOversold());
+        assertTrue(result.getConflicts() > 0, "Ön sıra yığılması çakışma üretmeli");
+        assertTrue(result.getP99Micros() >= result.getP50Micros());
+    }
+
+    @Test
+    @DisplayName("Dinleyicinin her denemede çağrılması testi")
+    void testBookingListenerSeesEveryAttempt() {
+        LoadSimulationConfig config = createConfig(300, 3);
+        LoadSimulator simulator = new LoadSimulator(config);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger attempts = new AtomicInteger();
+        simulator.setBookingListener((flightIndex, seat, success) -> {
+            attempts.incrementAndGet();
+            if (success) {
+                booked.incrementAndGet();
+            }
+        });
+
+        LoadSimulationResult result = simulator.run();
+
+        assertEquals(result.getSuccessful(), booked.get());
+        assertEquals(result.getSuccessful() + result.getConflicts(), attempts.get());
+    }
+
+    @Test
+    @DisplayName("Geçersiz simülasyon ayarlarının reddedilmesi testi")
+    void testInvalidConfig() {
+        LoadSimulationConfig config = createConfig(10, 1);
+        config.setThinkTime(10, 5);
+
+        assertThrows(IllegalArgumentException.class, () -> new LoadSimulator(config));
+    }
+}
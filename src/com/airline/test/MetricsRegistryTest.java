@@ -0,0 +1,117 @@
+package com.airline.test;
+
+import com.airline.manager.ReservationManager;
+import com.airline.metrics.Counter;
+import com.airline.metrics.HistogramSnapshot;
+import com.airline.metrics.LatencyHistogram;
+import com.airline.metrics.MetricsRegistry;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Route;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MetricsRegistry, sayaç ve gecikme histogramı için JUnit 5 testleri.
+ */
+public class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("Histogram yüzdeliklerinin kova hatası içinde kalması testi")
+    void testPercentiles() {
+        LatencyHistogram histogram = new MetricsRegistry().histogram("test");
+        long value = 1;
+        while (value <= 10_000) {
+            histogram.record(value * 1000); // 1 µs .. 10 ms
+            value++;
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(10_000_000, snapshot.getMaxNanos());
+        assertEquals(5_000_500.0, snapshot.getMeanNanos(), 0.001);
+        assertWithinBucketError(5_000_000, snapshot.getP50Nanos());
+        assertWithinBucketError(9_900_000, snapshot.getP99Nanos());
+        assertWithinBucketError(9_990_000, snapshot.getP999Nanos());
+        assertTrue(snapshot.getP999Nanos() <= snapshot.getMaxNanos());
+    }
+
+    private static void assertWithinBucketError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125,
+                "Beklenen ~" + expected + ", bulunan " + actual);
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı kayıtlarda sayımın kaybolmaması testi")
+    void testConcurrentRecording() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("ops");
+        LatencyHistogram histogram = registry.histogram("latency");
+        List<Thread> threads = new ArrayList<>();
+        int t = 0;
+        while (t < 8) {
+            Thread thread = new Thread(() -> {
+                int i = 0;
+                while (i < 50_000) {
+                    counter.increment();
+                    histogram.record(i);
+                    i++;
+                }
+            });
+            threads.add(thread);
+            thread.start();
+            t++;
+        }
+        java.util.Iterator<Thread> iterator = threads.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().join();
+        }
+
+        assertEquals(400_000, counter.get());
+        assertEquals(400_000, histogram.snapshot().getCount());
+        assertSame(counter, registry.counter("ops"), "Aynı isim aynı sayacı döndürmeli");
+    }
+
+    @Test
+    @DisplayName("Rezervasyon metriklerinin metin çıktısına ve dosyaya yazılması testi")
+    void testReservationMetricsAreExported() throws Exception {
+        MetricsRegistry registry = MetricsRegistry.getDefault();
+        long before = registry.histogram("reservation.make").snapshot().getCount();
+        long conflictsBefore = registry.counter("reservation.seat_conflict").get();
+
+        Flight flight = new Flight("MT100", new Route("İstanbul", "IST", "Ankara", "ESB"),
+                LocalDate.now().plusDays(1), LocalTime.NOON, 60, new Plane("MT-1", "Boeing 737", 500));
+        ReservationManager manager = new ReservationManager(false);
+        Passenger passenger = new Passenger("Ali", "Veli", "ali@test.com", "555");
+        manager.makeReservation(flight, passenger, flight.getPlane().getSeat("1A"));
+        assertThrows(RuntimeException.class,
+                () -> manager.makeReservation(flight, passenger, flight.getPlane().getSeat("1A")));
+
+        assertEquals(before + 1, registry.histogram("reservation.make").snapshot().getCount());
+        assertEquals(conflictsBefore + 1, registry.counter("reservation.seat_conflict").get());
+        assertTrue(registry.histogram("reservation.lock_wait").snapshot().getCount() > 0);
+
+        String text = registry.formatText();
+        assertTrue(text.contains("histogram reservation.make count="));
+        assertTrue(text.contains("counter reservation.seat_conflict "));
+
+        Path file = Files.createTempFile("metrics", ".txt");
+        try {
+            registry.writeScrapeFile(file);
+            assertTrue(Files.readString(file).contains("reservation.lock_wait"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
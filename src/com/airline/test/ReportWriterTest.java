@@ -0,0 +1,82 @@
+package com.airline.test;
+
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Route;
+import com.airline.service.ReportFormat;
+import com.airline.service.ReportGenerator;
+import com.airline.service.ReportWriter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReportWriter sınıfı için JUnit 5 testleri.
+ * Raporların dosyaya akıtılmasını ve sayfalı okunmasını test eder.
+ */
+public class ReportWriterTest {
+
+    @Test
+    @DisplayName("Rezervasyon raporunun JSON Lines olarak yazılması testi")
+    void testReservationReportAsJsonLines() throws IOException {
+        FlightManager flightManager = new FlightManager();
+        flightManager.clearAllData();
+        ReservationManager reservationManager = new ReservationManager();
+        reservationManager.clearAllData();
+
+        Flight flight = flightManager.createFlight("RW100", new Route("İstanbul", "IST", "Ankara", "ESB"),
+                LocalDate.now().plusDays(2), LocalTime.of(9, 0), 60, new Plane("RW-1", "Boeing 737", 500));
+        reservationManager.makeReservation(flight, new Passenger("Can", "\"Öz\"", "can@test.com", "5551234567"),
+                flight.getPlane().getSeat("1A"));
+
+        ReportGenerator generator = new ReportGenerator(flightManager, reservationManager,
+                ReportGenerator.ReportType.RESERVATION);
+        Path path = generator.writeReport(ReportFormat.JSONL);
+        try {
+            List<String> lines = Files.readAllLines(path);
+            assertEquals(1, lines.size(), "Metin satırları JSON çıktısına yazılmamalı");
+            assertTrue(lines.get(0).startsWith("{\"rapor\":\"rezervasyon\""));
+            assertTrue(lines.get(0).contains("\\\"Öz\\\""), "Tırnaklar kaçışlanmalı");
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    @DisplayName("CSV dosyasının sayfa sayfa okunması testi")
+    void testCsvPaging() throws IOException {
+        Path path = Files.createTempFile("report", ".csv");
+        try {
+            try (ReportWriter out = new ReportWriter(path, ReportFormat.CSV)) {
+                out.beginSection("Test", "test", "no", "aciklama");
+                int i = 0;
+                while (i < 25) {
+                    out.row(i, "satır, " + i);
+                    i++;
+                }
+                assertEquals(25, out.getRowCount());
+            }
+
+            List<String> firstPage = ReportWriter.readPage(path, 0, 10);
+            List<String> lastPage = ReportWriter.readPage(path, 2, 10);
+
+            assertEquals("rapor,no,aciklama", firstPage.get(0));
+            assertEquals("test,0,\"satır, 0\"", firstPage.get(1));
+            assertEquals(6, lastPage.size(), "Başlık + 25 satır = 26 satır");
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
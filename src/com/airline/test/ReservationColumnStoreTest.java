@@ -0,0 +1,138 @@
+package com.airline.test;
+
+import com.airline.manager.FlightManager;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Reservation;
+import com.airline.model.Route;
+import com.airline.model.enums.ReservationStatus;
+import com.airline.service.ReportGenerator;
+import com.airline.service.ReservationColumnStore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReservationColumnStore sınıfı için JUnit 5 testleri.
+ * Sütun bazlı sorguların nesne tabanlı sonuçlarla aynı olmasını test eder.
+ */
+public class ReservationColumnStoreTest {
+
+    private FlightManager flightManager;
+    private ReservationManager reservationManager;
+    private ReservationColumnStore store;
+    private Flight flight1;
+    private Flight flight2;
+
+    @BeforeEach
+    void setUp() {
+        flightManager = new FlightManager();
+        flightManager.clearAllData();
+        reservationManager = new ReservationManager();
+        reservationManager.clearAllData();
+
+        Route route = new Route("İstanbul", "IST", "Ankara", "ESB");
+        flight1 = flightManager.createFlight("CS100", route, LocalDate.now().plusDays(5),
+                LocalTime.of(9, 0), 60, new Plane("CS-1", "Boeing 737", 500));
+        flight2 = flightManager.createFlight("CS200", route, LocalDate.now().plusDays(6),
+                LocalTime.of(9, 0), 60, new Plane("CS-2", "Boeing 737", 500));
+
+        store = new ReservationColumnStore();
+        store.attachTo(reservationManager);
+    }
+
+    private Reservation reserve(Flight flight, String seatNum, double ticketPrice) {
+        Passenger passenger = new Passenger("Ayşe", "Demir", "ayse@test.com", "5550001122");
+        Reservation reservation = reservationManager.makeReservation(flight, passenger,
+                flight.getPlane().getSeat(seatNum));
+        reservationManager.createTicket(reservation, ticketPrice);
+        return reservation;
+    }
+
+    @Test
+    @DisplayName("Gelir ve durum sayılarının değişikliklerle güncellenmesi testi")
+    void testIncrementalRevenueAndStatus() {
+        reserve(flight1, "1A", 1000.0);
+        reserve(flight1, "1B", 1250.5);
+        Reservation cancelledOne = reserve(flight2, "1A", 800.0);
+        reservationManager.cancelReservation(cancelledOne.getReservationCode());
+
+        assertEquals(3, store.size());
+        assertEquals(225050, store.getTotalRevenueCents(), "İptal edilen gelire sayılmamalı");
+        assertEquals(2, store.countByStatus(ReservationStatus.CONFIRMED));
+        assertEquals(1, store.countByStatus(ReservationStatus.CANCELLED));
+
+        int[] active = store.countActiveByFlight();
+        assertEquals(2, active[store.getFlightIndex("CS100")]);
+        assertEquals(0, active[store.getFlightIndex("CS200")]);
+    }
+
+    @Test
+    @DisplayName("Bağlanırken yapılan rezervasyonun kaçmaması testi")
+    void testReservationDuringAttachIsNotLost() throws InterruptedException {
+        Passenger passenger = new Passenger("Can", "Öz", "can@test.com", "555");
+        Thread[] writer = new Thread[1];
+        ReservationManager racing = new ReservationManager(false) {
+            @Override
+            public java.util.List<Reservation> getAllReservations() {
+                java.util.List<Reservation> snapshot = super.getAllReservations();
+                if (writer[0] == null) {
+                    // Görüntü alındıktan sonra, dinleyici kaydından önce bir rezervasyon gelir
+                    writer[0] = new Thread(() -> makeReservation(flight2, passenger, flight2.getPlane().getSeat("2A")));
+                    writer[0].start();
+                    try {
+                        writer[0].join(200); // Kilit tutuluyorsa yazıcı bekler
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return snapshot;
+            }
+        };
+        racing.makeReservation(flight1, passenger, flight1.getPlane().getSeat("3A"));
+
+        ReservationColumnStore attached = new ReservationColumnStore();
+        attached.attachTo(racing);
+        writer[0].join();
+
+        assertEquals(2, racing.getReservationCount());
+        assertEquals(2, attached.size(), "Bağlanma sırasındaki rezervasyon sütunlara yansımalı");
+        assertEquals(1, attached.countActiveByFlight()[attached.getFlightIndex("CS200")]);
+    }
+
+    @Test
+    @DisplayName("Uçuşa göre gelir gruplama testi")
+    void testGroupRevenueByFlight() {
+        reserve(flight1, "1A", 1000.0);
+        reserve(flight2, "1A", 500.0);
+        reserve(flight2, "1B", 500.0);
+
+        Map<String, Long> byFlight = store.groupRevenueBy(ReservationColumnStore.Dimension.FLIGHT);
+
+        assertEquals(100000L, byFlight.get("CS100"));
+        assertEquals(100000L, byFlight.get("CS200"));
+        assertEquals(2, store.groupCountBy(ReservationColumnStore.Dimension.DAY).size());
+    }
+
+    @Test
+    @DisplayName("Sütun tabanlı doluluk raporunun seat durumuyla aynı olması testi")
+    void testColumnOccupancyMatchesSeats() {
+        reserve(flight1, "1A", 1000.0);
+
+        ReportGenerator generator = new ReportGenerator(flightManager, reservationManager);
+        double expected = generator.calculateOccupancyRate(flight1);
+        generator.setColumnStore(store);
+
+        assertEquals(expected, store.getOccupancyRate("CS100"), 0.001);
+        assertTrue(generator.generateOccupancyReport().contains("CS100"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.airline.test;
+
+import com.airline.gui.SeatMapLayout;
+import com.airline.model.Plane;
+import com.airline.model.Seat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SeatMapLayout ve Plane koltuk indeksleri için JUnit 5 testleri.
+ */
+public class SeatMapLayoutTest {
+
+    @Test
+    @DisplayName("Her koltuğun merkezinin kendi indeksine denk gelmesi testi")
+    void testHitTestMatchesSeatPositions() {
+        SeatMapLayout layout = new SeatMapLayout(42, 10, 16, true);
+        double half = layout.getCellSize() / 2;
+
+        int index = 0;
+        while (index < 42 * 10) {
+            assertEquals(index, layout.hitTest(layout.getSeatX(index) + half, layout.getSeatY(index) + half));
+            index++;
+        }
+        // Koridor (C ile D arası) ve başlık alanı koltuk değildir
+        double aisleX = layout.getColumnX(3) - 1;
+        assertEquals(-1, layout.hitTest(aisleX, layout.getRowY(0) + half));
+        assertEquals(-1, layout.hitTest(layout.getColumnX(0) + half, 1));
+    }
+
+    @Test
+    @DisplayName("Geniş gövde uçakta I harfinin atlanması ve indeks eşleşmesi testi")
+    void testWidebodySeatIndex() {
+        Plane plane = new Plane("TC-777", "Boeing 777", 42, 10, 6, 600);
+        Seat[] seats = plane.getSeatArray();
+
+        assertEquals(420, plane.getCapacity());
+        assertEquals("1K", seats[9].getSeatNum());
+        assertNull(plane.getSeat("1I"));
+        assertEquals(15 * 10 + 7, plane.getSeatIndex(plane.getSeat("16H")));
+        assertThrows(IllegalArgumentException.class, () -> new Plane("X", "X", 10, 11, 1, 100));
+    }
+
+    @Test
+    @DisplayName("Doluluk bit dizisinin koltuk durumunu yansıtması testi")
+    void testOccupancyBitmap() {
+        Plane plane = new Plane("TC-001", "Boeing 737", 500);
+        plane.getSeat("2C").reserve();
+        plane.getSeat("30F").reserve();
+
+        BitSet bitmap = plane.getOccupancyBitmap();
+
+        assertEquals(2, bitmap.cardinality());
+        assertTrue(bitmap.get(plane.getSeatIndex(plane.getSeat("2C"))));
+        assertTrue(bitmap.get(179));
+    }
+}
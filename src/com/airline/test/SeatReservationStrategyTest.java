@@ -0,0 +1,198 @@
+package com.airline.test;
+
+import com.airline.concurrency.GlobalLockSeatStrategy;
+import com.airline.concurrency.SeatReservationStrategy;
+import com.airline.concurrency.StrategyBenchmark;
+import com.airline.concurrency.StrategyBenchmarkResult;
+import com.airline.manager.ReservationManager;
+import com.airline.model.Flight;
+import com.airline.model.Passenger;
+import com.airline.model.Plane;
+import com.airline.model.Seat;
+import com.airline.simulation.LoadSimulationConfig;
+import com.airline.simulation.LoadSimulationResult;
+import com.airline.simulation.LoadSimulator;
+import com.airline.simulation.SeatChoice;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Koltuk rezervasyon stratejileri ve StrategyBenchmark için JUnit 5 testleri.
+ */
+public class SeatReservationStrategyTest {
+
+    @Test
+    @DisplayName("Tüm stratejilerde fazla satış olmaması testi")
+    void testNoOversellWithEveryStrategy() {
+        java.util.Iterator<SeatReservationStrategy> iterator = StrategyBenchmark.standardStrategies().iterator();
+        while (iterator.hasNext()) {
+            SeatReservationStrategy strategy = iterator.next();
+            LoadSimulationConfig config = new LoadSimulationConfig();
+            config.setCustomerCount(1000);
+            config.setFlightCount(2);
+            config.setThinkTime(0, 1);
+            config.setSeed(7);
+            config.setSeatChoice(SeatChoice.FRONT_HEAVY);
+            config.setSeatStrategy(strategy);
+
+            LoadSimulationResult result = new LoadSimulator(config).run();
+
+            assertFalse(result.isOversold(), strategy.getName());
+            assertEquals(result.getSuccessful(), result.getReservedSeats(), strategy.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Karşılaştırma sonuçlarının geçerli olması testi")
+    void testBenchmarkResults() {
+        StrategyBenchmark benchmark = new StrategyBenchmark(2, 30);
+        List<StrategyBenchmarkResult> results = benchmark.run(StrategyBenchmark.standardStrategies(),
+                new int[] {1, 4}, new double[] {0.9});
+
+        assertEquals(10, results.size());
+        java.util.Iterator<StrategyBenchmarkResult> iterator = results.iterator();
+        while (iterator.hasNext()) {
+            StrategyBenchmarkResult result = iterator.next();
+            assertTrue(result.getOpsPerSecond() > 0, result.toString());
+            assertTrue(result.getFairness() > 0 && result.getFairness() <= 1.0 + 1e-9, result.toString());
+        }
+        assertTrue(StrategyBenchmark.formatTable(results).contains("CAS"));
+    }
+
+    @Test
+    @DisplayName("Jain adalet endeksi hesaplama testi")
+    void testJainFairness() {
+        assertEquals(1.0, StrategyBenchmark.jainFairness(new long[] {5, 5, 5, 5}), 1e-9);
+        assertEquals(0.25, StrategyBenchmark.jainFairness(new long[] {8, 0, 0, 0}), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Kayıt başarısız olursa koltuğun serbest bırakılması testi")
+    void testSeatReleasedWhenRecordFails() {
+        ReservationManager failing = new ReservationManager(false) {
+            @Override
+            public void saveToFile() {
+                throw new IllegalStateException("Disk dolu");
+            }
+        };
+        Flight flight = new Flight("SL100", "İstanbul", "Ankara", LocalDate.now().plusDays(1),
+                LocalTime.of(9, 0), 60, new Plane("SL-1", "Boeing 737", 500));
+        Seat seat = flight.getPlane().getSeat("1A");
+        Passenger passenger = new Passenger("Ali", "Yılmaz", "ali@test.com", "555");
+
+        assertThrows(IllegalStateException.class, () -> failing.makeReservation(flight, passenger, seat));
+
+        assertFalse(seat.isReserveStatus(), "Koltuk boşa çıkmalı");
+        assertEquals(0, failing.getReservationCount());
+        assertFalse(failing.getLock().isHeldByCurrentThread());
+    }
+
+    @Test
+    @DisplayName("Varsayılan stratejide rezervasyon başına tek kilit alımı testi")
+    void testDefaultStrategyLocksOnce() {
+        ReservationManager manager = new ReservationManager(false);
+        Flight flight = new Flight("SL200", "İstanbul", "Ankara", LocalDate.now().plusDays(1),
+                LocalTime.of(9, 0), 60, new Plane("SL-2", "Boeing 737", 500));
+        Passenger passenger = new Passenger("Ayşe", "Kaya", "ayse@test.com", "555");
+        AtomicBoolean heldByManager = new AtomicBoolean();
+        manager.setSeatStrategy(new GlobalLockSeatStrategy(manager.getLock()) {
+            @Override
+            public boolean tryReserve(Flight f, Seat seat) {
+                heldByManager.set(getLock().isHeldByCurrentThread()); // İç içe alım sayılmaz
+                return super.tryReserve(f, seat);
+            }
+        });
+
+        manager.makeReservation(flight, passenger, flight.getPlane().getSeat("1A"));
+
+        assertTrue(heldByManager.get(), "Koltuk, yöneticinin kilit alımı içinde alınmalı");
+        assertFalse(manager.getLock().isHeldByCurrentThread());
+    }
+
+    @Test
+    @DisplayName("Tüm stratejilerde iptalin koltuğu strateji üzerinden bırakması testi")
+    void testCancelReleasesThroughStrategy() {
+        java.util.Iterator<SeatReservationStrategy> iterator = StrategyBenchmark.standardStrategies().iterator();
+        while (iterator.hasNext()) {
+            SeatReservationStrategy delegate = iterator.next();
+            AtomicInteger releases = new AtomicInteger();
+            ReservationManager manager = new ReservationManager(false);
+            manager.setSeatStrategy(new SeatReservationStrategy() {
+                @Override
+                public String getName() {
+                    return delegate.getName();
+                }
+
+                @Override
+                public boolean tryReserve(Flight flight, Seat seat) {
+                    return delegate.tryReserve(flight, seat);
+                }
+
+                @Override
+                public void release(Flight flight, Seat seat) {
+                    releases.incrementAndGet();
+                    delegate.release(flight, seat);
+                }
+
+                @Override
+                public boolean isAvailable(Flight flight, Seat seat) {
+                    return delegate.isAvailable(flight, seat);
+                }
+            });
+            Flight flight = new Flight("SL400", "İstanbul", "Ankara", LocalDate.now().plusDays(1),
+                    LocalTime.of(9, 0), 60, new Plane("SL-4", "Boeing 737", 500));
+            Seat seat = flight.getPlane().getSeat("1A");
+            String code = manager.makeReservation(flight, new Passenger("Can", "Öz", "can@test.com", "555"), seat)
+                    .getReservationCode();
+
+            assertTrue(manager.cancelReservation(code), delegate.getName());
+            assertEquals(1, releases.get(), delegate.getName() + ": iptal stratejiden geçmeli");
+            assertTrue(delegate.isAvailable(flight, seat), delegate.getName());
+            assertFalse(manager.cancelReservation(code));
+            assertEquals(1, releases.get(), "İkinci iptal koltuğa dokunmamalı");
+        }
+    }
+
+    @Test
+    @DisplayName("Rezervasyon yapılırken listelerin eşzamanlı okunması testi")
+    void testReadsDuringWrites() throws InterruptedException {
+        ReservationManager manager = new ReservationManager(false);
+        Flight flight = new Flight("SL300", "İstanbul", "Ankara", LocalDate.now().plusDays(1),
+                LocalTime.of(9, 0), 60, new Plane("SL-3", "Boeing 777", 42, 10, 6, 600));
+        List<Seat> seats = java.util.Arrays.asList(flight.getPlane().getSeatArray());
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    manager.getActiveReservations();
+                    manager.getReservationsByFlight("SL300");
+                    manager.getAllTickets();
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+        java.util.Iterator<Seat> iterator = seats.iterator();
+        while (iterator.hasNext()) {
+            Passenger passenger = new Passenger("Ali", "Yılmaz", "ali@test.com", "555");
+            manager.createTicket(manager.makeReservation(flight, passenger, iterator.next()), 100.0);
+        }
+        done.set(true);
+        reader.join();
+
+        assertNull(failure.get(), "Okuyucu thread hata almamalı");
+        assertEquals(seats.size(), manager.getActiveReservationCount());
+    }
+}
@@ -0,0 +1,196 @@
+package com.airline.test;
+
+import com.airline.manager.Session;
+import com.airline.manager.SessionManager;
+import com.airline.manager.UserManager;
+import com.airline.model.Customer;
+import com.airline.model.User;
+import com.airline.model.enums.UserRole;
+import com.airline.util.AppClock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SessionManager ve UserManager oturum yetkilendirmesi için JUnit 5 testleri.
+ */
+public class SessionManagerTest {
+
+    private static final Instant START = Instant.parse("2026-06-01T09:00:00Z");
+
+    private UserManager userManager;
+
+    @BeforeEach
+    void setUp() {
+        AppClock.setClock(Clock.fixed(START, ZoneId.systemDefault()));
+        userManager = new UserManager(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AppClock.reset();
+    }
+
+    private static void advance(Duration duration) {
+        Clock clock = AppClock.getClock();
+        AppClock.setClock(Clock.offset(clock, duration));
+    }
+
+    @Test
+    @DisplayName("Kayan süre aşımı ve temizlik testi")
+    void testSlidingExpiryAndSweep() {
+        SessionManager sessions = new SessionManager(Duration.ofMinutes(30).toMillis());
+        Customer customer = userManager.registerCustomer("ayse", "sifre", "a@test.com", "Ayşe", "Kaya", "555");
+        Session active = sessions.open(customer);
+        Session idle = sessions.open(customer);
+        assertNotEquals(active.getToken(), idle.getToken());
+
+        advance(Duration.ofMinutes(20));
+        assertSame(active, sessions.get(active.getToken()), "Erişim süreyi uzatmalı");
+        advance(Duration.ofMinutes(20));
+
+        assertNotNull(sessions.get(active.getToken()));
+        assertEquals(1, sessions.evictExpired());
+        assertNull(sessions.get(idle.getToken()));
+        assertEquals(1, sessions.getSessionCount());
+
+        advance(Duration.ofMinutes(30));
+        assertNull(sessions.get(active.getToken()));
+        assertEquals(0, sessions.getSessionCount());
+        assertThrows(SecurityException.class, () -> sessions.require(active.getToken()));
+    }
+
+    @Test
+    @DisplayName("Token ile yetkilendirme ve rol önbelleği testi")
+    void testTokenAuthorization() {
+        Session admin = userManager.openSession("admin", "admin123");
+        Session customer = userManager.openSession(
+                userManager.registerCustomer("mehmet", "sifre", "m@test.com", "Mehmet", "Ak", "555").getUsername(),
+                "sifre");
+        assertNull(userManager.openSession("admin", "yanlis"));
+
+        assertEquals(UserRole.ADMIN, admin.getRole());
+        assertTrue(admin.hasPermission("DELETE_USER"));
+        assertFalse(customer.hasPermission("DELETE_USER"));
+        assertFalse(userManager.isLoggedIn(), "Token oturumu yerel oturumu açmamalı");
+
+        assertThrows(SecurityException.class, () -> userManager.registerStaff(customer.getToken(),
+                "personel", "sifre", "p@test.com", "Operasyon", "Uzman"));
+        assertNotNull(userManager.registerStaff(admin.getToken(),
+                "personel", "sifre", "p@test.com", "Operasyon", "Uzman"));
+
+        // Silinen kullanıcının oturumları kapanır
+        assertTrue(userManager.deleteUser(admin.getToken(), customer.getUserId()));
+        assertNull(userManager.getSessionManager().get(customer.getToken()));
+
+        assertTrue(userManager.logout(admin.getToken()));
+        assertThrows(SecurityException.class,
+                () -> userManager.deleteUser(admin.getToken(), "USR-YOK"));
+    }
+
+    @Test
+    @DisplayName("Yerel oturumun eski currentUser davranışını koruması testi")
+    void testLocalSession() {
+        assertThrows(SecurityException.class, () -> userManager.deleteUser("USR-YOK"));
+        assertNotNull(userManager.login("admin", "admin123"));
+        assertTrue(userManager.isCurrentUserAdmin());
+        assertTrue(userManager.isCurrentUserStaff());
+        assertEquals("admin", userManager.getCurrentUser().getUsername());
+        assertEquals(1, userManager.getSessionManager().getSessionCount());
+
+        userManager.logout();
+        assertFalse(userManager.isLoggedIn());
+        assertNull(userManager.getCurrentUser());
+        assertEquals(0, userManager.getSessionManager().getSessionCount());
+    }
+
+    @Test
+    @DisplayName("Silinen veya pasifleştirilen kullanıcının yerel oturumunun kapanması testi")
+    void testLocalSessionClosedWithUser() {
+        Session admin = userManager.openSession("admin", "admin123");
+        Customer customer = userManager.registerCustomer("ali", "sifre", "a@test.com", "Ali", "Veli", "555");
+        assertSame(customer, userManager.login("ali", "sifre"));
+
+        customer.setActive(false);
+        assertTrue(userManager.updateUser(customer));
+        assertFalse(userManager.isLoggedIn(), "Pasifleştirilen kullanıcının yerel oturumu kapanmalı");
+        assertNull(userManager.getCurrentUser());
+
+        customer.setActive(true);
+        userManager.updateUser(customer);
+        assertNotNull(userManager.login("ali", "sifre"));
+        assertTrue(userManager.deleteUser(admin.getToken(), customer.getUserId()));
+        assertFalse(userManager.isLoggedIn(), "Silinen kullanıcının yerel oturumu kapanmalı");
+        assertNotNull(userManager.getSessionManager().get(admin.getToken()), "Başka oturumlar açık kalmalı");
+    }
+
+    @Test
+    @DisplayName("Rolü düşürülen veya şifresi değişen kullanıcının eski token'ının reddedilmesi testi")
+    void testChangedUserSessionsClosed() {
+        Session admin = userManager.openSession("admin", "admin123");
+        Customer customer = userManager.registerCustomer("deniz", "sifre", "d@test.com", "Deniz", "Ak", "555");
+        Session customerSession = userManager.openSession("deniz", "sifre");
+        User adminUser = userManager.getUserByUsername("admin");
+
+        customer.setEmail("yeni@test.com");
+        assertTrue(userManager.updateUser(customer));
+        assertNotNull(userManager.getSessionManager().get(customerSession.getToken()),
+                "Yetkiyi etkilemeyen değişiklik oturumu kapatmamalı");
+
+        customer.setPassword("yeni-sifre");
+        assertTrue(userManager.updateUser(customer));
+        assertThrows(SecurityException.class, () -> userManager.getSessionManager().require(customerSession.getToken()));
+
+        adminUser.setRole(UserRole.CUSTOMER);
+        assertTrue(userManager.updateUser(adminUser));
+        assertThrows(SecurityException.class, () -> userManager.getSessionManager().requireAdmin(admin.getToken()));
+        assertNull(userManager.getSessionManager().get(admin.getToken()));
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı oturum açma ve doğrulama testi")
+    void testConcurrentSessions() throws InterruptedException {
+        SessionManager sessions = userManager.getSessionManager();
+        Customer customer = userManager.registerCustomer("zeynep", "sifre", "z@test.com", "Zeynep", "Ak", "555");
+        Set<String> tokens = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+
+        int t = 0;
+        while (t < 8) {
+            Thread thread = new Thread(() -> {
+                int i = 0;
+                while (i < 1000) {
+                    Session session = sessions.open(customer);
+                    if (sessions.get(session.getToken()) == session) {
+                        tokens.add(session.getToken());
+                    }
+                    i++;
+                }
+            });
+            threads.add(thread);
+            thread.start();
+            t++;
+        }
+        java.util.Iterator<Thread> iterator = threads.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().join();
+        }
+
+        assertEquals(8000, tokens.size());
+        assertEquals(8000, sessions.getSessionCount());
+        assertEquals(8000, sessions.closeUserSessions(customer.getUserId()));
+    }
+}
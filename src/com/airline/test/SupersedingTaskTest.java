@@ -0,0 +1,112 @@
+package com.airline.test;
+
+import com.airline.gui.BackgroundExecutor;
+import com.airline.gui.SupersedingTask;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BackgroundExecutor ve SupersedingTask için JUnit 5 testleri.
+ * Sonuçlar FX thread'i yerine doğrudan teslim edilir.
+ */
+public class SupersedingTaskTest {
+
+    @BeforeEach
+    void setUp() {
+        BackgroundExecutor.setResultExecutor(Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        BackgroundExecutor.resetResultExecutor();
+    }
+
+    @Test
+    @DisplayName("Sonucun ve hatanın arka plandan teslim edilmesi testi")
+    void testResultAndErrorDelivery() throws Exception {
+        CountDownLatch done = new CountDownLatch(2);
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+
+        BackgroundExecutor.submit(() -> 42, result -> {
+            delivered.add(result);
+            done.countDown();
+        }, null);
+        BackgroundExecutor.submit(() -> {
+            throw new IllegalStateException("dosya kilitli");
+        }, result -> fail("Hatalı iş sonuç döndürmemeli"), error -> {
+            delivered.add(error.getMessage());
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(delivered.contains(42));
+        assertTrue(delivered.contains("dosya kilitli"));
+    }
+
+    @Test
+    @DisplayName("Yeni iş gelince eski işin sonucunun teslim edilmemesi testi")
+    void testSupersededResultIsDropped() throws Exception {
+        SupersedingTask task = new SupersedingTask();
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastDone = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+
+        task.submit(() -> {
+            slowStarted.countDown();
+            release.await(); // İptal edilince kesilir
+            return "eski";
+        }, delivered::add, error -> delivered.add("eski-hata"));
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+        task.submit(() -> "yeni", result -> {
+            delivered.add(result);
+            fastDone.countDown();
+        }, null);
+        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        Thread.sleep(100);
+
+        assertEquals(List.of("yeni"), delivered);
+        assertEquals(2, task.getGeneration());
+    }
+
+    @Test
+    @DisplayName("Parça parça gelen işin yeni iş gelince durması testi")
+    void testStreamStopsWhenSuperseded() throws Exception {
+        SupersedingTask task = new SupersedingTask();
+        CountDownLatch firstPart = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+
+        task.<Integer>stream(publisher -> {
+            int part = 0;
+            while (publisher.test(part)) {
+                if (part == 0) {
+                    firstPart.countDown();
+                }
+                part++;
+                Thread.yield();
+            }
+            stopped.countDown();
+        }, delivered::add, null);
+        assertTrue(firstPart.await(5, TimeUnit.SECONDS));
+
+        task.cancel();
+        assertTrue(stopped.await(5, TimeUnit.SECONDS), "Geçersiz kalan iş durmalı");
+        int count = delivered.size();
+        Thread.sleep(50);
+        assertEquals(count, delivered.size(), "İptalden sonra parça teslim edilmemeli");
+        assertEquals(0, delivered.get(0));
+    }
+}
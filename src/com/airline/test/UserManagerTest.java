@@ -0,0 +1,131 @@
+package com.airline.test;
+
+import com.airline.exception.DuplicateEntryException;
+import com.airline.manager.UserManager;
+import com.airline.model.Customer;
+import com.airline.model.User;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserManager indeksleri ve eşzamanlı kayıt için JUnit 5 testleri.
+ */
+public class UserManagerTest {
+
+    private UserManager userManager;
+
+    @BeforeEach
+    void setUp() {
+        userManager = new UserManager(false);
+    }
+
+    @Test
+    @DisplayName("Kullanıcı adı ve ID ile indeksli arama testi")
+    void testIndexedLookups() {
+        Customer customer = userManager.registerCustomer("ayse", "sifre1", "ayse@test.com",
+                "Ayşe", "Yılmaz", "5551234567");
+
+        assertSame(customer, userManager.getUserByUsername("AYSE"));
+        assertSame(customer, userManager.getUserById(customer.getUserId()));
+        assertSame(customer.getPassenger(), userManager.getPassengerById(customer.getPassenger().getPassengerId()));
+        assertSame(customer, userManager.login("ayse", "sifre1"));
+        assertNull(userManager.login("ayse", "yanlis"));
+        assertNull(userManager.login("AYSE", "sifre1"), "Giriş kullanıcı adını birebir eşleştirmeli");
+        assertNull(userManager.login(null, "sifre1"));
+        assertNotNull(userManager.login("admin", "admin123"));
+    }
+
+    @Test
+    @DisplayName("Türkçe harflerin büyük/küçük harf duyarsız eşleşmesi testi")
+    void testTurkishCaseFolding() {
+        userManager.registerCustomer("ılgın", "sifre", "ilgin@test.com", "Ilgın", "Kaya", "555");
+
+        // equalsIgnoreCase ile aynı kurallar: ı, I ve i aynı harf sayılır
+        assertTrue(userManager.isUsernameTaken("ILGIN"));
+        assertTrue(userManager.isUsernameTaken("ilgin"));
+        assertThrows(DuplicateEntryException.class,
+                () -> userManager.registerCustomer("ILGIN", "sifre", "x@test.com", "A", "B", "555"));
+        assertFalse(userManager.isUsernameTaken("ilgim"));
+    }
+
+    @Test
+    @DisplayName("Güncelleme ve silmede indekslerin korunması testi")
+    void testUpdateAndDeleteMaintainIndexes() {
+        Customer customer = userManager.registerCustomer("mehmet", "sifre", "m@test.com", "Mehmet", "Ak", "555");
+        userManager.registerCustomer("zeynep", "sifre", "z@test.com", "Zeynep", "Ak", "555");
+
+        customer.setUsername("mehmet.ak");
+        assertTrue(userManager.updateUser(customer));
+        assertNull(userManager.getUserByUsername("mehmet"));
+        assertSame(customer, userManager.getUserByUsername("Mehmet.Ak"));
+
+        customer.setUsername("ZEYNEP");
+        assertThrows(DuplicateEntryException.class, () -> userManager.updateUser(customer));
+        customer.setUsername("mehmet.ak");
+
+        userManager.login("admin", "admin123");
+        assertTrue(userManager.deleteUser(customer.getUserId()));
+        assertNull(userManager.getUserById(customer.getUserId()));
+        assertFalse(userManager.isUsernameTaken("mehmet.ak"));
+        assertFalse(userManager.deleteUser(userManager.getUserByUsername("admin").getUserId()));
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı kayıtlarda aynı kullanıcı adının tek kez alınması testi")
+    void testConcurrentRegistrationIsAtomic() throws InterruptedException {
+        int threadCount = 8;
+        int nameCount = 200;
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        int t = 0;
+        while (t < threadCount) {
+            final boolean upper = t % 2 == 0;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                int i = 0;
+                while (i < nameCount) {
+                    String username = upper ? "USER" + i : "user" + i;
+                    try {
+                        userManager.registerCustomer(username, "sifre", "u@test.com", "Ad", "Soyad", "555");
+                        successes.incrementAndGet();
+                    } catch (DuplicateEntryException e) {
+                        duplicates.incrementAndGet();
+                    }
+                    i++;
+                }
+            });
+            threads.add(thread);
+            thread.start();
+            t++;
+        }
+        start.countDown();
+        java.util.Iterator<Thread> iterator = threads.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().join();
+        }
+
+        assertEquals(nameCount, successes.get());
+        assertEquals(nameCount * (threadCount - 1), duplicates.get());
+        assertEquals(nameCount + 1, userManager.getUserCount()); // + varsayılan admin
+        assertEquals(nameCount, userManager.getAllPassengers().size());
+        User user = userManager.getUserByUsername("user7");
+        assertNotNull(user);
+        assertSame(user, userManager.getUserById(user.getUserId()));
+    }
+}
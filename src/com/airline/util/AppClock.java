@@ -0,0 +1,72 @@
+package com.airline.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Uygulama genelinde kullanılan saat.
+ * Tüm zaman okumaları buradan yapılır; testlerde sabit bir saat verilerek
+ * zamana bağlı davranışlar tekrarlanabilir hale getirilir.
+ *
+ * Dakika değerleri yerel saatin dakika sırasıdır (saat dilimi dönüşümü yapılmaz),
+ * bu yüzden sadece birbirleriyle karşılaştırılmak içindir.
+ */
+public class AppClock {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    private AppClock() {
+    }
+
+    /**
+     * Kullanılan saati değiştirir (test için).
+     */
+    public static void setClock(Clock newClock) {
+        if (newClock == null) {
+            throw new IllegalArgumentException("Saat boş olamaz!");
+        }
+        clock = newClock;
+    }
+
+    /**
+     * Sistem saatine geri döner.
+     */
+    public static void reset() {
+        clock = Clock.systemDefaultZone();
+    }
+
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Şu anki yerel tarih ve saati döndürür.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * Bugünün tarihini döndürür.
+     */
+    public static LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * Şu anki zamanı dakika cinsinden döndürür.
+     * Bir sorgu başında bir kez okunup tüm uçuşlarla karşılaştırılır.
+     */
+    public static long currentEpochMinute() {
+        return toEpochMinute(now());
+    }
+
+    /**
+     * Yerel tarih-saati dakika cinsine çevirir.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
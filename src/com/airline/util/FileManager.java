@@ -1,8 +1,19 @@
 package com.airline.util;
 
+import com.airline.metrics.Counter;
+import com.airline.metrics.LatencyHistogram;
+import com.airline.metrics.MetricsRegistry;
+import com.airline.metrics.SnapshotWriteEvent;
+
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Dosya okuma/yazma işlemlerini yöneten yardımcı sınıf.
@@ -11,6 +22,9 @@ import java.util.List;
 public class FileManager {
 
     private static final String DATA_DIR = "data/";
+    private static final LatencyHistogram SAVE_LATENCY = MetricsRegistry.getDefault().histogram("file.save");
+    private static final LatencyHistogram LOAD_LATENCY = MetricsRegistry.getDefault().histogram("file.load");
+    private static final Counter SAVE_ERRORS = MetricsRegistry.getDefault().counter("file.save.errors");
 
     static {
         // Data klasörünü oluştur
@@ -26,12 +40,27 @@ public class FileManager {
      * @param filename Dosya adı
      */
     public static void saveObject(Object obj, String filename) {
+        long start = System.nanoTime();
+        SnapshotWriteEvent event = new SnapshotWriteEvent();
+        event.begin();
+        boolean success = false;
         try (ObjectOutputStream oos = new ObjectOutputStream(
                 new FileOutputStream(DATA_DIR + filename))) {
             oos.writeObject(obj);
+            success = true;
         } catch (IOException e) {
+            SAVE_ERRORS.increment();
             System.err.println("Dosya kaydetme hatası: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            SAVE_LATENCY.recordSince(start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.fileName = filename;
+                event.bytes = fileSize(filename);
+                event.success = success;
+                event.commit();
+            }
         }
     }
 
@@ -46,6 +75,7 @@ public class FileManager {
             return null;
         }
 
+        long start = System.nanoTime();
         try (ObjectInputStream ois = new ObjectInputStream(
                 new FileInputStream(file))) {
             return ois.readObject();
@@ -53,6 +83,8 @@ public class FileManager {
             System.err.println("Dosya yükleme hatası: " + e.getMessage());
             e.printStackTrace();
             return null;
+        } finally {
+            LOAD_LATENCY.recordSince(start);
         }
     }
 
@@ -79,6 +111,86 @@ public class FileManager {
         return new ArrayList<>();
     }
 
+    /**
+     * Bir listeyi GZIP ile sıkıştırarak kaydeder (arşiv dosyaları için).
+     * Önce geçici dosyaya yazılıp taşınır; yazma yarıda kalırsa hedef dosya oluşmaz.
+     * Hatalar yutulmaz, çağırana fırlatılır.
+     * @param list Kaydedilecek liste
+     * @param filename Dosya adı
+     */
+    public static <T> void writeCompressedList(List<T> list, String filename) throws IOException {
+        File target = new File(DATA_DIR + filename);
+        File temp = new File(DATA_DIR + filename + ".tmp");
+        try (ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(new FileOutputStream(temp))))) {
+            oos.writeObject(new ArrayList<>(list));
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+        try {
+            Files.move(temp.toPath(), target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * GZIP ile sıkıştırılmış bir listeyi yükler.
+     * Dosya yoksa boş liste döner; dosya okunamazsa IOException fırlatılır.
+     * @param filename Dosya adı
+     * @return Yüklenen liste
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> readCompressedList(String filename) throws IOException {
+        File file = new File(DATA_DIR + filename);
+        if (!file.exists()) {
+            return new ArrayList<>();
+        }
+
+        try (ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file))))) {
+            Object obj = ois.readObject();
+            if (obj instanceof List) {
+                return (List<T>) obj;
+            }
+            throw new IOException(filename + " bir liste içermiyor");
+        } catch (ClassNotFoundException e) {
+            throw new IOException(filename + " okunamadı: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Veri klasöründe verilen önek ve sonekle eşleşen dosya adlarını sıralı döndürür.
+     * @param prefix Dosya adı öneki
+     * @param suffix Dosya adı soneki
+     * @return Eşleşen dosya adları
+     */
+    public static List<String> listFiles(String prefix, String suffix) {
+        List<String> names = new ArrayList<>();
+        String[] all = new File(DATA_DIR).list();
+        if (all == null) {
+            return names;
+        }
+        int i = 0;
+        while (i < all.length) {
+            if (all[i].startsWith(prefix) && all[i].endsWith(suffix)) {
+                names.add(all[i]);
+            }
+            i++;
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Dosyanın boyutunu byte cinsinden döndürür (yoksa 0).
+     */
+    public static long fileSize(String filename) {
+        return new File(DATA_DIR + filename).length();
+    }
+
     /**
      * Dosyanın var olup olmadığını kontrol eder.
      * @param filename Dosya adı
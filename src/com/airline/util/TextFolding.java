@@ -0,0 +1,64 @@
+package com.airline.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Türkçe karakterleri doğru karşılaştırmak için metin katlama yardımcı sınıfı.
+ * equalsIgnoreCase "ISPARTA" ile "Isparta"yı Türkçe kurallara göre eşleştiremez,
+ * "Mugla" ile "Muğla" gibi aksansız yazımları da hiç eşleştiremez.
+ */
+public class TextFolding {
+
+    private static final Locale TURKISH = new Locale("tr", "TR");
+
+    private TextFolding() {
+    }
+
+    /**
+     * Metni arama anahtarına çevirir.
+     * Türkçe kurallarla küçük harfe çevrilir, ı harfi i yapılır ve
+     * aksanlar (ğ, ş, ç, ö, ü) kaldırılır. Örn: "İSTANBUL", "Istanbul" -> "istanbul"
+     * @param text Metin
+     * @return Katlanmış metin, metin null ise null
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return null;
+        }
+        String lower = text.trim().toLowerCase(TURKISH).replace('ı', 'i');
+
+        // Sadece ASCII ise normalizasyona gerek yok
+        boolean ascii = true;
+        int i = 0;
+        while (i < lower.length() && ascii) {
+            ascii = lower.charAt(i) < 128;
+            i++;
+        }
+        if (ascii) {
+            return lower;
+        }
+
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        i = 0;
+        while (i < decomposed.length()) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c);
+            }
+            i++;
+        }
+        return folded.toString();
+    }
+
+    /**
+     * İki metni Türkçe kurallara göre karşılaştırır.
+     */
+    public static boolean equalsFolded(String a, String b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return fold(a).equals(fold(b));
+    }
+}
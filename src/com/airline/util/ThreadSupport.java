@@ -0,0 +1,68 @@
+package com.airline.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread oluşturma yardımcıları.
+ * Çalışan JVM sanal thread (virtual thread) destekliyorsa her görev için bir
+ * sanal thread kullanılır; desteklemiyorsa sınırlı boyutlu bir thread havuzuna düşülür.
+ * Sanal thread API'si yansıma ile çağrıldığı için kod Java 17 ile de derlenir.
+ */
+public final class ThreadSupport {
+
+    private static final Method VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+    private ThreadSupport() {
+    }
+
+    /**
+     * Sanal thread desteği varsa true döner.
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Her görev için ayrı bir thread çalıştıran executor döndürür.
+     * Sanal thread yoksa en fazla fallbackThreads adet daemon thread kullanılır.
+     * @param namePrefix Havuz thread'lerinin isim öneki
+     * @param fallbackThreads Sanal thread yoksa kullanılacak thread sayısı
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix, int fallbackThreads) {
+        if (fallbackThreads <= 0) {
+            throw new IllegalArgumentException("Thread sayısı pozitif olmalıdır!");
+        }
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.err.println("Sanal thread executor oluşturulamadı: " + e.getMessage());
+            }
+        }
+        return Executors.newFixedThreadPool(fallbackThreads, daemonFactory(namePrefix));
+    }
+
+    /**
+     * Verilen önekle numaralı daemon thread'ler üreten fabrika döndürür.
+     */
+    public static ThreadFactory daemonFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method findVirtualExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null; // Java 21 öncesi
+        }
+    }
+}